@@ -0,0 +1,213 @@
+/*
+ * File: BenchmarkInputs.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the BenchmarkInputs class, which generates the Java
+ * sources the highlighting benchmarks run on.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+/**
+ * Generates Java sources of a given kind and size for the highlighting
+ * benchmarks, by repeating a unit of code typical of that kind, as well as
+ * pathological inputs, and creates the highlighting engines by the names
+ * the benchmarks take them as parameters.
+ * Generation is deterministic, so that results can be compared between runs.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public final class BenchmarkInputs {
+    /**
+     * kinds of sources that can be generated
+     */
+    public static final String TYPICAL = "typical";
+    public static final String COMMENT_HEAVY = "comments";
+    public static final String STRING_HEAVY = "strings";
+    public static final String MINIFIED = "minified";
+    public static final String[] KINDS = {TYPICAL, COMMENT_HEAVY, STRING_HEAVY, MINIFIED};
+    /**
+     * names of the highlighting engines
+     */
+    public static final String REGEX = "regex";
+    public static final String LEXER = "lexer";
+    public static final String SCANNER = "scanner";
+    public static final String[] ENGINES = {REGEX, LEXER, SCANNER};
+    /**
+     * name, prefix and repeated unit of each pathological input
+     */
+    private static final String[][] PATHOLOGICAL_INPUTS = {
+            {"unterminated-comment", "/*", "x\n"},
+            {"unterminated-string", "\"", "x"},
+            {"quotes-and-escapes", "", "\"\\"},
+            {"dotted-numbers", "", "1."}
+    };
+
+    /**
+     * a class using every construct the engines style
+     */
+    private static final String TYPICAL_UNIT = String.join("\n",
+            "/*",
+            " * A block comment spanning lines { with braces } and \"quotes\"",
+            " */",
+            "@SuppressWarnings(\"unchecked\")",
+            "public class Sample extends Object implements Runnable {",
+            "    private static final int HEX = 0xFF_FF, BINARY = 0b1010, OCTAL = 017;",
+            "    private long big = 1_000_000L; // a line comment",
+            "    protected double ratio = 3.14e-2d, half = .5f, hexFloat = 0x1.8p1;",
+            "    char quote = '\\'', tab = '\\t';",
+            "    String text = \"a string with // no comment and /* no block */\";",
+            "    int[] values = new int[]{1, 2, 3};",
+            "",
+            "    @Override",
+            "    public void run() {",
+            "        for (int i = 0; i < values.length; i++) {",
+            "            if (values[i] > 2 && text != null) {",
+            "                System.out.println(text + values[i]); /* inline */",
+            "            } else {",
+            "                return;",
+            "            }",
+            "        }",
+            "        boolean done = true;",
+            "        Object nothing = null;",
+            "    }",
+            "}",
+            "");
+
+    /**
+     * a method buried in documentation and commented out code
+     */
+    private static final String COMMENT_HEAVY_UNIT = String.join("\n",
+            "/**",
+            " * Returns the sum of the values, skipping those below the threshold.",
+            " * The values are read in order { and } may appear in \"docs\".",
+            " *",
+            " * @param values    the values to add",
+            " * @param threshold the smallest value added",
+            " * @return the sum of the values at or above the threshold",
+            " */",
+            "// public int oldSum(int[] values) {",
+            "//     return IntStream.of(values).sum(); // replaced, see below",
+            "// }",
+            "public int sum(int[] values, int threshold) { /* fast path */",
+            "    int sum = 0; // running total",
+            "    /* for (int value : values) sum += value; */",
+            "    for (int value : values) {",
+            "        if (value >= threshold) { // keep it",
+            "            sum += value;",
+            "        }",
+            "    }",
+            "    return sum;",
+            "}",
+            "");
+
+    /**
+     * a method building messages out of many string literals
+     */
+    private static final String STRING_HEAVY_UNIT = String.join("\n",
+            "static String describe(Object value) {",
+            "    String escaped = \"tab\\there, quote \\\" and backslash \\\\ in one\";",
+            "    String path = \"C:\\\\Users\\\\sample\\\\file.java\" + \"/*not a comment*/\";",
+            "    String json = \"{\\\"name\\\": \\\"value\\\", \\\"list\\\": [1, 2, 3]}\";",
+            "    String sql = \"SELECT name, value FROM table WHERE id = \" + 42 + \" AND name = 'x';\";",
+            "    String url = \"https://example.com/path?query=1&other=2#fragment\";",
+            "    return String.format(\"%s: %s %s %s %s\", value, escaped, path, json, sql + url);",
+            "}",
+            "");
+
+    /**
+     * the typical class with its comments and line breaks removed, to be repeated on a single line
+     */
+    private static final String MINIFIED_UNIT = "@SuppressWarnings(\"unchecked\") public class Sample extends Object "
+            + "implements Runnable{private static final int HEX=0xFF_FF,BINARY=0b1010,OCTAL=017;private long "
+            + "big=1_000_000L;protected double ratio=3.14e-2d,half=.5f,hexFloat=0x1.8p1;char quote='\\'',"
+            + "tab='\\t';String text=\"a string with // no comment and /* no block */\";int[] values=new "
+            + "int[]{1,2,3};@Override public void run(){for(int i=0;i<values.length;i++){if(values[i]>2&&"
+            + "text!=null){System.out.println(text+values[i]);}else{return;}}boolean done=true;Object "
+            + "nothing=null;}}";
+
+    /**
+     * Not instantiated, only holds constants and static methods
+     */
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Generates a source of the given kind.
+     *
+     * @param kind one of KINDS
+     * @param size minimum number of characters
+     * @return the generated source
+     */
+    public static String generate(String kind, int size) {
+        switch (kind) {
+            case TYPICAL:
+                return repeat("", TYPICAL_UNIT, size);
+            case COMMENT_HEAVY:
+                return repeat("", COMMENT_HEAVY_UNIT, size);
+            case STRING_HEAVY:
+                return repeat("", STRING_HEAVY_UNIT, size);
+            case MINIFIED:
+                return repeat("", MINIFIED_UNIT, size);
+            default:
+                throw new IllegalArgumentException("unknown kind of source: " + kind);
+        }
+    }
+
+    /**
+     * Generates a pathological input, such as an unterminated comment.
+     *
+     * @param name name of the input, one of unterminated-comment,
+     *             unterminated-string, quotes-and-escapes and dotted-numbers
+     * @param size minimum number of characters
+     * @return the generated input
+     */
+    public static String generatePathological(String name, int size) {
+        for (String[] input : PATHOLOGICAL_INPUTS) {
+            if (input[0].equals(name)) {
+                return repeat(input[1], input[2], size);
+            }
+        }
+        throw new IllegalArgumentException("unknown pathological input: " + name);
+    }
+
+    /**
+     * Creates a highlighting engine.
+     *
+     * @param name one of ENGINES
+     * @return the engine
+     */
+    public static HighlightingEngine createEngine(String name) {
+        switch (name) {
+            case REGEX:
+                return new RegexHighlightingEngine();
+            case LEXER:
+                return new LexerHighlightingEngine();
+            case SCANNER:
+                return new ScannerHighlightingEngine();
+            default:
+                throw new IllegalArgumentException("unknown highlighting engine: " + name);
+        }
+    }
+
+    /**
+     * Repeats a unit after a prefix until the text is at least the given size.
+     *
+     * @param prefix start of the text
+     * @param unit   the repeated part
+     * @param size   minimum number of characters
+     * @return the generated text
+     */
+    public static String repeat(String prefix, String unit, int size) {
+        StringBuilder text = new StringBuilder(size + unit.length());
+        text.append(prefix);
+        while (text.length() < size) {
+            text.append(unit);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * File: BenchmarkReport.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the BenchmarkReport class, which collects benchmark
+ * results and compares them against an earlier run.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the results of a benchmark run under stable names, saves them as
+ * a CSV file with one "name,value" line per result, and compares them with
+ * a file saved by an earlier run to flag the results that got worse by more
+ * than a tolerance.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class BenchmarkReport {
+    /**
+     * smallest change counted as a regression, so that results near zero do not flag noise
+     */
+    private static final double MIN_DIFFERENCE = 0.05;
+
+    /**
+     * the value of each result, in the order they were recorded
+     */
+    private final Map<String, Double> results;
+    /**
+     * names of the results for which a lower value is better
+     */
+    private final Set<String> lowerIsBetter;
+
+    /**
+     * Creates a new empty BenchmarkReport
+     */
+    public BenchmarkReport() {
+        this.results = new LinkedHashMap<>();
+        this.lowerIsBetter = new HashSet<>();
+    }
+
+    /**
+     * Records a result for which a higher value is better, such as a throughput.
+     *
+     * @param name  stable name of the result
+     * @param value the measured value
+     */
+    public void recordHigherIsBetter(String name, double value) {
+        this.results.put(name, value);
+    }
+
+    /**
+     * Records a result for which a lower value is better, such as a latency.
+     *
+     * @param name  stable name of the result
+     * @param value the measured value
+     */
+    public void recordLowerIsBetter(String name, double value) {
+        this.results.put(name, value);
+        this.lowerIsBetter.add(name);
+    }
+
+    /**
+     * Saves the results as a CSV file.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Double> result : this.results.entrySet()) {
+            lines.add(result.getKey() + "," + result.getValue());
+        }
+        Files.write(path, lines);
+    }
+
+    /**
+     * Compares the results with those saved by an earlier run and prints
+     * every result that got worse by more than the tolerance. Results
+     * missing from either run are ignored.
+     *
+     * @param baselinePath the file saved by the earlier run
+     * @param tolerance    the fraction by which a result may get worse
+     * @return true if no result got worse by more than the tolerance
+     * @throws IOException if the file cannot be read
+     */
+    public boolean compareWith(Path baselinePath, double tolerance) throws IOException {
+        boolean withinTolerance = true;
+        for (String line : Files.readAllLines(baselinePath)) {
+            int comma = line.lastIndexOf(',');
+            if (comma < 0 || !this.results.containsKey(line.substring(0, comma))) {
+                continue;
+            }
+            String name = line.substring(0, comma);
+            double baseline = Double.parseDouble(line.substring(comma + 1));
+            double value = this.results.get(name);
+
+            boolean regressed = Math.abs(value - baseline) > MIN_DIFFERENCE
+                    && (this.lowerIsBetter.contains(name)
+                            ? value > baseline * (1 + tolerance)
+                            : value < baseline * (1 - tolerance));
+            if (regressed) {
+                withinTolerance = false;
+                System.out.printf("REGRESSION %-70s %12.2f -> %12.2f%n", name, baseline, value);
+            }
+        }
+        return withinTolerance;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * File: EditLatencyBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the EditLatencyBenchmark class, the JMH benchmark of
+ * the latency of re-highlighting after a single edit.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples, for every highlighting engine, how long re-highlighting a 1 MB
+ * source takes after a random single character edit, some of which open or
+ * close comments, on typical and comment-heavy sources. Re-highlighting
+ * follows the IncrementalHighlighter: it starts at the edited paragraph and
+ * goes on until the lexical state converges with the recorded one, building
+ * the spans of each paragraph it highlights. Each operation makes one edit
+ * to the source as generated, which is never changed, so every sample is
+ * taken on the same input. The edits are the same, in the same order, for
+ * every engine.
+ * JMH reports the percentiles of the sampled times, of which the
+ * HighlightingGate keeps the p99.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" org.openjdk.jmh.Main EditLatencyBenchmark
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EditLatencyBenchmark {
+    /**
+     * size, in characters, of the sources edited
+     */
+    private static final int EDITED_SIZE = 1 << 20;
+    /**
+     * characters inserted by the edits, some of which open or close comments
+     */
+    private static final String EDIT_CHARACTERS = "x;( \"/*";
+
+    /**
+     * the engine highlighting, one of BenchmarkInputs.ENGINES
+     */
+    @Param({BenchmarkInputs.REGEX, BenchmarkInputs.LEXER, BenchmarkInputs.SCANNER})
+    public String engine;
+    /**
+     * the kind of source edited
+     */
+    @Param({BenchmarkInputs.TYPICAL, BenchmarkInputs.COMMENT_HEAVY})
+    public String kind;
+
+    private HighlightingEngine highlightingEngine;
+    /**
+     * the paragraphs of the source as generated
+     */
+    private String[] paragraphs;
+    /**
+     * the lexical state each paragraph of the source as generated starts in,
+     * and the one after the last
+     */
+    private LexicalState[] entryStates;
+    private HighlightBuffer buffer;
+    private Random random;
+
+    /**
+     * Generates the source and highlights it all once, recording the state
+     * each paragraph starts in.
+     */
+    @Setup
+    public void setUp() {
+        this.highlightingEngine = BenchmarkInputs.createEngine(this.engine);
+        this.paragraphs = BenchmarkInputs.generate(this.kind, EDITED_SIZE).split("\n", -1);
+        this.entryStates = new LexicalState[this.paragraphs.length + 1];
+        this.buffer = new HighlightBuffer();
+        this.entryStates[0] = LexicalState.NORMAL;
+        for (int i = 0; i < this.paragraphs.length; i++) {
+            this.entryStates[i + 1] = this.highlightingEngine.computeParagraphHighlighting(
+                    this.paragraphs[i], this.entryStates[i], this.buffer);
+        }
+        this.random = new Random(361);
+    }
+
+    /**
+     * Inserts a random character in a copy of a random paragraph and
+     * re-highlights from there until the lexical state converges with the
+     * one recorded for the source as generated.
+     *
+     * @return the lexical state the re-highlighting stopped at
+     */
+    @Benchmark
+    public LexicalState edit() {
+        int paragraph = this.random.nextInt(this.paragraphs.length);
+        int position = this.random.nextInt(this.paragraphs[paragraph].length() + 1);
+        char inserted = EDIT_CHARACTERS.charAt(this.random.nextInt(EDIT_CHARACTERS.length()));
+        String edited = this.paragraphs[paragraph].substring(0, position) + inserted
+                + this.paragraphs[paragraph].substring(position);
+
+        LexicalState state = this.entryStates[paragraph];
+        for (int i = paragraph; i < this.paragraphs.length; i++) {
+            String text = i == paragraph ? edited : this.paragraphs[i];
+            this.buffer.clear();
+            state = this.highlightingEngine.computeParagraphHighlighting(text, state, this.buffer);
+            this.buffer.toStyleSpans(0, text.length());
+            if (this.entryStates[i + 1] == state) {
+                break;
+            }
+        }
+        return state;
+    }
+}
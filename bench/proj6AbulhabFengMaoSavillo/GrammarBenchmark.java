@@ -0,0 +1,188 @@
+/*
+ * File: GrammarBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the GrammarBenchmark class, which compares parsing the
+ * structure view with the Java8Parser and with the FastJavaParser.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses Java sources for the structure view both with the StructureParser,
+ * over the Java8Parser, and with the FastStructureParser, over the
+ * FastJavaParser, and prints for each file the time of both, the speedup
+ * and whether both built the same outline, then the totals. Each file is
+ * first parsed untimed by both to time them on equally warm prediction
+ * caches, and the time of the very first parse of each is printed first.
+ * A file whose outlines differ is reported with the first difference.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" proj6AbulhabFengMaoSavillo.GrammarBenchmark [files or directories...]
+ * where directories are searched for files ending in .java or .txt, and the
+ * testfiles and src directories of the working directory are used if none
+ * are given. Large real-world sources, such as the src.zip of a JDK once
+ * unzipped, are given as directories.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class GrammarBenchmark
+{
+    /**
+     * number of timed parses of each file, of which the fastest is reported
+     */
+    private static final int MEASURED_RUNS = 3;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args paths of Java files or directories holding them
+     * @throws IOException if a file cannot be read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        List<String> paths = new ArrayList<>();
+        for (String arg : args)
+        {
+            paths.add(arg);
+        }
+        if (paths.isEmpty())
+        {
+            paths.add(System.getProperty("user.dir") + "/testfiles");
+            paths.add(System.getProperty("user.dir") + "/src");
+        }
+        List<Path> files = new ArrayList<>();
+        for (String path : paths)
+        {
+            try (Stream<Path> walk = Files.walk(Paths.get(path)))
+            {
+                files.addAll(walk.filter(file -> file.toString().endsWith(".java")
+                                                 || file.toString().endsWith(".txt")).sorted()
+                                 .collect(Collectors.toList()));
+            }
+        }
+
+        StructureParser java8Parser = new StructureParser(true);
+        FastStructureParser fastParser = new FastStructureParser();
+        if (!files.isEmpty())
+        {
+            String contents = new String(Files.readAllBytes(files.get(0)));
+            long start = System.nanoTime();
+            java8Parser.parse(contents, () -> false);
+            long java8First = System.nanoTime() - start;
+            start = System.nanoTime();
+            fastParser.parse(contents, () -> false);
+            System.out.printf("first parse of %s: Java8 %.1f ms, fast %.1f ms%n", files.get(0).getFileName(),
+                              java8First / 1e6, (System.nanoTime() - start) / 1e6);
+        }
+        long java8Total = 0;
+        long fastTotal = 0;
+        int fastLlParses = 0;
+        int mismatches = 0;
+        for (Path file : files)
+        {
+            String contents = new String(Files.readAllBytes(file));
+            OutlineNode java8Outline = java8Parser.parse(contents, () -> false);
+            OutlineNode fastOutline = fastParser.parse(contents, () -> false);
+            String difference = findDifference(java8Outline, fastOutline);
+            if (difference != null)
+            {
+                mismatches++;
+            }
+
+            long fastestJava8 = Long.MAX_VALUE;
+            long fastestFast = Long.MAX_VALUE;
+            for (int run = 0; run < MEASURED_RUNS; run++)
+            {
+                java8Parser.parse(contents, () -> false);
+                fastestJava8 = Math.min(fastestJava8, totalNanos(java8Parser.getLastStatistics()));
+                fastParser.parse(contents, () -> false);
+                fastestFast = Math.min(fastestFast, totalNanos(fastParser.getLastStatistics()));
+            }
+            if (fastParser.getLastStatistics().getStage() == StructureParser.Stage.LL)
+            {
+                fastLlParses++;
+            }
+
+            java8Total += fastestJava8;
+            fastTotal += fastestFast;
+            System.out.printf("%-40s %6d lines   Java8 %8.1f ms   fast %8.1f ms %-3s  x%-5.1f %s%n",
+                              file.getFileName(), contents.split("\n", -1).length, fastestJava8 / 1e6,
+                              fastestFast / 1e6, fastParser.getLastStatistics().getStage(),
+                              (double) fastestJava8 / Math.max(fastestFast, 1),
+                              difference == null ? "same outline" : "DIFFERENT OUTLINE: " + difference);
+        }
+
+        System.out.printf("%d files: %d with a different outline, %d needed LL with the fast parser%n",
+                          files.size(), mismatches, fastLlParses);
+        System.out.printf("total: Java8 %.1f ms, fast %.1f ms, x%.1f%n", java8Total / 1e6, fastTotal / 1e6,
+                          (double) java8Total / Math.max(fastTotal, 1));
+    }
+
+    /**
+     * Returns the time spent in both stages of a parse.
+     *
+     * @param statistics the statistics of the parse
+     * @return the time in nanoseconds
+     */
+    private static long totalNanos(StructureParser.Statistics statistics)
+    {
+        return statistics.getSllNanos() + statistics.getLlNanos();
+    }
+
+    /**
+     * Finds the first difference between two outlines, comparing the kind,
+     * name, line and column of each node and of its children in order.
+     *
+     * @param expected the outline built by the StructureParser
+     * @param actual   the outline built by the FastStructureParser
+     * @return a description of the first difference, or null if the outlines are the same
+     */
+    private static String findDifference(OutlineNode expected, OutlineNode actual)
+    {
+        if (expected.getKind() != actual.getKind() || !expected.getName().equals(actual.getName())
+            || expected.getLine() != actual.getLine() || expected.getColumn() != actual.getColumn())
+        {
+            return describe(expected) + " but " + describe(actual);
+        }
+        List<OutlineNode> expectedChildren = expected.getChildren();
+        List<OutlineNode> actualChildren = actual.getChildren();
+        for (int i = 0; i < Math.min(expectedChildren.size(), actualChildren.size()); i++)
+        {
+            String difference = findDifference(expectedChildren.get(i), actualChildren.get(i));
+            if (difference != null)
+            {
+                return difference;
+            }
+        }
+        if (expectedChildren.size() != actualChildren.size())
+        {
+            return String.format("%d children in %s but %d", expectedChildren.size(), describe(expected),
+                                 actualChildren.size());
+        }
+        return null;
+    }
+
+    /**
+     * Describes a node of an outline, for instance "METHOD main at 12:4".
+     *
+     * @param node the node
+     * @return a description of the node
+     */
+    private static String describe(OutlineNode node)
+    {
+        return String.format("%s %s at %d:%d", node.getKind(), node.getName(), node.getLine(), node.getColumn());
+    }
+}
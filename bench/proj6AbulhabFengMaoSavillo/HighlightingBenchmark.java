@@ -0,0 +1,112 @@
+/*
+ * File: HighlightingBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the HighlightingBenchmark class, the JMH benchmark of
+ * the throughput of the highlighting engines.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of every highlighting engine headlessly, without
+ * a running JavaFX application, on generated typical, comment-heavy,
+ * string-heavy and minified sources from 1 KB to 10 MB, highlighting each
+ * both as a whole document and paragraph by paragraph the way the
+ * IncrementalHighlighter does.
+ * The score, in operations per second, times the size of the source is the
+ * throughput, which the HighlightingGate reports in MB/s. Run with the gc
+ * profiler, the bytes allocated per operation are reported as
+ * gc.alloc.rate.norm.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" org.openjdk.jmh.Main '\.HighlightingBenchmark\.' -prof gc
+ * where "-p sizeKB=1,1024" or "-p engine=scanner" narrow the parameters.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HighlightingBenchmark {
+    /**
+     * the engine highlighting, one of BenchmarkInputs.ENGINES
+     */
+    @Param({BenchmarkInputs.REGEX, BenchmarkInputs.LEXER, BenchmarkInputs.SCANNER})
+    public String engine;
+    /**
+     * the kind of source highlighted, one of BenchmarkInputs.KINDS
+     */
+    @Param({BenchmarkInputs.TYPICAL, BenchmarkInputs.COMMENT_HEAVY, BenchmarkInputs.STRING_HEAVY,
+            BenchmarkInputs.MINIFIED})
+    public String kind;
+    /**
+     * size of the source, in kilobytes
+     */
+    @Param({"1", "10", "100", "1024", "10240"})
+    public int sizeKB;
+
+    private HighlightingEngine highlightingEngine;
+    private String text;
+    private String[] paragraphs;
+    private HighlightBuffer buffer;
+
+    /**
+     * Generates the source and creates the engine.
+     */
+    @Setup
+    public void setUp() {
+        this.highlightingEngine = BenchmarkInputs.createEngine(this.engine);
+        this.text = BenchmarkInputs.generate(this.kind, this.sizeKB << 10);
+        this.paragraphs = this.text.split("\n", -1);
+        this.buffer = new HighlightBuffer();
+    }
+
+    /**
+     * Highlights the source as a whole document.
+     *
+     * @return the style spans of the document
+     */
+    @Benchmark
+    public StyleSpans<Collection<String>> document() {
+        return this.highlightingEngine.computeHighlighting(this.text);
+    }
+
+    /**
+     * Highlights the paragraphs one after another into the buffer,
+     * carrying the lexical state between them.
+     *
+     * @return the lexical state at the end of the source
+     */
+    @Benchmark
+    public LexicalState paragraphs() {
+        this.buffer.clear();
+        LexicalState state = LexicalState.NORMAL;
+        for (String paragraph : this.paragraphs) {
+            state = this.highlightingEngine.computeParagraphHighlighting(paragraph, state, this.buffer);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * File: HighlightingGate.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the HighlightingGate class, which runs the JMH
+ * benchmarks of the highlighting engines and gates regressions in them.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the JMH benchmarks of the highlighting engines, the
+ * HighlightingBenchmark with the gc profiler, the EditLatencyBenchmark, the
+ * ParallelHighlightingBenchmark and the PathologicalInputBenchmark, records
+ * their results in a BenchmarkReport and gates them:
+ * the throughput in MB/s and the bytes allocated per character highlighted
+ * paragraph by paragraph, the p99 latency of re-highlighting after a single
+ * edit, and the throughput of parallel highlighting on each pool size.
+ * It exits with status 1 if an engine other than the regex one goes over the
+ * allocation budget, if the scanner is not linear on the pathological
+ * inputs, or if a result got worse than in a baseline saved by an earlier run.
+ * The benchmarks live in the bench source root, apart from the application,
+ * and are compiled along with it, the JMH annotation processor generating
+ * their harness. From the root of the project, with JavaFX on the class path
+ * as for the application:
+ * javac -d out/bench -cp "include/*" -processor org.openjdk.jmh.generators.BenchmarkProcessor
+ * src/proj6AbulhabFengMaoSavillo/*.java bench/proj6AbulhabFengMaoSavillo/*.java
+ * cp src/proj6AbulhabFengMaoSavillo/WarmupCorpus.txt out/bench/proj6AbulhabFengMaoSavillo/
+ * Usage: java -cp "out/bench:include/*" proj6AbulhabFengMaoSavillo.HighlightingGate
+ * [--quick] [--save results.csv] [--baseline results.csv] [--tolerance 0.2]
+ * where --quick stops at 1 MB sources and runs fewer iterations, except on
+ * the pathological inputs, and
+ * --tolerance is the fraction by which a result may get worse than in the
+ * baseline, which should be raised on shared machines.
+ * A single benchmark is run with the JMH launcher instead, as told in its
+ * class comment.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class HighlightingGate {
+    /**
+     * sizes, in kilobytes, of the sources with --quick
+     */
+    private static final String[] QUICK_SIZES = {"1", "10", "100", "1024"};
+    /**
+     * most bytes an engine may allocate per character highlighted paragraph by paragraph
+     */
+    private static final double ALLOCATION_BUDGET = 1.0;
+    /**
+     * most times longer than for a pathological input the scanner may take for one twice its size
+     */
+    private static final double LINEARITY_LIMIT = 3.0;
+    /**
+     * fraction by which a result may get worse than in the baseline, unless given with --tolerance
+     */
+    private static final double REGRESSION_TOLERANCE = 0.2;
+    /**
+     * name of the secondary result of the gc profiler giving the bytes allocated per operation
+     */
+    private static final String ALLOCATION_RESULT = "gc.alloc.rate.norm";
+
+    /**
+     * Runs the benchmarks and gates the results.
+     *
+     * @param args options, see the class comment
+     * @throws IOException     if the results cannot be saved, or the baseline cannot be read
+     * @throws RunnerException if JMH cannot run the benchmarks
+     */
+    public static void main(String[] args) throws IOException, RunnerException {
+        boolean quick = false;
+        String savePath = null;
+        String baselinePath = null;
+        double tolerance = REGRESSION_TOLERANCE;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--quick")) {
+                quick = true;
+            } else if (args[i].equals("--save") && i + 1 < args.length) {
+                savePath = args[++i];
+            } else if (args[i].equals("--baseline") && i + 1 < args.length) {
+                baselinePath = args[++i];
+            } else if (args[i].equals("--tolerance") && i + 1 < args.length) {
+                tolerance = Double.parseDouble(args[++i]);
+            }
+        }
+
+        BenchmarkReport report = new BenchmarkReport();
+        boolean withinBudget = recordThroughput(
+                run(HighlightingBenchmark.class, quick, true, quick ? QUICK_SIZES : null), report);
+        recordEditLatency(run(EditLatencyBenchmark.class, quick, false, null), report);
+        recordParallelScaling(run(ParallelHighlightingBenchmark.class, quick, false,
+                                  quick ? new String[]{"1024"} : null), report);
+        // the linearity check compares sub-millisecond times, which fewer iterations leave too noisy
+        boolean linear = checkPathologicalInputs(run(PathologicalInputBenchmark.class, false, false, null));
+
+        if (savePath != null) {
+            report.save(Paths.get(savePath));
+        }
+        boolean noRegression = baselinePath == null
+                || report.compareWith(Paths.get(baselinePath), tolerance);
+        System.out.printf("allocation within budget: %s, scanner linear: %s, no regression: %s%n",
+                          withinBudget, linear, noRegression);
+        if (!withinBudget || !linear || !noRegression) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the benchmarks of a class.
+     *
+     * @param benchmark the class holding the benchmarks
+     * @param quick     true to run fewer iterations
+     * @param profileGc true to run the gc profiler
+     * @param sizes     sizes, in kilobytes, of the sources, or null for those of the class
+     * @return the results of the benchmarks that did not fail
+     * @throws RunnerException if JMH cannot run the benchmarks
+     */
+    private static Collection<RunResult> run(Class<?> benchmark, boolean quick, boolean profileGc,
+                                             String[] sizes) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include("\\." + benchmark.getSimpleName() + "\\.");
+        if (profileGc) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (quick) {
+            options.warmupIterations(1).measurementIterations(3);
+        }
+        if (sizes != null) {
+            options.param("sizeKB", sizes);
+        }
+        return new Runner(options.build()).run();
+    }
+
+    /**
+     * Records the throughput of every engine and benchmark of the
+     * HighlightingBenchmark, and the allocation of the paragraph by
+     * paragraph one, printing the engines over the allocation budget.
+     *
+     * @param results the results of the HighlightingBenchmark
+     * @param report  the report the results are recorded in
+     * @return true if the engines stayed within the allocation budget
+     */
+    private static boolean recordThroughput(Collection<RunResult> results, BenchmarkReport report) {
+        boolean withinBudget = true;
+        Map<String, Integer> lengths = new HashMap<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String engine = params.getParam("engine");
+            String kind = params.getParam("kind");
+            String sizeKB = params.getParam("sizeKB");
+            int length = lengths.computeIfAbsent(kind + "-" + sizeKB, key -> BenchmarkInputs.generate(
+                    kind, Integer.parseInt(sizeKB) << 10).length());
+            String method = benchmarkMethod(params);
+
+            String key = "throughput/" + kind + "-" + sizeKB + "KB/" + engine;
+            report.recordHigherIsBetter(key + "/" + method + "-MB/s",
+                                        megabytesPerSecond(length, result.getPrimaryResult().getScore()));
+            Result<?> allocated = findSecondaryResult(result, ALLOCATION_RESULT);
+            if (method.equals("paragraphs") && allocated != null) {
+                double bytesPerCharacter = allocated.getScore() / length;
+                report.recordLowerIsBetter(key + "/allocated-B/char", bytesPerCharacter);
+                // the regex engine is only kept for comparison, the others have a budget
+                if (!engine.equals(BenchmarkInputs.REGEX) && bytesPerCharacter > ALLOCATION_BUDGET) {
+                    withinBudget = false;
+                    System.out.printf("OVER BUDGET %-40s %6.2f B/char%n", key, bytesPerCharacter);
+                }
+            }
+        }
+        return withinBudget;
+    }
+
+    /**
+     * Records the p99 latency of re-highlighting after a single edit.
+     *
+     * @param results the results of the EditLatencyBenchmark
+     * @param report  the report the results are recorded in
+     */
+    private static void recordEditLatency(Collection<RunResult> results, BenchmarkReport report) {
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            report.recordLowerIsBetter("edit/" + params.getParam("kind") + "/" + params.getParam("engine")
+                                               + "/p99-us",
+                                       result.getPrimaryResult().getStatistics().getPercentile(99));
+        }
+    }
+
+    /**
+     * Records the throughput of parallel highlighting on each pool size.
+     *
+     * @param results the results of the ParallelHighlightingBenchmark
+     * @param report  the report the results are recorded in
+     */
+    private static void recordParallelScaling(Collection<RunResult> results, BenchmarkReport report) {
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            int length = BenchmarkInputs.generate(BenchmarkInputs.TYPICAL,
+                                                  Integer.parseInt(params.getParam("sizeKB")) << 10).length();
+            report.recordHigherIsBetter("parallel/" + params.getParam("engine") + "/" + params.getParam("threads")
+                                                + "-threads-MB/s",
+                                        megabytesPerSecond(length, result.getPrimaryResult().getScore()));
+        }
+    }
+
+    /**
+     * Compares the time every engine took on each pathological input with
+     * the time it took on the same input twice as large, and prints the ratio.
+     *
+     * @param results the results of the PathologicalInputBenchmark
+     * @return true if the scanner took linear time on every input
+     */
+    private static boolean checkPathologicalInputs(Collection<RunResult> results) {
+        // the time of each engine on each input, by size
+        Map<String, TreeMap<Integer, Double>> times = new TreeMap<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            times.computeIfAbsent(params.getParam("input") + "/" + params.getParam("engine"), key -> new TreeMap<>())
+                    .put(Integer.parseInt(params.getParam("sizeKB")), result.getPrimaryResult().getScore());
+        }
+
+        boolean linear = true;
+        for (Map.Entry<String, TreeMap<Integer, Double>> entry : times.entrySet()) {
+            TreeMap<Integer, Double> bySize = entry.getValue();
+            if (bySize.size() < 2) {
+                continue;
+            }
+            double ratio = bySize.lastEntry().getValue() / bySize.firstEntry().getValue();
+            boolean engineLinear = !entry.getKey().endsWith("/" + BenchmarkInputs.SCANNER)
+                    || ratio <= LINEARITY_LIMIT;
+            linear &= engineLinear;
+            System.out.printf("%-40s %5d KB %8.1f ms   %5d KB %8.1f ms   x%.1f%s%n", entry.getKey(),
+                              bySize.firstKey(), bySize.firstEntry().getValue(), bySize.lastKey(),
+                              bySize.lastEntry().getValue(), ratio, engineLinear ? "" : " NOT LINEAR");
+        }
+        return linear;
+    }
+
+    /**
+     * Returns the name of the benchmark method a result is for.
+     *
+     * @param params the parameters of the run
+     * @return the simple name of the method
+     */
+    private static String benchmarkMethod(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        return benchmark.substring(benchmark.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Finds a secondary result, such as one of a profiler, by the end of its
+     * name, which some versions of JMH prefix.
+     *
+     * @param result the result of a run
+     * @param name   the name of the secondary result
+     * @return the secondary result, or null if there is none
+     */
+    private static Result<?> findSecondaryResult(RunResult result, String name) {
+        // JMH types the secondary results raw, so they are looked up by key
+        for (String key : result.getSecondaryResults().keySet()) {
+            if (key.endsWith(name)) {
+                return result.getSecondaryResults().get(key);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a number of characters highlighted per second to megabytes per second.
+     *
+     * @param characters          number of characters highlighted by an operation
+     * @param operationsPerSecond operations per second
+     * @return the throughput in MB/s
+     */
+    private static double megabytesPerSecond(long characters, double operationsPerSecond) {
+        return characters * operationsPerSecond / (1024.0 * 1024.0);
+    }
+}
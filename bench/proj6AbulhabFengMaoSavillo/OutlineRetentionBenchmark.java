@@ -0,0 +1,204 @@
+/*
+ * File: OutlineRetentionBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the OutlineRetentionBenchmark class, which checks that
+ * the outline and the analysis of a document keep a bounded heap over
+ * thousands of edits, and are released when its tab is closed.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import javafx.scene.control.TreeItem;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Applies thousands of edits renaming the members of a Java file to a
+ * document the way the StructureViewController does: each version is
+ * skimmed, its analysis kept in the shared AnalysisCache in place of the
+ * last one, and the DocumentOutline of the document updated with its
+ * outline. The document is then closed the way JavaCodeArea.dispose does,
+ * disposing the outline and removing the analysis from the cache. It checks
+ * that what is retained stays bounded:
+ * <ul>
+ * <li>the outline never maps more TreeItems than it has declarations, and
+ * the cache never keeps more than one analysis of the document;</li>
+ * <li>the live heap after garbage collection does not grow from the first
+ * checkpoint to the last, beyond a small allowance for noise; and</li>
+ * <li>once the document is closed, the cache keeps no analysis of it, and
+ * its TreeItems, its last analysis and the document itself are garbage
+ * collected.</li>
+ * </ul>
+ * The heap is printed at each checkpoint, then whether each check passed;
+ * the exit status is 1 if any failed. A plain object stands for the code
+ * area, and the TreeItems are made without graphics, so no JavaFX toolkit
+ * is needed.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" proj6AbulhabFengMaoSavillo.OutlineRetentionBenchmark [java file] [edits]
+ * where DEFAULT_FILE under the working directory and EDITS are used if not
+ * given.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class OutlineRetentionBenchmark
+{
+    /**
+     * path of the file edited when not given, under the working directory
+     */
+    private static final String DEFAULT_FILE = "/src/proj6AbulhabFengMaoSavillo/Controller.java";
+    /**
+     * number of edits applied when not given
+     */
+    private static final int EDITS = 10000;
+    /**
+     * number of edits between two prints of the heap
+     */
+    private static final int CHECKPOINT_INTERVAL = 1000;
+    /**
+     * growth of the live heap, in bytes, allowed as noise of the measure
+     */
+    private static final long ALLOWED_GROWTH_BYTES = 1 << 20;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the Java file edited and the number of edits
+     * @throws IOException if the file cannot be read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String path = args.length > 0 ? args[0] : System.getProperty("user.dir") + DEFAULT_FILE;
+        int edits = args.length > 1 ? Integer.parseInt(args[1]) : EDITS;
+        String contents = new String(Files.readAllBytes(Paths.get(path)));
+        int bodyStart = contents.indexOf('{', Math.max(contents.indexOf("class "), 0)) + 1;
+        if (bodyStart == 0)
+        {
+            System.out.println("No class body found in " + path);
+            System.exit(1);
+        }
+
+        SkimOutlineParser parser = new SkimOutlineParser();
+        AnalysisCache analysisCache = AnalysisCache.getShared();
+        int otherAnalyses = analysisCache.size();
+        Object document = new Object();
+        DocumentOutline outline = new DocumentOutline(kind -> null);
+        Random random = new Random(1);
+        boolean mappingBounded = true;
+        boolean cacheBounded = true;
+        long firstCheckpointBytes = 0;
+        long lastCheckpointBytes = 0;
+        for (int edit = 1; edit <= edits; edit++)
+        {
+            //rename a field and a method, so that each update drops TreeItems and creates others
+            String edited = contents.substring(0, bodyStart) + " int edited" + edit + "; void method"
+                            + random.nextInt(1000) + "() {} " + contents.substring(bodyStart);
+            publish(document, outline, parser.analyze(edited, edit, () -> false));
+            mappingBounded &= outline.size() <= countDeclarations(analysisCache.getLatest(document).getOutline());
+            cacheBounded &= analysisCache.size() <= otherAnalyses + 1;
+
+            if (edit % CHECKPOINT_INTERVAL == 0 || edit == edits)
+            {
+                lastCheckpointBytes = measureLiveHeap();
+                if (firstCheckpointBytes == 0)
+                {
+                    firstCheckpointBytes = lastCheckpointBytes;
+                }
+                System.out.printf("%6d edits   %4d TreeItems mapped   %4d in the tree   %d analyses cached"
+                                  + "   live heap %8d KB%n", edit, outline.size(), countTreeItems(outline.getRoot()),
+                                  analysisCache.size(), lastCheckpointBytes / 1024);
+            }
+        }
+
+        //close the document as JavaCodeArea.dispose does, after which all it held is to be collected
+        WeakReference<TreeItem<String>> closedItem = new WeakReference<>(outline.getRoot().getChildren().get(0));
+        WeakReference<DocumentAnalysis> closedAnalysis = new WeakReference<>(analysisCache.getLatest(document));
+        WeakReference<Object> closedDocument = new WeakReference<>(document);
+        outline.dispose();
+        analysisCache.remove(document);
+        outline = null;
+        document = null;
+        measureLiveHeap();
+        boolean released = analysisCache.size() == otherAnalyses;
+        boolean collected = closedItem.get() == null && closedAnalysis.get() == null && closedDocument.get() == null;
+
+        long growth = lastCheckpointBytes - firstCheckpointBytes;
+        boolean heapBounded = growth <= ALLOWED_GROWTH_BYTES;
+        System.out.printf("TreeItems mapped within the declarations of the outline: %s%n", mappingBounded);
+        System.out.printf("one analysis of the document cached at most: %s%n", cacheBounded);
+        System.out.printf("live heap growth since the first checkpoint: %d KB, within %d KB: %s%n", growth / 1024,
+                          ALLOWED_GROWTH_BYTES / 1024, heapBounded);
+        System.out.printf("analysis of a closed document removed from the cache: %s%n", released);
+        System.out.printf("TreeItems, analysis and document of a closed document collected: %s%n", collected);
+        System.exit(mappingBounded && cacheBounded && heapBounded && released && collected ? 0 : 1);
+    }
+
+    /**
+     * Keeps the analysis of a version of a document and shows its outline,
+     * as the StructureViewController does once it has analyzed it.
+     *
+     * @param document the document, standing for its code area
+     * @param outline  the outline of the document
+     * @param analysis the analysis of its latest version
+     */
+    private static void publish(Object document, DocumentOutline outline, DocumentAnalysis analysis)
+    {
+        AnalysisCache.getShared().put(document, analysis);
+        outline.update(analysis.getOutline());
+    }
+
+    /**
+     * Measures the heap used after garbage collection.
+     *
+     * @return the bytes used
+     */
+    private static long measureLiveHeap()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+        {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Counts the declarations of an outline.
+     *
+     * @param outline a node of the outline
+     * @return the number of declarations below it
+     */
+    private static int countDeclarations(OutlineNode outline)
+    {
+        int count = 0;
+        for (OutlineNode child : outline.getChildren())
+        {
+            count += 1 + countDeclarations(child);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the TreeItems of a tree.
+     *
+     * @param treeItem a TreeItem of the tree
+     * @return the number of TreeItems below it
+     */
+    private static int countTreeItems(TreeItem<String> treeItem)
+    {
+        int count = 0;
+        for (TreeItem<String> child : treeItem.getChildren())
+        {
+            count += 1 + countTreeItems(child);
+        }
+        return count;
+    }
+}
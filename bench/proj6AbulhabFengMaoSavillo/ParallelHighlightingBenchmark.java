@@ -0,0 +1,98 @@
+/*
+ * File: ParallelHighlightingBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParallelHighlightingBenchmark class, the JMH
+ * benchmark of the scaling of cold-open highlighting with the
+ * ParallelHighlighter.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of highlighting a whole typical source, as when a
+ * large file is opened, with a ParallelHighlighter over every engine on pools
+ * of doubling size. Pools larger than the number of cores only show the cost
+ * of oversubscribing them.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" org.openjdk.jmh.Main ParallelHighlightingBenchmark
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelHighlightingBenchmark {
+    /**
+     * the engine highlighting each chunk, one of BenchmarkInputs.ENGINES
+     */
+    @Param({BenchmarkInputs.REGEX, BenchmarkInputs.LEXER, BenchmarkInputs.SCANNER})
+    public String engine;
+    /**
+     * number of threads of the pool
+     */
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+    /**
+     * size of the source, in kilobytes
+     */
+    @Param({"10240"})
+    public int sizeKB;
+
+    private ForkJoinPool pool;
+    private ParallelHighlighter parallelHighlighter;
+    private String text;
+
+    /**
+     * Generates the source and starts the pool.
+     */
+    @Setup
+    public void setUp() {
+        this.text = BenchmarkInputs.generate(BenchmarkInputs.TYPICAL, this.sizeKB << 10);
+        this.pool = new ForkJoinPool(this.threads);
+        this.parallelHighlighter = new ParallelHighlighter(BenchmarkInputs.createEngine(this.engine), this.pool);
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @TearDown
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Highlights the whole source in parallel.
+     *
+     * @return the style spans of the source
+     */
+    @Benchmark
+    public StyleSpans<Collection<String>> highlight() {
+        return this.parallelHighlighter.computeHighlighting(this.text);
+    }
+}
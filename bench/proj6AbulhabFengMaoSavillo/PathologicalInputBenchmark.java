@@ -0,0 +1,89 @@
+/*
+ * File: PathologicalInputBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the PathologicalInputBenchmark class, the JMH benchmark
+ * of the highlighting engines on pathological inputs.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time every highlighting engine takes on pathological inputs,
+ * such as a 1 MB unterminated comment, and on the same inputs twice as
+ * large, from which the HighlightingGate checks that the scanner is linear.
+ * An engine failing on an input, as the regex one may with a
+ * StackOverflowError, leaves that benchmark without a result.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" org.openjdk.jmh.Main PathologicalInputBenchmark
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathologicalInputBenchmark {
+    /**
+     * the engine highlighting, one of BenchmarkInputs.ENGINES
+     */
+    @Param({BenchmarkInputs.REGEX, BenchmarkInputs.LEXER, BenchmarkInputs.SCANNER})
+    public String engine;
+    /**
+     * the pathological input, as named by BenchmarkInputs.generatePathological
+     */
+    @Param({"unterminated-comment", "unterminated-string", "quotes-and-escapes", "dotted-numbers"})
+    public String input;
+    /**
+     * size of the input, in kilobytes
+     */
+    @Param({"1024", "2048"})
+    public int sizeKB;
+
+    private HighlightingEngine highlightingEngine;
+    private String text;
+
+    /**
+     * Generates the input and checks that the engine styles all of it.
+     */
+    @Setup
+    public void setUp() {
+        this.highlightingEngine = BenchmarkInputs.createEngine(this.engine);
+        this.text = BenchmarkInputs.generatePathological(this.input, this.sizeKB << 10);
+        if (this.highlight().length() != this.text.length()) {
+            throw new IllegalStateException(this.engine + " left characters unstyled");
+        }
+    }
+
+    /**
+     * Highlights the whole input.
+     *
+     * @return the style spans of the input
+     */
+    @Benchmark
+    public StyleSpans<Collection<String>> highlight() {
+        return this.highlightingEngine.computeHighlighting(this.text);
+    }
+}
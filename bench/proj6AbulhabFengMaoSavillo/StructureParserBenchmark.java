@@ -0,0 +1,189 @@
+/*
+ * File: StructureParserBenchmark.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the StructureParserBenchmark class, which compares
+ * parsing the structure view in two stages with parsing it with full LL,
+ * and with skimming it.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses real Java sources for the structure view, both in two stages and
+ * with full LL only, and prints for each file the stage that succeeded, the
+ * time spent in each stage and the speedup over full LL, then the totals.
+ * The time of the SkimOutlineParser is printed next to them, with its total
+ * per character of code, which should hardly vary from file to file.
+ * Both parsers share the prediction caches of the shared ParserCacheManager,
+ * so every file is first parsed untimed by both to time them on equally warm
+ * caches, and the metrics of the caches are printed at the end.
+ * The time of the very first parse, which pays for loading the parser, is
+ * printed first, after running the startup warm-up if asked to.
+ * Usage, compiled as told in the HighlightingGate:
+ * java -cp "out/bench:include/*" proj6AbulhabFengMaoSavillo.StructureParserBenchmark
+ * [--warmup] [--load-cache file] [--save-cache file] [java files or directories...]
+ * where --warmup runs the ParserWarmup first, starting from the caches
+ * loaded by --load-cache, if any, and never from those the application
+ * saved, --load-cache loads parser caches saved by an earlier run first,
+ * --save-cache saves them at the end,
+ * directories are searched for Java files, and the src directory of the
+ * working directory is used if none are given.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class StructureParserBenchmark
+{
+    /**
+     * number of timed parses of each file, of which the fastest is reported
+     */
+    private static final int MEASURED_RUNS = 5;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args paths of Java files or directories holding them
+     * @throws IOException if a file cannot be read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        boolean warmup = false;
+        String loadPath = null;
+        String savePath = null;
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++)
+        {
+            if (args[i].equals("--warmup"))
+            {
+                warmup = true;
+            }
+            else if (args[i].equals("--load-cache") && i + 1 < args.length)
+            {
+                loadPath = args[++i];
+            }
+            else if (args[i].equals("--save-cache") && i + 1 < args.length)
+            {
+                savePath = args[++i];
+            }
+            else
+            {
+                paths.add(args[i]);
+            }
+        }
+        if (paths.isEmpty())
+        {
+            paths.add(System.getProperty("user.dir") + "/src");
+        }
+        List<Path> files = new ArrayList<>();
+        for (String path : paths)
+        {
+            try (Stream<Path> walk = Files.walk(Paths.get(path)))
+            {
+                files.addAll(walk.filter(file -> file.toString().endsWith(".java")).sorted()
+                                 .collect(Collectors.toList()));
+            }
+        }
+
+        if (loadPath != null)
+        {
+            long start = System.nanoTime();
+            ParserCacheManager.getShared().load(Paths.get(loadPath));
+            System.out.printf("loaded parser caches in %.1f ms: %s%n", (System.nanoTime() - start) / 1e6,
+                              ParserCacheManager.getShared());
+        }
+        if (warmup)
+        {
+            ParserWarmup parserWarmup = new ParserWarmup(null);
+            parserWarmup.run();
+            System.out.printf("warm-up %.1f ms%n", parserWarmup.getWarmupNanos() / 1e6);
+        }
+
+        StructureParser twoStageParser = new StructureParser(true);
+        StructureParser llParser = new StructureParser(false);
+        SkimOutlineParser skimParser = new SkimOutlineParser();
+        if (!files.isEmpty())
+        {
+            String contents = new String(Files.readAllBytes(files.get(0)));
+            long start = System.nanoTime();
+            twoStageParser.parse(contents, () -> false);
+            System.out.printf("first parse of %s %.1f ms%n", files.get(0).getFileName(),
+                              (System.nanoTime() - start) / 1e6);
+        }
+        long twoStageTotal = 0;
+        long llTotal = 0;
+        long skimTotal = 0;
+        long characters = 0;
+        for (Path file : files)
+        {
+            String contents = new String(Files.readAllBytes(file));
+            twoStageParser.parse(contents, () -> false);
+            llParser.parse(contents, () -> false);
+            skimParser.parse(contents, () -> false);
+
+            StructureParser.Statistics fastestTwoStage = null;
+            long fastestLl = Long.MAX_VALUE;
+            long fastestSkim = Long.MAX_VALUE;
+            for (int run = 0; run < MEASURED_RUNS; run++)
+            {
+                twoStageParser.parse(contents, () -> false);
+                StructureParser.Statistics statistics = twoStageParser.getLastStatistics();
+                if (fastestTwoStage == null || totalNanos(statistics) < totalNanos(fastestTwoStage))
+                {
+                    fastestTwoStage = statistics;
+                }
+                llParser.parse(contents, () -> false);
+                fastestLl = Math.min(fastestLl, totalNanos(llParser.getLastStatistics()));
+                long start = System.nanoTime();
+                skimParser.parse(contents, () -> false);
+                fastestSkim = Math.min(fastestSkim, System.nanoTime() - start);
+            }
+
+            twoStageTotal += totalNanos(fastestTwoStage);
+            llTotal += fastestLl;
+            skimTotal += fastestSkim;
+            characters += contents.length();
+            System.out.printf("%-40s %6d lines   two-stage %-32s   LL only %8.1f ms   x%.1f   skim %6.2f ms%n",
+                              file.getFileName(), contents.split("\n", -1).length, fastestTwoStage,
+                              fastestLl / 1e6, (double) fastestLl / totalNanos(fastestTwoStage),
+                              fastestSkim / 1e6);
+        }
+
+        System.out.printf("%d files: %d parsed with SLL, %d needed LL%n", files.size(),
+                          twoStageParser.getParseCount(StructureParser.Stage.SLL) / (MEASURED_RUNS + 1),
+                          twoStageParser.getParseCount(StructureParser.Stage.LL) / (MEASURED_RUNS + 1));
+        System.out.printf("total: two-stage %.1f ms, LL only %.1f ms, x%.1f%n", twoStageTotal / 1e6,
+                          llTotal / 1e6, (double) llTotal / Math.max(twoStageTotal, 1));
+        System.out.printf("skim: %.1f ms, %.0f ns per character, x%.1f over two-stage%n", skimTotal / 1e6,
+                          (double) skimTotal / Math.max(characters, 1),
+                          (double) twoStageTotal / Math.max(skimTotal, 1));
+        System.out.println("parser caches: " + ParserCacheManager.getShared());
+        if (savePath != null)
+        {
+            ParserCacheManager.getShared().save(Paths.get(savePath), Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Returns the time spent in both stages of a parse.
+     *
+     * @param statistics the statistics of the parse
+     * @return the time in nanoseconds
+     */
+    private static long totalNanos(StructureParser.Statistics statistics)
+    {
+        return statistics.getSllNanos() + statistics.getLlNanos();
+    }
+}
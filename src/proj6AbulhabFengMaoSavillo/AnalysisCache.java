@@ -0,0 +1,271 @@
+/*
+ * File: AnalysisCache.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the AnalysisCache class, which keeps the latest
+ * analysis of the code in each tab.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the latest DocumentAnalysis of each open document, so that showing
+ * the structure of a tab again, or any other use of its tokens, parse tree
+ * or outline, does not parse the code again as long as it is unchanged.
+ * An analysis is found by its document and the version of its code, which
+ * the code area counts up at every change.
+ * The estimated size of the analyses is kept within a budget. When over it,
+ * the analyses of the documents used least recently are first compacted to
+ * their outline, which is all a tab switch needs, and then dropped; the
+ * document used last is never touched. The budget defaults to the
+ * proj6.analysisCacheBudgetMB system property, or DEFAULT_BUDGET_MB if it
+ * is not set.
+ * The number of analyses found (hits) or not (misses), compacted and
+ * dropped are kept as metrics.
+ * Safe to use from any thread.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class AnalysisCache
+{
+    /**
+     * budget, in megabytes, used when the system property is not set
+     */
+    public static final int DEFAULT_BUDGET_MB = 32;
+
+    /**
+     * the cache shared by all the analyses of the open documents
+     */
+    private static final AnalysisCache SHARED = new AnalysisCache(
+            Long.getLong("proj6.analysisCacheBudgetMB", DEFAULT_BUDGET_MB) << 20);
+
+    /**
+     * the latest analysis of each document, least recently used first
+     */
+    private final LinkedHashMap<Object, DocumentAnalysis> analyses;
+    /**
+     * estimated size, in bytes, the analyses may take before being compacted or dropped
+     */
+    private final long budgetBytes;
+    /**
+     * estimated size, in bytes, of the analyses kept
+     */
+    private long estimatedBytes;
+    /**
+     * lookups that found, or did not find, an analysis of the version asked for
+     */
+    private long hits;
+    private long misses;
+    /**
+     * number of analyses compacted, and dropped, to stay within the budget
+     */
+    private long compactions;
+    private long evictions;
+
+    /**
+     * Creates a new empty AnalysisCache
+     *
+     * @param budgetBytes estimated size, in bytes, the analyses may take
+     */
+    public AnalysisCache(long budgetBytes)
+    {
+        this.analyses = new LinkedHashMap<>(16, 0.75f, true);
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Returns the cache shared by all the analyses of the open documents.
+     *
+     * @return the shared cache
+     */
+    public static AnalysisCache getShared()
+    {
+        return SHARED;
+    }
+
+    /**
+     * Returns the analysis of a version of a document, making the document
+     * the one used last.
+     *
+     * @param document  the document, such as its code area
+     * @param version   the version of its code
+     * @param fullParse true for an analysis made with the full parser, false for a skimmed one
+     * @return the analysis, which may be compacted, or null if there is none for this version
+     */
+    public synchronized DocumentAnalysis get(Object document, long version, boolean fullParse)
+    {
+        DocumentAnalysis analysis = this.analyses.get(document);
+        if (analysis == null || analysis.getVersion() != version || analysis.isFullParse() != fullParse)
+        {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        return analysis;
+    }
+
+    /**
+     * Returns the latest analysis of a document, whatever its version, for
+     * instance to build the analysis of the next version on. Counts neither
+     * as a hit nor as a miss.
+     *
+     * @param document the document, such as its code area
+     * @return the analysis, which may be compacted, or null if there is none
+     */
+    public synchronized DocumentAnalysis getLatest(Object document)
+    {
+        return this.analyses.get(document);
+    }
+
+    /**
+     * Keeps the analysis of a document in place of the one it had, making the
+     * document the one used last, then compacts or drops the analyses of the
+     * other documents if over the budget.
+     *
+     * @param document the document, such as its code area
+     * @param analysis its latest analysis
+     */
+    public synchronized void put(Object document, DocumentAnalysis analysis)
+    {
+        DocumentAnalysis old = this.analyses.put(document, analysis);
+        if (old != null)
+        {
+            this.estimatedBytes -= old.getEstimatedBytes();
+        }
+        this.estimatedBytes += analysis.getEstimatedBytes();
+        this.trim(document);
+    }
+
+    /**
+     * Drops the analysis of a document. Called when its tab is closed.
+     *
+     * @param document the document, such as its code area
+     */
+    public synchronized void remove(Object document)
+    {
+        DocumentAnalysis old = this.analyses.remove(document);
+        if (old != null)
+        {
+            this.estimatedBytes -= old.getEstimatedBytes();
+        }
+    }
+
+    /**
+     * Compacts, then drops, the analyses of the documents used least
+     * recently until within the budget, sparing the given document.
+     *
+     * @param active the document used last
+     */
+    private void trim(Object active)
+    {
+        Iterator<Map.Entry<Object, DocumentAnalysis>> entries = this.analyses.entrySet().iterator();
+        while (this.estimatedBytes > this.budgetBytes && entries.hasNext())
+        {
+            Map.Entry<Object, DocumentAnalysis> entry = entries.next();
+            DocumentAnalysis analysis = entry.getValue();
+            if (entry.getKey() != active && !analysis.isCompact())
+            {
+                DocumentAnalysis compacted = analysis.compact();
+                entry.setValue(compacted);
+                this.estimatedBytes += compacted.getEstimatedBytes() - analysis.getEstimatedBytes();
+                this.compactions++;
+            }
+        }
+        entries = this.analyses.entrySet().iterator();
+        while (this.estimatedBytes > this.budgetBytes && entries.hasNext())
+        {
+            Map.Entry<Object, DocumentAnalysis> entry = entries.next();
+            if (entry.getKey() != active)
+            {
+                this.estimatedBytes -= entry.getValue().getEstimatedBytes();
+                entries.remove();
+                this.evictions++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of documents with an analysis.
+     *
+     * @return the number of analyses kept
+     */
+    public synchronized int size()
+    {
+        return this.analyses.size();
+    }
+
+    /**
+     * Returns the estimated size of the analyses kept.
+     *
+     * @return the estimated size in bytes
+     */
+    public synchronized long getEstimatedBytes()
+    {
+        return this.estimatedBytes;
+    }
+
+    /**
+     * Returns the number of lookups that found an analysis.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits()
+    {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find an analysis.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses()
+    {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of analyses compacted to stay within the budget.
+     *
+     * @return the number of compactions
+     */
+    public synchronized long getCompactions()
+    {
+        return this.compactions;
+    }
+
+    /**
+     * Returns the number of analyses dropped to stay within the budget.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions()
+    {
+        return this.evictions;
+    }
+
+    /**
+     * Describes the metrics of the cache, for instance
+     * "3 documents, 1.2 MB of 32.0 MB, 75% hits, 1 compacted, 0 dropped".
+     *
+     * @return a description of the metrics
+     */
+    @Override
+    public synchronized String toString()
+    {
+        long lookups = this.hits + this.misses;
+        return String.format("%d documents, %.1f MB of %.1f MB, %.0f%% hits, %d compacted, %d dropped",
+                             this.analyses.size(), this.estimatedBytes / 1048576.0,
+                             this.budgetBytes / 1048576.0,
+                             lookups == 0 ? 0.0 : 100.0 * this.hits / lookups, this.compactions,
+                             this.evictions);
+    }
+}
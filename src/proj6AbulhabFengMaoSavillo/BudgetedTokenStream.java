@@ -0,0 +1,189 @@
+/*
+ * File: BudgetedTokenStream.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the BudgetedTokenStream class, a token stream that
+ * abandons the parse reading it once superseded or over its budget.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.TokenSource;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A CommonTokenStream that abandons the parse reading it when the parse has
+ * been superseded, has run for longer than its time budget, or looks further
+ * ahead than its lookahead limit to predict a single alternative.
+ * Both the parser matching a token and its ATN simulator looking ahead to
+ * predict an alternative move through the stream by consuming tokens, so
+ * the checks are made there, the clock being read every few tokens only.
+ * Such a prediction marks the stream where it starts and releases it once
+ * done, which is how the lookahead of a prediction is measured.
+ * Error recovery on badly broken code, such as half-typed generics or
+ * unbalanced braces, is what may take far longer than parsing valid code.
+ * Predictions that valid code already makes look far ahead may be exempted
+ * from the budget: their lookahead is not limited, nor is the time they take
+ * charged, only their cancellation being checked.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class BudgetedTokenStream extends CommonTokenStream
+{
+    /**
+     * number of tokens consumed between two readings of the clock
+     */
+    private static final int CHECK_INTERVAL = 16;
+
+    /**
+     * tells whether the parse has been superseded
+     */
+    private final BooleanSupplier cancelled;
+    /**
+     * time, as given by System.nanoTime, the budget started at
+     */
+    private final long startTime;
+    /**
+     * time the parse may take, in milliseconds, and in nanoseconds
+     */
+    private final long budgetMillis;
+    private final long budgetNanos;
+    /**
+     * number of tokens a single prediction may look ahead
+     */
+    private final int lookaheadLimit;
+    /**
+     * tells whether the prediction starting now is exempted from the budget
+     */
+    private BooleanSupplier exempted;
+    /**
+     * index where the prediction under way started, -1 if none is or it is exempted
+     */
+    private int predictionStart;
+    /**
+     * time, as given by System.nanoTime, the exempted prediction under way
+     * started at, -1 if none is
+     */
+    private long exemptionStart;
+    /**
+     * time, in nanoseconds, taken by the exempted predictions done so far
+     */
+    private long exemptedNanos;
+    /**
+     * number of tokens consumed, by the parser or its predictions
+     */
+    private int consumed;
+
+    /**
+     * Creates a new BudgetedTokenStream, whose time budget starts now.
+     * Long.MAX_VALUE and Integer.MAX_VALUE set no limit.
+     *
+     * @param tokenSource    the lexer making the tokens
+     * @param cancelled      tells whether the parse has been superseded
+     * @param budgetMillis   time the parse may take, in milliseconds
+     * @param lookaheadLimit number of tokens a single prediction may look ahead
+     */
+    public BudgetedTokenStream(TokenSource tokenSource, BooleanSupplier cancelled, long budgetMillis,
+                               int lookaheadLimit)
+    {
+        super(tokenSource);
+        this.cancelled = cancelled;
+        this.startTime = System.nanoTime();
+        this.budgetMillis = budgetMillis;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.lookaheadLimit = lookaheadLimit;
+        this.exempted = () -> false;
+        this.predictionStart = -1;
+        this.exemptionStart = -1;
+    }
+
+    /**
+     * Sets what tells whether the prediction starting now is exempted from
+     * the budget, asked each time a prediction starts.
+     *
+     * @param exempted tells whether the prediction starting now is exempted
+     */
+    public void setExemption(BooleanSupplier exempted)
+    {
+        this.exempted = exempted;
+    }
+
+    /**
+     * Notes where the prediction starting here looks ahead from, or when it
+     * started if it is exempted from the budget.
+     *
+     * @return a marker to release once the prediction is done
+     */
+    @Override
+    public int mark()
+    {
+        if (this.exempted.getAsBoolean())
+        {
+            this.exemptionStart = System.nanoTime();
+        }
+        else
+        {
+            this.predictionStart = this.index();
+        }
+        return super.mark();
+    }
+
+    /**
+     * Notes that the prediction is done.
+     *
+     * @param marker the marker returned by mark
+     */
+    @Override
+    public void release(int marker)
+    {
+        if (this.exemptionStart >= 0)
+        {
+            this.exemptedNanos += System.nanoTime() - this.exemptionStart;
+            this.exemptionStart = -1;
+        }
+        this.predictionStart = -1;
+        super.release(marker);
+    }
+
+    /**
+     * Consumes a token, then abandons the parse if it has been superseded or
+     * has gone over its budget.
+     *
+     * @throws CancellationException        if the parse has been superseded
+     * @throws ParseBudgetExceededException if the parse has gone over its budget
+     */
+    @Override
+    public void consume()
+    {
+        super.consume();
+        if (this.predictionStart >= 0 && this.index() - this.predictionStart > this.lookaheadLimit)
+        {
+            throw new ParseBudgetExceededException(
+                    ParseBudgetExceededException.Limit.LOOKAHEAD,
+                    "prediction looked more than " + this.lookaheadLimit + " tokens ahead from line "
+                    + this.get(this.predictionStart).getLine());
+        }
+        if (++this.consumed % CHECK_INTERVAL != 0)
+        {
+            return;
+        }
+        if (this.cancelled.getAsBoolean())
+        {
+            throw new CancellationException("structure parse superseded");
+        }
+        if (this.exemptionStart < 0 && System.nanoTime() - this.startTime - this.exemptedNanos > this.budgetNanos)
+        {
+            throw new ParseBudgetExceededException(
+                    ParseBudgetExceededException.Limit.TIME,
+                    "parse took more than " + this.budgetMillis + " ms, reaching line " + this.LT(1).getLine());
+        }
+    }
+}
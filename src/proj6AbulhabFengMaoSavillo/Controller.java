@@ -45,6 +45,10 @@ public class Controller
      * EditMenuController handling Edit menu actions
      */
     private EditMenuController editMenuController;
+    /**
+     * DiagnosticsMenuController handling Diagnostics menu actions
+     */
+    private DiagnosticsMenuController diagnosticsMenuController;
     /**
      * treeStructure View Controller handling the current file's treeStructure View
      */
@@ -94,14 +98,24 @@ public class Controller
      */
     @FXML
     private Menu editMenu;
+    /**
+     * Profile Parser menu item of the Diagnostics menu defined in Main.fxml
+     */
+    @FXML
+    private MenuItem profileParserMenuItem;
 
     @FXML
-    private TreeView treeView;
+    private TreeView<String> treeView;
     /**
      * Checkbox which currently toggles File treeStructure View
      */
     @FXML
     private CheckBox checkBox;
+    /**
+     * Checkbox which toggles the full parse of the File treeStructure View
+     */
+    @FXML
+    private CheckBox fullOutlineCheckBox;
     /**
      * Split pane which contains File treeStructure View on left and the rest on right
      */
@@ -131,6 +145,7 @@ public class Controller
         this.setupFileMenuController();
         this.setupToolbarController();
         this.setupStructureViewController();
+        this.setupDiagnosticsMenuController();
 
         this.setButtonBinding();
         this.setupEventAwareness();
@@ -179,6 +194,14 @@ public class Controller
                                                                  divider.setPosition(0.25);
                                                          });
 
+            // Switches the structure view between skimming and the full parse
+            this.fullOutlineCheckBox.disableProperty().bind(this.checkBox.selectedProperty().not());
+            this.fullOutlineCheckBox.selectedProperty().addListener((observable, oldValue, newValue) ->
+            {
+                this.structureViewController.setFullParse(newValue);
+                this.updateStructureView(false);
+            });
+
             // Prevents user from resizing split pane when closed
             divider.positionProperty().addListener(((observable, oldValue, newValue) ->
             {
@@ -186,10 +209,10 @@ public class Controller
             }));
 
 
-            // Updates the file structure view whenever a key is typed
+            // Updates the file structure view once the typing pauses
             this.tabPane.addEventFilter(KeyEvent.KEY_RELEASED, event ->
             {
-                this.updateStructureView();
+                this.updateStructureView(true);
 
             });
 
@@ -197,7 +220,7 @@ public class Controller
             // e.g., open tab, remove tab, select another tab
             this.tabPane.getSelectionModel().selectedItemProperty().addListener((ov, oldTab, newTab) ->
                                                                                 {
-                                                                                    this.updateStructureView();
+                                                                                    this.updateStructureView(false);
                                                                                 });
         }
     }
@@ -215,6 +238,8 @@ public class Controller
         this.saveMenuItem.disableProperty().bind(this.fileMenuController.tablessProperty());
         this.saveAsMenuItem.disableProperty().bind(this.fileMenuController.tablessProperty());
         this.editMenu.disableProperty().bind(this.fileMenuController.tablessProperty());
+        this.profileParserMenuItem.disableProperty().bind(
+                this.diagnosticsMenuController.profilingProperty().or(this.fileMenuController.tablessProperty()));
 
         this.stopButton.disableProperty().bind(((ifCompiling.not()).and(ifCompilingRunning.not())).or(this.fileMenuController.tablessProperty()));
         this.compileButton.disableProperty().bind(ifCompiling.or(ifCompilingRunning).or(this.fileMenuController.tablessProperty()));
@@ -296,7 +321,17 @@ public class Controller
     }
 
     /**
-     * Creates a reference to the StructureViewController and passes in relevant items
+     * Creates a reference to the DiagnosticsMenuController and passes in window items.
+     */
+    private void setupDiagnosticsMenuController()
+    {
+        this.diagnosticsMenuController = new DiagnosticsMenuController();
+        this.diagnosticsMenuController.setTabPane(this.tabPane);
+    }
+
+    /**
+     * Creates a reference to the StructureViewController and passes in relevant items.
+     * The structure is skimmed until the Full Outline checkbox turns the full parse on.
      */
     private void setupStructureViewController() {
         this.structureViewController = new StructureViewController();
@@ -305,8 +340,11 @@ public class Controller
 
     /**
      * Parses and generates the structure view for the currently open code area
+     * in the background, either right away or once the typing pauses.
+     *
+     * @param whileTyping true to wait for the typing to pause, coalescing the keystrokes
      */
-    private void updateStructureView() {
+    private void updateStructureView(boolean whileTyping) {
         JavaCodeArea currentCodeArea = this.getCurrentCodeArea();
         File currentFile = this.getCurrentFile();
 
@@ -318,12 +356,19 @@ public class Controller
                 // if this is a java file
                 if (fileName.endsWith(".java")) {
                     // Re-generates the tree
-                    this.structureViewController.generateStructureTree(currentCodeArea.getText());
+                    if (whileTyping) {
+                        this.structureViewController.scheduleStructureTree(currentCodeArea);
+                    } else {
+                        this.structureViewController.generateStructureTree(currentCodeArea);
+                    }
                 }
             } else {
                 // Gets rid of open structure view
                 this.resetStructureView();
             }
+        } else {
+            // the last tab was closed, let go of its outline
+            this.resetStructureView();
         }
     }
 
@@ -372,7 +417,7 @@ public class Controller
     private void handleNewAction()
     {
         this.fileMenuController.handleNewAction();
-        this.updateStructureView();
+        this.updateStructureView(false);
     }
 
     /**
@@ -381,7 +426,7 @@ public class Controller
     @FXML
     private void handleOpenAction() {
         this.fileMenuController.handleOpenAction();
-        this.updateStructureView();
+        this.updateStructureView(false);
     }
 
     /**
@@ -450,18 +495,28 @@ public class Controller
         this.editMenuController.handleEditMenuAction(event);
     }
 
+    /**
+     * Calls the method that handles the Profile Parser menu item action from the
+     * diagnosticsMenuController, for the code in the current tab.
+     */
+    @FXML
+    private void handleProfileParserAction()
+    {
+        this.diagnosticsMenuController.handleProfileParserAction(this.getCurrentCodeArea());
+    }
+
     /**
      * Jump to the line where the selected class/method/field is declared.
      */
     @FXML
     private void handleTreeItemClicked()
     {
-        TreeItem selectedTreeItem = (TreeItem) this.treeView.getSelectionModel().getSelectedItem();
+        TreeItem<String> selectedTreeItem = this.treeView.getSelectionModel().getSelectedItem();
         JavaCodeArea currentCodeArea = this.getCurrentCodeArea();
         if (selectedTreeItem != null)
         {
             int lineNum = this.structureViewController.getTreeItemLineNum(selectedTreeItem);
-            if (currentCodeArea != null) currentCodeArea.showParagraphAtTop(lineNum - 1);
+            if (currentCodeArea != null && lineNum > 0) currentCodeArea.showParagraphAtTop(lineNum - 1);
         }
     }
 }
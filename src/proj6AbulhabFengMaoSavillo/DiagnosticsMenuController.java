@@ -0,0 +1,240 @@
+/*
+ * File: DiagnosticsMenuController.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the DiagnosticsMenuController class, handling Diagnostics menu related actions.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.TextArea;
+import javafx.scene.text.Font;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * DiagnosticsMenuController handles Diagnostics menu related actions.
+ * Profiling the parser parses the code of the current tab in the background
+ * with a ParserProfiler, then shows the decisions of the grammar that took
+ * the most time, and offers to export the whole profile as CSV.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class DiagnosticsMenuController
+{
+    /**
+     * number of decisions shown in the profile dialog
+     */
+    private static final int SHOWN_DECISIONS = 15;
+
+    /**
+     * profiles the parser in the background
+     */
+    private final ProfileWorker profileWorker;
+    /**
+     * TabPane defined in Main.fxml
+     */
+    private TabPane tabPane;
+
+    /**
+     * Creates a new DiagnosticsMenuController
+     */
+    public DiagnosticsMenuController()
+    {
+        this.profileWorker = new ProfileWorker();
+    }
+
+    /**
+     * Sets the tab pane.
+     *
+     * @param tabPane TabPane defined in Main.fxml
+     */
+    public void setTabPane(TabPane tabPane)
+    {
+        this.tabPane = tabPane;
+    }
+
+    /**
+     * Property which indicates if the parser is currently being profiled.
+     *
+     * @return truth value indicating if profiling is running
+     */
+    public ReadOnlyBooleanProperty profilingProperty()
+    {
+        return this.profileWorker.runningProperty();
+    }
+
+    /**
+     * Handles the Profile Parser menu item action.
+     * Profiles the parse of the code in the given code area in the background,
+     * then shows the profile.
+     *
+     * @param codeArea the code area of the current tab
+     */
+    public void handleProfileParserAction(JavaCodeArea codeArea)
+    {
+        if (codeArea == null || this.profileWorker.isRunning())
+        {
+            return;
+        }
+        this.profileWorker.setContents(codeArea.getText());
+        this.profileWorker.restart();
+    }
+
+    /**
+     * Shows a profile of the parser, offering to export it as CSV.
+     *
+     * @param profile the profile of the parse
+     */
+    private void showProfile(ParserProfile profile)
+    {
+        TextArea table = new TextArea(profile.summarize(SHOWN_DECISIONS));
+        table.setEditable(false);
+        table.setFont(Font.font("Monospaced", 12));
+        table.setPrefColumnCount(80);
+
+        Alert dialog = new Alert(Alert.AlertType.INFORMATION);
+        dialog.initOwner(this.tabPane.getScene().getWindow());
+        dialog.setTitle("Parser Profile");
+        dialog.setHeaderText("Decisions of the Java8Parser taking the most time");
+        dialog.getDialogPane().setContent(table);
+        dialog.setResizable(true);
+        ButtonType exportButton = new ButtonType("Export CSV...", ButtonBar.ButtonData.LEFT);
+        dialog.getButtonTypes().add(exportButton);
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isPresent() && result.get() == exportButton)
+        {
+            this.exportProfile(profile);
+        }
+    }
+
+    /**
+     * Asks for a file and saves a profile of the parser to it as CSV.
+     *
+     * @param profile the profile of the parse
+     */
+    private void exportProfile(ParserProfile profile)
+    {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setInitialFileName("parser-profile.csv");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV files", "*.csv"));
+        File csvFile = fileChooser.showSaveDialog(this.tabPane.getScene().getWindow());
+        if (csvFile == null)
+        {
+            return;
+        }
+        try
+        {
+            Files.write(csvFile.toPath(), profile.toCsv().getBytes(StandardCharsets.UTF_8));
+        }
+        catch (IOException e)
+        {
+            this.createErrorDialog("Exporting Profile", "Cannot save " + csvFile.getName() + ".");
+        }
+    }
+
+    /**
+     * Creates a error dialog displaying message of any error encountered.
+     *
+     * @param errorTitle  String of the error title
+     * @param errorString String of error message
+     */
+    private void createErrorDialog(String errorTitle, String errorString)
+    {
+        Alert alert = new Alert(Alert.AlertType.WARNING);
+        alert.initOwner(this.tabPane.getScene().getWindow());
+        alert.setTitle(errorTitle + " Error");
+        alert.setHeaderText("Error for " + errorTitle);
+        alert.setContentText(errorString);
+        alert.showAndWait();
+    }
+
+    /**
+     * A ProfileWorker profiles the parser on a background thread, so the
+     * window stays responsive during the slow profiled parse.
+     */
+    private class ProfileWorker extends Service<ParserProfile>
+    {
+        /**
+         * profiles the parses
+         */
+        private final ParserProfiler profiler;
+        /**
+         * the contents to be profiled
+         */
+        private String contents;
+
+        /**
+         * Creates a new ProfileWorker running on its own daemon thread
+         */
+        ProfileWorker()
+        {
+            this.profiler = new ParserProfiler();
+            ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+            {
+                Thread thread = new Thread(runnable, "parser-profiler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.setExecutor(executor);
+        }
+
+        /**
+         * Sets the contents profiled by the next task.
+         *
+         * @param contents the contents to be profiled
+         */
+        void setContents(String contents)
+        {
+            this.contents = contents;
+        }
+
+        /**
+         * Overrides the createTask method in Service class.
+         * Profiles the parse of the contents and shows the profile once done.
+         *
+         * @return a task profiling the parse of the contents
+         */
+        @Override
+        protected Task<ParserProfile> createTask()
+        {
+            String contents = this.contents;
+            Task<ParserProfile> task = new Task<ParserProfile>()
+            {
+                /**
+                 * Profiles the parse of the contents.
+                 *
+                 * @return the profile of the parse
+                 */
+                @Override
+                protected ParserProfile call()
+                {
+                    return profiler.profile(contents, this::isCancelled);
+                }
+            };
+            task.setOnSucceeded(event -> showProfile(task.getValue()));
+            task.setOnFailed(event -> createErrorDialog("Profiling Parser",
+                                                        String.valueOf(task.getException())));
+            return task;
+        }
+    }
+}
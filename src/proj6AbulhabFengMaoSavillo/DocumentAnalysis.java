@@ -0,0 +1,261 @@
+/*
+ * File: DocumentAnalysis.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the DocumentAnalysis class, which holds what was
+ * learned from parsing one version of the code in a tab.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The result of analyzing one version of the code in a JavaCodeArea: its
+ * text, its tokens, its parse tree if it was parsed with the full parser,
+ * and its outline. Analyses are kept in the AnalysisCache so that the same
+ * version is never parsed twice, and may be compacted there to their outline
+ * alone.
+ * Never changed once created, so safe to share between threads, with one
+ * exception: an incremental reparse of the next version may take over the
+ * tokens and the parse tree, and update them in place. It does so only
+ * after a successful takeOver, after which they are no longer to be used
+ * through this analysis. The outline is never changed.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class DocumentAnalysis
+{
+    /**
+     * estimated size, in bytes, of the parts of an analysis, on a 64-bit VM with compressed references
+     */
+    private static final int ANALYSIS_BYTES = 48;
+    private static final int TOKEN_BYTES = 64;
+    private static final int RULE_NODE_BYTES = 96;
+    private static final int TERMINAL_NODE_BYTES = 24;
+    private static final int OUTLINE_NODE_BYTES = 80;
+    private static final int CHARACTER_BYTES = 2;
+
+    /**
+     * version of the code analyzed
+     */
+    private final long version;
+    /**
+     * whether the code was parsed with the full parser rather than skimmed
+     */
+    private final boolean fullParse;
+    /**
+     * the code analyzed, null once compacted
+     */
+    private final String text;
+    /**
+     * the tokens of the code, null once compacted
+     */
+    private final List<? extends Token> tokens;
+    /**
+     * the parse tree of the code, null if skimmed or once compacted
+     */
+    private final ParseTree tree;
+    /**
+     * the outline of the code
+     */
+    private final OutlineNode outline;
+    /**
+     * set once the tokens and the parse tree have been taken over
+     */
+    private final AtomicBoolean takenOver;
+    /**
+     * estimated size in bytes, 0 until first asked for
+     */
+    private volatile long estimatedBytes;
+
+    /**
+     * Creates a new DocumentAnalysis
+     *
+     * @param version   version of the code analyzed
+     * @param fullParse whether the code was parsed with the full parser rather than skimmed
+     * @param text      the code analyzed, or null
+     * @param tokens    the tokens of the code, or null
+     * @param tree      the parse tree of the code, or null
+     * @param outline   the outline of the code
+     */
+    public DocumentAnalysis(long version, boolean fullParse, String text, List<? extends Token> tokens,
+                            ParseTree tree, OutlineNode outline)
+    {
+        this.version = version;
+        this.fullParse = fullParse;
+        this.text = text;
+        this.takenOver = new AtomicBoolean();
+        this.tokens = tokens == null ? null : Collections.unmodifiableList(tokens);
+        this.tree = tree;
+        this.outline = outline;
+    }
+
+    /**
+     * Returns the version of the code analyzed.
+     *
+     * @return the version, as counted by the code area
+     */
+    public long getVersion()
+    {
+        return this.version;
+    }
+
+    /**
+     * Tells whether the code was parsed with the full parser rather than skimmed.
+     *
+     * @return true if parsed with the full parser
+     */
+    public boolean isFullParse()
+    {
+        return this.fullParse;
+    }
+
+    /**
+     * Returns the code analyzed.
+     *
+     * @return the text of the code, or null once compacted
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Returns the tokens of the code, without whitespace and comments.
+     *
+     * @return an unmodifiable list of the tokens, or null once compacted
+     */
+    public List<? extends Token> getTokens()
+    {
+        return this.tokens;
+    }
+
+    /**
+     * Returns the parse tree of the code.
+     *
+     * @return the parse tree, or null if skimmed or once compacted
+     */
+    public ParseTree getTree()
+    {
+        return this.tree;
+    }
+
+    /**
+     * Returns the outline of the code.
+     *
+     * @return the root of the outline
+     */
+    public OutlineNode getOutline()
+    {
+        return this.outline;
+    }
+
+    /**
+     * Tells whether this analysis holds its outline alone.
+     *
+     * @return true if it has neither text, tokens nor parse tree
+     */
+    public boolean isCompact()
+    {
+        return this.text == null && this.tokens == null && this.tree == null;
+    }
+
+    /**
+     * Takes over the tokens and the parse tree, to be updated in place for
+     * the next version of the code. Only one caller ever succeeds.
+     *
+     * @return true if taken over by this call, false if already taken over before
+     */
+    public boolean takeOver()
+    {
+        return this.takenOver.compareAndSet(false, true);
+    }
+
+    /**
+     * Tells whether the tokens and the parse tree have been taken over.
+     *
+     * @return true if taken over
+     */
+    public boolean isTakenOver()
+    {
+        return this.takenOver.get();
+    }
+
+    /**
+     * Returns an analysis of the same version holding the outline alone.
+     *
+     * @return the compacted analysis
+     */
+    public DocumentAnalysis compact()
+    {
+        return this.isCompact() ? this : new DocumentAnalysis(this.version, this.fullParse, null, null, null,
+                                                              this.outline);
+    }
+
+    /**
+     * Returns the estimated size of this analysis, measuring it the first
+     * time, which walks its whole parse tree.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes()
+    {
+        if (this.estimatedBytes == 0)
+        {
+            this.estimatedBytes = this.measure();
+        }
+        return this.estimatedBytes;
+    }
+
+    /**
+     * Estimates the size of this analysis.
+     *
+     * @return the estimated size in bytes
+     */
+    private long measure()
+    {
+        long bytes = ANALYSIS_BYTES;
+        if (this.text != null)
+        {
+            bytes += (long) this.text.length() * CHARACTER_BYTES;
+        }
+        if (this.tokens != null)
+        {
+            bytes += (long) this.tokens.size() * TOKEN_BYTES;
+        }
+        ArrayDeque<ParseTree> trees = new ArrayDeque<>();
+        if (this.tree != null)
+        {
+            trees.push(this.tree);
+        }
+        while (!trees.isEmpty())
+        {
+            ParseTree node = trees.pop();
+            bytes += node.getChildCount() == 0 ? TERMINAL_NODE_BYTES : RULE_NODE_BYTES;
+            for (int i = 0; i < node.getChildCount(); i++)
+            {
+                trees.push(node.getChild(i));
+            }
+        }
+        ArrayDeque<OutlineNode> nodes = new ArrayDeque<>();
+        nodes.push(this.outline);
+        while (!nodes.isEmpty())
+        {
+            OutlineNode node = nodes.pop();
+            bytes += OUTLINE_NODE_BYTES;
+            node.getChildren().forEach(nodes::push);
+        }
+        return bytes;
+    }
+}
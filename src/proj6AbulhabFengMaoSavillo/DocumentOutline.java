@@ -0,0 +1,134 @@
+/*
+ * File: DocumentOutline.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the DocumentOutline class, which holds the outline of
+ * the code in one tab as shown in the structure view.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import javafx.scene.Node;
+import javafx.scene.control.TreeItem;
+
+import java.util.function.Function;
+
+/**
+ * The outline of the code in one JavaCodeArea, as the TreeItems the
+ * structure view shows for it and the declaration each of them stands for.
+ * Owned by its code area, it lives exactly as long as the tab: its TreeItems
+ * and their expansion are kept while other tabs are shown, and dropped with
+ * it when the tab is closed. Updating it to a new outline forgets the
+ * TreeItems the new outline no longer has, so it never holds more entries
+ * than the outline has declarations, however long the editing goes on.
+ * The line and column of each TreeItem are found in constant time.
+ * Must be used on the JavaFX Application Thread.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class DocumentOutline
+{
+    /**
+     * keeps the TreeItems and the declaration each shows
+     */
+    private final OutlineReconciler reconciler;
+
+    /**
+     * Creates a new empty DocumentOutline
+     */
+    public DocumentOutline()
+    {
+        this(StructureIcons::createGraphic);
+    }
+
+    /**
+     * Creates a new empty DocumentOutline making the icons of its TreeItems
+     * with the given factory, such as one making none to run without a
+     * JavaFX toolkit.
+     *
+     * @param graphicFactory makes the icon of a TreeItem for a kind of declaration
+     */
+    DocumentOutline(Function<OutlineNode.Kind, Node> graphicFactory)
+    {
+        this.reconciler = new OutlineReconciler(graphicFactory);
+    }
+
+    /**
+     * Returns the TreeItem holding the top level declarations, which stays
+     * the same across updates.
+     *
+     * @return the root TreeItem
+     */
+    public TreeItem<String> getRoot()
+    {
+        return this.reconciler.getRoot();
+    }
+
+    /**
+     * Updates the TreeItems to show a new outline of the code.
+     *
+     * @param outline the root of the outline
+     * @return the number of TreeItems created, removed, renamed or moved
+     */
+    public int update(OutlineNode outline)
+    {
+        return this.reconciler.reconcile(outline);
+    }
+
+    /**
+     * Returns the number of TreeItems touched by the last update.
+     *
+     * @return the number of TreeItems created, removed, renamed or moved
+     */
+    public int getLastUpdateSize()
+    {
+        return this.reconciler.getLastTouched();
+    }
+
+    /**
+     * Returns the line the declaration shown by a TreeItem starts on.
+     *
+     * @param treeItem a TreeItem of this outline
+     * @return the line number, counting from 1, or -1 if the TreeItem is not in this outline
+     */
+    public int getLine(TreeItem<String> treeItem)
+    {
+        OutlineNode declaration = this.reconciler.getDeclaration(treeItem);
+        return declaration == null ? -1 : declaration.getLine();
+    }
+
+    /**
+     * Returns the column the declaration shown by a TreeItem starts at.
+     *
+     * @param treeItem a TreeItem of this outline
+     * @return the column, counting from 0, or -1 if the TreeItem is not in this outline
+     */
+    public int getColumn(TreeItem<String> treeItem)
+    {
+        OutlineNode declaration = this.reconciler.getDeclaration(treeItem);
+        return declaration == null ? -1 : declaration.getColumn();
+    }
+
+    /**
+     * Returns the number of TreeItems whose declaration is kept.
+     *
+     * @return the number of TreeItems below the root
+     */
+    public int size()
+    {
+        return this.reconciler.size();
+    }
+
+    /**
+     * Drops all the TreeItems and their declarations.
+     * Called when the code area owning this outline is disposed.
+     */
+    public void dispose()
+    {
+        this.reconciler.clear();
+    }
+}
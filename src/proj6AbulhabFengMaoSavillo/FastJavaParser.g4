@@ -0,0 +1,542 @@
+/*
+ * File: FastJavaParser.g4
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the FastJavaParser grammar, a Java 8 parser grammar
+ * tuned for the speed of the outline parser.
+ */
+
+/*
+ * A Java 8 parser grammar over the tokens of the Java8Lexer, written for the
+ * speed of its generated parser rather than to follow the language
+ * specification rule for rule as the Java8 grammar does:
+ * - expressions are a single left-recursive rule, which ANTLR turns into
+ *   precedence climbing, in place of a rule per precedence level;
+ * - primary is a single rule, without the primary_lf and primary_lfno
+ *   variants the Java8 grammar needs to remove its left recursion;
+ * - the modifiers of a declaration are matched before the declaration, in
+ *   the rule holding it, so the kind of declaration is predicted once the
+ *   modifiers are matched, not by looking ahead across them;
+ * - types are a single rule, not split into reference, class, interface
+ *   and type variable types the parser cannot tell apart anyway.
+ * It accepts every valid Java 8 program, and a few invalid ones the Java8
+ * grammar rejects, such as modifiers not allowed where they are used.
+ * Shifts are matched as two or three GT or LT tokens, since the Java8Lexer
+ * lexes no shift tokens so as to close nested type arguments.
+ *
+ * The token types are read from Java8Lexer.tokens, next to this grammar,
+ * which lists those of the generated Java8Lexer, as ANTLR would have written
+ * them with it. Generate the parser and its listeners from this directory with
+ * java -jar ../../include/antlr-4.7.1-complete.jar -package proj6AbulhabFengMaoSavillo FastJavaParser.g4
+ * then delete the FastJavaParser.interp and FastJavaParser.tokens it also
+ * writes, which nothing uses.
+ */
+parser grammar FastJavaParser;
+
+options { tokenVocab=Java8Lexer; }
+
+compilationUnit
+    :   packageDeclaration? importDeclaration* typeDeclaration* EOF
+    ;
+
+packageDeclaration
+    :   annotation* PACKAGE qualifiedName SEMI
+    ;
+
+importDeclaration
+    :   IMPORT STATIC? qualifiedName (DOT MUL)? SEMI
+    ;
+
+typeDeclaration
+    :   classOrInterfaceModifier*
+        (classDeclaration | enumDeclaration | interfaceDeclaration | annotationTypeDeclaration)
+    |   SEMI
+    ;
+
+modifier
+    :   classOrInterfaceModifier
+    |   NATIVE
+    |   SYNCHRONIZED
+    |   TRANSIENT
+    |   VOLATILE
+    ;
+
+classOrInterfaceModifier
+    :   annotation
+    |   PUBLIC
+    |   PROTECTED
+    |   PRIVATE
+    |   STATIC
+    |   ABSTRACT
+    |   FINAL
+    |   STRICTFP
+    |   DEFAULT
+    ;
+
+variableModifier
+    :   FINAL
+    |   annotation
+    ;
+
+classDeclaration
+    :   CLASS Identifier typeParameters? (EXTENDS typeType)? (IMPLEMENTS typeList)? classBody
+    ;
+
+typeParameters
+    :   LT typeParameter (COMMA typeParameter)* GT
+    ;
+
+typeParameter
+    :   annotation* Identifier (EXTENDS typeBound)?
+    ;
+
+typeBound
+    :   typeType (BITAND typeType)*
+    ;
+
+enumDeclaration
+    :   ENUM Identifier (IMPLEMENTS typeList)? LBRACE enumConstants? COMMA? enumBodyDeclarations? RBRACE
+    ;
+
+enumConstants
+    :   enumConstant (COMMA enumConstant)*
+    ;
+
+enumConstant
+    :   annotation* Identifier arguments? classBody?
+    ;
+
+enumBodyDeclarations
+    :   SEMI classBodyDeclaration*
+    ;
+
+interfaceDeclaration
+    :   INTERFACE Identifier typeParameters? (EXTENDS typeList)? interfaceBody
+    ;
+
+classBody
+    :   LBRACE classBodyDeclaration* RBRACE
+    ;
+
+interfaceBody
+    :   LBRACE interfaceBodyDeclaration* RBRACE
+    ;
+
+classBodyDeclaration
+    :   SEMI
+    |   STATIC? block
+    |   modifier* memberDeclaration
+    ;
+
+memberDeclaration
+    :   methodDeclaration
+    |   fieldDeclaration
+    |   constructorDeclaration
+    |   classDeclaration
+    |   enumDeclaration
+    |   interfaceDeclaration
+    |   annotationTypeDeclaration
+    ;
+
+methodDeclaration
+    :   typeParameters? typeTypeOrVoid Identifier formalParameters (LBRACK RBRACK)*
+        (THROWS qualifiedNameList)? methodBody
+    ;
+
+methodBody
+    :   block
+    |   SEMI
+    ;
+
+typeTypeOrVoid
+    :   typeType
+    |   VOID
+    ;
+
+constructorDeclaration
+    :   typeParameters? Identifier formalParameters (THROWS qualifiedNameList)? block
+    ;
+
+fieldDeclaration
+    :   typeType variableDeclarators SEMI
+    ;
+
+interfaceBodyDeclaration
+    :   modifier* interfaceMemberDeclaration
+    |   SEMI
+    ;
+
+interfaceMemberDeclaration
+    :   methodDeclaration
+    |   constantDeclaration
+    |   classDeclaration
+    |   enumDeclaration
+    |   interfaceDeclaration
+    |   annotationTypeDeclaration
+    ;
+
+constantDeclaration
+    :   typeType variableDeclarators SEMI
+    ;
+
+variableDeclarators
+    :   variableDeclarator (COMMA variableDeclarator)*
+    ;
+
+variableDeclarator
+    :   variableDeclaratorId (ASSIGN variableInitializer)?
+    ;
+
+variableDeclaratorId
+    :   Identifier (LBRACK RBRACK)*
+    ;
+
+variableInitializer
+    :   arrayInitializer
+    |   expression
+    ;
+
+arrayInitializer
+    :   LBRACE (variableInitializer (COMMA variableInitializer)* COMMA?)? RBRACE
+    ;
+
+classOrInterfaceType
+    :   Identifier typeArguments? (DOT annotation* Identifier typeArguments?)*
+    ;
+
+typeArgument
+    :   typeType
+    |   annotation* QUESTION ((EXTENDS | SUPER) typeType)?
+    ;
+
+qualifiedNameList
+    :   qualifiedName (COMMA qualifiedName)*
+    ;
+
+formalParameters
+    :   LPAREN formalParameterList? RPAREN
+    ;
+
+formalParameterList
+    :   formalParameter (COMMA formalParameter)* (COMMA lastFormalParameter)?
+    |   lastFormalParameter
+    ;
+
+formalParameter
+    :   variableModifier* typeType (variableDeclaratorId | (Identifier DOT)* THIS)
+    ;
+
+lastFormalParameter
+    :   variableModifier* typeType annotation* ELLIPSIS variableDeclaratorId
+    ;
+
+qualifiedName
+    :   Identifier (DOT Identifier)*
+    ;
+
+literal
+    :   IntegerLiteral
+    |   FloatingPointLiteral
+    |   BooleanLiteral
+    |   CharacterLiteral
+    |   StringLiteral
+    |   NullLiteral
+    ;
+
+annotation
+    :   AT qualifiedName (LPAREN (elementValuePairs | elementValue)? RPAREN)?
+    ;
+
+elementValuePairs
+    :   elementValuePair (COMMA elementValuePair)*
+    ;
+
+elementValuePair
+    :   Identifier ASSIGN elementValue
+    ;
+
+elementValue
+    :   expression
+    |   annotation
+    |   elementValueArrayInitializer
+    ;
+
+elementValueArrayInitializer
+    :   LBRACE (elementValue (COMMA elementValue)*)? COMMA? RBRACE
+    ;
+
+annotationTypeDeclaration
+    :   AT INTERFACE Identifier annotationTypeBody
+    ;
+
+annotationTypeBody
+    :   LBRACE annotationTypeElementDeclaration* RBRACE
+    ;
+
+annotationTypeElementDeclaration
+    :   modifier* annotationTypeElementRest
+    |   SEMI
+    ;
+
+annotationTypeElementRest
+    :   typeType annotationMethodOrConstantRest SEMI
+    |   classDeclaration SEMI?
+    |   interfaceDeclaration SEMI?
+    |   enumDeclaration SEMI?
+    |   annotationTypeDeclaration SEMI?
+    ;
+
+annotationMethodOrConstantRest
+    :   annotationMethodRest
+    |   annotationConstantRest
+    ;
+
+annotationMethodRest
+    :   Identifier LPAREN RPAREN (LBRACK RBRACK)* (DEFAULT elementValue)?
+    ;
+
+annotationConstantRest
+    :   variableDeclarators
+    ;
+
+block
+    :   LBRACE blockStatement* RBRACE
+    ;
+
+blockStatement
+    :   localVariableDeclaration SEMI
+    |   statement
+    |   localTypeDeclaration
+    ;
+
+localVariableDeclaration
+    :   variableModifier* typeType variableDeclarators
+    ;
+
+localTypeDeclaration
+    :   (annotation | ABSTRACT | FINAL | STRICTFP)* (classDeclaration | enumDeclaration | interfaceDeclaration)
+    ;
+
+statement
+    :   block
+    |   ASSERT expression (COLON expression)? SEMI
+    |   IF parExpression statement (ELSE statement)?
+    |   FOR LPAREN forControl RPAREN statement
+    |   WHILE parExpression statement
+    |   DO statement WHILE parExpression SEMI
+    |   TRY block (catchClause+ finallyBlock? | finallyBlock)
+    |   TRY resourceSpecification block catchClause* finallyBlock?
+    |   SWITCH parExpression LBRACE switchBlockStatementGroup* switchLabel* RBRACE
+    |   SYNCHRONIZED parExpression block
+    |   RETURN expression? SEMI
+    |   THROW expression SEMI
+    |   BREAK Identifier? SEMI
+    |   CONTINUE Identifier? SEMI
+    |   SEMI
+    |   expression SEMI
+    |   Identifier COLON statement
+    ;
+
+catchClause
+    :   CATCH LPAREN variableModifier* qualifiedName (BITOR qualifiedName)* Identifier RPAREN block
+    ;
+
+finallyBlock
+    :   FINALLY block
+    ;
+
+resourceSpecification
+    :   LPAREN resource (SEMI resource)* SEMI? RPAREN
+    ;
+
+resource
+    :   variableModifier* classOrInterfaceType variableDeclaratorId ASSIGN expression
+    ;
+
+switchBlockStatementGroup
+    :   switchLabel+ blockStatement+
+    ;
+
+switchLabel
+    :   CASE expression COLON
+    |   DEFAULT COLON
+    ;
+
+forControl
+    :   enhancedForControl
+    |   forInit? SEMI expression? SEMI expressionList?
+    ;
+
+forInit
+    :   localVariableDeclaration
+    |   expressionList
+    ;
+
+enhancedForControl
+    :   variableModifier* typeType variableDeclaratorId COLON expression
+    ;
+
+parExpression
+    :   LPAREN expression RPAREN
+    ;
+
+expressionList
+    :   expression (COMMA expression)*
+    ;
+
+methodCall
+    :   Identifier arguments
+    |   THIS arguments
+    |   SUPER arguments
+    ;
+
+expression
+    :   primary
+    |   expression DOT
+        (   Identifier
+        |   methodCall
+        |   THIS
+        |   NEW nonWildcardTypeArguments? innerCreator
+        |   SUPER superSuffix
+        |   nonWildcardTypeArguments explicitGenericInvocationSuffix
+        )
+    |   expression LBRACK expression RBRACK
+    |   methodCall
+    |   NEW creator
+    |   LPAREN annotation* typeType (BITAND typeType)* RPAREN expression
+    |   expression (INC | DEC)
+    |   (ADD | SUB | INC | DEC) expression
+    |   (TILDE | BANG) expression
+    |   expression (MUL | DIV | MOD) expression
+    |   expression (ADD | SUB) expression
+    |   expression (LT LT | GT GT GT | GT GT) expression
+    |   expression (LE | GE | GT | LT) expression
+    |   expression INSTANCEOF typeType
+    |   expression (EQUAL | NOTEQUAL) expression
+    |   expression BITAND expression
+    |   expression CARET expression
+    |   expression BITOR expression
+    |   expression AND expression
+    |   expression OR expression
+    |   <assoc=right> expression QUESTION expression COLON expression
+    |   <assoc=right> expression
+        (   ASSIGN
+        |   ADD_ASSIGN
+        |   SUB_ASSIGN
+        |   MUL_ASSIGN
+        |   DIV_ASSIGN
+        |   AND_ASSIGN
+        |   OR_ASSIGN
+        |   XOR_ASSIGN
+        |   RSHIFT_ASSIGN
+        |   URSHIFT_ASSIGN
+        |   LSHIFT_ASSIGN
+        |   MOD_ASSIGN
+        )
+        expression
+    |   lambdaExpression
+    |   expression COLONCOLON typeArguments? Identifier
+    |   typeType COLONCOLON (typeArguments? Identifier | NEW)
+    ;
+
+lambdaExpression
+    :   lambdaParameters ARROW lambdaBody
+    ;
+
+lambdaParameters
+    :   Identifier
+    |   LPAREN formalParameterList? RPAREN
+    |   LPAREN Identifier (COMMA Identifier)* RPAREN
+    ;
+
+lambdaBody
+    :   expression
+    |   block
+    ;
+
+primary
+    :   LPAREN expression RPAREN
+    |   THIS
+    |   SUPER
+    |   literal
+    |   Identifier
+    |   typeTypeOrVoid DOT CLASS
+    |   nonWildcardTypeArguments (explicitGenericInvocationSuffix | THIS arguments)
+    ;
+
+creator
+    :   nonWildcardTypeArguments createdName classCreatorRest
+    |   createdName (arrayCreatorRest | classCreatorRest)
+    ;
+
+createdName
+    :   annotation* Identifier typeArgumentsOrDiamond? (DOT annotation* Identifier typeArgumentsOrDiamond?)*
+    |   primitiveType
+    ;
+
+innerCreator
+    :   annotation* Identifier nonWildcardTypeArgumentsOrDiamond? classCreatorRest
+    ;
+
+arrayCreatorRest
+    :   LBRACK
+        (   RBRACK (LBRACK RBRACK)* arrayInitializer
+        |   expression RBRACK (LBRACK expression RBRACK)* (LBRACK RBRACK)*
+        )
+    ;
+
+classCreatorRest
+    :   arguments classBody?
+    ;
+
+typeArgumentsOrDiamond
+    :   LT GT
+    |   typeArguments
+    ;
+
+nonWildcardTypeArgumentsOrDiamond
+    :   LT GT
+    |   nonWildcardTypeArguments
+    ;
+
+nonWildcardTypeArguments
+    :   LT typeList GT
+    ;
+
+typeList
+    :   typeType (COMMA typeType)*
+    ;
+
+typeType
+    :   annotation* (classOrInterfaceType | primitiveType) (annotation* LBRACK RBRACK)*
+    ;
+
+primitiveType
+    :   BOOLEAN
+    |   CHAR
+    |   BYTE
+    |   SHORT
+    |   INT
+    |   LONG
+    |   FLOAT
+    |   DOUBLE
+    ;
+
+typeArguments
+    :   LT typeArgument (COMMA typeArgument)* GT
+    ;
+
+superSuffix
+    :   arguments
+    |   DOT typeArguments? Identifier arguments?
+    ;
+
+explicitGenericInvocationSuffix
+    :   SUPER superSuffix
+    |   Identifier arguments
+    ;
+
+arguments
+    :   LPAREN expressionList? RPAREN
+    ;
@@ -0,0 +1,8719 @@
+// Generated from FastJavaParser.g4 by ANTLR 4.7.1
+package proj6AbulhabFengMaoSavillo;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class FastJavaParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.7.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		ABSTRACT=1, ASSERT=2, BOOLEAN=3, BREAK=4, BYTE=5, CASE=6, CATCH=7, CHAR=8, 
+		CLASS=9, CONST=10, CONTINUE=11, DEFAULT=12, DO=13, DOUBLE=14, ELSE=15, 
+		ENUM=16, EXTENDS=17, FINAL=18, FINALLY=19, FLOAT=20, FOR=21, IF=22, GOTO=23, 
+		IMPLEMENTS=24, IMPORT=25, INSTANCEOF=26, INT=27, INTERFACE=28, LONG=29, 
+		NATIVE=30, NEW=31, PACKAGE=32, PRIVATE=33, PROTECTED=34, PUBLIC=35, RETURN=36, 
+		SHORT=37, STATIC=38, STRICTFP=39, SUPER=40, SWITCH=41, SYNCHRONIZED=42, 
+		THIS=43, THROW=44, THROWS=45, TRANSIENT=46, TRY=47, VOID=48, VOLATILE=49, 
+		WHILE=50, IntegerLiteral=51, FloatingPointLiteral=52, BooleanLiteral=53, 
+		CharacterLiteral=54, StringLiteral=55, NullLiteral=56, LPAREN=57, RPAREN=58, 
+		LBRACE=59, RBRACE=60, LBRACK=61, RBRACK=62, SEMI=63, COMMA=64, DOT=65, 
+		ASSIGN=66, GT=67, LT=68, BANG=69, TILDE=70, QUESTION=71, COLON=72, EQUAL=73, 
+		LE=74, GE=75, NOTEQUAL=76, AND=77, OR=78, INC=79, DEC=80, ADD=81, SUB=82, 
+		MUL=83, DIV=84, BITAND=85, BITOR=86, CARET=87, MOD=88, ARROW=89, COLONCOLON=90, 
+		ADD_ASSIGN=91, SUB_ASSIGN=92, MUL_ASSIGN=93, DIV_ASSIGN=94, AND_ASSIGN=95, 
+		OR_ASSIGN=96, XOR_ASSIGN=97, MOD_ASSIGN=98, LSHIFT_ASSIGN=99, RSHIFT_ASSIGN=100, 
+		URSHIFT_ASSIGN=101, Identifier=102, AT=103, ELLIPSIS=104, WS=105, COMMENT=106, 
+		LINE_COMMENT=107;
+	public static final int
+		RULE_compilationUnit = 0, RULE_packageDeclaration = 1, RULE_importDeclaration = 2, 
+		RULE_typeDeclaration = 3, RULE_modifier = 4, RULE_classOrInterfaceModifier = 5, 
+		RULE_variableModifier = 6, RULE_classDeclaration = 7, RULE_typeParameters = 8, 
+		RULE_typeParameter = 9, RULE_typeBound = 10, RULE_enumDeclaration = 11, 
+		RULE_enumConstants = 12, RULE_enumConstant = 13, RULE_enumBodyDeclarations = 14, 
+		RULE_interfaceDeclaration = 15, RULE_classBody = 16, RULE_interfaceBody = 17, 
+		RULE_classBodyDeclaration = 18, RULE_memberDeclaration = 19, RULE_methodDeclaration = 20, 
+		RULE_methodBody = 21, RULE_typeTypeOrVoid = 22, RULE_constructorDeclaration = 23, 
+		RULE_fieldDeclaration = 24, RULE_interfaceBodyDeclaration = 25, RULE_interfaceMemberDeclaration = 26, 
+		RULE_constantDeclaration = 27, RULE_variableDeclarators = 28, RULE_variableDeclarator = 29, 
+		RULE_variableDeclaratorId = 30, RULE_variableInitializer = 31, RULE_arrayInitializer = 32, 
+		RULE_classOrInterfaceType = 33, RULE_typeArgument = 34, RULE_qualifiedNameList = 35, 
+		RULE_formalParameters = 36, RULE_formalParameterList = 37, RULE_formalParameter = 38, 
+		RULE_lastFormalParameter = 39, RULE_qualifiedName = 40, RULE_literal = 41, 
+		RULE_annotation = 42, RULE_elementValuePairs = 43, RULE_elementValuePair = 44, 
+		RULE_elementValue = 45, RULE_elementValueArrayInitializer = 46, RULE_annotationTypeDeclaration = 47, 
+		RULE_annotationTypeBody = 48, RULE_annotationTypeElementDeclaration = 49, 
+		RULE_annotationTypeElementRest = 50, RULE_annotationMethodOrConstantRest = 51, 
+		RULE_annotationMethodRest = 52, RULE_annotationConstantRest = 53, RULE_block = 54, 
+		RULE_blockStatement = 55, RULE_localVariableDeclaration = 56, RULE_localTypeDeclaration = 57, 
+		RULE_statement = 58, RULE_catchClause = 59, RULE_finallyBlock = 60, RULE_resourceSpecification = 61, 
+		RULE_resource = 62, RULE_switchBlockStatementGroup = 63, RULE_switchLabel = 64, 
+		RULE_forControl = 65, RULE_forInit = 66, RULE_enhancedForControl = 67, 
+		RULE_parExpression = 68, RULE_expressionList = 69, RULE_methodCall = 70, 
+		RULE_expression = 71, RULE_lambdaExpression = 72, RULE_lambdaParameters = 73, 
+		RULE_lambdaBody = 74, RULE_primary = 75, RULE_creator = 76, RULE_createdName = 77, 
+		RULE_innerCreator = 78, RULE_arrayCreatorRest = 79, RULE_classCreatorRest = 80, 
+		RULE_typeArgumentsOrDiamond = 81, RULE_nonWildcardTypeArgumentsOrDiamond = 82, 
+		RULE_nonWildcardTypeArguments = 83, RULE_typeList = 84, RULE_typeType = 85, 
+		RULE_primitiveType = 86, RULE_typeArguments = 87, RULE_superSuffix = 88, 
+		RULE_explicitGenericInvocationSuffix = 89, RULE_arguments = 90;
+	public static final String[] ruleNames = {
+		"compilationUnit", "packageDeclaration", "importDeclaration", "typeDeclaration", 
+		"modifier", "classOrInterfaceModifier", "variableModifier", "classDeclaration", 
+		"typeParameters", "typeParameter", "typeBound", "enumDeclaration", "enumConstants", 
+		"enumConstant", "enumBodyDeclarations", "interfaceDeclaration", "classBody", 
+		"interfaceBody", "classBodyDeclaration", "memberDeclaration", "methodDeclaration", 
+		"methodBody", "typeTypeOrVoid", "constructorDeclaration", "fieldDeclaration", 
+		"interfaceBodyDeclaration", "interfaceMemberDeclaration", "constantDeclaration", 
+		"variableDeclarators", "variableDeclarator", "variableDeclaratorId", "variableInitializer", 
+		"arrayInitializer", "classOrInterfaceType", "typeArgument", "qualifiedNameList", 
+		"formalParameters", "formalParameterList", "formalParameter", "lastFormalParameter", 
+		"qualifiedName", "literal", "annotation", "elementValuePairs", "elementValuePair", 
+		"elementValue", "elementValueArrayInitializer", "annotationTypeDeclaration", 
+		"annotationTypeBody", "annotationTypeElementDeclaration", "annotationTypeElementRest", 
+		"annotationMethodOrConstantRest", "annotationMethodRest", "annotationConstantRest", 
+		"block", "blockStatement", "localVariableDeclaration", "localTypeDeclaration", 
+		"statement", "catchClause", "finallyBlock", "resourceSpecification", "resource", 
+		"switchBlockStatementGroup", "switchLabel", "forControl", "forInit", "enhancedForControl", 
+		"parExpression", "expressionList", "methodCall", "expression", "lambdaExpression", 
+		"lambdaParameters", "lambdaBody", "primary", "creator", "createdName", 
+		"innerCreator", "arrayCreatorRest", "classCreatorRest", "typeArgumentsOrDiamond", 
+		"nonWildcardTypeArgumentsOrDiamond", "nonWildcardTypeArguments", "typeList", 
+		"typeType", "primitiveType", "typeArguments", "superSuffix", "explicitGenericInvocationSuffix", 
+		"arguments"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'abstract'", "'assert'", "'boolean'", "'break'", "'byte'", "'case'", 
+		"'catch'", "'char'", "'class'", "'const'", "'continue'", "'default'", 
+		"'do'", "'double'", "'else'", "'enum'", "'extends'", "'final'", "'finally'", 
+		"'float'", "'for'", "'if'", "'goto'", "'implements'", "'import'", "'instanceof'", 
+		"'int'", "'interface'", "'long'", "'native'", "'new'", "'package'", "'private'", 
+		"'protected'", "'public'", "'return'", "'short'", "'static'", "'strictfp'", 
+		"'super'", "'switch'", "'synchronized'", "'this'", "'throw'", "'throws'", 
+		"'transient'", "'try'", "'void'", "'volatile'", "'while'", null, null, 
+		null, null, null, "'null'", "'('", "')'", "'{'", "'}'", "'['", "']'", 
+		"';'", "','", "'.'", "'='", "'>'", "'<'", "'!'", "'~'", "'?'", "':'", 
+		"'=='", "'<='", "'>='", "'!='", "'&&'", "'||'", "'++'", "'--'", "'+'", 
+		"'-'", "'*'", "'/'", "'&'", "'|'", "'^'", "'%'", "'->'", "'::'", "'+='", 
+		"'-='", "'*='", "'/='", "'&='", "'|='", "'^='", "'%='", "'<<='", "'>>='", 
+		"'>>>='", null, "'@'", "'...'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "ABSTRACT", "ASSERT", "BOOLEAN", "BREAK", "BYTE", "CASE", "CATCH", 
+		"CHAR", "CLASS", "CONST", "CONTINUE", "DEFAULT", "DO", "DOUBLE", "ELSE", 
+		"ENUM", "EXTENDS", "FINAL", "FINALLY", "FLOAT", "FOR", "IF", "GOTO", "IMPLEMENTS", 
+		"IMPORT", "INSTANCEOF", "INT", "INTERFACE", "LONG", "NATIVE", "NEW", "PACKAGE", 
+		"PRIVATE", "PROTECTED", "PUBLIC", "RETURN", "SHORT", "STATIC", "STRICTFP", 
+		"SUPER", "SWITCH", "SYNCHRONIZED", "THIS", "THROW", "THROWS", "TRANSIENT", 
+		"TRY", "VOID", "VOLATILE", "WHILE", "IntegerLiteral", "FloatingPointLiteral", 
+		"BooleanLiteral", "CharacterLiteral", "StringLiteral", "NullLiteral", 
+		"LPAREN", "RPAREN", "LBRACE", "RBRACE", "LBRACK", "RBRACK", "SEMI", "COMMA", 
+		"DOT", "ASSIGN", "GT", "LT", "BANG", "TILDE", "QUESTION", "COLON", "EQUAL", 
+		"LE", "GE", "NOTEQUAL", "AND", "OR", "INC", "DEC", "ADD", "SUB", "MUL", 
+		"DIV", "BITAND", "BITOR", "CARET", "MOD", "ARROW", "COLONCOLON", "ADD_ASSIGN", 
+		"SUB_ASSIGN", "MUL_ASSIGN", "DIV_ASSIGN", "AND_ASSIGN", "OR_ASSIGN", "XOR_ASSIGN", 
+		"MOD_ASSIGN", "LSHIFT_ASSIGN", "RSHIFT_ASSIGN", "URSHIFT_ASSIGN", "Identifier", 
+		"AT", "ELLIPSIS", "WS", "COMMENT", "LINE_COMMENT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "FastJavaParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public FastJavaParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class CompilationUnitContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(FastJavaParser.EOF, 0); }
+		public PackageDeclarationContext packageDeclaration() {
+			return getRuleContext(PackageDeclarationContext.class,0);
+		}
+		public List<ImportDeclarationContext> importDeclaration() {
+			return getRuleContexts(ImportDeclarationContext.class);
+		}
+		public ImportDeclarationContext importDeclaration(int i) {
+			return getRuleContext(ImportDeclarationContext.class,i);
+		}
+		public List<TypeDeclarationContext> typeDeclaration() {
+			return getRuleContexts(TypeDeclarationContext.class);
+		}
+		public TypeDeclarationContext typeDeclaration(int i) {
+			return getRuleContext(TypeDeclarationContext.class,i);
+		}
+		public CompilationUnitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compilationUnit; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterCompilationUnit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitCompilationUnit(this);
+		}
+	}
+
+	public final CompilationUnitContext compilationUnit() throws RecognitionException {
+		CompilationUnitContext _localctx = new CompilationUnitContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_compilationUnit);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(183);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+			case 1:
+				{
+				setState(182);
+				packageDeclaration();
+				}
+				break;
+			}
+			setState(188);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
+				{
+				{
+				setState(185);
+				importDeclaration();
+				}
+				}
+				setState(190);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(194);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << CLASS) | (1L << DEFAULT) | (1L << ENUM) | (1L << FINAL) | (1L << INTERFACE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP) | (1L << SEMI))) != 0) || _la==AT) {
+				{
+				{
+				setState(191);
+				typeDeclaration();
+				}
+				}
+				setState(196);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(197);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageDeclarationContext extends ParserRuleContext {
+		public TerminalNode PACKAGE() { return getToken(FastJavaParser.PACKAGE, 0); }
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterPackageDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitPackageDeclaration(this);
+		}
+	}
+
+	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
+		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_packageDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(202);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(199);
+				annotation();
+				}
+				}
+				setState(204);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(205);
+			match(PACKAGE);
+			setState(206);
+			qualifiedName();
+			setState(207);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportDeclarationContext extends ParserRuleContext {
+		public TerminalNode IMPORT() { return getToken(FastJavaParser.IMPORT, 0); }
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public TerminalNode STATIC() { return getToken(FastJavaParser.STATIC, 0); }
+		public TerminalNode DOT() { return getToken(FastJavaParser.DOT, 0); }
+		public TerminalNode MUL() { return getToken(FastJavaParser.MUL, 0); }
+		public ImportDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterImportDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitImportDeclaration(this);
+		}
+	}
+
+	public final ImportDeclarationContext importDeclaration() throws RecognitionException {
+		ImportDeclarationContext _localctx = new ImportDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_importDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(209);
+			match(IMPORT);
+			setState(211);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==STATIC) {
+				{
+				setState(210);
+				match(STATIC);
+				}
+			}
+
+			setState(213);
+			qualifiedName();
+			setState(216);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DOT) {
+				{
+				setState(214);
+				match(DOT);
+				setState(215);
+				match(MUL);
+				}
+			}
+
+			setState(218);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDeclarationContext extends ParserRuleContext {
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public List<ClassOrInterfaceModifierContext> classOrInterfaceModifier() {
+			return getRuleContexts(ClassOrInterfaceModifierContext.class);
+		}
+		public ClassOrInterfaceModifierContext classOrInterfaceModifier(int i) {
+			return getRuleContext(ClassOrInterfaceModifierContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public TypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeDeclaration(this);
+		}
+	}
+
+	public final TypeDeclarationContext typeDeclaration() throws RecognitionException {
+		TypeDeclarationContext _localctx = new TypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_typeDeclaration);
+		try {
+			int _alt;
+			setState(233);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case CLASS:
+			case DEFAULT:
+			case ENUM:
+			case FINAL:
+			case INTERFACE:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case STATIC:
+			case STRICTFP:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(223);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(220);
+						classOrInterfaceModifier();
+						}
+						} 
+					}
+					setState(225);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+				}
+				setState(230);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case CLASS:
+					{
+					setState(226);
+					classDeclaration();
+					}
+					break;
+				case ENUM:
+					{
+					setState(227);
+					enumDeclaration();
+					}
+					break;
+				case INTERFACE:
+					{
+					setState(228);
+					interfaceDeclaration();
+					}
+					break;
+				case AT:
+					{
+					setState(229);
+					annotationTypeDeclaration();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(232);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ModifierContext extends ParserRuleContext {
+		public ClassOrInterfaceModifierContext classOrInterfaceModifier() {
+			return getRuleContext(ClassOrInterfaceModifierContext.class,0);
+		}
+		public TerminalNode NATIVE() { return getToken(FastJavaParser.NATIVE, 0); }
+		public TerminalNode SYNCHRONIZED() { return getToken(FastJavaParser.SYNCHRONIZED, 0); }
+		public TerminalNode TRANSIENT() { return getToken(FastJavaParser.TRANSIENT, 0); }
+		public TerminalNode VOLATILE() { return getToken(FastJavaParser.VOLATILE, 0); }
+		public ModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_modifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitModifier(this);
+		}
+	}
+
+	public final ModifierContext modifier() throws RecognitionException {
+		ModifierContext _localctx = new ModifierContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_modifier);
+		try {
+			setState(240);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case DEFAULT:
+			case FINAL:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case STATIC:
+			case STRICTFP:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(235);
+				classOrInterfaceModifier();
+				}
+				break;
+			case NATIVE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(236);
+				match(NATIVE);
+				}
+				break;
+			case SYNCHRONIZED:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(237);
+				match(SYNCHRONIZED);
+				}
+				break;
+			case TRANSIENT:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(238);
+				match(TRANSIENT);
+				}
+				break;
+			case VOLATILE:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(239);
+				match(VOLATILE);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassOrInterfaceModifierContext extends ParserRuleContext {
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public TerminalNode PUBLIC() { return getToken(FastJavaParser.PUBLIC, 0); }
+		public TerminalNode PROTECTED() { return getToken(FastJavaParser.PROTECTED, 0); }
+		public TerminalNode PRIVATE() { return getToken(FastJavaParser.PRIVATE, 0); }
+		public TerminalNode STATIC() { return getToken(FastJavaParser.STATIC, 0); }
+		public TerminalNode ABSTRACT() { return getToken(FastJavaParser.ABSTRACT, 0); }
+		public TerminalNode FINAL() { return getToken(FastJavaParser.FINAL, 0); }
+		public TerminalNode STRICTFP() { return getToken(FastJavaParser.STRICTFP, 0); }
+		public TerminalNode DEFAULT() { return getToken(FastJavaParser.DEFAULT, 0); }
+		public ClassOrInterfaceModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classOrInterfaceModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterClassOrInterfaceModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitClassOrInterfaceModifier(this);
+		}
+	}
+
+	public final ClassOrInterfaceModifierContext classOrInterfaceModifier() throws RecognitionException {
+		ClassOrInterfaceModifierContext _localctx = new ClassOrInterfaceModifierContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_classOrInterfaceModifier);
+		try {
+			setState(251);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(242);
+				annotation();
+				}
+				break;
+			case PUBLIC:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(243);
+				match(PUBLIC);
+				}
+				break;
+			case PROTECTED:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(244);
+				match(PROTECTED);
+				}
+				break;
+			case PRIVATE:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(245);
+				match(PRIVATE);
+				}
+				break;
+			case STATIC:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(246);
+				match(STATIC);
+				}
+				break;
+			case ABSTRACT:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(247);
+				match(ABSTRACT);
+				}
+				break;
+			case FINAL:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(248);
+				match(FINAL);
+				}
+				break;
+			case STRICTFP:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(249);
+				match(STRICTFP);
+				}
+				break;
+			case DEFAULT:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(250);
+				match(DEFAULT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableModifierContext extends ParserRuleContext {
+		public TerminalNode FINAL() { return getToken(FastJavaParser.FINAL, 0); }
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public VariableModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterVariableModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitVariableModifier(this);
+		}
+	}
+
+	public final VariableModifierContext variableModifier() throws RecognitionException {
+		VariableModifierContext _localctx = new VariableModifierContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_variableModifier);
+		try {
+			setState(255);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FINAL:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(253);
+				match(FINAL);
+				}
+				break;
+			case AT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(254);
+				annotation();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassDeclarationContext extends ParserRuleContext {
+		public TerminalNode CLASS() { return getToken(FastJavaParser.CLASS, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public TerminalNode EXTENDS() { return getToken(FastJavaParser.EXTENDS, 0); }
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public TerminalNode IMPLEMENTS() { return getToken(FastJavaParser.IMPLEMENTS, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public ClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterClassDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitClassDeclaration(this);
+		}
+	}
+
+	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
+		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_classDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(257);
+			match(CLASS);
+			setState(258);
+			match(Identifier);
+			setState(260);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(259);
+				typeParameters();
+				}
+			}
+
+			setState(264);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(262);
+				match(EXTENDS);
+				setState(263);
+				typeType();
+				}
+			}
+
+			setState(268);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==IMPLEMENTS) {
+				{
+				setState(266);
+				match(IMPLEMENTS);
+				setState(267);
+				typeList();
+				}
+			}
+
+			setState(270);
+			classBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParametersContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(FastJavaParser.LT, 0); }
+		public List<TypeParameterContext> typeParameter() {
+			return getRuleContexts(TypeParameterContext.class);
+		}
+		public TypeParameterContext typeParameter(int i) {
+			return getRuleContext(TypeParameterContext.class,i);
+		}
+		public TerminalNode GT() { return getToken(FastJavaParser.GT, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public TypeParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeParameters(this);
+		}
+	}
+
+	public final TypeParametersContext typeParameters() throws RecognitionException {
+		TypeParametersContext _localctx = new TypeParametersContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_typeParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(272);
+			match(LT);
+			setState(273);
+			typeParameter();
+			setState(278);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(274);
+				match(COMMA);
+				setState(275);
+				typeParameter();
+				}
+				}
+				setState(280);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(281);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParameterContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public TerminalNode EXTENDS() { return getToken(FastJavaParser.EXTENDS, 0); }
+		public TypeBoundContext typeBound() {
+			return getRuleContext(TypeBoundContext.class,0);
+		}
+		public TypeParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeParameter(this);
+		}
+	}
+
+	public final TypeParameterContext typeParameter() throws RecognitionException {
+		TypeParameterContext _localctx = new TypeParameterContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_typeParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(286);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(283);
+				annotation();
+				}
+				}
+				setState(288);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(289);
+			match(Identifier);
+			setState(292);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(290);
+				match(EXTENDS);
+				setState(291);
+				typeBound();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeBoundContext extends ParserRuleContext {
+		public List<TypeTypeContext> typeType() {
+			return getRuleContexts(TypeTypeContext.class);
+		}
+		public TypeTypeContext typeType(int i) {
+			return getRuleContext(TypeTypeContext.class,i);
+		}
+		public List<TerminalNode> BITAND() { return getTokens(FastJavaParser.BITAND); }
+		public TerminalNode BITAND(int i) {
+			return getToken(FastJavaParser.BITAND, i);
+		}
+		public TypeBoundContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeBound; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeBound(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeBound(this);
+		}
+	}
+
+	public final TypeBoundContext typeBound() throws RecognitionException {
+		TypeBoundContext _localctx = new TypeBoundContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_typeBound);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(294);
+			typeType();
+			setState(299);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==BITAND) {
+				{
+				{
+				setState(295);
+				match(BITAND);
+				setState(296);
+				typeType();
+				}
+				}
+				setState(301);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumDeclarationContext extends ParserRuleContext {
+		public TerminalNode ENUM() { return getToken(FastJavaParser.ENUM, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public TerminalNode IMPLEMENTS() { return getToken(FastJavaParser.IMPLEMENTS, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public EnumConstantsContext enumConstants() {
+			return getRuleContext(EnumConstantsContext.class,0);
+		}
+		public TerminalNode COMMA() { return getToken(FastJavaParser.COMMA, 0); }
+		public EnumBodyDeclarationsContext enumBodyDeclarations() {
+			return getRuleContext(EnumBodyDeclarationsContext.class,0);
+		}
+		public EnumDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterEnumDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitEnumDeclaration(this);
+		}
+	}
+
+	public final EnumDeclarationContext enumDeclaration() throws RecognitionException {
+		EnumDeclarationContext _localctx = new EnumDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_enumDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(302);
+			match(ENUM);
+			setState(303);
+			match(Identifier);
+			setState(306);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==IMPLEMENTS) {
+				{
+				setState(304);
+				match(IMPLEMENTS);
+				setState(305);
+				typeList();
+				}
+			}
+
+			setState(308);
+			match(LBRACE);
+			setState(310);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Identifier || _la==AT) {
+				{
+				setState(309);
+				enumConstants();
+				}
+			}
+
+			setState(313);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(312);
+				match(COMMA);
+				}
+			}
+
+			setState(316);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMI) {
+				{
+				setState(315);
+				enumBodyDeclarations();
+				}
+			}
+
+			setState(318);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantsContext extends ParserRuleContext {
+		public List<EnumConstantContext> enumConstant() {
+			return getRuleContexts(EnumConstantContext.class);
+		}
+		public EnumConstantContext enumConstant(int i) {
+			return getRuleContext(EnumConstantContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public EnumConstantsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstants; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterEnumConstants(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitEnumConstants(this);
+		}
+	}
+
+	public final EnumConstantsContext enumConstants() throws RecognitionException {
+		EnumConstantsContext _localctx = new EnumConstantsContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_enumConstants);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(320);
+			enumConstant();
+			setState(325);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(321);
+					match(COMMA);
+					setState(322);
+					enumConstant();
+					}
+					} 
+				}
+				setState(327);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public EnumConstantContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstant; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterEnumConstant(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitEnumConstant(this);
+		}
+	}
+
+	public final EnumConstantContext enumConstant() throws RecognitionException {
+		EnumConstantContext _localctx = new EnumConstantContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_enumConstant);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(331);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(328);
+				annotation();
+				}
+				}
+				setState(333);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(334);
+			match(Identifier);
+			setState(336);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(335);
+				arguments();
+				}
+			}
+
+			setState(339);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LBRACE) {
+				{
+				setState(338);
+				classBody();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumBodyDeclarationsContext extends ParserRuleContext {
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
+			return getRuleContexts(ClassBodyDeclarationContext.class);
+		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
+		public EnumBodyDeclarationsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumBodyDeclarations; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterEnumBodyDeclarations(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitEnumBodyDeclarations(this);
+		}
+	}
+
+	public final EnumBodyDeclarationsContext enumBodyDeclarations() throws RecognitionException {
+		EnumBodyDeclarationsContext _localctx = new EnumBodyDeclarationsContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_enumBodyDeclarations);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(341);
+			match(SEMI);
+			setState(345);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DEFAULT) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(342);
+				classBodyDeclaration();
+				}
+				}
+				setState(347);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceDeclarationContext extends ParserRuleContext {
+		public TerminalNode INTERFACE() { return getToken(FastJavaParser.INTERFACE, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public InterfaceBodyContext interfaceBody() {
+			return getRuleContext(InterfaceBodyContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public TerminalNode EXTENDS() { return getToken(FastJavaParser.EXTENDS, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public InterfaceDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterInterfaceDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitInterfaceDeclaration(this);
+		}
+	}
+
+	public final InterfaceDeclarationContext interfaceDeclaration() throws RecognitionException {
+		InterfaceDeclarationContext _localctx = new InterfaceDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_interfaceDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(348);
+			match(INTERFACE);
+			setState(349);
+			match(Identifier);
+			setState(351);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(350);
+				typeParameters();
+				}
+			}
+
+			setState(355);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(353);
+				match(EXTENDS);
+				setState(354);
+				typeList();
+				}
+			}
+
+			setState(357);
+			interfaceBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
+			return getRuleContexts(ClassBodyDeclarationContext.class);
+		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
+		public ClassBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterClassBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitClassBody(this);
+		}
+	}
+
+	public final ClassBodyContext classBody() throws RecognitionException {
+		ClassBodyContext _localctx = new ClassBodyContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_classBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(359);
+			match(LBRACE);
+			setState(363);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DEFAULT) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(360);
+				classBodyDeclaration();
+				}
+				}
+				setState(365);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(366);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<InterfaceBodyDeclarationContext> interfaceBodyDeclaration() {
+			return getRuleContexts(InterfaceBodyDeclarationContext.class);
+		}
+		public InterfaceBodyDeclarationContext interfaceBodyDeclaration(int i) {
+			return getRuleContext(InterfaceBodyDeclarationContext.class,i);
+		}
+		public InterfaceBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterInterfaceBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitInterfaceBody(this);
+		}
+	}
+
+	public final InterfaceBodyContext interfaceBody() throws RecognitionException {
+		InterfaceBodyContext _localctx = new InterfaceBodyContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_interfaceBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(368);
+			match(LBRACE);
+			setState(372);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DEFAULT) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(369);
+				interfaceBodyDeclaration();
+				}
+				}
+				setState(374);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(375);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassBodyDeclarationContext extends ParserRuleContext {
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode STATIC() { return getToken(FastJavaParser.STATIC, 0); }
+		public MemberDeclarationContext memberDeclaration() {
+			return getRuleContext(MemberDeclarationContext.class,0);
+		}
+		public List<ModifierContext> modifier() {
+			return getRuleContexts(ModifierContext.class);
+		}
+		public ModifierContext modifier(int i) {
+			return getRuleContext(ModifierContext.class,i);
+		}
+		public ClassBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classBodyDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterClassBodyDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitClassBodyDeclaration(this);
+		}
+	}
+
+	public final ClassBodyDeclarationContext classBodyDeclaration() throws RecognitionException {
+		ClassBodyDeclarationContext _localctx = new ClassBodyDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_classBodyDeclaration);
+		int _la;
+		try {
+			int _alt;
+			setState(389);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(377);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(379);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==STATIC) {
+					{
+					setState(378);
+					match(STATIC);
+					}
+				}
+
+				setState(381);
+				block();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(385);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(382);
+						modifier();
+						}
+						} 
+					}
+					setState(387);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+				}
+				setState(388);
+				memberDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MemberDeclarationContext extends ParserRuleContext {
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
+		public FieldDeclarationContext fieldDeclaration() {
+			return getRuleContext(FieldDeclarationContext.class,0);
+		}
+		public ConstructorDeclarationContext constructorDeclaration() {
+			return getRuleContext(ConstructorDeclarationContext.class,0);
+		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public MemberDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_memberDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterMemberDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitMemberDeclaration(this);
+		}
+	}
+
+	public final MemberDeclarationContext memberDeclaration() throws RecognitionException {
+		MemberDeclarationContext _localctx = new MemberDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_memberDeclaration);
+		try {
+			setState(398);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(391);
+				methodDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(392);
+				fieldDeclaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(393);
+				constructorDeclaration();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(394);
+				classDeclaration();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(395);
+				enumDeclaration();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(396);
+				interfaceDeclaration();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(397);
+				annotationTypeDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodDeclarationContext extends ParserRuleContext {
+		public TypeTypeOrVoidContext typeTypeOrVoid() {
+			return getRuleContext(TypeTypeOrVoidContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
+		public MethodBodyContext methodBody() {
+			return getRuleContext(MethodBodyContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public List<TerminalNode> LBRACK() { return getTokens(FastJavaParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(FastJavaParser.LBRACK, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(FastJavaParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(FastJavaParser.RBRACK, i);
+		}
+		public TerminalNode THROWS() { return getToken(FastJavaParser.THROWS, 0); }
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
+		public MethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitMethodDeclaration(this);
+		}
+	}
+
+	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
+		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_methodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(401);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(400);
+				typeParameters();
+				}
+			}
+
+			setState(403);
+			typeTypeOrVoid();
+			setState(404);
+			match(Identifier);
+			setState(405);
+			formalParameters();
+			setState(410);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(406);
+				match(LBRACK);
+				setState(407);
+				match(RBRACK);
+				}
+				}
+				setState(412);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(415);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==THROWS) {
+				{
+				setState(413);
+				match(THROWS);
+				setState(414);
+				qualifiedNameList();
+				}
+			}
+
+			setState(417);
+			methodBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodBodyContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public MethodBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterMethodBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitMethodBody(this);
+		}
+	}
+
+	public final MethodBodyContext methodBody() throws RecognitionException {
+		MethodBodyContext _localctx = new MethodBodyContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_methodBody);
+		try {
+			setState(421);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LBRACE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(419);
+				block();
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(420);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeTypeOrVoidContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public TerminalNode VOID() { return getToken(FastJavaParser.VOID, 0); }
+		public TypeTypeOrVoidContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeTypeOrVoid; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeTypeOrVoid(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeTypeOrVoid(this);
+		}
+	}
+
+	public final TypeTypeOrVoidContext typeTypeOrVoid() throws RecognitionException {
+		TypeTypeOrVoidContext _localctx = new TypeTypeOrVoidContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_typeTypeOrVoid);
+		try {
+			setState(425);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(423);
+				typeType();
+				}
+				break;
+			case VOID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(424);
+				match(VOID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public TerminalNode THROWS() { return getToken(FastJavaParser.THROWS, 0); }
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
+		public ConstructorDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterConstructorDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitConstructorDeclaration(this);
+		}
+	}
+
+	public final ConstructorDeclarationContext constructorDeclaration() throws RecognitionException {
+		ConstructorDeclarationContext _localctx = new ConstructorDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_constructorDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(428);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(427);
+				typeParameters();
+				}
+			}
+
+			setState(430);
+			match(Identifier);
+			setState(431);
+			formalParameters();
+			setState(434);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==THROWS) {
+				{
+				setState(432);
+				match(THROWS);
+				setState(433);
+				qualifiedNameList();
+				}
+			}
+
+			setState(436);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldDeclarationContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public FieldDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterFieldDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitFieldDeclaration(this);
+		}
+	}
+
+	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
+		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_fieldDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(438);
+			typeType();
+			setState(439);
+			variableDeclarators();
+			setState(440);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceBodyDeclarationContext extends ParserRuleContext {
+		public InterfaceMemberDeclarationContext interfaceMemberDeclaration() {
+			return getRuleContext(InterfaceMemberDeclarationContext.class,0);
+		}
+		public List<ModifierContext> modifier() {
+			return getRuleContexts(ModifierContext.class);
+		}
+		public ModifierContext modifier(int i) {
+			return getRuleContext(ModifierContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public InterfaceBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceBodyDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterInterfaceBodyDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitInterfaceBodyDeclaration(this);
+		}
+	}
+
+	public final InterfaceBodyDeclarationContext interfaceBodyDeclaration() throws RecognitionException {
+		InterfaceBodyDeclarationContext _localctx = new InterfaceBodyDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_interfaceBodyDeclaration);
+		try {
+			int _alt;
+			setState(450);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case CLASS:
+			case DEFAULT:
+			case DOUBLE:
+			case ENUM:
+			case FINAL:
+			case FLOAT:
+			case INT:
+			case INTERFACE:
+			case LONG:
+			case NATIVE:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case SHORT:
+			case STATIC:
+			case STRICTFP:
+			case SYNCHRONIZED:
+			case TRANSIENT:
+			case VOID:
+			case VOLATILE:
+			case LT:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(445);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(442);
+						modifier();
+						}
+						} 
+					}
+					setState(447);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				}
+				setState(448);
+				interfaceMemberDeclaration();
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(449);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceMemberDeclarationContext extends ParserRuleContext {
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
+		public ConstantDeclarationContext constantDeclaration() {
+			return getRuleContext(ConstantDeclarationContext.class,0);
+		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public InterfaceMemberDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceMemberDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterInterfaceMemberDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitInterfaceMemberDeclaration(this);
+		}
+	}
+
+	public final InterfaceMemberDeclarationContext interfaceMemberDeclaration() throws RecognitionException {
+		InterfaceMemberDeclarationContext _localctx = new InterfaceMemberDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_interfaceMemberDeclaration);
+		try {
+			setState(458);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(452);
+				methodDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(453);
+				constantDeclaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(454);
+				classDeclaration();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(455);
+				enumDeclaration();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(456);
+				interfaceDeclaration();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(457);
+				annotationTypeDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantDeclarationContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public ConstantDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constantDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterConstantDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitConstantDeclaration(this);
+		}
+	}
+
+	public final ConstantDeclarationContext constantDeclaration() throws RecognitionException {
+		ConstantDeclarationContext _localctx = new ConstantDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_constantDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(460);
+			typeType();
+			setState(461);
+			variableDeclarators();
+			setState(462);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorsContext extends ParserRuleContext {
+		public List<VariableDeclaratorContext> variableDeclarator() {
+			return getRuleContexts(VariableDeclaratorContext.class);
+		}
+		public VariableDeclaratorContext variableDeclarator(int i) {
+			return getRuleContext(VariableDeclaratorContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public VariableDeclaratorsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclarators; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterVariableDeclarators(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitVariableDeclarators(this);
+		}
+	}
+
+	public final VariableDeclaratorsContext variableDeclarators() throws RecognitionException {
+		VariableDeclaratorsContext _localctx = new VariableDeclaratorsContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_variableDeclarators);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(464);
+			variableDeclarator();
+			setState(469);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(465);
+				match(COMMA);
+				setState(466);
+				variableDeclarator();
+				}
+				}
+				setState(471);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorContext extends ParserRuleContext {
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(FastJavaParser.ASSIGN, 0); }
+		public VariableInitializerContext variableInitializer() {
+			return getRuleContext(VariableInitializerContext.class,0);
+		}
+		public VariableDeclaratorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclarator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterVariableDeclarator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitVariableDeclarator(this);
+		}
+	}
+
+	public final VariableDeclaratorContext variableDeclarator() throws RecognitionException {
+		VariableDeclaratorContext _localctx = new VariableDeclaratorContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_variableDeclarator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(472);
+			variableDeclaratorId();
+			setState(475);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(473);
+				match(ASSIGN);
+				setState(474);
+				variableInitializer();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorIdContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public List<TerminalNode> LBRACK() { return getTokens(FastJavaParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(FastJavaParser.LBRACK, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(FastJavaParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(FastJavaParser.RBRACK, i);
+		}
+		public VariableDeclaratorIdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclaratorId; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterVariableDeclaratorId(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitVariableDeclaratorId(this);
+		}
+	}
+
+	public final VariableDeclaratorIdContext variableDeclaratorId() throws RecognitionException {
+		VariableDeclaratorIdContext _localctx = new VariableDeclaratorIdContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_variableDeclaratorId);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(477);
+			match(Identifier);
+			setState(482);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(478);
+				match(LBRACK);
+				setState(479);
+				match(RBRACK);
+				}
+				}
+				setState(484);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableInitializerContext extends ParserRuleContext {
+		public ArrayInitializerContext arrayInitializer() {
+			return getRuleContext(ArrayInitializerContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public VariableInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableInitializer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterVariableInitializer(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitVariableInitializer(this);
+		}
+	}
+
+	public final VariableInitializerContext variableInitializer() throws RecognitionException {
+		VariableInitializerContext _localctx = new VariableInitializerContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_variableInitializer);
+		try {
+			setState(487);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LBRACE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(485);
+				arrayInitializer();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case NEW:
+			case SHORT:
+			case SUPER:
+			case THIS:
+			case VOID:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+			case LPAREN:
+			case LT:
+			case BANG:
+			case TILDE:
+			case INC:
+			case DEC:
+			case ADD:
+			case SUB:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(486);
+				expression(0);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayInitializerContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<VariableInitializerContext> variableInitializer() {
+			return getRuleContexts(VariableInitializerContext.class);
+		}
+		public VariableInitializerContext variableInitializer(int i) {
+			return getRuleContext(VariableInitializerContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public ArrayInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayInitializer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterArrayInitializer(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitArrayInitializer(this);
+		}
+	}
+
+	public final ArrayInitializerContext arrayInitializer() throws RecognitionException {
+		ArrayInitializerContext _localctx = new ArrayInitializerContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_arrayInitializer);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(489);
+			match(LBRACE);
+			setState(501);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				setState(490);
+				variableInitializer();
+				setState(495);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(491);
+						match(COMMA);
+						setState(492);
+						variableInitializer();
+						}
+						} 
+					}
+					setState(497);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
+				}
+				setState(499);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(498);
+					match(COMMA);
+					}
+				}
+
+				}
+			}
+
+			setState(503);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassOrInterfaceTypeContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(FastJavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(FastJavaParser.Identifier, i);
+		}
+		public List<TypeArgumentsContext> typeArguments() {
+			return getRuleContexts(TypeArgumentsContext.class);
+		}
+		public TypeArgumentsContext typeArguments(int i) {
+			return getRuleContext(TypeArgumentsContext.class,i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(FastJavaParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(FastJavaParser.DOT, i);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public ClassOrInterfaceTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classOrInterfaceType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterClassOrInterfaceType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitClassOrInterfaceType(this);
+		}
+	}
+
+	public final ClassOrInterfaceTypeContext classOrInterfaceType() throws RecognitionException {
+		ClassOrInterfaceTypeContext _localctx = new ClassOrInterfaceTypeContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_classOrInterfaceType);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(505);
+			match(Identifier);
+			setState(507);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+			case 1:
+				{
+				setState(506);
+				typeArguments();
+				}
+				break;
+			}
+			setState(522);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(509);
+					match(DOT);
+					setState(513);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==AT) {
+						{
+						{
+						setState(510);
+						annotation();
+						}
+						}
+						setState(515);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(516);
+					match(Identifier);
+					setState(518);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+					case 1:
+						{
+						setState(517);
+						typeArguments();
+						}
+						break;
+					}
+					}
+					} 
+				}
+				setState(524);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public TerminalNode QUESTION() { return getToken(FastJavaParser.QUESTION, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public TerminalNode EXTENDS() { return getToken(FastJavaParser.EXTENDS, 0); }
+		public TerminalNode SUPER() { return getToken(FastJavaParser.SUPER, 0); }
+		public TypeArgumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArgument; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeArgument(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeArgument(this);
+		}
+	}
+
+	public final TypeArgumentContext typeArgument() throws RecognitionException {
+		TypeArgumentContext _localctx = new TypeArgumentContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_typeArgument);
+		int _la;
+		try {
+			setState(537);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(525);
+				typeType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(529);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==AT) {
+					{
+					{
+					setState(526);
+					annotation();
+					}
+					}
+					setState(531);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(532);
+				match(QUESTION);
+				setState(535);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==EXTENDS || _la==SUPER) {
+					{
+					setState(533);
+					_la = _input.LA(1);
+					if ( !(_la==EXTENDS || _la==SUPER) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(534);
+					typeType();
+					}
+				}
+
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedNameListContext extends ParserRuleContext {
+		public List<QualifiedNameContext> qualifiedName() {
+			return getRuleContexts(QualifiedNameContext.class);
+		}
+		public QualifiedNameContext qualifiedName(int i) {
+			return getRuleContext(QualifiedNameContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public QualifiedNameListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedNameList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterQualifiedNameList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitQualifiedNameList(this);
+		}
+	}
+
+	public final QualifiedNameListContext qualifiedNameList() throws RecognitionException {
+		QualifiedNameListContext _localctx = new QualifiedNameListContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_qualifiedNameList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(539);
+			qualifiedName();
+			setState(544);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(540);
+				match(COMMA);
+				setState(541);
+				qualifiedName();
+				}
+				}
+				setState(546);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParametersContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public FormalParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterFormalParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitFormalParameters(this);
+		}
+	}
+
+	public final FormalParametersContext formalParameters() throws RecognitionException {
+		FormalParametersContext _localctx = new FormalParametersContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_formalParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(547);
+			match(LPAREN);
+			setState(549);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
+				{
+				setState(548);
+				formalParameterList();
+				}
+			}
+
+			setState(551);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterListContext extends ParserRuleContext {
+		public List<FormalParameterContext> formalParameter() {
+			return getRuleContexts(FormalParameterContext.class);
+		}
+		public FormalParameterContext formalParameter(int i) {
+			return getRuleContext(FormalParameterContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public LastFormalParameterContext lastFormalParameter() {
+			return getRuleContext(LastFormalParameterContext.class,0);
+		}
+		public FormalParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameterList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterFormalParameterList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitFormalParameterList(this);
+		}
+	}
+
+	public final FormalParameterListContext formalParameterList() throws RecognitionException {
+		FormalParameterListContext _localctx = new FormalParameterListContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_formalParameterList);
+		int _la;
+		try {
+			int _alt;
+			setState(566);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(553);
+				formalParameter();
+				setState(558);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(554);
+						match(COMMA);
+						setState(555);
+						formalParameter();
+						}
+						} 
+					}
+					setState(560);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+				}
+				setState(563);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(561);
+					match(COMMA);
+					setState(562);
+					lastFormalParameter();
+					}
+				}
+
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(565);
+				lastFormalParameter();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public TerminalNode THIS() { return getToken(FastJavaParser.THIS, 0); }
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public List<TerminalNode> Identifier() { return getTokens(FastJavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(FastJavaParser.Identifier, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(FastJavaParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(FastJavaParser.DOT, i);
+		}
+		public FormalParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterFormalParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitFormalParameter(this);
+		}
+	}
+
+	public final FormalParameterContext formalParameter() throws RecognitionException {
+		FormalParameterContext _localctx = new FormalParameterContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_formalParameter);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(571);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(568);
+					variableModifier();
+					}
+					} 
+				}
+				setState(573);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
+			}
+			setState(574);
+			typeType();
+			setState(584);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,67,_ctx) ) {
+			case 1:
+				{
+				setState(575);
+				variableDeclaratorId();
+				}
+				break;
+			case 2:
+				{
+				setState(580);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==Identifier) {
+					{
+					{
+					setState(576);
+					match(Identifier);
+					setState(577);
+					match(DOT);
+					}
+					}
+					setState(582);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(583);
+				match(THIS);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LastFormalParameterContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public TerminalNode ELLIPSIS() { return getToken(FastJavaParser.ELLIPSIS, 0); }
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public LastFormalParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lastFormalParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLastFormalParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLastFormalParameter(this);
+		}
+	}
+
+	public final LastFormalParameterContext lastFormalParameter() throws RecognitionException {
+		LastFormalParameterContext _localctx = new LastFormalParameterContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_lastFormalParameter);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(589);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,68,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(586);
+					variableModifier();
+					}
+					} 
+				}
+				setState(591);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,68,_ctx);
+			}
+			setState(592);
+			typeType();
+			setState(596);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(593);
+				annotation();
+				}
+				}
+				setState(598);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(599);
+			match(ELLIPSIS);
+			setState(600);
+			variableDeclaratorId();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(FastJavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(FastJavaParser.Identifier, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(FastJavaParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(FastJavaParser.DOT, i);
+		}
+		public QualifiedNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterQualifiedName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitQualifiedName(this);
+		}
+	}
+
+	public final QualifiedNameContext qualifiedName() throws RecognitionException {
+		QualifiedNameContext _localctx = new QualifiedNameContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_qualifiedName);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(602);
+			match(Identifier);
+			setState(607);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(603);
+					match(DOT);
+					setState(604);
+					match(Identifier);
+					}
+					} 
+				}
+				setState(609);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LiteralContext extends ParserRuleContext {
+		public TerminalNode IntegerLiteral() { return getToken(FastJavaParser.IntegerLiteral, 0); }
+		public TerminalNode FloatingPointLiteral() { return getToken(FastJavaParser.FloatingPointLiteral, 0); }
+		public TerminalNode BooleanLiteral() { return getToken(FastJavaParser.BooleanLiteral, 0); }
+		public TerminalNode CharacterLiteral() { return getToken(FastJavaParser.CharacterLiteral, 0); }
+		public TerminalNode StringLiteral() { return getToken(FastJavaParser.StringLiteral, 0); }
+		public TerminalNode NullLiteral() { return getToken(FastJavaParser.NullLiteral, 0); }
+		public LiteralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLiteral(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLiteral(this);
+		}
+	}
+
+	public final LiteralContext literal() throws RecognitionException {
+		LiteralContext _localctx = new LiteralContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_literal);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(610);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationContext extends ParserRuleContext {
+		public TerminalNode AT() { return getToken(FastJavaParser.AT, 0); }
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public ElementValuePairsContext elementValuePairs() {
+			return getRuleContext(ElementValuePairsContext.class,0);
+		}
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
+		public AnnotationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotation(this);
+		}
+	}
+
+	public final AnnotationContext annotation() throws RecognitionException {
+		AnnotationContext _localctx = new AnnotationContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_annotation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(612);
+			match(AT);
+			setState(613);
+			qualifiedName();
+			setState(620);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(614);
+				match(LPAREN);
+				setState(617);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
+				case 1:
+					{
+					setState(615);
+					elementValuePairs();
+					}
+					break;
+				case 2:
+					{
+					setState(616);
+					elementValue();
+					}
+					break;
+				}
+				setState(619);
+				match(RPAREN);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValuePairsContext extends ParserRuleContext {
+		public List<ElementValuePairContext> elementValuePair() {
+			return getRuleContexts(ElementValuePairContext.class);
+		}
+		public ElementValuePairContext elementValuePair(int i) {
+			return getRuleContext(ElementValuePairContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public ElementValuePairsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValuePairs; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterElementValuePairs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitElementValuePairs(this);
+		}
+	}
+
+	public final ElementValuePairsContext elementValuePairs() throws RecognitionException {
+		ElementValuePairsContext _localctx = new ElementValuePairsContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_elementValuePairs);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(622);
+			elementValuePair();
+			setState(627);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(623);
+				match(COMMA);
+				setState(624);
+				elementValuePair();
+				}
+				}
+				setState(629);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValuePairContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TerminalNode ASSIGN() { return getToken(FastJavaParser.ASSIGN, 0); }
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
+		public ElementValuePairContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValuePair; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterElementValuePair(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitElementValuePair(this);
+		}
+	}
+
+	public final ElementValuePairContext elementValuePair() throws RecognitionException {
+		ElementValuePairContext _localctx = new ElementValuePairContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_elementValuePair);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(630);
+			match(Identifier);
+			setState(631);
+			match(ASSIGN);
+			setState(632);
+			elementValue();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValueContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public ElementValueArrayInitializerContext elementValueArrayInitializer() {
+			return getRuleContext(ElementValueArrayInitializerContext.class,0);
+		}
+		public ElementValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterElementValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitElementValue(this);
+		}
+	}
+
+	public final ElementValueContext elementValue() throws RecognitionException {
+		ElementValueContext _localctx = new ElementValueContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_elementValue);
+		try {
+			setState(637);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(634);
+				expression(0);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(635);
+				annotation();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(636);
+				elementValueArrayInitializer();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValueArrayInitializerContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<ElementValueContext> elementValue() {
+			return getRuleContexts(ElementValueContext.class);
+		}
+		public ElementValueContext elementValue(int i) {
+			return getRuleContext(ElementValueContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public ElementValueArrayInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValueArrayInitializer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterElementValueArrayInitializer(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitElementValueArrayInitializer(this);
+		}
+	}
+
+	public final ElementValueArrayInitializerContext elementValueArrayInitializer() throws RecognitionException {
+		ElementValueArrayInitializerContext _localctx = new ElementValueArrayInitializerContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_elementValueArrayInitializer);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(639);
+			match(LBRACE);
+			setState(648);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				setState(640);
+				elementValue();
+				setState(645);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,75,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(641);
+						match(COMMA);
+						setState(642);
+						elementValue();
+						}
+						} 
+					}
+					setState(647);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,75,_ctx);
+				}
+				}
+			}
+
+			setState(651);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(650);
+				match(COMMA);
+				}
+			}
+
+			setState(653);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeDeclarationContext extends ParserRuleContext {
+		public TerminalNode AT() { return getToken(FastJavaParser.AT, 0); }
+		public TerminalNode INTERFACE() { return getToken(FastJavaParser.INTERFACE, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public AnnotationTypeBodyContext annotationTypeBody() {
+			return getRuleContext(AnnotationTypeBodyContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationTypeDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationTypeDeclaration(this);
+		}
+	}
+
+	public final AnnotationTypeDeclarationContext annotationTypeDeclaration() throws RecognitionException {
+		AnnotationTypeDeclarationContext _localctx = new AnnotationTypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_annotationTypeDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(655);
+			match(AT);
+			setState(656);
+			match(INTERFACE);
+			setState(657);
+			match(Identifier);
+			setState(658);
+			annotationTypeBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<AnnotationTypeElementDeclarationContext> annotationTypeElementDeclaration() {
+			return getRuleContexts(AnnotationTypeElementDeclarationContext.class);
+		}
+		public AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration(int i) {
+			return getRuleContext(AnnotationTypeElementDeclarationContext.class,i);
+		}
+		public AnnotationTypeBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationTypeBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationTypeBody(this);
+		}
+	}
+
+	public final AnnotationTypeBodyContext annotationTypeBody() throws RecognitionException {
+		AnnotationTypeBodyContext _localctx = new AnnotationTypeBodyContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_annotationTypeBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(660);
+			match(LBRACE);
+			setState(664);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DEFAULT) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOLATILE) | (1L << SEMI))) != 0) || _la==Identifier || _la==AT) {
+				{
+				{
+				setState(661);
+				annotationTypeElementDeclaration();
+				}
+				}
+				setState(666);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(667);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeElementDeclarationContext extends ParserRuleContext {
+		public AnnotationTypeElementRestContext annotationTypeElementRest() {
+			return getRuleContext(AnnotationTypeElementRestContext.class,0);
+		}
+		public List<ModifierContext> modifier() {
+			return getRuleContexts(ModifierContext.class);
+		}
+		public ModifierContext modifier(int i) {
+			return getRuleContext(ModifierContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public AnnotationTypeElementDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeElementDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationTypeElementDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationTypeElementDeclaration(this);
+		}
+	}
+
+	public final AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration() throws RecognitionException {
+		AnnotationTypeElementDeclarationContext _localctx = new AnnotationTypeElementDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_annotationTypeElementDeclaration);
+		try {
+			int _alt;
+			setState(677);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case CLASS:
+			case DEFAULT:
+			case DOUBLE:
+			case ENUM:
+			case FINAL:
+			case FLOAT:
+			case INT:
+			case INTERFACE:
+			case LONG:
+			case NATIVE:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case SHORT:
+			case STATIC:
+			case STRICTFP:
+			case SYNCHRONIZED:
+			case TRANSIENT:
+			case VOLATILE:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(672);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(669);
+						modifier();
+						}
+						} 
+					}
+					setState(674);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
+				}
+				setState(675);
+				annotationTypeElementRest();
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(676);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeElementRestContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() {
+			return getRuleContext(AnnotationMethodOrConstantRestContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public AnnotationTypeElementRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeElementRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationTypeElementRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationTypeElementRest(this);
+		}
+	}
+
+	public final AnnotationTypeElementRestContext annotationTypeElementRest() throws RecognitionException {
+		AnnotationTypeElementRestContext _localctx = new AnnotationTypeElementRestContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_annotationTypeElementRest);
+		try {
+			setState(699);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,85,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(679);
+				typeType();
+				setState(680);
+				annotationMethodOrConstantRest();
+				setState(681);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(683);
+				classDeclaration();
+				setState(685);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
+				case 1:
+					{
+					setState(684);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(687);
+				interfaceDeclaration();
+				setState(689);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
+				case 1:
+					{
+					setState(688);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(691);
+				enumDeclaration();
+				setState(693);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
+				case 1:
+					{
+					setState(692);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(695);
+				annotationTypeDeclaration();
+				setState(697);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
+				case 1:
+					{
+					setState(696);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationMethodOrConstantRestContext extends ParserRuleContext {
+		public AnnotationMethodRestContext annotationMethodRest() {
+			return getRuleContext(AnnotationMethodRestContext.class,0);
+		}
+		public AnnotationConstantRestContext annotationConstantRest() {
+			return getRuleContext(AnnotationConstantRestContext.class,0);
+		}
+		public AnnotationMethodOrConstantRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationMethodOrConstantRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationMethodOrConstantRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationMethodOrConstantRest(this);
+		}
+	}
+
+	public final AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() throws RecognitionException {
+		AnnotationMethodOrConstantRestContext _localctx = new AnnotationMethodOrConstantRestContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_annotationMethodOrConstantRest);
+		try {
+			setState(703);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(701);
+				annotationMethodRest();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(702);
+				annotationConstantRest();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationMethodRestContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public List<TerminalNode> LBRACK() { return getTokens(FastJavaParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(FastJavaParser.LBRACK, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(FastJavaParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(FastJavaParser.RBRACK, i);
+		}
+		public TerminalNode DEFAULT() { return getToken(FastJavaParser.DEFAULT, 0); }
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
+		public AnnotationMethodRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationMethodRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationMethodRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationMethodRest(this);
+		}
+	}
+
+	public final AnnotationMethodRestContext annotationMethodRest() throws RecognitionException {
+		AnnotationMethodRestContext _localctx = new AnnotationMethodRestContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_annotationMethodRest);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(705);
+			match(Identifier);
+			setState(706);
+			match(LPAREN);
+			setState(707);
+			match(RPAREN);
+			setState(712);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(708);
+				match(LBRACK);
+				setState(709);
+				match(RBRACK);
+				}
+				}
+				setState(714);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(717);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DEFAULT) {
+				{
+				setState(715);
+				match(DEFAULT);
+				setState(716);
+				elementValue();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationConstantRestContext extends ParserRuleContext {
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public AnnotationConstantRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationConstantRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterAnnotationConstantRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitAnnotationConstantRest(this);
+		}
+	}
+
+	public final AnnotationConstantRestContext annotationConstantRest() throws RecognitionException {
+		AnnotationConstantRestContext _localctx = new AnnotationConstantRestContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_annotationConstantRest);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(719);
+			variableDeclarators();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitBlock(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_block);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(721);
+			match(LBRACE);
+			setState(725);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NEW) | (1L << RETURN) | (1L << SHORT) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(722);
+				blockStatement();
+				}
+				}
+				setState(727);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(728);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockStatementContext extends ParserRuleContext {
+		public LocalVariableDeclarationContext localVariableDeclaration() {
+			return getRuleContext(LocalVariableDeclarationContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public LocalTypeDeclarationContext localTypeDeclaration() {
+			return getRuleContext(LocalTypeDeclarationContext.class,0);
+		}
+		public BlockStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_blockStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterBlockStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitBlockStatement(this);
+		}
+	}
+
+	public final BlockStatementContext blockStatement() throws RecognitionException {
+		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_blockStatement);
+		try {
+			setState(735);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(730);
+				localVariableDeclaration();
+				setState(731);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(733);
+				statement();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(734);
+				localTypeDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LocalVariableDeclarationContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public LocalVariableDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_localVariableDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLocalVariableDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLocalVariableDeclaration(this);
+		}
+	}
+
+	public final LocalVariableDeclarationContext localVariableDeclaration() throws RecognitionException {
+		LocalVariableDeclarationContext _localctx = new LocalVariableDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_localVariableDeclaration);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(740);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(737);
+					variableModifier();
+					}
+					} 
+				}
+				setState(742);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
+			}
+			setState(743);
+			typeType();
+			setState(744);
+			variableDeclarators();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LocalTypeDeclarationContext extends ParserRuleContext {
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<TerminalNode> ABSTRACT() { return getTokens(FastJavaParser.ABSTRACT); }
+		public TerminalNode ABSTRACT(int i) {
+			return getToken(FastJavaParser.ABSTRACT, i);
+		}
+		public List<TerminalNode> FINAL() { return getTokens(FastJavaParser.FINAL); }
+		public TerminalNode FINAL(int i) {
+			return getToken(FastJavaParser.FINAL, i);
+		}
+		public List<TerminalNode> STRICTFP() { return getTokens(FastJavaParser.STRICTFP); }
+		public TerminalNode STRICTFP(int i) {
+			return getToken(FastJavaParser.STRICTFP, i);
+		}
+		public LocalTypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_localTypeDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLocalTypeDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLocalTypeDeclaration(this);
+		}
+	}
+
+	public final LocalTypeDeclarationContext localTypeDeclaration() throws RecognitionException {
+		LocalTypeDeclarationContext _localctx = new LocalTypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_localTypeDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(752);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << STRICTFP))) != 0) || _la==AT) {
+				{
+				setState(750);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case AT:
+					{
+					setState(746);
+					annotation();
+					}
+					break;
+				case ABSTRACT:
+					{
+					setState(747);
+					match(ABSTRACT);
+					}
+					break;
+				case FINAL:
+					{
+					setState(748);
+					match(FINAL);
+					}
+					break;
+				case STRICTFP:
+					{
+					setState(749);
+					match(STRICTFP);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(754);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(758);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CLASS:
+				{
+				setState(755);
+				classDeclaration();
+				}
+				break;
+			case ENUM:
+				{
+				setState(756);
+				enumDeclaration();
+				}
+				break;
+			case INTERFACE:
+				{
+				setState(757);
+				interfaceDeclaration();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode ASSERT() { return getToken(FastJavaParser.ASSERT, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(FastJavaParser.SEMI, 0); }
+		public TerminalNode COLON() { return getToken(FastJavaParser.COLON, 0); }
+		public TerminalNode IF() { return getToken(FastJavaParser.IF, 0); }
+		public ParExpressionContext parExpression() {
+			return getRuleContext(ParExpressionContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public TerminalNode ELSE() { return getToken(FastJavaParser.ELSE, 0); }
+		public TerminalNode FOR() { return getToken(FastJavaParser.FOR, 0); }
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public ForControlContext forControl() {
+			return getRuleContext(ForControlContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public TerminalNode WHILE() { return getToken(FastJavaParser.WHILE, 0); }
+		public TerminalNode DO() { return getToken(FastJavaParser.DO, 0); }
+		public TerminalNode TRY() { return getToken(FastJavaParser.TRY, 0); }
+		public FinallyBlockContext finallyBlock() {
+			return getRuleContext(FinallyBlockContext.class,0);
+		}
+		public List<CatchClauseContext> catchClause() {
+			return getRuleContexts(CatchClauseContext.class);
+		}
+		public CatchClauseContext catchClause(int i) {
+			return getRuleContext(CatchClauseContext.class,i);
+		}
+		public ResourceSpecificationContext resourceSpecification() {
+			return getRuleContext(ResourceSpecificationContext.class,0);
+		}
+		public TerminalNode SWITCH() { return getToken(FastJavaParser.SWITCH, 0); }
+		public TerminalNode LBRACE() { return getToken(FastJavaParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(FastJavaParser.RBRACE, 0); }
+		public List<SwitchBlockStatementGroupContext> switchBlockStatementGroup() {
+			return getRuleContexts(SwitchBlockStatementGroupContext.class);
+		}
+		public SwitchBlockStatementGroupContext switchBlockStatementGroup(int i) {
+			return getRuleContext(SwitchBlockStatementGroupContext.class,i);
+		}
+		public List<SwitchLabelContext> switchLabel() {
+			return getRuleContexts(SwitchLabelContext.class);
+		}
+		public SwitchLabelContext switchLabel(int i) {
+			return getRuleContext(SwitchLabelContext.class,i);
+		}
+		public TerminalNode SYNCHRONIZED() { return getToken(FastJavaParser.SYNCHRONIZED, 0); }
+		public TerminalNode RETURN() { return getToken(FastJavaParser.RETURN, 0); }
+		public TerminalNode THROW() { return getToken(FastJavaParser.THROW, 0); }
+		public TerminalNode BREAK() { return getToken(FastJavaParser.BREAK, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TerminalNode CONTINUE() { return getToken(FastJavaParser.CONTINUE, 0); }
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitStatement(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_statement);
+		int _la;
+		try {
+			int _alt;
+			setState(864);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(760);
+				block();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(761);
+				match(ASSERT);
+				setState(762);
+				expression(0);
+				setState(765);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COLON) {
+					{
+					setState(763);
+					match(COLON);
+					setState(764);
+					expression(0);
+					}
+				}
+
+				setState(767);
+				match(SEMI);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(769);
+				match(IF);
+				setState(770);
+				parExpression();
+				setState(771);
+				statement();
+				setState(774);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
+				case 1:
+					{
+					setState(772);
+					match(ELSE);
+					setState(773);
+					statement();
+					}
+					break;
+				}
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(776);
+				match(FOR);
+				setState(777);
+				match(LPAREN);
+				setState(778);
+				forControl();
+				setState(779);
+				match(RPAREN);
+				setState(780);
+				statement();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(782);
+				match(WHILE);
+				setState(783);
+				parExpression();
+				setState(784);
+				statement();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(786);
+				match(DO);
+				setState(787);
+				statement();
+				setState(788);
+				match(WHILE);
+				setState(789);
+				parExpression();
+				setState(790);
+				match(SEMI);
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(792);
+				match(TRY);
+				setState(793);
+				block();
+				setState(803);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case CATCH:
+					{
+					setState(795); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(794);
+						catchClause();
+						}
+						}
+						setState(797); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==CATCH );
+					setState(800);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==FINALLY) {
+						{
+						setState(799);
+						finallyBlock();
+						}
+					}
+
+					}
+					break;
+				case FINALLY:
+					{
+					setState(802);
+					finallyBlock();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(805);
+				match(TRY);
+				setState(806);
+				resourceSpecification();
+				setState(807);
+				block();
+				setState(811);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==CATCH) {
+					{
+					{
+					setState(808);
+					catchClause();
+					}
+					}
+					setState(813);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(815);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==FINALLY) {
+					{
+					setState(814);
+					finallyBlock();
+					}
+				}
+
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(817);
+				match(SWITCH);
+				setState(818);
+				parExpression();
+				setState(819);
+				match(LBRACE);
+				setState(823);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(820);
+						switchBlockStatementGroup();
+						}
+						} 
+					}
+					setState(825);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+				}
+				setState(829);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==CASE || _la==DEFAULT) {
+					{
+					{
+					setState(826);
+					switchLabel();
+					}
+					}
+					setState(831);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(832);
+				match(RBRACE);
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(834);
+				match(SYNCHRONIZED);
+				setState(835);
+				parExpression();
+				setState(836);
+				block();
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(838);
+				match(RETURN);
+				setState(840);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+					{
+					setState(839);
+					expression(0);
+					}
+				}
+
+				setState(842);
+				match(SEMI);
+				}
+				break;
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(843);
+				match(THROW);
+				setState(844);
+				expression(0);
+				setState(845);
+				match(SEMI);
+				}
+				break;
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(847);
+				match(BREAK);
+				setState(849);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==Identifier) {
+					{
+					setState(848);
+					match(Identifier);
+					}
+				}
+
+				setState(851);
+				match(SEMI);
+				}
+				break;
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(852);
+				match(CONTINUE);
+				setState(854);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==Identifier) {
+					{
+					setState(853);
+					match(Identifier);
+					}
+				}
+
+				setState(856);
+				match(SEMI);
+				}
+				break;
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(857);
+				match(SEMI);
+				}
+				break;
+			case 16:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(858);
+				expression(0);
+				setState(859);
+				match(SEMI);
+				}
+				break;
+			case 17:
+				enterOuterAlt(_localctx, 17);
+				{
+				setState(861);
+				match(Identifier);
+				setState(862);
+				match(COLON);
+				setState(863);
+				statement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CatchClauseContext extends ParserRuleContext {
+		public TerminalNode CATCH() { return getToken(FastJavaParser.CATCH, 0); }
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public List<QualifiedNameContext> qualifiedName() {
+			return getRuleContexts(QualifiedNameContext.class);
+		}
+		public QualifiedNameContext qualifiedName(int i) {
+			return getRuleContext(QualifiedNameContext.class,i);
+		}
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public List<TerminalNode> BITOR() { return getTokens(FastJavaParser.BITOR); }
+		public TerminalNode BITOR(int i) {
+			return getToken(FastJavaParser.BITOR, i);
+		}
+		public CatchClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_catchClause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterCatchClause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitCatchClause(this);
+		}
+	}
+
+	public final CatchClauseContext catchClause() throws RecognitionException {
+		CatchClauseContext _localctx = new CatchClauseContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_catchClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(866);
+			match(CATCH);
+			setState(867);
+			match(LPAREN);
+			setState(871);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(868);
+				variableModifier();
+				}
+				}
+				setState(873);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(874);
+			qualifiedName();
+			setState(879);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==BITOR) {
+				{
+				{
+				setState(875);
+				match(BITOR);
+				setState(876);
+				qualifiedName();
+				}
+				}
+				setState(881);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(882);
+			match(Identifier);
+			setState(883);
+			match(RPAREN);
+			setState(884);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FinallyBlockContext extends ParserRuleContext {
+		public TerminalNode FINALLY() { return getToken(FastJavaParser.FINALLY, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FinallyBlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_finallyBlock; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterFinallyBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitFinallyBlock(this);
+		}
+	}
+
+	public final FinallyBlockContext finallyBlock() throws RecognitionException {
+		FinallyBlockContext _localctx = new FinallyBlockContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_finallyBlock);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(886);
+			match(FINALLY);
+			setState(887);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResourceSpecificationContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public List<ResourceContext> resource() {
+			return getRuleContexts(ResourceContext.class);
+		}
+		public ResourceContext resource(int i) {
+			return getRuleContext(ResourceContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public List<TerminalNode> SEMI() { return getTokens(FastJavaParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(FastJavaParser.SEMI, i);
+		}
+		public ResourceSpecificationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_resourceSpecification; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterResourceSpecification(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitResourceSpecification(this);
+		}
+	}
+
+	public final ResourceSpecificationContext resourceSpecification() throws RecognitionException {
+		ResourceSpecificationContext _localctx = new ResourceSpecificationContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_resourceSpecification);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(889);
+			match(LPAREN);
+			setState(890);
+			resource();
+			setState(895);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,110,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(891);
+					match(SEMI);
+					setState(892);
+					resource();
+					}
+					} 
+				}
+				setState(897);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,110,_ctx);
+			}
+			setState(899);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMI) {
+				{
+				setState(898);
+				match(SEMI);
+				}
+			}
+
+			setState(901);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResourceContext extends ParserRuleContext {
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(FastJavaParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public ResourceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_resource; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterResource(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitResource(this);
+		}
+	}
+
+	public final ResourceContext resource() throws RecognitionException {
+		ResourceContext _localctx = new ResourceContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_resource);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(906);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(903);
+				variableModifier();
+				}
+				}
+				setState(908);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(909);
+			classOrInterfaceType();
+			setState(910);
+			variableDeclaratorId();
+			setState(911);
+			match(ASSIGN);
+			setState(912);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchBlockStatementGroupContext extends ParserRuleContext {
+		public List<SwitchLabelContext> switchLabel() {
+			return getRuleContexts(SwitchLabelContext.class);
+		}
+		public SwitchLabelContext switchLabel(int i) {
+			return getRuleContext(SwitchLabelContext.class,i);
+		}
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
+		}
+		public SwitchBlockStatementGroupContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchBlockStatementGroup; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterSwitchBlockStatementGroup(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitSwitchBlockStatementGroup(this);
+		}
+	}
+
+	public final SwitchBlockStatementGroupContext switchBlockStatementGroup() throws RecognitionException {
+		SwitchBlockStatementGroupContext _localctx = new SwitchBlockStatementGroupContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_switchBlockStatementGroup);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(915); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(914);
+				switchLabel();
+				}
+				}
+				setState(917); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==CASE || _la==DEFAULT );
+			setState(920); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(919);
+				blockStatement();
+				}
+				}
+				setState(922); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NEW) | (1L << RETURN) | (1L << SHORT) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0) );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchLabelContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(FastJavaParser.CASE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(FastJavaParser.COLON, 0); }
+		public TerminalNode DEFAULT() { return getToken(FastJavaParser.DEFAULT, 0); }
+		public SwitchLabelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchLabel; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterSwitchLabel(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitSwitchLabel(this);
+		}
+	}
+
+	public final SwitchLabelContext switchLabel() throws RecognitionException {
+		SwitchLabelContext _localctx = new SwitchLabelContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_switchLabel);
+		try {
+			setState(930);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CASE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(924);
+				match(CASE);
+				setState(925);
+				expression(0);
+				setState(926);
+				match(COLON);
+				}
+				break;
+			case DEFAULT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(928);
+				match(DEFAULT);
+				setState(929);
+				match(COLON);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForControlContext extends ParserRuleContext {
+		public EnhancedForControlContext enhancedForControl() {
+			return getRuleContext(EnhancedForControlContext.class,0);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(FastJavaParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(FastJavaParser.SEMI, i);
+		}
+		public ForInitContext forInit() {
+			return getRuleContext(ForInitContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ForControlContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forControl; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterForControl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitForControl(this);
+		}
+	}
+
+	public final ForControlContext forControl() throws RecognitionException {
+		ForControlContext _localctx = new ForControlContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_forControl);
+		int _la;
+		try {
+			setState(944);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(932);
+				enhancedForControl();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(934);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+					{
+					setState(933);
+					forInit();
+					}
+				}
+
+				setState(936);
+				match(SEMI);
+				setState(938);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+					{
+					setState(937);
+					expression(0);
+					}
+				}
+
+				setState(940);
+				match(SEMI);
+				setState(942);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+					{
+					setState(941);
+					expressionList();
+					}
+				}
+
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForInitContext extends ParserRuleContext {
+		public LocalVariableDeclarationContext localVariableDeclaration() {
+			return getRuleContext(LocalVariableDeclarationContext.class,0);
+		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ForInitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forInit; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterForInit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitForInit(this);
+		}
+	}
+
+	public final ForInitContext forInit() throws RecognitionException {
+		ForInitContext _localctx = new ForInitContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_forInit);
+		try {
+			setState(948);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(946);
+				localVariableDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(947);
+				expressionList();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnhancedForControlContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(FastJavaParser.COLON, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public EnhancedForControlContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enhancedForControl; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterEnhancedForControl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitEnhancedForControl(this);
+		}
+	}
+
+	public final EnhancedForControlContext enhancedForControl() throws RecognitionException {
+		EnhancedForControlContext _localctx = new EnhancedForControlContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_enhancedForControl);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(953);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,121,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(950);
+					variableModifier();
+					}
+					} 
+				}
+				setState(955);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,121,_ctx);
+			}
+			setState(956);
+			typeType();
+			setState(957);
+			variableDeclaratorId();
+			setState(958);
+			match(COLON);
+			setState(959);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParExpressionContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public ParExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterParExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitParExpression(this);
+		}
+	}
+
+	public final ParExpressionContext parExpression() throws RecognitionException {
+		ParExpressionContext _localctx = new ParExpressionContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_parExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(961);
+			match(LPAREN);
+			setState(962);
+			expression(0);
+			setState(963);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionListContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public ExpressionListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterExpressionList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitExpressionList(this);
+		}
+	}
+
+	public final ExpressionListContext expressionList() throws RecognitionException {
+		ExpressionListContext _localctx = new ExpressionListContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_expressionList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(965);
+			expression(0);
+			setState(970);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(966);
+				match(COMMA);
+				setState(967);
+				expression(0);
+				}
+				}
+				setState(972);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodCallContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public TerminalNode THIS() { return getToken(FastJavaParser.THIS, 0); }
+		public TerminalNode SUPER() { return getToken(FastJavaParser.SUPER, 0); }
+		public MethodCallContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodCall; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterMethodCall(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitMethodCall(this);
+		}
+	}
+
+	public final MethodCallContext methodCall() throws RecognitionException {
+		MethodCallContext _localctx = new MethodCallContext(_ctx, getState());
+		enterRule(_localctx, 140, RULE_methodCall);
+		try {
+			setState(979);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(973);
+				match(Identifier);
+				setState(974);
+				arguments();
+				}
+				break;
+			case THIS:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(975);
+				match(THIS);
+				setState(976);
+				arguments();
+				}
+				break;
+			case SUPER:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(977);
+				match(SUPER);
+				setState(978);
+				arguments();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
+		}
+		public MethodCallContext methodCall() {
+			return getRuleContext(MethodCallContext.class,0);
+		}
+		public TerminalNode NEW() { return getToken(FastJavaParser.NEW, 0); }
+		public CreatorContext creator() {
+			return getRuleContext(CreatorContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public List<TypeTypeContext> typeType() {
+			return getRuleContexts(TypeTypeContext.class);
+		}
+		public TypeTypeContext typeType(int i) {
+			return getRuleContext(TypeTypeContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<TerminalNode> BITAND() { return getTokens(FastJavaParser.BITAND); }
+		public TerminalNode BITAND(int i) {
+			return getToken(FastJavaParser.BITAND, i);
+		}
+		public TerminalNode ADD() { return getToken(FastJavaParser.ADD, 0); }
+		public TerminalNode SUB() { return getToken(FastJavaParser.SUB, 0); }
+		public TerminalNode INC() { return getToken(FastJavaParser.INC, 0); }
+		public TerminalNode DEC() { return getToken(FastJavaParser.DEC, 0); }
+		public TerminalNode TILDE() { return getToken(FastJavaParser.TILDE, 0); }
+		public TerminalNode BANG() { return getToken(FastJavaParser.BANG, 0); }
+		public LambdaExpressionContext lambdaExpression() {
+			return getRuleContext(LambdaExpressionContext.class,0);
+		}
+		public TerminalNode COLONCOLON() { return getToken(FastJavaParser.COLONCOLON, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public TerminalNode MUL() { return getToken(FastJavaParser.MUL, 0); }
+		public TerminalNode DIV() { return getToken(FastJavaParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(FastJavaParser.MOD, 0); }
+		public List<TerminalNode> LT() { return getTokens(FastJavaParser.LT); }
+		public TerminalNode LT(int i) {
+			return getToken(FastJavaParser.LT, i);
+		}
+		public List<TerminalNode> GT() { return getTokens(FastJavaParser.GT); }
+		public TerminalNode GT(int i) {
+			return getToken(FastJavaParser.GT, i);
+		}
+		public TerminalNode LE() { return getToken(FastJavaParser.LE, 0); }
+		public TerminalNode GE() { return getToken(FastJavaParser.GE, 0); }
+		public TerminalNode EQUAL() { return getToken(FastJavaParser.EQUAL, 0); }
+		public TerminalNode NOTEQUAL() { return getToken(FastJavaParser.NOTEQUAL, 0); }
+		public TerminalNode CARET() { return getToken(FastJavaParser.CARET, 0); }
+		public TerminalNode BITOR() { return getToken(FastJavaParser.BITOR, 0); }
+		public TerminalNode AND() { return getToken(FastJavaParser.AND, 0); }
+		public TerminalNode OR() { return getToken(FastJavaParser.OR, 0); }
+		public TerminalNode QUESTION() { return getToken(FastJavaParser.QUESTION, 0); }
+		public TerminalNode COLON() { return getToken(FastJavaParser.COLON, 0); }
+		public TerminalNode ASSIGN() { return getToken(FastJavaParser.ASSIGN, 0); }
+		public TerminalNode ADD_ASSIGN() { return getToken(FastJavaParser.ADD_ASSIGN, 0); }
+		public TerminalNode SUB_ASSIGN() { return getToken(FastJavaParser.SUB_ASSIGN, 0); }
+		public TerminalNode MUL_ASSIGN() { return getToken(FastJavaParser.MUL_ASSIGN, 0); }
+		public TerminalNode DIV_ASSIGN() { return getToken(FastJavaParser.DIV_ASSIGN, 0); }
+		public TerminalNode AND_ASSIGN() { return getToken(FastJavaParser.AND_ASSIGN, 0); }
+		public TerminalNode OR_ASSIGN() { return getToken(FastJavaParser.OR_ASSIGN, 0); }
+		public TerminalNode XOR_ASSIGN() { return getToken(FastJavaParser.XOR_ASSIGN, 0); }
+		public TerminalNode RSHIFT_ASSIGN() { return getToken(FastJavaParser.RSHIFT_ASSIGN, 0); }
+		public TerminalNode URSHIFT_ASSIGN() { return getToken(FastJavaParser.URSHIFT_ASSIGN, 0); }
+		public TerminalNode LSHIFT_ASSIGN() { return getToken(FastJavaParser.LSHIFT_ASSIGN, 0); }
+		public TerminalNode MOD_ASSIGN() { return getToken(FastJavaParser.MOD_ASSIGN, 0); }
+		public TerminalNode DOT() { return getToken(FastJavaParser.DOT, 0); }
+		public TerminalNode THIS() { return getToken(FastJavaParser.THIS, 0); }
+		public InnerCreatorContext innerCreator() {
+			return getRuleContext(InnerCreatorContext.class,0);
+		}
+		public TerminalNode SUPER() { return getToken(FastJavaParser.SUPER, 0); }
+		public SuperSuffixContext superSuffix() {
+			return getRuleContext(SuperSuffixContext.class,0);
+		}
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() {
+			return getRuleContext(ExplicitGenericInvocationSuffixContext.class,0);
+		}
+		public TerminalNode LBRACK() { return getToken(FastJavaParser.LBRACK, 0); }
+		public TerminalNode RBRACK() { return getToken(FastJavaParser.RBRACK, 0); }
+		public TerminalNode INSTANCEOF() { return getToken(FastJavaParser.INSTANCEOF, 0); }
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitExpression(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 142;
+		enterRecursionRule(_localctx, 142, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1018);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
+			case 1:
+				{
+				setState(982);
+				primary();
+				}
+				break;
+			case 2:
+				{
+				setState(983);
+				methodCall();
+				}
+				break;
+			case 3:
+				{
+				setState(984);
+				match(NEW);
+				setState(985);
+				creator();
+				}
+				break;
+			case 4:
+				{
+				setState(986);
+				match(LPAREN);
+				setState(990);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(987);
+						annotation();
+						}
+						} 
+					}
+					setState(992);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
+				}
+				setState(993);
+				typeType();
+				setState(998);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==BITAND) {
+					{
+					{
+					setState(994);
+					match(BITAND);
+					setState(995);
+					typeType();
+					}
+					}
+					setState(1000);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1001);
+				match(RPAREN);
+				setState(1002);
+				expression(20);
+				}
+				break;
+			case 5:
+				{
+				setState(1004);
+				_la = _input.LA(1);
+				if ( !(((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (ADD - 79)) | (1L << (SUB - 79)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(1005);
+				expression(18);
+				}
+				break;
+			case 6:
+				{
+				setState(1006);
+				_la = _input.LA(1);
+				if ( !(_la==BANG || _la==TILDE) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(1007);
+				expression(17);
+				}
+				break;
+			case 7:
+				{
+				setState(1008);
+				lambdaExpression();
+				}
+				break;
+			case 8:
+				{
+				setState(1009);
+				typeType();
+				setState(1010);
+				match(COLONCOLON);
+				setState(1016);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case LT:
+				case Identifier:
+					{
+					setState(1012);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==LT) {
+						{
+						setState(1011);
+						typeArguments();
+						}
+					}
+
+					setState(1014);
+					match(Identifier);
+					}
+					break;
+				case NEW:
+					{
+					setState(1015);
+					match(NEW);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1102);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,134,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1100);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,133,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1020);
+						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
+						setState(1021);
+						_la = _input.LA(1);
+						if ( !(((((_la - 83)) & ~0x3f) == 0 && ((1L << (_la - 83)) & ((1L << (MUL - 83)) | (1L << (DIV - 83)) | (1L << (MOD - 83)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1022);
+						expression(17);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1023);
+						if (!(precpred(_ctx, 15))) throw new FailedPredicateException(this, "precpred(_ctx, 15)");
+						setState(1024);
+						_la = _input.LA(1);
+						if ( !(_la==ADD || _la==SUB) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1025);
+						expression(16);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1026);
+						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
+						setState(1034);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,129,_ctx) ) {
+						case 1:
+							{
+							setState(1027);
+							match(LT);
+							setState(1028);
+							match(LT);
+							}
+							break;
+						case 2:
+							{
+							setState(1029);
+							match(GT);
+							setState(1030);
+							match(GT);
+							setState(1031);
+							match(GT);
+							}
+							break;
+						case 3:
+							{
+							setState(1032);
+							match(GT);
+							setState(1033);
+							match(GT);
+							}
+							break;
+						}
+						setState(1036);
+						expression(15);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1037);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(1038);
+						_la = _input.LA(1);
+						if ( !(((((_la - 67)) & ~0x3f) == 0 && ((1L << (_la - 67)) & ((1L << (GT - 67)) | (1L << (LT - 67)) | (1L << (LE - 67)) | (1L << (GE - 67)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1039);
+						expression(14);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1040);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(1041);
+						_la = _input.LA(1);
+						if ( !(_la==EQUAL || _la==NOTEQUAL) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1042);
+						expression(12);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1043);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(1044);
+						match(BITAND);
+						setState(1045);
+						expression(11);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1046);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(1047);
+						match(CARET);
+						setState(1048);
+						expression(10);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1049);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(1050);
+						match(BITOR);
+						setState(1051);
+						expression(9);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1052);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(1053);
+						match(AND);
+						setState(1054);
+						expression(8);
+						}
+						break;
+					case 10:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1055);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(1056);
+						match(OR);
+						setState(1057);
+						expression(7);
+						}
+						break;
+					case 11:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1058);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(1059);
+						match(QUESTION);
+						setState(1060);
+						expression(0);
+						setState(1061);
+						match(COLON);
+						setState(1062);
+						expression(5);
+						}
+						break;
+					case 12:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1064);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(1065);
+						_la = _input.LA(1);
+						if ( !(((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (ASSIGN - 66)) | (1L << (ADD_ASSIGN - 66)) | (1L << (SUB_ASSIGN - 66)) | (1L << (MUL_ASSIGN - 66)) | (1L << (DIV_ASSIGN - 66)) | (1L << (AND_ASSIGN - 66)) | (1L << (OR_ASSIGN - 66)) | (1L << (XOR_ASSIGN - 66)) | (1L << (MOD_ASSIGN - 66)) | (1L << (LSHIFT_ASSIGN - 66)) | (1L << (RSHIFT_ASSIGN - 66)) | (1L << (URSHIFT_ASSIGN - 66)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1066);
+						expression(4);
+						}
+						break;
+					case 13:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1067);
+						if (!(precpred(_ctx, 24))) throw new FailedPredicateException(this, "precpred(_ctx, 24)");
+						setState(1068);
+						match(DOT);
+						setState(1082);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,131,_ctx) ) {
+						case 1:
+							{
+							setState(1069);
+							match(Identifier);
+							}
+							break;
+						case 2:
+							{
+							setState(1070);
+							methodCall();
+							}
+							break;
+						case 3:
+							{
+							setState(1071);
+							match(THIS);
+							}
+							break;
+						case 4:
+							{
+							setState(1072);
+							match(NEW);
+							setState(1074);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+							if (_la==LT) {
+								{
+								setState(1073);
+								nonWildcardTypeArguments();
+								}
+							}
+
+							setState(1076);
+							innerCreator();
+							}
+							break;
+						case 5:
+							{
+							setState(1077);
+							match(SUPER);
+							setState(1078);
+							superSuffix();
+							}
+							break;
+						case 6:
+							{
+							setState(1079);
+							nonWildcardTypeArguments();
+							setState(1080);
+							explicitGenericInvocationSuffix();
+							}
+							break;
+						}
+						}
+						break;
+					case 14:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1084);
+						if (!(precpred(_ctx, 23))) throw new FailedPredicateException(this, "precpred(_ctx, 23)");
+						setState(1085);
+						match(LBRACK);
+						setState(1086);
+						expression(0);
+						setState(1087);
+						match(RBRACK);
+						}
+						break;
+					case 15:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1089);
+						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
+						setState(1090);
+						_la = _input.LA(1);
+						if ( !(_la==INC || _la==DEC) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						}
+						break;
+					case 16:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1091);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(1092);
+						match(INSTANCEOF);
+						setState(1093);
+						typeType();
+						}
+						break;
+					case 17:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1094);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(1095);
+						match(COLONCOLON);
+						setState(1097);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==LT) {
+							{
+							setState(1096);
+							typeArguments();
+							}
+						}
+
+						setState(1099);
+						match(Identifier);
+						}
+						break;
+					}
+					} 
+				}
+				setState(1104);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,134,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class LambdaExpressionContext extends ParserRuleContext {
+		public LambdaParametersContext lambdaParameters() {
+			return getRuleContext(LambdaParametersContext.class,0);
+		}
+		public TerminalNode ARROW() { return getToken(FastJavaParser.ARROW, 0); }
+		public LambdaBodyContext lambdaBody() {
+			return getRuleContext(LambdaBodyContext.class,0);
+		}
+		public LambdaExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lambdaExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLambdaExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLambdaExpression(this);
+		}
+	}
+
+	public final LambdaExpressionContext lambdaExpression() throws RecognitionException {
+		LambdaExpressionContext _localctx = new LambdaExpressionContext(_ctx, getState());
+		enterRule(_localctx, 144, RULE_lambdaExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1105);
+			lambdaParameters();
+			setState(1106);
+			match(ARROW);
+			setState(1107);
+			lambdaBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LambdaParametersContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(FastJavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(FastJavaParser.Identifier, i);
+		}
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public LambdaParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lambdaParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLambdaParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLambdaParameters(this);
+		}
+	}
+
+	public final LambdaParametersContext lambdaParameters() throws RecognitionException {
+		LambdaParametersContext _localctx = new LambdaParametersContext(_ctx, getState());
+		enterRule(_localctx, 146, RULE_lambdaParameters);
+		int _la;
+		try {
+			setState(1125);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,137,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1109);
+				match(Identifier);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1110);
+				match(LPAREN);
+				setState(1112);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
+					{
+					setState(1111);
+					formalParameterList();
+					}
+				}
+
+				setState(1114);
+				match(RPAREN);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1115);
+				match(LPAREN);
+				setState(1116);
+				match(Identifier);
+				setState(1121);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1117);
+					match(COMMA);
+					setState(1118);
+					match(Identifier);
+					}
+					}
+					setState(1123);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1124);
+				match(RPAREN);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LambdaBodyContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public LambdaBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lambdaBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterLambdaBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitLambdaBody(this);
+		}
+	}
+
+	public final LambdaBodyContext lambdaBody() throws RecognitionException {
+		LambdaBodyContext _localctx = new LambdaBodyContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_lambdaBody);
+		try {
+			setState(1129);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case NEW:
+			case SHORT:
+			case SUPER:
+			case THIS:
+			case VOID:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+			case LPAREN:
+			case LT:
+			case BANG:
+			case TILDE:
+			case INC:
+			case DEC:
+			case ADD:
+			case SUB:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1127);
+				expression(0);
+				}
+				break;
+			case LBRACE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1128);
+				block();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrimaryContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public TerminalNode THIS() { return getToken(FastJavaParser.THIS, 0); }
+		public TerminalNode SUPER() { return getToken(FastJavaParser.SUPER, 0); }
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TypeTypeOrVoidContext typeTypeOrVoid() {
+			return getRuleContext(TypeTypeOrVoidContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(FastJavaParser.DOT, 0); }
+		public TerminalNode CLASS() { return getToken(FastJavaParser.CLASS, 0); }
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() {
+			return getRuleContext(ExplicitGenericInvocationSuffixContext.class,0);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public PrimaryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primary; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterPrimary(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitPrimary(this);
+		}
+	}
+
+	public final PrimaryContext primary() throws RecognitionException {
+		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
+		enterRule(_localctx, 150, RULE_primary);
+		try {
+			setState(1149);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,140,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1131);
+				match(LPAREN);
+				setState(1132);
+				expression(0);
+				setState(1133);
+				match(RPAREN);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1135);
+				match(THIS);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1136);
+				match(SUPER);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1137);
+				literal();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1138);
+				match(Identifier);
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1139);
+				typeTypeOrVoid();
+				setState(1140);
+				match(DOT);
+				setState(1141);
+				match(CLASS);
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(1143);
+				nonWildcardTypeArguments();
+				setState(1147);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case SUPER:
+				case Identifier:
+					{
+					setState(1144);
+					explicitGenericInvocationSuffix();
+					}
+					break;
+				case THIS:
+					{
+					setState(1145);
+					match(THIS);
+					setState(1146);
+					arguments();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CreatorContext extends ParserRuleContext {
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public CreatedNameContext createdName() {
+			return getRuleContext(CreatedNameContext.class,0);
+		}
+		public ClassCreatorRestContext classCreatorRest() {
+			return getRuleContext(ClassCreatorRestContext.class,0);
+		}
+		public ArrayCreatorRestContext arrayCreatorRest() {
+			return getRuleContext(ArrayCreatorRestContext.class,0);
+		}
+		public CreatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_creator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterCreator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitCreator(this);
+		}
+	}
+
+	public final CreatorContext creator() throws RecognitionException {
+		CreatorContext _localctx = new CreatorContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_creator);
+		try {
+			setState(1160);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1151);
+				nonWildcardTypeArguments();
+				setState(1152);
+				createdName();
+				setState(1153);
+				classCreatorRest();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1155);
+				createdName();
+				setState(1158);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case LBRACK:
+					{
+					setState(1156);
+					arrayCreatorRest();
+					}
+					break;
+				case LPAREN:
+					{
+					setState(1157);
+					classCreatorRest();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CreatedNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(FastJavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(FastJavaParser.Identifier, i);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<TypeArgumentsOrDiamondContext> typeArgumentsOrDiamond() {
+			return getRuleContexts(TypeArgumentsOrDiamondContext.class);
+		}
+		public TypeArgumentsOrDiamondContext typeArgumentsOrDiamond(int i) {
+			return getRuleContext(TypeArgumentsOrDiamondContext.class,i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(FastJavaParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(FastJavaParser.DOT, i);
+		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
+		public CreatedNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_createdName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterCreatedName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitCreatedName(this);
+		}
+	}
+
+	public final CreatedNameContext createdName() throws RecognitionException {
+		CreatedNameContext _localctx = new CreatedNameContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_createdName);
+		int _la;
+		try {
+			setState(1189);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1165);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==AT) {
+					{
+					{
+					setState(1162);
+					annotation();
+					}
+					}
+					setState(1167);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1168);
+				match(Identifier);
+				setState(1170);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LT) {
+					{
+					setState(1169);
+					typeArgumentsOrDiamond();
+					}
+				}
+
+				setState(1185);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==DOT) {
+					{
+					{
+					setState(1172);
+					match(DOT);
+					setState(1176);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==AT) {
+						{
+						{
+						setState(1173);
+						annotation();
+						}
+						}
+						setState(1178);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(1179);
+					match(Identifier);
+					setState(1181);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==LT) {
+						{
+						setState(1180);
+						typeArgumentsOrDiamond();
+						}
+					}
+
+					}
+					}
+					setState(1187);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1188);
+				primitiveType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InnerCreatorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public ClassCreatorRestContext classCreatorRest() {
+			return getRuleContext(ClassCreatorRestContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() {
+			return getRuleContext(NonWildcardTypeArgumentsOrDiamondContext.class,0);
+		}
+		public InnerCreatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_innerCreator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterInnerCreator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitInnerCreator(this);
+		}
+	}
+
+	public final InnerCreatorContext innerCreator() throws RecognitionException {
+		InnerCreatorContext _localctx = new InnerCreatorContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_innerCreator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1194);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(1191);
+				annotation();
+				}
+				}
+				setState(1196);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1197);
+			match(Identifier);
+			setState(1199);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(1198);
+				nonWildcardTypeArgumentsOrDiamond();
+				}
+			}
+
+			setState(1201);
+			classCreatorRest();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayCreatorRestContext extends ParserRuleContext {
+		public List<TerminalNode> LBRACK() { return getTokens(FastJavaParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(FastJavaParser.LBRACK, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(FastJavaParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(FastJavaParser.RBRACK, i);
+		}
+		public ArrayInitializerContext arrayInitializer() {
+			return getRuleContext(ArrayInitializerContext.class,0);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ArrayCreatorRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayCreatorRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterArrayCreatorRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitArrayCreatorRest(this);
+		}
+	}
+
+	public final ArrayCreatorRestContext arrayCreatorRest() throws RecognitionException {
+		ArrayCreatorRestContext _localctx = new ArrayCreatorRestContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_arrayCreatorRest);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1203);
+			match(LBRACK);
+			setState(1231);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case RBRACK:
+				{
+				setState(1204);
+				match(RBRACK);
+				setState(1209);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1205);
+					match(LBRACK);
+					setState(1206);
+					match(RBRACK);
+					}
+					}
+					setState(1211);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1212);
+				arrayInitializer();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case NEW:
+			case SHORT:
+			case SUPER:
+			case THIS:
+			case VOID:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+			case LPAREN:
+			case LT:
+			case BANG:
+			case TILDE:
+			case INC:
+			case DEC:
+			case ADD:
+			case SUB:
+			case Identifier:
+			case AT:
+				{
+				setState(1213);
+				expression(0);
+				setState(1214);
+				match(RBRACK);
+				setState(1221);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,152,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(1215);
+						match(LBRACK);
+						setState(1216);
+						expression(0);
+						setState(1217);
+						match(RBRACK);
+						}
+						} 
+					}
+					setState(1223);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,152,_ctx);
+				}
+				setState(1228);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,153,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(1224);
+						match(LBRACK);
+						setState(1225);
+						match(RBRACK);
+						}
+						} 
+					}
+					setState(1230);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,153,_ctx);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassCreatorRestContext extends ParserRuleContext {
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public ClassCreatorRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classCreatorRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterClassCreatorRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitClassCreatorRest(this);
+		}
+	}
+
+	public final ClassCreatorRestContext classCreatorRest() throws RecognitionException {
+		ClassCreatorRestContext _localctx = new ClassCreatorRestContext(_ctx, getState());
+		enterRule(_localctx, 160, RULE_classCreatorRest);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1233);
+			arguments();
+			setState(1235);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,155,_ctx) ) {
+			case 1:
+				{
+				setState(1234);
+				classBody();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentsOrDiamondContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(FastJavaParser.LT, 0); }
+		public TerminalNode GT() { return getToken(FastJavaParser.GT, 0); }
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public TypeArgumentsOrDiamondContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArgumentsOrDiamond; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeArgumentsOrDiamond(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeArgumentsOrDiamond(this);
+		}
+	}
+
+	public final TypeArgumentsOrDiamondContext typeArgumentsOrDiamond() throws RecognitionException {
+		TypeArgumentsOrDiamondContext _localctx = new TypeArgumentsOrDiamondContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_typeArgumentsOrDiamond);
+		try {
+			setState(1240);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,156,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1237);
+				match(LT);
+				setState(1238);
+				match(GT);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1239);
+				typeArguments();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NonWildcardTypeArgumentsOrDiamondContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(FastJavaParser.LT, 0); }
+		public TerminalNode GT() { return getToken(FastJavaParser.GT, 0); }
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public NonWildcardTypeArgumentsOrDiamondContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nonWildcardTypeArgumentsOrDiamond; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterNonWildcardTypeArgumentsOrDiamond(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitNonWildcardTypeArgumentsOrDiamond(this);
+		}
+	}
+
+	public final NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() throws RecognitionException {
+		NonWildcardTypeArgumentsOrDiamondContext _localctx = new NonWildcardTypeArgumentsOrDiamondContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_nonWildcardTypeArgumentsOrDiamond);
+		try {
+			setState(1245);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,157,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1242);
+				match(LT);
+				setState(1243);
+				match(GT);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1244);
+				nonWildcardTypeArguments();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NonWildcardTypeArgumentsContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(FastJavaParser.LT, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public TerminalNode GT() { return getToken(FastJavaParser.GT, 0); }
+		public NonWildcardTypeArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nonWildcardTypeArguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterNonWildcardTypeArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitNonWildcardTypeArguments(this);
+		}
+	}
+
+	public final NonWildcardTypeArgumentsContext nonWildcardTypeArguments() throws RecognitionException {
+		NonWildcardTypeArgumentsContext _localctx = new NonWildcardTypeArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_nonWildcardTypeArguments);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1247);
+			match(LT);
+			setState(1248);
+			typeList();
+			setState(1249);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeListContext extends ParserRuleContext {
+		public List<TypeTypeContext> typeType() {
+			return getRuleContexts(TypeTypeContext.class);
+		}
+		public TypeTypeContext typeType(int i) {
+			return getRuleContext(TypeTypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public TypeListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeList(this);
+		}
+	}
+
+	public final TypeListContext typeList() throws RecognitionException {
+		TypeListContext _localctx = new TypeListContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_typeList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1251);
+			typeType();
+			setState(1256);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(1252);
+				match(COMMA);
+				setState(1253);
+				typeType();
+				}
+				}
+				setState(1258);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeTypeContext extends ParserRuleContext {
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<TerminalNode> LBRACK() { return getTokens(FastJavaParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(FastJavaParser.LBRACK, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(FastJavaParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(FastJavaParser.RBRACK, i);
+		}
+		public TypeTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeType(this);
+		}
+	}
+
+	public final TypeTypeContext typeType() throws RecognitionException {
+		TypeTypeContext _localctx = new TypeTypeContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_typeType);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1262);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(1259);
+				annotation();
+				}
+				}
+				setState(1264);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1267);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Identifier:
+				{
+				setState(1265);
+				classOrInterfaceType();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+				{
+				setState(1266);
+				primitiveType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1279);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,162,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1272);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==AT) {
+						{
+						{
+						setState(1269);
+						annotation();
+						}
+						}
+						setState(1274);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(1275);
+					match(LBRACK);
+					setState(1276);
+					match(RBRACK);
+					}
+					} 
+				}
+				setState(1281);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,162,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrimitiveTypeContext extends ParserRuleContext {
+		public TerminalNode BOOLEAN() { return getToken(FastJavaParser.BOOLEAN, 0); }
+		public TerminalNode CHAR() { return getToken(FastJavaParser.CHAR, 0); }
+		public TerminalNode BYTE() { return getToken(FastJavaParser.BYTE, 0); }
+		public TerminalNode SHORT() { return getToken(FastJavaParser.SHORT, 0); }
+		public TerminalNode INT() { return getToken(FastJavaParser.INT, 0); }
+		public TerminalNode LONG() { return getToken(FastJavaParser.LONG, 0); }
+		public TerminalNode FLOAT() { return getToken(FastJavaParser.FLOAT, 0); }
+		public TerminalNode DOUBLE() { return getToken(FastJavaParser.DOUBLE, 0); }
+		public PrimitiveTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primitiveType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterPrimitiveType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitPrimitiveType(this);
+		}
+	}
+
+	public final PrimitiveTypeContext primitiveType() throws RecognitionException {
+		PrimitiveTypeContext _localctx = new PrimitiveTypeContext(_ctx, getState());
+		enterRule(_localctx, 172, RULE_primitiveType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1282);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentsContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(FastJavaParser.LT, 0); }
+		public List<TypeArgumentContext> typeArgument() {
+			return getRuleContexts(TypeArgumentContext.class);
+		}
+		public TypeArgumentContext typeArgument(int i) {
+			return getRuleContext(TypeArgumentContext.class,i);
+		}
+		public TerminalNode GT() { return getToken(FastJavaParser.GT, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(FastJavaParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(FastJavaParser.COMMA, i);
+		}
+		public TypeArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterTypeArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitTypeArguments(this);
+		}
+	}
+
+	public final TypeArgumentsContext typeArguments() throws RecognitionException {
+		TypeArgumentsContext _localctx = new TypeArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 174, RULE_typeArguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1284);
+			match(LT);
+			setState(1285);
+			typeArgument();
+			setState(1290);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(1286);
+				match(COMMA);
+				setState(1287);
+				typeArgument();
+				}
+				}
+				setState(1292);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1293);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SuperSuffixContext extends ParserRuleContext {
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(FastJavaParser.DOT, 0); }
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public SuperSuffixContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_superSuffix; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterSuperSuffix(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitSuperSuffix(this);
+		}
+	}
+
+	public final SuperSuffixContext superSuffix() throws RecognitionException {
+		SuperSuffixContext _localctx = new SuperSuffixContext(_ctx, getState());
+		enterRule(_localctx, 176, RULE_superSuffix);
+		int _la;
+		try {
+			setState(1304);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LPAREN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1295);
+				arguments();
+				}
+				break;
+			case DOT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1296);
+				match(DOT);
+				setState(1298);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LT) {
+					{
+					setState(1297);
+					typeArguments();
+					}
+				}
+
+				setState(1300);
+				match(Identifier);
+				setState(1302);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,165,_ctx) ) {
+				case 1:
+					{
+					setState(1301);
+					arguments();
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExplicitGenericInvocationSuffixContext extends ParserRuleContext {
+		public TerminalNode SUPER() { return getToken(FastJavaParser.SUPER, 0); }
+		public SuperSuffixContext superSuffix() {
+			return getRuleContext(SuperSuffixContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(FastJavaParser.Identifier, 0); }
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationSuffixContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_explicitGenericInvocationSuffix; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterExplicitGenericInvocationSuffix(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitExplicitGenericInvocationSuffix(this);
+		}
+	}
+
+	public final ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() throws RecognitionException {
+		ExplicitGenericInvocationSuffixContext _localctx = new ExplicitGenericInvocationSuffixContext(_ctx, getState());
+		enterRule(_localctx, 178, RULE_explicitGenericInvocationSuffix);
+		try {
+			setState(1310);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case SUPER:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1306);
+				match(SUPER);
+				setState(1307);
+				superSuffix();
+				}
+				break;
+			case Identifier:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1308);
+				match(Identifier);
+				setState(1309);
+				arguments();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArgumentsContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(FastJavaParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(FastJavaParser.RPAREN, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).enterArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof FastJavaParserListener ) ((FastJavaParserListener)listener).exitArguments(this);
+		}
+	}
+
+	public final ArgumentsContext arguments() throws RecognitionException {
+		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 180, RULE_arguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1312);
+			match(LPAREN);
+			setState(1314);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				setState(1313);
+				expressionList();
+				}
+			}
+
+			setState(1316);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 71:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 16);
+		case 1:
+			return precpred(_ctx, 15);
+		case 2:
+			return precpred(_ctx, 14);
+		case 3:
+			return precpred(_ctx, 13);
+		case 4:
+			return precpred(_ctx, 11);
+		case 5:
+			return precpred(_ctx, 10);
+		case 6:
+			return precpred(_ctx, 9);
+		case 7:
+			return precpred(_ctx, 8);
+		case 8:
+			return precpred(_ctx, 7);
+		case 9:
+			return precpred(_ctx, 6);
+		case 10:
+			return precpred(_ctx, 5);
+		case 11:
+			return precpred(_ctx, 4);
+		case 12:
+			return precpred(_ctx, 24);
+		case 13:
+			return precpred(_ctx, 23);
+		case 14:
+			return precpred(_ctx, 19);
+		case 15:
+			return precpred(_ctx, 12);
+		case 16:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3m\u0529\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\3\2\5\2\u00ba\n\2\3"+
+		"\2\7\2\u00bd\n\2\f\2\16\2\u00c0\13\2\3\2\7\2\u00c3\n\2\f\2\16\2\u00c6"+
+		"\13\2\3\2\3\2\3\3\7\3\u00cb\n\3\f\3\16\3\u00ce\13\3\3\3\3\3\3\3\3\3\3"+
+		"\4\3\4\5\4\u00d6\n\4\3\4\3\4\3\4\5\4\u00db\n\4\3\4\3\4\3\5\7\5\u00e0\n"+
+		"\5\f\5\16\5\u00e3\13\5\3\5\3\5\3\5\3\5\5\5\u00e9\n\5\3\5\5\5\u00ec\n\5"+
+		"\3\6\3\6\3\6\3\6\3\6\5\6\u00f3\n\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7"+
+		"\5\7\u00fe\n\7\3\b\3\b\5\b\u0102\n\b\3\t\3\t\3\t\5\t\u0107\n\t\3\t\3\t"+
+		"\5\t\u010b\n\t\3\t\3\t\5\t\u010f\n\t\3\t\3\t\3\n\3\n\3\n\3\n\7\n\u0117"+
+		"\n\n\f\n\16\n\u011a\13\n\3\n\3\n\3\13\7\13\u011f\n\13\f\13\16\13\u0122"+
+		"\13\13\3\13\3\13\3\13\5\13\u0127\n\13\3\f\3\f\3\f\7\f\u012c\n\f\f\f\16"+
+		"\f\u012f\13\f\3\r\3\r\3\r\3\r\5\r\u0135\n\r\3\r\3\r\5\r\u0139\n\r\3\r"+
+		"\5\r\u013c\n\r\3\r\5\r\u013f\n\r\3\r\3\r\3\16\3\16\3\16\7\16\u0146\n\16"+
+		"\f\16\16\16\u0149\13\16\3\17\7\17\u014c\n\17\f\17\16\17\u014f\13\17\3"+
+		"\17\3\17\5\17\u0153\n\17\3\17\5\17\u0156\n\17\3\20\3\20\7\20\u015a\n\20"+
+		"\f\20\16\20\u015d\13\20\3\21\3\21\3\21\5\21\u0162\n\21\3\21\3\21\5\21"+
+		"\u0166\n\21\3\21\3\21\3\22\3\22\7\22\u016c\n\22\f\22\16\22\u016f\13\22"+
+		"\3\22\3\22\3\23\3\23\7\23\u0175\n\23\f\23\16\23\u0178\13\23\3\23\3\23"+
+		"\3\24\3\24\5\24\u017e\n\24\3\24\3\24\7\24\u0182\n\24\f\24\16\24\u0185"+
+		"\13\24\3\24\5\24\u0188\n\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\5\25\u0191"+
+		"\n\25\3\26\5\26\u0194\n\26\3\26\3\26\3\26\3\26\3\26\7\26\u019b\n\26\f"+
+		"\26\16\26\u019e\13\26\3\26\3\26\5\26\u01a2\n\26\3\26\3\26\3\27\3\27\5"+
+		"\27\u01a8\n\27\3\30\3\30\5\30\u01ac\n\30\3\31\5\31\u01af\n\31\3\31\3\31"+
+		"\3\31\3\31\5\31\u01b5\n\31\3\31\3\31\3\32\3\32\3\32\3\32\3\33\7\33\u01be"+
+		"\n\33\f\33\16\33\u01c1\13\33\3\33\3\33\5\33\u01c5\n\33\3\34\3\34\3\34"+
+		"\3\34\3\34\3\34\5\34\u01cd\n\34\3\35\3\35\3\35\3\35\3\36\3\36\3\36\7\36"+
+		"\u01d6\n\36\f\36\16\36\u01d9\13\36\3\37\3\37\3\37\5\37\u01de\n\37\3 \3"+
+		" \3 \7 \u01e3\n \f \16 \u01e6\13 \3!\3!\5!\u01ea\n!\3\"\3\"\3\"\3\"\7"+
+		"\"\u01f0\n\"\f\"\16\"\u01f3\13\"\3\"\5\"\u01f6\n\"\5\"\u01f8\n\"\3\"\3"+
+		"\"\3#\3#\5#\u01fe\n#\3#\3#\7#\u0202\n#\f#\16#\u0205\13#\3#\3#\5#\u0209"+
+		"\n#\7#\u020b\n#\f#\16#\u020e\13#\3$\3$\7$\u0212\n$\f$\16$\u0215\13$\3"+
+		"$\3$\3$\5$\u021a\n$\5$\u021c\n$\3%\3%\3%\7%\u0221\n%\f%\16%\u0224\13%"+
+		"\3&\3&\5&\u0228\n&\3&\3&\3\'\3\'\3\'\7\'\u022f\n\'\f\'\16\'\u0232\13\'"+
+		"\3\'\3\'\5\'\u0236\n\'\3\'\5\'\u0239\n\'\3(\7(\u023c\n(\f(\16(\u023f\13"+
+		"(\3(\3(\3(\3(\7(\u0245\n(\f(\16(\u0248\13(\3(\5(\u024b\n(\3)\7)\u024e"+
+		"\n)\f)\16)\u0251\13)\3)\3)\7)\u0255\n)\f)\16)\u0258\13)\3)\3)\3)\3*\3"+
+		"*\3*\7*\u0260\n*\f*\16*\u0263\13*\3+\3+\3,\3,\3,\3,\3,\5,\u026c\n,\3,"+
+		"\5,\u026f\n,\3-\3-\3-\7-\u0274\n-\f-\16-\u0277\13-\3.\3.\3.\3.\3/\3/\3"+
+		"/\5/\u0280\n/\3\60\3\60\3\60\3\60\7\60\u0286\n\60\f\60\16\60\u0289\13"+
+		"\60\5\60\u028b\n\60\3\60\5\60\u028e\n\60\3\60\3\60\3\61\3\61\3\61\3\61"+
+		"\3\61\3\62\3\62\7\62\u0299\n\62\f\62\16\62\u029c\13\62\3\62\3\62\3\63"+
+		"\7\63\u02a1\n\63\f\63\16\63\u02a4\13\63\3\63\3\63\5\63\u02a8\n\63\3\64"+
+		"\3\64\3\64\3\64\3\64\3\64\5\64\u02b0\n\64\3\64\3\64\5\64\u02b4\n\64\3"+
+		"\64\3\64\5\64\u02b8\n\64\3\64\3\64\5\64\u02bc\n\64\5\64\u02be\n\64\3\65"+
+		"\3\65\5\65\u02c2\n\65\3\66\3\66\3\66\3\66\3\66\7\66\u02c9\n\66\f\66\16"+
+		"\66\u02cc\13\66\3\66\3\66\5\66\u02d0\n\66\3\67\3\67\38\38\78\u02d6\n8"+
+		"\f8\168\u02d9\138\38\38\39\39\39\39\39\59\u02e2\n9\3:\7:\u02e5\n:\f:\16"+
+		":\u02e8\13:\3:\3:\3:\3;\3;\3;\3;\7;\u02f1\n;\f;\16;\u02f4\13;\3;\3;\3"+
+		";\5;\u02f9\n;\3<\3<\3<\3<\3<\5<\u0300\n<\3<\3<\3<\3<\3<\3<\3<\5<\u0309"+
+		"\n<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\6<\u031e"+
+		"\n<\r<\16<\u031f\3<\5<\u0323\n<\3<\5<\u0326\n<\3<\3<\3<\3<\7<\u032c\n"+
+		"<\f<\16<\u032f\13<\3<\5<\u0332\n<\3<\3<\3<\3<\7<\u0338\n<\f<\16<\u033b"+
+		"\13<\3<\7<\u033e\n<\f<\16<\u0341\13<\3<\3<\3<\3<\3<\3<\3<\3<\5<\u034b"+
+		"\n<\3<\3<\3<\3<\3<\3<\3<\5<\u0354\n<\3<\3<\3<\5<\u0359\n<\3<\3<\3<\3<"+
+		"\3<\3<\3<\3<\5<\u0363\n<\3=\3=\3=\7=\u0368\n=\f=\16=\u036b\13=\3=\3=\3"+
+		"=\7=\u0370\n=\f=\16=\u0373\13=\3=\3=\3=\3=\3>\3>\3>\3?\3?\3?\3?\7?\u0380"+
+		"\n?\f?\16?\u0383\13?\3?\5?\u0386\n?\3?\3?\3@\7@\u038b\n@\f@\16@\u038e"+
+		"\13@\3@\3@\3@\3@\3@\3A\6A\u0396\nA\rA\16A\u0397\3A\6A\u039b\nA\rA\16A"+
+		"\u039c\3B\3B\3B\3B\3B\3B\5B\u03a5\nB\3C\3C\5C\u03a9\nC\3C\3C\5C\u03ad"+
+		"\nC\3C\3C\5C\u03b1\nC\5C\u03b3\nC\3D\3D\5D\u03b7\nD\3E\7E\u03ba\nE\fE"+
+		"\16E\u03bd\13E\3E\3E\3E\3E\3E\3F\3F\3F\3F\3G\3G\3G\7G\u03cb\nG\fG\16G"+
+		"\u03ce\13G\3H\3H\3H\3H\3H\3H\5H\u03d6\nH\3I\3I\3I\3I\3I\3I\3I\7I\u03df"+
+		"\nI\fI\16I\u03e2\13I\3I\3I\3I\7I\u03e7\nI\fI\16I\u03ea\13I\3I\3I\3I\3"+
+		"I\3I\3I\3I\3I\3I\3I\3I\5I\u03f7\nI\3I\3I\5I\u03fb\nI\5I\u03fd\nI\3I\3"+
+		"I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\5I\u040d\nI\3I\3I\3I\3I\3I\3I\3"+
+		"I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3"+
+		"I\3I\3I\3I\3I\3I\3I\3I\3I\5I\u0435\nI\3I\3I\3I\3I\3I\3I\5I\u043d\nI\3"+
+		"I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\5I\u044c\nI\3I\7I\u044f\nI\fI\16"+
+		"I\u0452\13I\3J\3J\3J\3J\3K\3K\3K\5K\u045b\nK\3K\3K\3K\3K\3K\7K\u0462\n"+
+		"K\fK\16K\u0465\13K\3K\5K\u0468\nK\3L\3L\5L\u046c\nL\3M\3M\3M\3M\3M\3M"+
+		"\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\5M\u047e\nM\5M\u0480\nM\3N\3N\3N\3N\3N"+
+		"\3N\3N\5N\u0489\nN\5N\u048b\nN\3O\7O\u048e\nO\fO\16O\u0491\13O\3O\3O\5"+
+		"O\u0495\nO\3O\3O\7O\u0499\nO\fO\16O\u049c\13O\3O\3O\5O\u04a0\nO\7O\u04a2"+
+		"\nO\fO\16O\u04a5\13O\3O\5O\u04a8\nO\3P\7P\u04ab\nP\fP\16P\u04ae\13P\3"+
+		"P\3P\5P\u04b2\nP\3P\3P\3Q\3Q\3Q\3Q\7Q\u04ba\nQ\fQ\16Q\u04bd\13Q\3Q\3Q"+
+		"\3Q\3Q\3Q\3Q\3Q\7Q\u04c6\nQ\fQ\16Q\u04c9\13Q\3Q\3Q\7Q\u04cd\nQ\fQ\16Q"+
+		"\u04d0\13Q\5Q\u04d2\nQ\3R\3R\5R\u04d6\nR\3S\3S\3S\5S\u04db\nS\3T\3T\3"+
+		"T\5T\u04e0\nT\3U\3U\3U\3U\3V\3V\3V\7V\u04e9\nV\fV\16V\u04ec\13V\3W\7W"+
+		"\u04ef\nW\fW\16W\u04f2\13W\3W\3W\5W\u04f6\nW\3W\7W\u04f9\nW\fW\16W\u04fc"+
+		"\13W\3W\3W\7W\u0500\nW\fW\16W\u0503\13W\3X\3X\3Y\3Y\3Y\3Y\7Y\u050b\nY"+
+		"\fY\16Y\u050e\13Y\3Y\3Y\3Z\3Z\3Z\5Z\u0515\nZ\3Z\3Z\5Z\u0519\nZ\5Z\u051b"+
+		"\nZ\3[\3[\3[\3[\5[\u0521\n[\3\\\3\\\5\\\u0525\n\\\3\\\3\\\3\\\2\3\u0090"+
+		"]\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDF"+
+		"HJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c"+
+		"\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4"+
+		"\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\2\r\4\2\23\23*"+
+		"*\3\2\65:\3\2QT\3\2GH\4\2UVZZ\3\2ST\4\2EFLM\4\2KKNN\4\2DD]g\3\2QR\n\2"+
+		"\5\5\7\7\n\n\20\20\26\26\35\35\37\37\'\'\2\u05c5\2\u00b9\3\2\2\2\4\u00cc"+
+		"\3\2\2\2\6\u00d3\3\2\2\2\b\u00eb\3\2\2\2\n\u00f2\3\2\2\2\f\u00fd\3\2\2"+
+		"\2\16\u0101\3\2\2\2\20\u0103\3\2\2\2\22\u0112\3\2\2\2\24\u0120\3\2\2\2"+
+		"\26\u0128\3\2\2\2\30\u0130\3\2\2\2\32\u0142\3\2\2\2\34\u014d\3\2\2\2\36"+
+		"\u0157\3\2\2\2 \u015e\3\2\2\2\"\u0169\3\2\2\2$\u0172\3\2\2\2&\u0187\3"+
+		"\2\2\2(\u0190\3\2\2\2*\u0193\3\2\2\2,\u01a7\3\2\2\2.\u01ab\3\2\2\2\60"+
+		"\u01ae\3\2\2\2\62\u01b8\3\2\2\2\64\u01c4\3\2\2\2\66\u01cc\3\2\2\28\u01ce"+
+		"\3\2\2\2:\u01d2\3\2\2\2<\u01da\3\2\2\2>\u01df\3\2\2\2@\u01e9\3\2\2\2B"+
+		"\u01eb\3\2\2\2D\u01fb\3\2\2\2F\u021b\3\2\2\2H\u021d\3\2\2\2J\u0225\3\2"+
+		"\2\2L\u0238\3\2\2\2N\u023d\3\2\2\2P\u024f\3\2\2\2R\u025c\3\2\2\2T\u0264"+
+		"\3\2\2\2V\u0266\3\2\2\2X\u0270\3\2\2\2Z\u0278\3\2\2\2\\\u027f\3\2\2\2"+
+		"^\u0281\3\2\2\2`\u0291\3\2\2\2b\u0296\3\2\2\2d\u02a7\3\2\2\2f\u02bd\3"+
+		"\2\2\2h\u02c1\3\2\2\2j\u02c3\3\2\2\2l\u02d1\3\2\2\2n\u02d3\3\2\2\2p\u02e1"+
+		"\3\2\2\2r\u02e6\3\2\2\2t\u02f2\3\2\2\2v\u0362\3\2\2\2x\u0364\3\2\2\2z"+
+		"\u0378\3\2\2\2|\u037b\3\2\2\2~\u038c\3\2\2\2\u0080\u0395\3\2\2\2\u0082"+
+		"\u03a4\3\2\2\2\u0084\u03b2\3\2\2\2\u0086\u03b6\3\2\2\2\u0088\u03bb\3\2"+
+		"\2\2\u008a\u03c3\3\2\2\2\u008c\u03c7\3\2\2\2\u008e\u03d5\3\2\2\2\u0090"+
+		"\u03fc\3\2\2\2\u0092\u0453\3\2\2\2\u0094\u0467\3\2\2\2\u0096\u046b\3\2"+
+		"\2\2\u0098\u047f\3\2\2\2\u009a\u048a\3\2\2\2\u009c\u04a7\3\2\2\2\u009e"+
+		"\u04ac\3\2\2\2\u00a0\u04b5\3\2\2\2\u00a2\u04d3\3\2\2\2\u00a4\u04da\3\2"+
+		"\2\2\u00a6\u04df\3\2\2\2\u00a8\u04e1\3\2\2\2\u00aa\u04e5\3\2\2\2\u00ac"+
+		"\u04f0\3\2\2\2\u00ae\u0504\3\2\2\2\u00b0\u0506\3\2\2\2\u00b2\u051a\3\2"+
+		"\2\2\u00b4\u0520\3\2\2\2\u00b6\u0522\3\2\2\2\u00b8\u00ba\5\4\3\2\u00b9"+
+		"\u00b8\3\2\2\2\u00b9\u00ba\3\2\2\2\u00ba\u00be\3\2\2\2\u00bb\u00bd\5\6"+
+		"\4\2\u00bc\u00bb\3\2\2\2\u00bd\u00c0\3\2\2\2\u00be\u00bc\3\2\2\2\u00be"+
+		"\u00bf\3\2\2\2\u00bf\u00c4\3\2\2\2\u00c0\u00be\3\2\2\2\u00c1\u00c3\5\b"+
+		"\5\2\u00c2\u00c1\3\2\2\2\u00c3\u00c6\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c4"+
+		"\u00c5\3\2\2\2\u00c5\u00c7\3\2\2\2\u00c6\u00c4\3\2\2\2\u00c7\u00c8\7\2"+
+		"\2\3\u00c8\3\3\2\2\2\u00c9\u00cb\5V,\2\u00ca\u00c9\3\2\2\2\u00cb\u00ce"+
+		"\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cc\u00cd\3\2\2\2\u00cd\u00cf\3\2\2\2\u00ce"+
+		"\u00cc\3\2\2\2\u00cf\u00d0\7\"\2\2\u00d0\u00d1\5R*\2\u00d1\u00d2\7A\2"+
+		"\2\u00d2\5\3\2\2\2\u00d3\u00d5\7\33\2\2\u00d4\u00d6\7(\2\2\u00d5\u00d4"+
+		"\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00da\5R*\2\u00d8"+
+		"\u00d9\7C\2\2\u00d9\u00db\7U\2\2\u00da\u00d8\3\2\2\2\u00da\u00db\3\2\2"+
+		"\2\u00db\u00dc\3\2\2\2\u00dc\u00dd\7A\2\2\u00dd\7\3\2\2\2\u00de\u00e0"+
+		"\5\f\7\2\u00df\u00de\3\2\2\2\u00e0\u00e3\3\2\2\2\u00e1\u00df\3\2\2\2\u00e1"+
+		"\u00e2\3\2\2\2\u00e2\u00e8\3\2\2\2\u00e3\u00e1\3\2\2\2\u00e4\u00e9\5\20"+
+		"\t\2\u00e5\u00e9\5\30\r\2\u00e6\u00e9\5 \21\2\u00e7\u00e9\5`\61\2\u00e8"+
+		"\u00e4\3\2\2\2\u00e8\u00e5\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e8\u00e7\3\2"+
+		"\2\2\u00e9\u00ec\3\2\2\2\u00ea\u00ec\7A\2\2\u00eb\u00e1\3\2\2\2\u00eb"+
+		"\u00ea\3\2\2\2\u00ec\t\3\2\2\2\u00ed\u00f3\5\f\7\2\u00ee\u00f3\7 \2\2"+
+		"\u00ef\u00f3\7,\2\2\u00f0\u00f3\7\60\2\2\u00f1\u00f3\7\63\2\2\u00f2\u00ed"+
+		"\3\2\2\2\u00f2\u00ee\3\2\2\2\u00f2\u00ef\3\2\2\2\u00f2\u00f0\3\2\2\2\u00f2"+
+		"\u00f1\3\2\2\2\u00f3\13\3\2\2\2\u00f4\u00fe\5V,\2\u00f5\u00fe\7%\2\2\u00f6"+
+		"\u00fe\7$\2\2\u00f7\u00fe\7#\2\2\u00f8\u00fe\7(\2\2\u00f9\u00fe\7\3\2"+
+		"\2\u00fa\u00fe\7\24\2\2\u00fb\u00fe\7)\2\2\u00fc\u00fe\7\16\2\2\u00fd"+
+		"\u00f4\3\2\2\2\u00fd\u00f5\3\2\2\2\u00fd\u00f6\3\2\2\2\u00fd\u00f7\3\2"+
+		"\2\2\u00fd\u00f8\3\2\2\2\u00fd\u00f9\3\2\2\2\u00fd\u00fa\3\2\2\2\u00fd"+
+		"\u00fb\3\2\2\2\u00fd\u00fc\3\2\2\2\u00fe\r\3\2\2\2\u00ff\u0102\7\24\2"+
+		"\2\u0100\u0102\5V,\2\u0101\u00ff\3\2\2\2\u0101\u0100\3\2\2\2\u0102\17"+
+		"\3\2\2\2\u0103\u0104\7\13\2\2\u0104\u0106\7h\2\2\u0105\u0107\5\22\n\2"+
+		"\u0106\u0105\3\2\2\2\u0106\u0107\3\2\2\2\u0107\u010a\3\2\2\2\u0108\u0109"+
+		"\7\23\2\2\u0109\u010b\5\u00acW\2\u010a\u0108\3\2\2\2\u010a\u010b\3\2\2"+
+		"\2\u010b\u010e\3\2\2\2\u010c\u010d\7\32\2\2\u010d\u010f\5\u00aaV\2\u010e"+
+		"\u010c\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0110\3\2\2\2\u0110\u0111\5\""+
+		"\22\2\u0111\21\3\2\2\2\u0112\u0113\7F\2\2\u0113\u0118\5\24\13\2\u0114"+
+		"\u0115\7B\2\2\u0115\u0117\5\24\13\2\u0116\u0114\3\2\2\2\u0117\u011a\3"+
+		"\2\2\2\u0118\u0116\3\2\2\2\u0118\u0119\3\2\2\2\u0119\u011b\3\2\2\2\u011a"+
+		"\u0118\3\2\2\2\u011b\u011c\7E\2\2\u011c\23\3\2\2\2\u011d\u011f\5V,\2\u011e"+
+		"\u011d\3\2\2\2\u011f\u0122\3\2\2\2\u0120\u011e\3\2\2\2\u0120\u0121\3\2"+
+		"\2\2\u0121\u0123\3\2\2\2\u0122\u0120\3\2\2\2\u0123\u0126\7h\2\2\u0124"+
+		"\u0125\7\23\2\2\u0125\u0127\5\26\f\2\u0126\u0124\3\2\2\2\u0126\u0127\3"+
+		"\2\2\2\u0127\25\3\2\2\2\u0128\u012d\5\u00acW\2\u0129\u012a\7W\2\2\u012a"+
+		"\u012c\5\u00acW\2\u012b\u0129\3\2\2\2\u012c\u012f\3\2\2\2\u012d\u012b"+
+		"\3\2\2\2\u012d\u012e\3\2\2\2\u012e\27\3\2\2\2\u012f\u012d\3\2\2\2\u0130"+
+		"\u0131\7\22\2\2\u0131\u0134\7h\2\2\u0132\u0133\7\32\2\2\u0133\u0135\5"+
+		"\u00aaV\2\u0134\u0132\3\2\2\2\u0134\u0135\3\2\2\2\u0135\u0136\3\2\2\2"+
+		"\u0136\u0138\7=\2\2\u0137\u0139\5\32\16\2\u0138\u0137\3\2\2\2\u0138\u0139"+
+		"\3\2\2\2\u0139\u013b\3\2\2\2\u013a\u013c\7B\2\2\u013b\u013a\3\2\2\2\u013b"+
+		"\u013c\3\2\2\2\u013c\u013e\3\2\2\2\u013d\u013f\5\36\20\2\u013e\u013d\3"+
+		"\2\2\2\u013e\u013f\3\2\2\2\u013f\u0140\3\2\2\2\u0140\u0141\7>\2\2\u0141"+
+		"\31\3\2\2\2\u0142\u0147\5\34\17\2\u0143\u0144\7B\2\2\u0144\u0146\5\34"+
+		"\17\2\u0145\u0143\3\2\2\2\u0146\u0149\3\2\2\2\u0147\u0145\3\2\2\2\u0147"+
+		"\u0148\3\2\2\2\u0148\33\3\2\2\2\u0149\u0147\3\2\2\2\u014a\u014c\5V,\2"+
+		"\u014b\u014a\3\2\2\2\u014c\u014f\3\2\2\2\u014d\u014b\3\2\2\2\u014d\u014e"+
+		"\3\2\2\2\u014e\u0150\3\2\2\2\u014f\u014d\3\2\2\2\u0150\u0152\7h\2\2\u0151"+
+		"\u0153\5\u00b6\\\2\u0152\u0151\3\2\2\2\u0152\u0153\3\2\2\2\u0153\u0155"+
+		"\3\2\2\2\u0154\u0156\5\"\22\2\u0155\u0154\3\2\2\2\u0155\u0156\3\2\2\2"+
+		"\u0156\35\3\2\2\2\u0157\u015b\7A\2\2\u0158\u015a\5&\24\2\u0159\u0158\3"+
+		"\2\2\2\u015a\u015d\3\2\2\2\u015b\u0159\3\2\2\2\u015b\u015c\3\2\2\2\u015c"+
+		"\37\3\2\2\2\u015d\u015b\3\2\2\2\u015e\u015f\7\36\2\2\u015f\u0161\7h\2"+
+		"\2\u0160\u0162\5\22\n\2\u0161\u0160\3\2\2\2\u0161\u0162\3\2\2\2\u0162"+
+		"\u0165\3\2\2\2\u0163\u0164\7\23\2\2\u0164\u0166\5\u00aaV\2\u0165\u0163"+
+		"\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0167\3\2\2\2\u0167\u0168\5$\23\2\u0168"+
+		"!\3\2\2\2\u0169\u016d\7=\2\2\u016a\u016c\5&\24\2\u016b\u016a\3\2\2\2\u016c"+
+		"\u016f\3\2\2\2\u016d\u016b\3\2\2\2\u016d\u016e\3\2\2\2\u016e\u0170\3\2"+
+		"\2\2\u016f\u016d\3\2\2\2\u0170\u0171\7>\2\2\u0171#\3\2\2\2\u0172\u0176"+
+		"\7=\2\2\u0173\u0175\5\64\33\2\u0174\u0173\3\2\2\2\u0175\u0178\3\2\2\2"+
+		"\u0176\u0174\3\2\2\2\u0176\u0177\3\2\2\2\u0177\u0179\3\2\2\2\u0178\u0176"+
+		"\3\2\2\2\u0179\u017a\7>\2\2\u017a%\3\2\2\2\u017b\u0188\7A\2\2\u017c\u017e"+
+		"\7(\2\2\u017d\u017c\3\2\2\2\u017d\u017e\3\2\2\2\u017e\u017f\3\2\2\2\u017f"+
+		"\u0188\5n8\2\u0180\u0182\5\n\6\2\u0181\u0180\3\2\2\2\u0182\u0185\3\2\2"+
+		"\2\u0183\u0181\3\2\2\2\u0183\u0184\3\2\2\2\u0184\u0186\3\2\2\2\u0185\u0183"+
+		"\3\2\2\2\u0186\u0188\5(\25\2\u0187\u017b\3\2\2\2\u0187\u017d\3\2\2\2\u0187"+
+		"\u0183\3\2\2\2\u0188\'\3\2\2\2\u0189\u0191\5*\26\2\u018a\u0191\5\62\32"+
+		"\2\u018b\u0191\5\60\31\2\u018c\u0191\5\20\t\2\u018d\u0191\5\30\r\2\u018e"+
+		"\u0191\5 \21\2\u018f\u0191\5`\61\2\u0190\u0189\3\2\2\2\u0190\u018a\3\2"+
+		"\2\2\u0190\u018b\3\2\2\2\u0190\u018c\3\2\2\2\u0190\u018d\3\2\2\2\u0190"+
+		"\u018e\3\2\2\2\u0190\u018f\3\2\2\2\u0191)\3\2\2\2\u0192\u0194\5\22\n\2"+
+		"\u0193\u0192\3\2\2\2\u0193\u0194\3\2\2\2\u0194\u0195\3\2\2\2\u0195\u0196"+
+		"\5.\30\2\u0196\u0197\7h\2\2\u0197\u019c\5J&\2\u0198\u0199\7?\2\2\u0199"+
+		"\u019b\7@\2\2\u019a\u0198\3\2\2\2\u019b\u019e\3\2\2\2\u019c\u019a\3\2"+
+		"\2\2\u019c\u019d\3\2\2\2\u019d\u01a1\3\2\2\2\u019e\u019c\3\2\2\2\u019f"+
+		"\u01a0\7/\2\2\u01a0\u01a2\5H%\2\u01a1\u019f\3\2\2\2\u01a1\u01a2\3\2\2"+
+		"\2\u01a2\u01a3\3\2\2\2\u01a3\u01a4\5,\27\2\u01a4+\3\2\2\2\u01a5\u01a8"+
+		"\5n8\2\u01a6\u01a8\7A\2\2\u01a7\u01a5\3\2\2\2\u01a7\u01a6\3\2\2\2\u01a8"+
+		"-\3\2\2\2\u01a9\u01ac\5\u00acW\2\u01aa\u01ac\7\62\2\2\u01ab\u01a9\3\2"+
+		"\2\2\u01ab\u01aa\3\2\2\2\u01ac/\3\2\2\2\u01ad\u01af\5\22\n\2\u01ae\u01ad"+
+		"\3\2\2\2\u01ae\u01af\3\2\2\2\u01af\u01b0\3\2\2\2\u01b0\u01b1\7h\2\2\u01b1"+
+		"\u01b4\5J&\2\u01b2\u01b3\7/\2\2\u01b3\u01b5\5H%\2\u01b4\u01b2\3\2\2\2"+
+		"\u01b4\u01b5\3\2\2\2\u01b5\u01b6\3\2\2\2\u01b6\u01b7\5n8\2\u01b7\61\3"+
+		"\2\2\2\u01b8\u01b9\5\u00acW\2\u01b9\u01ba\5:\36\2\u01ba\u01bb\7A\2\2\u01bb"+
+		"\63\3\2\2\2\u01bc\u01be\5\n\6\2\u01bd\u01bc\3\2\2\2\u01be\u01c1\3\2\2"+
+		"\2\u01bf\u01bd\3\2\2\2\u01bf\u01c0\3\2\2\2\u01c0\u01c2\3\2\2\2\u01c1\u01bf"+
+		"\3\2\2\2\u01c2\u01c5\5\66\34\2\u01c3\u01c5\7A\2\2\u01c4\u01bf\3\2\2\2"+
+		"\u01c4\u01c3\3\2\2\2\u01c5\65\3\2\2\2\u01c6\u01cd\5*\26\2\u01c7\u01cd"+
+		"\58\35\2\u01c8\u01cd\5\20\t\2\u01c9\u01cd\5\30\r\2\u01ca\u01cd\5 \21\2"+
+		"\u01cb\u01cd\5`\61\2\u01cc\u01c6\3\2\2\2\u01cc\u01c7\3\2\2\2\u01cc\u01c8"+
+		"\3\2\2\2\u01cc\u01c9\3\2\2\2\u01cc\u01ca\3\2\2\2\u01cc\u01cb\3\2\2\2\u01cd"+
+		"\67\3\2\2\2\u01ce\u01cf\5\u00acW\2\u01cf\u01d0\5:\36\2\u01d0\u01d1\7A"+
+		"\2\2\u01d19\3\2\2\2\u01d2\u01d7\5<\37\2\u01d3\u01d4\7B\2\2\u01d4\u01d6"+
+		"\5<\37\2\u01d5\u01d3\3\2\2\2\u01d6\u01d9\3\2\2\2\u01d7\u01d5\3\2\2\2\u01d7"+
+		"\u01d8\3\2\2\2\u01d8;\3\2\2\2\u01d9\u01d7\3\2\2\2\u01da\u01dd\5> \2\u01db"+
+		"\u01dc\7D\2\2\u01dc\u01de\5@!\2\u01dd\u01db\3\2\2\2\u01dd\u01de\3\2\2"+
+		"\2\u01de=\3\2\2\2\u01df\u01e4\7h\2\2\u01e0\u01e1\7?\2\2\u01e1\u01e3\7"+
+		"@\2\2\u01e2\u01e0\3\2\2\2\u01e3\u01e6\3\2\2\2\u01e4\u01e2\3\2\2\2\u01e4"+
+		"\u01e5\3\2\2\2\u01e5?\3\2\2\2\u01e6\u01e4\3\2\2\2\u01e7\u01ea\5B\"\2\u01e8"+
+		"\u01ea\5\u0090I\2\u01e9\u01e7\3\2\2\2\u01e9\u01e8\3\2\2\2\u01eaA\3\2\2"+
+		"\2\u01eb\u01f7\7=\2\2\u01ec\u01f1\5@!\2\u01ed\u01ee\7B\2\2\u01ee\u01f0"+
+		"\5@!\2\u01ef\u01ed\3\2\2\2\u01f0\u01f3\3\2\2\2\u01f1\u01ef\3\2\2\2\u01f1"+
+		"\u01f2\3\2\2\2\u01f2\u01f5\3\2\2\2\u01f3\u01f1\3\2\2\2\u01f4\u01f6\7B"+
+		"\2\2\u01f5\u01f4\3\2\2\2\u01f5\u01f6\3\2\2\2\u01f6\u01f8\3\2\2\2\u01f7"+
+		"\u01ec\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fa\7>"+
+		"\2\2\u01faC\3\2\2\2\u01fb\u01fd\7h\2\2\u01fc\u01fe\5\u00b0Y\2\u01fd\u01fc"+
+		"\3\2\2\2\u01fd\u01fe\3\2\2\2\u01fe\u020c\3\2\2\2\u01ff\u0203\7C\2\2\u0200"+
+		"\u0202\5V,\2\u0201\u0200\3\2\2\2\u0202\u0205\3\2\2\2\u0203\u0201\3\2\2"+
+		"\2\u0203\u0204\3\2\2\2\u0204\u0206\3\2\2\2\u0205\u0203\3\2\2\2\u0206\u0208"+
+		"\7h\2\2\u0207\u0209\5\u00b0Y\2\u0208\u0207\3\2\2\2\u0208\u0209\3\2\2\2"+
+		"\u0209\u020b\3\2\2\2\u020a\u01ff\3\2\2\2\u020b\u020e\3\2\2\2\u020c\u020a"+
+		"\3\2\2\2\u020c\u020d\3\2\2\2\u020dE\3\2\2\2\u020e\u020c\3\2\2\2\u020f"+
+		"\u021c\5\u00acW\2\u0210\u0212\5V,\2\u0211\u0210\3\2\2\2\u0212\u0215\3"+
+		"\2\2\2\u0213\u0211\3\2\2\2\u0213\u0214\3\2\2\2\u0214\u0216\3\2\2\2\u0215"+
+		"\u0213\3\2\2\2\u0216\u0219\7I\2\2\u0217\u0218\t\2\2\2\u0218\u021a\5\u00ac"+
+		"W\2\u0219\u0217\3\2\2\2\u0219\u021a\3\2\2\2\u021a\u021c\3\2\2\2\u021b"+
+		"\u020f\3\2\2\2\u021b\u0213\3\2\2\2\u021cG\3\2\2\2\u021d\u0222\5R*\2\u021e"+
+		"\u021f\7B\2\2\u021f\u0221\5R*\2\u0220\u021e\3\2\2\2\u0221\u0224\3\2\2"+
+		"\2\u0222\u0220\3\2\2\2\u0222\u0223\3\2\2\2\u0223I\3\2\2\2\u0224\u0222"+
+		"\3\2\2\2\u0225\u0227\7;\2\2\u0226\u0228\5L\'\2\u0227\u0226\3\2\2\2\u0227"+
+		"\u0228\3\2\2\2\u0228\u0229\3\2\2\2\u0229\u022a\7<\2\2\u022aK\3\2\2\2\u022b"+
+		"\u0230\5N(\2\u022c\u022d\7B\2\2\u022d\u022f\5N(\2\u022e\u022c\3\2\2\2"+
+		"\u022f\u0232\3\2\2\2\u0230\u022e\3\2\2\2\u0230\u0231\3\2\2\2\u0231\u0235"+
+		"\3\2\2\2\u0232\u0230\3\2\2\2\u0233\u0234\7B\2\2\u0234\u0236\5P)\2\u0235"+
+		"\u0233\3\2\2\2\u0235\u0236\3\2\2\2\u0236\u0239\3\2\2\2\u0237\u0239\5P"+
+		")\2\u0238\u022b\3\2\2\2\u0238\u0237\3\2\2\2\u0239M\3\2\2\2\u023a\u023c"+
+		"\5\16\b\2\u023b\u023a\3\2\2\2\u023c\u023f\3\2\2\2\u023d\u023b\3\2\2\2"+
+		"\u023d\u023e\3\2\2\2\u023e\u0240\3\2\2\2\u023f\u023d\3\2\2\2\u0240\u024a"+
+		"\5\u00acW\2\u0241\u024b\5> \2\u0242\u0243\7h\2\2\u0243\u0245\7C\2\2\u0244"+
+		"\u0242\3\2\2\2\u0245\u0248\3\2\2\2\u0246\u0244\3\2\2\2\u0246\u0247\3\2"+
+		"\2\2\u0247\u0249\3\2\2\2\u0248\u0246\3\2\2\2\u0249\u024b\7-\2\2\u024a"+
+		"\u0241\3\2\2\2\u024a\u0246\3\2\2\2\u024bO\3\2\2\2\u024c\u024e\5\16\b\2"+
+		"\u024d\u024c\3\2\2\2\u024e\u0251\3\2\2\2\u024f\u024d\3\2\2\2\u024f\u0250"+
+		"\3\2\2\2\u0250\u0252\3\2\2\2\u0251\u024f\3\2\2\2\u0252\u0256\5\u00acW"+
+		"\2\u0253\u0255\5V,\2\u0254\u0253\3\2\2\2\u0255\u0258\3\2\2\2\u0256\u0254"+
+		"\3\2\2\2\u0256\u0257\3\2\2\2\u0257\u0259\3\2\2\2\u0258\u0256\3\2\2\2\u0259"+
+		"\u025a\7j\2\2\u025a\u025b\5> \2\u025bQ\3\2\2\2\u025c\u0261\7h\2\2\u025d"+
+		"\u025e\7C\2\2\u025e\u0260\7h\2\2\u025f\u025d\3\2\2\2\u0260\u0263\3\2\2"+
+		"\2\u0261\u025f\3\2\2\2\u0261\u0262\3\2\2\2\u0262S\3\2\2\2\u0263\u0261"+
+		"\3\2\2\2\u0264\u0265\t\3\2\2\u0265U\3\2\2\2\u0266\u0267\7i\2\2\u0267\u026e"+
+		"\5R*\2\u0268\u026b\7;\2\2\u0269\u026c\5X-\2\u026a\u026c\5\\/\2\u026b\u0269"+
+		"\3\2\2\2\u026b\u026a\3\2\2\2\u026b\u026c\3\2\2\2\u026c\u026d\3\2\2\2\u026d"+
+		"\u026f\7<\2\2\u026e\u0268\3\2\2\2\u026e\u026f\3\2\2\2\u026fW\3\2\2\2\u0270"+
+		"\u0275\5Z.\2\u0271\u0272\7B\2\2\u0272\u0274\5Z.\2\u0273\u0271\3\2\2\2"+
+		"\u0274\u0277\3\2\2\2\u0275\u0273\3\2\2\2\u0275\u0276\3\2\2\2\u0276Y\3"+
+		"\2\2\2\u0277\u0275\3\2\2\2\u0278\u0279\7h\2\2\u0279\u027a\7D\2\2\u027a"+
+		"\u027b\5\\/\2\u027b[\3\2\2\2\u027c\u0280\5\u0090I\2\u027d\u0280\5V,\2"+
+		"\u027e\u0280\5^\60\2\u027f\u027c\3\2\2\2\u027f\u027d\3\2\2\2\u027f\u027e"+
+		"\3\2\2\2\u0280]\3\2\2\2\u0281\u028a\7=\2\2\u0282\u0287\5\\/\2\u0283\u0284"+
+		"\7B\2\2\u0284\u0286\5\\/\2\u0285\u0283\3\2\2\2\u0286\u0289\3\2\2\2\u0287"+
+		"\u0285\3\2\2\2\u0287\u0288\3\2\2\2\u0288\u028b\3\2\2\2\u0289\u0287\3\2"+
+		"\2\2\u028a\u0282\3\2\2\2\u028a\u028b\3\2\2\2\u028b\u028d\3\2\2\2\u028c"+
+		"\u028e\7B\2\2\u028d\u028c\3\2\2\2\u028d\u028e\3\2\2\2\u028e\u028f\3\2"+
+		"\2\2\u028f\u0290\7>\2\2\u0290_\3\2\2\2\u0291\u0292\7i\2\2\u0292\u0293"+
+		"\7\36\2\2\u0293\u0294\7h\2\2\u0294\u0295\5b\62\2\u0295a\3\2\2\2\u0296"+
+		"\u029a\7=\2\2\u0297\u0299\5d\63\2\u0298\u0297\3\2\2\2\u0299\u029c\3\2"+
+		"\2\2\u029a\u0298\3\2\2\2\u029a\u029b\3\2\2\2\u029b\u029d\3\2\2\2\u029c"+
+		"\u029a\3\2\2\2\u029d\u029e\7>\2\2\u029ec\3\2\2\2\u029f\u02a1\5\n\6\2\u02a0"+
+		"\u029f\3\2\2\2\u02a1\u02a4\3\2\2\2\u02a2\u02a0\3\2\2\2\u02a2\u02a3\3\2"+
+		"\2\2\u02a3\u02a5\3\2\2\2\u02a4\u02a2\3\2\2\2\u02a5\u02a8\5f\64\2\u02a6"+
+		"\u02a8\7A\2\2\u02a7\u02a2\3\2\2\2\u02a7\u02a6\3\2\2\2\u02a8e\3\2\2\2\u02a9"+
+		"\u02aa\5\u00acW\2\u02aa\u02ab\5h\65\2\u02ab\u02ac\7A\2\2\u02ac\u02be\3"+
+		"\2\2\2\u02ad\u02af\5\20\t\2\u02ae\u02b0\7A\2\2\u02af\u02ae\3\2\2\2\u02af"+
+		"\u02b0\3\2\2\2\u02b0\u02be\3\2\2\2\u02b1\u02b3\5 \21\2\u02b2\u02b4\7A"+
+		"\2\2\u02b3\u02b2\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4\u02be\3\2\2\2\u02b5"+
+		"\u02b7\5\30\r\2\u02b6\u02b8\7A\2\2\u02b7\u02b6\3\2\2\2\u02b7\u02b8\3\2"+
+		"\2\2\u02b8\u02be\3\2\2\2\u02b9\u02bb\5`\61\2\u02ba\u02bc\7A\2\2\u02bb"+
+		"\u02ba\3\2\2\2\u02bb\u02bc\3\2\2\2\u02bc\u02be\3\2\2\2\u02bd\u02a9\3\2"+
+		"\2\2\u02bd\u02ad\3\2\2\2\u02bd\u02b1\3\2\2\2\u02bd\u02b5\3\2\2\2\u02bd"+
+		"\u02b9\3\2\2\2\u02beg\3\2\2\2\u02bf\u02c2\5j\66\2\u02c0\u02c2\5l\67\2"+
+		"\u02c1\u02bf\3\2\2\2\u02c1\u02c0\3\2\2\2\u02c2i\3\2\2\2\u02c3\u02c4\7"+
+		"h\2\2\u02c4\u02c5\7;\2\2\u02c5\u02ca\7<\2\2\u02c6\u02c7\7?\2\2\u02c7\u02c9"+
+		"\7@\2\2\u02c8\u02c6\3\2\2\2\u02c9\u02cc\3\2\2\2\u02ca\u02c8\3\2\2\2\u02ca"+
+		"\u02cb\3\2\2\2\u02cb\u02cf\3\2\2\2\u02cc\u02ca\3\2\2\2\u02cd\u02ce\7\16"+
+		"\2\2\u02ce\u02d0\5\\/\2\u02cf\u02cd\3\2\2\2\u02cf\u02d0\3\2\2\2\u02d0"+
+		"k\3\2\2\2\u02d1\u02d2\5:\36\2\u02d2m\3\2\2\2\u02d3\u02d7\7=\2\2\u02d4"+
+		"\u02d6\5p9\2\u02d5\u02d4\3\2\2\2\u02d6\u02d9\3\2\2\2\u02d7\u02d5\3\2\2"+
+		"\2\u02d7\u02d8\3\2\2\2\u02d8\u02da\3\2\2\2\u02d9\u02d7\3\2\2\2\u02da\u02db"+
+		"\7>\2\2\u02dbo\3\2\2\2\u02dc\u02dd\5r:\2\u02dd\u02de\7A\2\2\u02de\u02e2"+
+		"\3\2\2\2\u02df\u02e2\5v<\2\u02e0\u02e2\5t;\2\u02e1\u02dc\3\2\2\2\u02e1"+
+		"\u02df\3\2\2\2\u02e1\u02e0\3\2\2\2\u02e2q\3\2\2\2\u02e3\u02e5\5\16\b\2"+
+		"\u02e4\u02e3\3\2\2\2\u02e5\u02e8\3\2\2\2\u02e6\u02e4\3\2\2\2\u02e6\u02e7"+
+		"\3\2\2\2\u02e7\u02e9\3\2\2\2\u02e8\u02e6\3\2\2\2\u02e9\u02ea\5\u00acW"+
+		"\2\u02ea\u02eb\5:\36\2\u02ebs\3\2\2\2\u02ec\u02f1\5V,\2\u02ed\u02f1\7"+
+		"\3\2\2\u02ee\u02f1\7\24\2\2\u02ef\u02f1\7)\2\2\u02f0\u02ec\3\2\2\2\u02f0"+
+		"\u02ed\3\2\2\2\u02f0\u02ee\3\2\2\2\u02f0\u02ef\3\2\2\2\u02f1\u02f4\3\2"+
+		"\2\2\u02f2\u02f0\3\2\2\2\u02f2\u02f3\3\2\2\2\u02f3\u02f8\3\2\2\2\u02f4"+
+		"\u02f2\3\2\2\2\u02f5\u02f9\5\20\t\2\u02f6\u02f9\5\30\r\2\u02f7\u02f9\5"+
+		" \21\2\u02f8\u02f5\3\2\2\2\u02f8\u02f6\3\2\2\2\u02f8\u02f7\3\2\2\2\u02f9"+
+		"u\3\2\2\2\u02fa\u0363\5n8\2\u02fb\u02fc\7\4\2\2\u02fc\u02ff\5\u0090I\2"+
+		"\u02fd\u02fe\7J\2\2\u02fe\u0300\5\u0090I\2\u02ff\u02fd\3\2\2\2\u02ff\u0300"+
+		"\3\2\2\2\u0300\u0301\3\2\2\2\u0301\u0302\7A\2\2\u0302\u0363\3\2\2\2\u0303"+
+		"\u0304\7\30\2\2\u0304\u0305\5\u008aF\2\u0305\u0308\5v<\2\u0306\u0307\7"+
+		"\21\2\2\u0307\u0309\5v<\2\u0308\u0306\3\2\2\2\u0308\u0309\3\2\2\2\u0309"+
+		"\u0363\3\2\2\2\u030a\u030b\7\27\2\2\u030b\u030c\7;\2\2\u030c\u030d\5\u0084"+
+		"C\2\u030d\u030e\7<\2\2\u030e\u030f\5v<\2\u030f\u0363\3\2\2\2\u0310\u0311"+
+		"\7\64\2\2\u0311\u0312\5\u008aF\2\u0312\u0313\5v<\2\u0313\u0363\3\2\2\2"+
+		"\u0314\u0315\7\17\2\2\u0315\u0316\5v<\2\u0316\u0317\7\64\2\2\u0317\u0318"+
+		"\5\u008aF\2\u0318\u0319\7A\2\2\u0319\u0363\3\2\2\2\u031a\u031b\7\61\2"+
+		"\2\u031b\u0325\5n8\2\u031c\u031e\5x=\2\u031d\u031c\3\2\2\2\u031e\u031f"+
+		"\3\2\2\2\u031f\u031d\3\2\2\2\u031f\u0320\3\2\2\2\u0320\u0322\3\2\2\2\u0321"+
+		"\u0323\5z>\2\u0322\u0321\3\2\2\2\u0322\u0323\3\2\2\2\u0323\u0326\3\2\2"+
+		"\2\u0324\u0326\5z>\2\u0325\u031d\3\2\2\2\u0325\u0324\3\2\2\2\u0326\u0363"+
+		"\3\2\2\2\u0327\u0328\7\61\2\2\u0328\u0329\5|?\2\u0329\u032d\5n8\2\u032a"+
+		"\u032c\5x=\2\u032b\u032a\3\2\2\2\u032c\u032f\3\2\2\2\u032d\u032b\3\2\2"+
+		"\2\u032d\u032e\3\2\2\2\u032e\u0331\3\2\2\2\u032f\u032d\3\2\2\2\u0330\u0332"+
+		"\5z>\2\u0331\u0330\3\2\2\2\u0331\u0332\3\2\2\2\u0332\u0363\3\2\2\2\u0333"+
+		"\u0334\7+\2\2\u0334\u0335\5\u008aF\2\u0335\u0339\7=\2\2\u0336\u0338\5"+
+		"\u0080A\2\u0337\u0336\3\2\2\2\u0338\u033b\3\2\2\2\u0339\u0337\3\2\2\2"+
+		"\u0339\u033a\3\2\2\2\u033a\u033f\3\2\2\2\u033b\u0339\3\2\2\2\u033c\u033e"+
+		"\5\u0082B\2\u033d\u033c\3\2\2\2\u033e\u0341\3\2\2\2\u033f\u033d\3\2\2"+
+		"\2\u033f\u0340\3\2\2\2\u0340\u0342\3\2\2\2\u0341\u033f\3\2\2\2\u0342\u0343"+
+		"\7>\2\2\u0343\u0363\3\2\2\2\u0344\u0345\7,\2\2\u0345\u0346\5\u008aF\2"+
+		"\u0346\u0347\5n8\2\u0347\u0363\3\2\2\2\u0348\u034a\7&\2\2\u0349\u034b"+
+		"\5\u0090I\2\u034a\u0349\3\2\2\2\u034a\u034b\3\2\2\2\u034b\u034c\3\2\2"+
+		"\2\u034c\u0363\7A\2\2\u034d\u034e\7.\2\2\u034e\u034f\5\u0090I\2\u034f"+
+		"\u0350\7A\2\2\u0350\u0363\3\2\2\2\u0351\u0353\7\6\2\2\u0352\u0354\7h\2"+
+		"\2\u0353\u0352\3\2\2\2\u0353\u0354\3\2\2\2\u0354\u0355\3\2\2\2\u0355\u0363"+
+		"\7A\2\2\u0356\u0358\7\r\2\2\u0357\u0359\7h\2\2\u0358\u0357\3\2\2\2\u0358"+
+		"\u0359\3\2\2\2\u0359\u035a\3\2\2\2\u035a\u0363\7A\2\2\u035b\u0363\7A\2"+
+		"\2\u035c\u035d\5\u0090I\2\u035d\u035e\7A\2\2\u035e\u0363\3\2\2\2\u035f"+
+		"\u0360\7h\2\2\u0360\u0361\7J\2\2\u0361\u0363\5v<\2\u0362\u02fa\3\2\2\2"+
+		"\u0362\u02fb\3\2\2\2\u0362\u0303\3\2\2\2\u0362\u030a\3\2\2\2\u0362\u0310"+
+		"\3\2\2\2\u0362\u0314\3\2\2\2\u0362\u031a\3\2\2\2\u0362\u0327\3\2\2\2\u0362"+
+		"\u0333\3\2\2\2\u0362\u0344\3\2\2\2\u0362\u0348\3\2\2\2\u0362\u034d\3\2"+
+		"\2\2\u0362\u0351\3\2\2\2\u0362\u0356\3\2\2\2\u0362\u035b\3\2\2\2\u0362"+
+		"\u035c\3\2\2\2\u0362\u035f\3\2\2\2\u0363w\3\2\2\2\u0364\u0365\7\t\2\2"+
+		"\u0365\u0369\7;\2\2\u0366\u0368\5\16\b\2\u0367\u0366\3\2\2\2\u0368\u036b"+
+		"\3\2\2\2\u0369\u0367\3\2\2\2\u0369\u036a\3\2\2\2\u036a\u036c\3\2\2\2\u036b"+
+		"\u0369\3\2\2\2\u036c\u0371\5R*\2\u036d\u036e\7X\2\2\u036e\u0370\5R*\2"+
+		"\u036f\u036d\3\2\2\2\u0370\u0373\3\2\2\2\u0371\u036f\3\2\2\2\u0371\u0372"+
+		"\3\2\2\2\u0372\u0374\3\2\2\2\u0373\u0371\3\2\2\2\u0374\u0375\7h\2\2\u0375"+
+		"\u0376\7<\2\2\u0376\u0377\5n8\2\u0377y\3\2\2\2\u0378\u0379\7\25\2\2\u0379"+
+		"\u037a\5n8\2\u037a{\3\2\2\2\u037b\u037c\7;\2\2\u037c\u0381\5~@\2\u037d"+
+		"\u037e\7A\2\2\u037e\u0380\5~@\2\u037f\u037d\3\2\2\2\u0380\u0383\3\2\2"+
+		"\2\u0381\u037f\3\2\2\2\u0381\u0382\3\2\2\2\u0382\u0385\3\2\2\2\u0383\u0381"+
+		"\3\2\2\2\u0384\u0386\7A\2\2\u0385\u0384\3\2\2\2\u0385\u0386\3\2\2\2\u0386"+
+		"\u0387\3\2\2\2\u0387\u0388\7<\2\2\u0388}\3\2\2\2\u0389\u038b\5\16\b\2"+
+		"\u038a\u0389\3\2\2\2\u038b\u038e\3\2\2\2\u038c\u038a\3\2\2\2\u038c\u038d"+
+		"\3\2\2\2\u038d\u038f\3\2\2\2\u038e\u038c\3\2\2\2\u038f\u0390\5D#\2\u0390"+
+		"\u0391\5> \2\u0391\u0392\7D\2\2\u0392\u0393\5\u0090I\2\u0393\177\3\2\2"+
+		"\2\u0394\u0396\5\u0082B\2\u0395\u0394\3\2\2\2\u0396\u0397\3\2\2\2\u0397"+
+		"\u0395\3\2\2\2\u0397\u0398\3\2\2\2\u0398\u039a\3\2\2\2\u0399\u039b\5p"+
+		"9\2\u039a\u0399\3\2\2\2\u039b\u039c\3\2\2\2\u039c\u039a\3\2\2\2\u039c"+
+		"\u039d\3\2\2\2\u039d\u0081\3\2\2\2\u039e\u039f\7\b\2\2\u039f\u03a0\5\u0090"+
+		"I\2\u03a0\u03a1\7J\2\2\u03a1\u03a5\3\2\2\2\u03a2\u03a3\7\16\2\2\u03a3"+
+		"\u03a5\7J\2\2\u03a4\u039e\3\2\2\2\u03a4\u03a2\3\2\2\2\u03a5\u0083\3\2"+
+		"\2\2\u03a6\u03b3\5\u0088E\2\u03a7\u03a9\5\u0086D\2\u03a8\u03a7\3\2\2\2"+
+		"\u03a8\u03a9\3\2\2\2\u03a9\u03aa\3\2\2\2\u03aa\u03ac\7A\2\2\u03ab\u03ad"+
+		"\5\u0090I\2\u03ac\u03ab\3\2\2\2\u03ac\u03ad\3\2\2\2\u03ad\u03ae\3\2\2"+
+		"\2\u03ae\u03b0\7A\2\2\u03af\u03b1\5\u008cG\2\u03b0\u03af\3\2\2\2\u03b0"+
+		"\u03b1\3\2\2\2\u03b1\u03b3\3\2\2\2\u03b2\u03a6\3\2\2\2\u03b2\u03a8\3\2"+
+		"\2\2\u03b3\u0085\3\2\2\2\u03b4\u03b7\5r:\2\u03b5\u03b7\5\u008cG\2\u03b6"+
+		"\u03b4\3\2\2\2\u03b6\u03b5\3\2\2\2\u03b7\u0087\3\2\2\2\u03b8\u03ba\5\16"+
+		"\b\2\u03b9\u03b8\3\2\2\2\u03ba\u03bd\3\2\2\2\u03bb\u03b9\3\2\2\2\u03bb"+
+		"\u03bc\3\2\2\2\u03bc\u03be\3\2\2\2\u03bd\u03bb\3\2\2\2\u03be\u03bf\5\u00ac"+
+		"W\2\u03bf\u03c0\5> \2\u03c0\u03c1\7J\2\2\u03c1\u03c2\5\u0090I\2\u03c2"+
+		"\u0089\3\2\2\2\u03c3\u03c4\7;\2\2\u03c4\u03c5\5\u0090I\2\u03c5\u03c6\7"+
+		"<\2\2\u03c6\u008b\3\2\2\2\u03c7\u03cc\5\u0090I\2\u03c8\u03c9\7B\2\2\u03c9"+
+		"\u03cb\5\u0090I\2\u03ca\u03c8\3\2\2\2\u03cb\u03ce\3\2\2\2\u03cc\u03ca"+
+		"\3\2\2\2\u03cc\u03cd\3\2\2\2\u03cd\u008d\3\2\2\2\u03ce\u03cc\3\2\2\2\u03cf"+
+		"\u03d0\7h\2\2\u03d0\u03d6\5\u00b6\\\2\u03d1\u03d2\7-\2\2\u03d2\u03d6\5"+
+		"\u00b6\\\2\u03d3\u03d4\7*\2\2\u03d4\u03d6\5\u00b6\\\2\u03d5\u03cf\3\2"+
+		"\2\2\u03d5\u03d1\3\2\2\2\u03d5\u03d3\3\2\2\2\u03d6\u008f\3\2\2\2\u03d7"+
+		"\u03d8\bI\1\2\u03d8\u03fd\5\u0098M\2\u03d9\u03fd\5\u008eH\2\u03da\u03db"+
+		"\7!\2\2\u03db\u03fd\5\u009aN\2\u03dc\u03e0\7;\2\2\u03dd\u03df\5V,\2\u03de"+
+		"\u03dd\3\2\2\2\u03df\u03e2\3\2\2\2\u03e0\u03de\3\2\2\2\u03e0\u03e1\3\2"+
+		"\2\2\u03e1\u03e3\3\2\2\2\u03e2\u03e0\3\2\2\2\u03e3\u03e8\5\u00acW\2\u03e4"+
+		"\u03e5\7W\2\2\u03e5\u03e7\5\u00acW\2\u03e6\u03e4\3\2\2\2\u03e7\u03ea\3"+
+		"\2\2\2\u03e8\u03e6\3\2\2\2\u03e8\u03e9\3\2\2\2\u03e9\u03eb\3\2\2\2\u03ea"+
+		"\u03e8\3\2\2\2\u03eb\u03ec\7<\2\2\u03ec\u03ed\5\u0090I\26\u03ed\u03fd"+
+		"\3\2\2\2\u03ee\u03ef\t\4\2\2\u03ef\u03fd\5\u0090I\24\u03f0\u03f1\t\5\2"+
+		"\2\u03f1\u03fd\5\u0090I\23\u03f2\u03fd\5\u0092J\2\u03f3\u03f4\5\u00ac"+
+		"W\2\u03f4\u03fa\7\\\2\2\u03f5\u03f7\5\u00b0Y\2\u03f6\u03f5\3\2\2\2\u03f6"+
+		"\u03f7\3\2\2\2\u03f7\u03f8\3\2\2\2\u03f8\u03fb\7h\2\2\u03f9\u03fb\7!\2"+
+		"\2\u03fa\u03f6\3\2\2\2\u03fa\u03f9\3\2\2\2\u03fb\u03fd\3\2\2\2\u03fc\u03d7"+
+		"\3\2\2\2\u03fc\u03d9\3\2\2\2\u03fc\u03da\3\2\2\2\u03fc\u03dc\3\2\2\2\u03fc"+
+		"\u03ee\3\2\2\2\u03fc\u03f0\3\2\2\2\u03fc\u03f2\3\2\2\2\u03fc\u03f3\3\2"+
+		"\2\2\u03fd\u0450\3\2\2\2\u03fe\u03ff\f\22\2\2\u03ff\u0400\t\6\2\2\u0400"+
+		"\u044f\5\u0090I\23\u0401\u0402\f\21\2\2\u0402\u0403\t\7\2\2\u0403\u044f"+
+		"\5\u0090I\22\u0404\u040c\f\20\2\2\u0405\u0406\7F\2\2\u0406\u040d\7F\2"+
+		"\2\u0407\u0408\7E\2\2\u0408\u0409\7E\2\2\u0409\u040d\7E\2\2\u040a\u040b"+
+		"\7E\2\2\u040b\u040d\7E\2\2\u040c\u0405\3\2\2\2\u040c\u0407\3\2\2\2\u040c"+
+		"\u040a\3\2\2\2\u040d\u040e\3\2\2\2\u040e\u044f\5\u0090I\21\u040f\u0410"+
+		"\f\17\2\2\u0410\u0411\t\b\2\2\u0411\u044f\5\u0090I\20\u0412\u0413\f\r"+
+		"\2\2\u0413\u0414\t\t\2\2\u0414\u044f\5\u0090I\16\u0415\u0416\f\f\2\2\u0416"+
+		"\u0417\7W\2\2\u0417\u044f\5\u0090I\r\u0418\u0419\f\13\2\2\u0419\u041a"+
+		"\7Y\2\2\u041a\u044f\5\u0090I\f\u041b\u041c\f\n\2\2\u041c\u041d\7X\2\2"+
+		"\u041d\u044f\5\u0090I\13\u041e\u041f\f\t\2\2\u041f\u0420\7O\2\2\u0420"+
+		"\u044f\5\u0090I\n\u0421\u0422\f\b\2\2\u0422\u0423\7P\2\2\u0423\u044f\5"+
+		"\u0090I\t\u0424\u0425\f\7\2\2\u0425\u0426\7I\2\2\u0426\u0427\5\u0090I"+
+		"\2\u0427\u0428\7J\2\2\u0428\u0429\5\u0090I\7\u0429\u044f\3\2\2\2\u042a"+
+		"\u042b\f\6\2\2\u042b\u042c\t\n\2\2\u042c\u044f\5\u0090I\6\u042d\u042e"+
+		"\f\32\2\2\u042e\u043c\7C\2\2\u042f\u043d\7h\2\2\u0430\u043d\5\u008eH\2"+
+		"\u0431\u043d\7-\2\2\u0432\u0434\7!\2\2\u0433\u0435\5\u00a8U\2\u0434\u0433"+
+		"\3\2\2\2\u0434\u0435\3\2\2\2\u0435\u0436\3\2\2\2\u0436\u043d\5\u009eP"+
+		"\2\u0437\u0438\7*\2\2\u0438\u043d\5\u00b2Z\2\u0439\u043a\5\u00a8U\2\u043a"+
+		"\u043b\5\u00b4[\2\u043b\u043d\3\2\2\2\u043c\u042f\3\2\2\2\u043c\u0430"+
+		"\3\2\2\2\u043c\u0431\3\2\2\2\u043c\u0432\3\2\2\2\u043c\u0437\3\2\2\2\u043c"+
+		"\u0439\3\2\2\2\u043d\u044f\3\2\2\2\u043e\u043f\f\31\2\2\u043f\u0440\7"+
+		"?\2\2\u0440\u0441\5\u0090I\2\u0441\u0442\7@\2\2\u0442\u044f\3\2\2\2\u0443"+
+		"\u0444\f\25\2\2\u0444\u044f\t\13\2\2\u0445\u0446\f\16\2\2\u0446\u0447"+
+		"\7\34\2\2\u0447\u044f\5\u00acW\2\u0448\u0449\f\4\2\2\u0449\u044b\7\\\2"+
+		"\2\u044a\u044c\5\u00b0Y\2\u044b\u044a\3\2\2\2\u044b\u044c\3\2\2\2\u044c"+
+		"\u044d\3\2\2\2\u044d\u044f\7h\2\2\u044e\u03fe\3\2\2\2\u044e\u0401\3\2"+
+		"\2\2\u044e\u0404\3\2\2\2\u044e\u040f\3\2\2\2\u044e\u0412\3\2\2\2\u044e"+
+		"\u0415\3\2\2\2\u044e\u0418\3\2\2\2\u044e\u041b\3\2\2\2\u044e\u041e\3\2"+
+		"\2\2\u044e\u0421\3\2\2\2\u044e\u0424\3\2\2\2\u044e\u042a\3\2\2\2\u044e"+
+		"\u042d\3\2\2\2\u044e\u043e\3\2\2\2\u044e\u0443\3\2\2\2\u044e\u0445\3\2"+
+		"\2\2\u044e\u0448\3\2\2\2\u044f\u0452\3\2\2\2\u0450\u044e\3\2\2\2\u0450"+
+		"\u0451\3\2\2\2\u0451\u0091\3\2\2\2\u0452\u0450\3\2\2\2\u0453\u0454\5\u0094"+
+		"K\2\u0454\u0455\7[\2\2\u0455\u0456\5\u0096L\2\u0456\u0093\3\2\2\2\u0457"+
+		"\u0468\7h\2\2\u0458\u045a\7;\2\2\u0459\u045b\5L\'\2\u045a\u0459\3\2\2"+
+		"\2\u045a\u045b\3\2\2\2\u045b\u045c\3\2\2\2\u045c\u0468\7<\2\2\u045d\u045e"+
+		"\7;\2\2\u045e\u0463\7h\2\2\u045f\u0460\7B\2\2\u0460\u0462\7h\2\2\u0461"+
+		"\u045f\3\2\2\2\u0462\u0465\3\2\2\2\u0463\u0461\3\2\2\2\u0463\u0464\3\2"+
+		"\2\2\u0464\u0466\3\2\2\2\u0465\u0463\3\2\2\2\u0466\u0468\7<\2\2\u0467"+
+		"\u0457\3\2\2\2\u0467\u0458\3\2\2\2\u0467\u045d\3\2\2\2\u0468\u0095\3\2"+
+		"\2\2\u0469\u046c\5\u0090I\2\u046a\u046c\5n8\2\u046b\u0469\3\2\2\2\u046b"+
+		"\u046a\3\2\2\2\u046c\u0097\3\2\2\2\u046d\u046e\7;\2\2\u046e\u046f\5\u0090"+
+		"I\2\u046f\u0470\7<\2\2\u0470\u0480\3\2\2\2\u0471\u0480\7-\2\2\u0472\u0480"+
+		"\7*\2\2\u0473\u0480\5T+\2\u0474\u0480\7h\2\2\u0475\u0476\5.\30\2\u0476"+
+		"\u0477\7C\2\2\u0477\u0478\7\13\2\2\u0478\u0480\3\2\2\2\u0479\u047d\5\u00a8"+
+		"U\2\u047a\u047e\5\u00b4[\2\u047b\u047c\7-\2\2\u047c\u047e\5\u00b6\\\2"+
+		"\u047d\u047a\3\2\2\2\u047d\u047b\3\2\2\2\u047e\u0480\3\2\2\2\u047f\u046d"+
+		"\3\2\2\2\u047f\u0471\3\2\2\2\u047f\u0472\3\2\2\2\u047f\u0473\3\2\2\2\u047f"+
+		"\u0474\3\2\2\2\u047f\u0475\3\2\2\2\u047f\u0479\3\2\2\2\u0480\u0099\3\2"+
+		"\2\2\u0481\u0482\5\u00a8U\2\u0482\u0483\5\u009cO\2\u0483\u0484\5\u00a2"+
+		"R\2\u0484\u048b\3\2\2\2\u0485\u0488\5\u009cO\2\u0486\u0489\5\u00a0Q\2"+
+		"\u0487\u0489\5\u00a2R\2\u0488\u0486\3\2\2\2\u0488\u0487\3\2\2\2\u0489"+
+		"\u048b\3\2\2\2\u048a\u0481\3\2\2\2\u048a\u0485\3\2\2\2\u048b\u009b\3\2"+
+		"\2\2\u048c\u048e\5V,\2\u048d\u048c\3\2\2\2\u048e\u0491\3\2\2\2\u048f\u048d"+
+		"\3\2\2\2\u048f\u0490\3\2\2\2\u0490\u0492\3\2\2\2\u0491\u048f\3\2\2\2\u0492"+
+		"\u0494\7h\2\2\u0493\u0495\5\u00a4S\2\u0494\u0493\3\2\2\2\u0494\u0495\3"+
+		"\2\2\2\u0495\u04a3\3\2\2\2\u0496\u049a\7C\2\2\u0497\u0499\5V,\2\u0498"+
+		"\u0497\3\2\2\2\u0499\u049c\3\2\2\2\u049a\u0498\3\2\2\2\u049a\u049b\3\2"+
+		"\2\2\u049b\u049d\3\2\2\2\u049c\u049a\3\2\2\2\u049d\u049f\7h\2\2\u049e"+
+		"\u04a0\5\u00a4S\2\u049f\u049e\3\2\2\2\u049f\u04a0\3\2\2\2\u04a0\u04a2"+
+		"\3\2\2\2\u04a1\u0496\3\2\2\2\u04a2\u04a5\3\2\2\2\u04a3\u04a1\3\2\2\2\u04a3"+
+		"\u04a4\3\2\2\2\u04a4\u04a8\3\2\2\2\u04a5\u04a3\3\2\2\2\u04a6\u04a8\5\u00ae"+
+		"X\2\u04a7\u048f\3\2\2\2\u04a7\u04a6\3\2\2\2\u04a8\u009d\3\2\2\2\u04a9"+
+		"\u04ab\5V,\2\u04aa\u04a9\3\2\2\2\u04ab\u04ae\3\2\2\2\u04ac\u04aa\3\2\2"+
+		"\2\u04ac\u04ad\3\2\2\2\u04ad\u04af\3\2\2\2\u04ae\u04ac\3\2\2\2\u04af\u04b1"+
+		"\7h\2\2\u04b0\u04b2\5\u00a6T\2\u04b1\u04b0\3\2\2\2\u04b1\u04b2\3\2\2\2"+
+		"\u04b2\u04b3\3\2\2\2\u04b3\u04b4\5\u00a2R\2\u04b4\u009f\3\2\2\2\u04b5"+
+		"\u04d1\7?\2\2\u04b6\u04bb\7@\2\2\u04b7\u04b8\7?\2\2\u04b8\u04ba\7@\2\2"+
+		"\u04b9\u04b7\3\2\2\2\u04ba\u04bd\3\2\2\2\u04bb\u04b9\3\2\2\2\u04bb\u04bc"+
+		"\3\2\2\2\u04bc\u04be\3\2\2\2\u04bd\u04bb\3\2\2\2\u04be\u04d2\5B\"\2\u04bf"+
+		"\u04c0\5\u0090I\2\u04c0\u04c7\7@\2\2\u04c1\u04c2\7?\2\2\u04c2\u04c3\5"+
+		"\u0090I\2\u04c3\u04c4\7@\2\2\u04c4\u04c6\3\2\2\2\u04c5\u04c1\3\2\2\2\u04c6"+
+		"\u04c9\3\2\2\2\u04c7\u04c5\3\2\2\2\u04c7\u04c8\3\2\2\2\u04c8\u04ce\3\2"+
+		"\2\2\u04c9\u04c7\3\2\2\2\u04ca\u04cb\7?\2\2\u04cb\u04cd\7@\2\2\u04cc\u04ca"+
+		"\3\2\2\2\u04cd\u04d0\3\2\2\2\u04ce\u04cc\3\2\2\2\u04ce\u04cf\3\2\2\2\u04cf"+
+		"\u04d2\3\2\2\2\u04d0\u04ce\3\2\2\2\u04d1\u04b6\3\2\2\2\u04d1\u04bf\3\2"+
+		"\2\2\u04d2\u00a1\3\2\2\2\u04d3\u04d5\5\u00b6\\\2\u04d4\u04d6\5\"\22\2"+
+		"\u04d5\u04d4\3\2\2\2\u04d5\u04d6\3\2\2\2\u04d6\u00a3\3\2\2\2\u04d7\u04d8"+
+		"\7F\2\2\u04d8\u04db\7E\2\2\u04d9\u04db\5\u00b0Y\2\u04da\u04d7\3\2\2\2"+
+		"\u04da\u04d9\3\2\2\2\u04db\u00a5\3\2\2\2\u04dc\u04dd\7F\2\2\u04dd\u04e0"+
+		"\7E\2\2\u04de\u04e0\5\u00a8U\2\u04df\u04dc\3\2\2\2\u04df\u04de\3\2\2\2"+
+		"\u04e0\u00a7\3\2\2\2\u04e1\u04e2\7F\2\2\u04e2\u04e3\5\u00aaV\2\u04e3\u04e4"+
+		"\7E\2\2\u04e4\u00a9\3\2\2\2\u04e5\u04ea\5\u00acW\2\u04e6\u04e7\7B\2\2"+
+		"\u04e7\u04e9\5\u00acW\2\u04e8\u04e6\3\2\2\2\u04e9\u04ec\3\2\2\2\u04ea"+
+		"\u04e8\3\2\2\2\u04ea\u04eb\3\2\2\2\u04eb\u00ab\3\2\2\2\u04ec\u04ea\3\2"+
+		"\2\2\u04ed\u04ef\5V,\2\u04ee\u04ed\3\2\2\2\u04ef\u04f2\3\2\2\2\u04f0\u04ee"+
+		"\3\2\2\2\u04f0\u04f1\3\2\2\2\u04f1\u04f5\3\2\2\2\u04f2\u04f0\3\2\2\2\u04f3"+
+		"\u04f6\5D#\2\u04f4\u04f6\5\u00aeX\2\u04f5\u04f3\3\2\2\2\u04f5\u04f4\3"+
+		"\2\2\2\u04f6\u0501\3\2\2\2\u04f7\u04f9\5V,\2\u04f8\u04f7\3\2\2\2\u04f9"+
+		"\u04fc\3\2\2\2\u04fa\u04f8\3\2\2\2\u04fa\u04fb\3\2\2\2\u04fb\u04fd\3\2"+
+		"\2\2\u04fc\u04fa\3\2\2\2\u04fd\u04fe\7?\2\2\u04fe\u0500\7@\2\2\u04ff\u04fa"+
+		"\3\2\2\2\u0500\u0503\3\2\2\2\u0501\u04ff\3\2\2\2\u0501\u0502\3\2\2\2\u0502"+
+		"\u00ad\3\2\2\2\u0503\u0501\3\2\2\2\u0504\u0505\t\f\2\2\u0505\u00af\3\2"+
+		"\2\2\u0506\u0507\7F\2\2\u0507\u050c\5F$\2\u0508\u0509\7B\2\2\u0509\u050b"+
+		"\5F$\2\u050a\u0508\3\2\2\2\u050b\u050e\3\2\2\2\u050c\u050a\3\2\2\2\u050c"+
+		"\u050d\3\2\2\2\u050d\u050f\3\2\2\2\u050e\u050c\3\2\2\2\u050f\u0510\7E"+
+		"\2\2\u0510\u00b1\3\2\2\2\u0511\u051b\5\u00b6\\\2\u0512\u0514\7C\2\2\u0513"+
+		"\u0515\5\u00b0Y\2\u0514\u0513\3\2\2\2\u0514\u0515\3\2\2\2\u0515\u0516"+
+		"\3\2\2\2\u0516\u0518\7h\2\2\u0517\u0519\5\u00b6\\\2\u0518\u0517\3\2\2"+
+		"\2\u0518\u0519\3\2\2\2\u0519\u051b\3\2\2\2\u051a\u0511\3\2\2\2\u051a\u0512"+
+		"\3\2\2\2\u051b\u00b3\3\2\2\2\u051c\u051d\7*\2\2\u051d\u0521\5\u00b2Z\2"+
+		"\u051e\u051f\7h\2\2\u051f\u0521\5\u00b6\\\2\u0520\u051c\3\2\2\2\u0520"+
+		"\u051e\3\2\2\2\u0521\u00b5\3\2\2\2\u0522\u0524\7;\2\2\u0523\u0525\5\u008c"+
+		"G\2\u0524\u0523\3\2\2\2\u0524\u0525\3\2\2\2\u0525\u0526\3\2\2\2\u0526"+
+		"\u0527\7<\2\2\u0527\u00b7\3\2\2\2\u00ab\u00b9\u00be\u00c4\u00cc\u00d5"+
+		"\u00da\u00e1\u00e8\u00eb\u00f2\u00fd\u0101\u0106\u010a\u010e\u0118\u0120"+
+		"\u0126\u012d\u0134\u0138\u013b\u013e\u0147\u014d\u0152\u0155\u015b\u0161"+
+		"\u0165\u016d\u0176\u017d\u0183\u0187\u0190\u0193\u019c\u01a1\u01a7\u01ab"+
+		"\u01ae\u01b4\u01bf\u01c4\u01cc\u01d7\u01dd\u01e4\u01e9\u01f1\u01f5\u01f7"+
+		"\u01fd\u0203\u0208\u020c\u0213\u0219\u021b\u0222\u0227\u0230\u0235\u0238"+
+		"\u023d\u0246\u024a\u024f\u0256\u0261\u026b\u026e\u0275\u027f\u0287\u028a"+
+		"\u028d\u029a\u02a2\u02a7\u02af\u02b3\u02b7\u02bb\u02bd\u02c1\u02ca\u02cf"+
+		"\u02d7\u02e1\u02e6\u02f0\u02f2\u02f8\u02ff\u0308\u031f\u0322\u0325\u032d"+
+		"\u0331\u0339\u033f\u034a\u0353\u0358\u0362\u0369\u0371\u0381\u0385\u038c"+
+		"\u0397\u039c\u03a4\u03a8\u03ac\u03b0\u03b2\u03b6\u03bb\u03cc\u03d5\u03e0"+
+		"\u03e8\u03f6\u03fa\u03fc\u040c\u0434\u043c\u044b\u044e\u0450\u045a\u0463"+
+		"\u0467\u046b\u047d\u047f\u0488\u048a\u048f\u0494\u049a\u049f\u04a3\u04a7"+
+		"\u04ac\u04b1\u04bb\u04c7\u04ce\u04d1\u04d5\u04da\u04df\u04ea\u04f0\u04f5"+
+		"\u04fa\u0501\u050c\u0514\u0518\u051a\u0520\u0524";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
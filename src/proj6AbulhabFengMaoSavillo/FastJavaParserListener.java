@@ -0,0 +1,920 @@
+// Generated from FastJavaParser.g4 by ANTLR 4.7.1
+package proj6AbulhabFengMaoSavillo;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link FastJavaParser}.
+ */
+public interface FastJavaParserListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#compilationUnit}.
+	 * @param ctx the parse tree
+	 */
+	void enterCompilationUnit(FastJavaParser.CompilationUnitContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#compilationUnit}.
+	 * @param ctx the parse tree
+	 */
+	void exitCompilationUnit(FastJavaParser.CompilationUnitContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#packageDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterPackageDeclaration(FastJavaParser.PackageDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#packageDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitPackageDeclaration(FastJavaParser.PackageDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#importDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterImportDeclaration(FastJavaParser.ImportDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#importDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitImportDeclaration(FastJavaParser.ImportDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeDeclaration(FastJavaParser.TypeDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeDeclaration(FastJavaParser.TypeDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#modifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterModifier(FastJavaParser.ModifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#modifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitModifier(FastJavaParser.ModifierContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#classOrInterfaceModifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassOrInterfaceModifier(FastJavaParser.ClassOrInterfaceModifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#classOrInterfaceModifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassOrInterfaceModifier(FastJavaParser.ClassOrInterfaceModifierContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#variableModifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterVariableModifier(FastJavaParser.VariableModifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#variableModifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitVariableModifier(FastJavaParser.VariableModifierContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#classDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassDeclaration(FastJavaParser.ClassDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#classDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassDeclaration(FastJavaParser.ClassDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeParameters}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeParameters(FastJavaParser.TypeParametersContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeParameters}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeParameters(FastJavaParser.TypeParametersContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeParameter}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeParameter(FastJavaParser.TypeParameterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeParameter}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeParameter(FastJavaParser.TypeParameterContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeBound}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeBound(FastJavaParser.TypeBoundContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeBound}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeBound(FastJavaParser.TypeBoundContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#enumDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnumDeclaration(FastJavaParser.EnumDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#enumDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnumDeclaration(FastJavaParser.EnumDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#enumConstants}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnumConstants(FastJavaParser.EnumConstantsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#enumConstants}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnumConstants(FastJavaParser.EnumConstantsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#enumConstant}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnumConstant(FastJavaParser.EnumConstantContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#enumConstant}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnumConstant(FastJavaParser.EnumConstantContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#enumBodyDeclarations}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnumBodyDeclarations(FastJavaParser.EnumBodyDeclarationsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#enumBodyDeclarations}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnumBodyDeclarations(FastJavaParser.EnumBodyDeclarationsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#interfaceDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterInterfaceDeclaration(FastJavaParser.InterfaceDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#interfaceDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitInterfaceDeclaration(FastJavaParser.InterfaceDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#classBody}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassBody(FastJavaParser.ClassBodyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#classBody}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassBody(FastJavaParser.ClassBodyContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#interfaceBody}.
+	 * @param ctx the parse tree
+	 */
+	void enterInterfaceBody(FastJavaParser.InterfaceBodyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#interfaceBody}.
+	 * @param ctx the parse tree
+	 */
+	void exitInterfaceBody(FastJavaParser.InterfaceBodyContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#classBodyDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassBodyDeclaration(FastJavaParser.ClassBodyDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#classBodyDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassBodyDeclaration(FastJavaParser.ClassBodyDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#memberDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterMemberDeclaration(FastJavaParser.MemberDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#memberDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitMemberDeclaration(FastJavaParser.MemberDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#methodDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodDeclaration(FastJavaParser.MethodDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#methodDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodDeclaration(FastJavaParser.MethodDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#methodBody}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodBody(FastJavaParser.MethodBodyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#methodBody}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodBody(FastJavaParser.MethodBodyContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeTypeOrVoid}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeTypeOrVoid(FastJavaParser.TypeTypeOrVoidContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeTypeOrVoid}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeTypeOrVoid(FastJavaParser.TypeTypeOrVoidContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#constructorDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterConstructorDeclaration(FastJavaParser.ConstructorDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#constructorDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitConstructorDeclaration(FastJavaParser.ConstructorDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#fieldDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterFieldDeclaration(FastJavaParser.FieldDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#fieldDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitFieldDeclaration(FastJavaParser.FieldDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#interfaceBodyDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterInterfaceBodyDeclaration(FastJavaParser.InterfaceBodyDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#interfaceBodyDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitInterfaceBodyDeclaration(FastJavaParser.InterfaceBodyDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#interfaceMemberDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterInterfaceMemberDeclaration(FastJavaParser.InterfaceMemberDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#interfaceMemberDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitInterfaceMemberDeclaration(FastJavaParser.InterfaceMemberDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#constantDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterConstantDeclaration(FastJavaParser.ConstantDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#constantDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitConstantDeclaration(FastJavaParser.ConstantDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#variableDeclarators}.
+	 * @param ctx the parse tree
+	 */
+	void enterVariableDeclarators(FastJavaParser.VariableDeclaratorsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#variableDeclarators}.
+	 * @param ctx the parse tree
+	 */
+	void exitVariableDeclarators(FastJavaParser.VariableDeclaratorsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#variableDeclarator}.
+	 * @param ctx the parse tree
+	 */
+	void enterVariableDeclarator(FastJavaParser.VariableDeclaratorContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#variableDeclarator}.
+	 * @param ctx the parse tree
+	 */
+	void exitVariableDeclarator(FastJavaParser.VariableDeclaratorContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#variableDeclaratorId}.
+	 * @param ctx the parse tree
+	 */
+	void enterVariableDeclaratorId(FastJavaParser.VariableDeclaratorIdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#variableDeclaratorId}.
+	 * @param ctx the parse tree
+	 */
+	void exitVariableDeclaratorId(FastJavaParser.VariableDeclaratorIdContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#variableInitializer}.
+	 * @param ctx the parse tree
+	 */
+	void enterVariableInitializer(FastJavaParser.VariableInitializerContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#variableInitializer}.
+	 * @param ctx the parse tree
+	 */
+	void exitVariableInitializer(FastJavaParser.VariableInitializerContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#arrayInitializer}.
+	 * @param ctx the parse tree
+	 */
+	void enterArrayInitializer(FastJavaParser.ArrayInitializerContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#arrayInitializer}.
+	 * @param ctx the parse tree
+	 */
+	void exitArrayInitializer(FastJavaParser.ArrayInitializerContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#classOrInterfaceType}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassOrInterfaceType(FastJavaParser.ClassOrInterfaceTypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#classOrInterfaceType}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassOrInterfaceType(FastJavaParser.ClassOrInterfaceTypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeArgument}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeArgument(FastJavaParser.TypeArgumentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeArgument}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeArgument(FastJavaParser.TypeArgumentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#qualifiedNameList}.
+	 * @param ctx the parse tree
+	 */
+	void enterQualifiedNameList(FastJavaParser.QualifiedNameListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#qualifiedNameList}.
+	 * @param ctx the parse tree
+	 */
+	void exitQualifiedNameList(FastJavaParser.QualifiedNameListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#formalParameters}.
+	 * @param ctx the parse tree
+	 */
+	void enterFormalParameters(FastJavaParser.FormalParametersContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#formalParameters}.
+	 * @param ctx the parse tree
+	 */
+	void exitFormalParameters(FastJavaParser.FormalParametersContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#formalParameterList}.
+	 * @param ctx the parse tree
+	 */
+	void enterFormalParameterList(FastJavaParser.FormalParameterListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#formalParameterList}.
+	 * @param ctx the parse tree
+	 */
+	void exitFormalParameterList(FastJavaParser.FormalParameterListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#formalParameter}.
+	 * @param ctx the parse tree
+	 */
+	void enterFormalParameter(FastJavaParser.FormalParameterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#formalParameter}.
+	 * @param ctx the parse tree
+	 */
+	void exitFormalParameter(FastJavaParser.FormalParameterContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#lastFormalParameter}.
+	 * @param ctx the parse tree
+	 */
+	void enterLastFormalParameter(FastJavaParser.LastFormalParameterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#lastFormalParameter}.
+	 * @param ctx the parse tree
+	 */
+	void exitLastFormalParameter(FastJavaParser.LastFormalParameterContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#qualifiedName}.
+	 * @param ctx the parse tree
+	 */
+	void enterQualifiedName(FastJavaParser.QualifiedNameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#qualifiedName}.
+	 * @param ctx the parse tree
+	 */
+	void exitQualifiedName(FastJavaParser.QualifiedNameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#literal}.
+	 * @param ctx the parse tree
+	 */
+	void enterLiteral(FastJavaParser.LiteralContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#literal}.
+	 * @param ctx the parse tree
+	 */
+	void exitLiteral(FastJavaParser.LiteralContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotation}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotation(FastJavaParser.AnnotationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotation}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotation(FastJavaParser.AnnotationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#elementValuePairs}.
+	 * @param ctx the parse tree
+	 */
+	void enterElementValuePairs(FastJavaParser.ElementValuePairsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#elementValuePairs}.
+	 * @param ctx the parse tree
+	 */
+	void exitElementValuePairs(FastJavaParser.ElementValuePairsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#elementValuePair}.
+	 * @param ctx the parse tree
+	 */
+	void enterElementValuePair(FastJavaParser.ElementValuePairContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#elementValuePair}.
+	 * @param ctx the parse tree
+	 */
+	void exitElementValuePair(FastJavaParser.ElementValuePairContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#elementValue}.
+	 * @param ctx the parse tree
+	 */
+	void enterElementValue(FastJavaParser.ElementValueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#elementValue}.
+	 * @param ctx the parse tree
+	 */
+	void exitElementValue(FastJavaParser.ElementValueContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#elementValueArrayInitializer}.
+	 * @param ctx the parse tree
+	 */
+	void enterElementValueArrayInitializer(FastJavaParser.ElementValueArrayInitializerContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#elementValueArrayInitializer}.
+	 * @param ctx the parse tree
+	 */
+	void exitElementValueArrayInitializer(FastJavaParser.ElementValueArrayInitializerContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationTypeDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationTypeDeclaration(FastJavaParser.AnnotationTypeDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationTypeDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationTypeDeclaration(FastJavaParser.AnnotationTypeDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationTypeBody}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationTypeBody(FastJavaParser.AnnotationTypeBodyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationTypeBody}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationTypeBody(FastJavaParser.AnnotationTypeBodyContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationTypeElementDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationTypeElementDeclaration(FastJavaParser.AnnotationTypeElementDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationTypeElementDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationTypeElementDeclaration(FastJavaParser.AnnotationTypeElementDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationTypeElementRest}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationTypeElementRest(FastJavaParser.AnnotationTypeElementRestContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationTypeElementRest}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationTypeElementRest(FastJavaParser.AnnotationTypeElementRestContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationMethodOrConstantRest}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationMethodOrConstantRest(FastJavaParser.AnnotationMethodOrConstantRestContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationMethodOrConstantRest}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationMethodOrConstantRest(FastJavaParser.AnnotationMethodOrConstantRestContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationMethodRest}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationMethodRest(FastJavaParser.AnnotationMethodRestContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationMethodRest}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationMethodRest(FastJavaParser.AnnotationMethodRestContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#annotationConstantRest}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnnotationConstantRest(FastJavaParser.AnnotationConstantRestContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#annotationConstantRest}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnnotationConstantRest(FastJavaParser.AnnotationConstantRestContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#block}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlock(FastJavaParser.BlockContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#block}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlock(FastJavaParser.BlockContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#blockStatement}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlockStatement(FastJavaParser.BlockStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#blockStatement}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlockStatement(FastJavaParser.BlockStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#localVariableDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterLocalVariableDeclaration(FastJavaParser.LocalVariableDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#localVariableDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitLocalVariableDeclaration(FastJavaParser.LocalVariableDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#localTypeDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterLocalTypeDeclaration(FastJavaParser.LocalTypeDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#localTypeDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitLocalTypeDeclaration(FastJavaParser.LocalTypeDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatement(FastJavaParser.StatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatement(FastJavaParser.StatementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#catchClause}.
+	 * @param ctx the parse tree
+	 */
+	void enterCatchClause(FastJavaParser.CatchClauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#catchClause}.
+	 * @param ctx the parse tree
+	 */
+	void exitCatchClause(FastJavaParser.CatchClauseContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#finallyBlock}.
+	 * @param ctx the parse tree
+	 */
+	void enterFinallyBlock(FastJavaParser.FinallyBlockContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#finallyBlock}.
+	 * @param ctx the parse tree
+	 */
+	void exitFinallyBlock(FastJavaParser.FinallyBlockContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#resourceSpecification}.
+	 * @param ctx the parse tree
+	 */
+	void enterResourceSpecification(FastJavaParser.ResourceSpecificationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#resourceSpecification}.
+	 * @param ctx the parse tree
+	 */
+	void exitResourceSpecification(FastJavaParser.ResourceSpecificationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#resource}.
+	 * @param ctx the parse tree
+	 */
+	void enterResource(FastJavaParser.ResourceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#resource}.
+	 * @param ctx the parse tree
+	 */
+	void exitResource(FastJavaParser.ResourceContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#switchBlockStatementGroup}.
+	 * @param ctx the parse tree
+	 */
+	void enterSwitchBlockStatementGroup(FastJavaParser.SwitchBlockStatementGroupContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#switchBlockStatementGroup}.
+	 * @param ctx the parse tree
+	 */
+	void exitSwitchBlockStatementGroup(FastJavaParser.SwitchBlockStatementGroupContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#switchLabel}.
+	 * @param ctx the parse tree
+	 */
+	void enterSwitchLabel(FastJavaParser.SwitchLabelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#switchLabel}.
+	 * @param ctx the parse tree
+	 */
+	void exitSwitchLabel(FastJavaParser.SwitchLabelContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#forControl}.
+	 * @param ctx the parse tree
+	 */
+	void enterForControl(FastJavaParser.ForControlContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#forControl}.
+	 * @param ctx the parse tree
+	 */
+	void exitForControl(FastJavaParser.ForControlContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#forInit}.
+	 * @param ctx the parse tree
+	 */
+	void enterForInit(FastJavaParser.ForInitContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#forInit}.
+	 * @param ctx the parse tree
+	 */
+	void exitForInit(FastJavaParser.ForInitContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#enhancedForControl}.
+	 * @param ctx the parse tree
+	 */
+	void enterEnhancedForControl(FastJavaParser.EnhancedForControlContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#enhancedForControl}.
+	 * @param ctx the parse tree
+	 */
+	void exitEnhancedForControl(FastJavaParser.EnhancedForControlContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#parExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterParExpression(FastJavaParser.ParExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#parExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitParExpression(FastJavaParser.ParExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#expressionList}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionList(FastJavaParser.ExpressionListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#expressionList}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionList(FastJavaParser.ExpressionListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#methodCall}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodCall(FastJavaParser.MethodCallContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#methodCall}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodCall(FastJavaParser.MethodCallContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpression(FastJavaParser.ExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpression(FastJavaParser.ExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#lambdaExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterLambdaExpression(FastJavaParser.LambdaExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#lambdaExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitLambdaExpression(FastJavaParser.LambdaExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#lambdaParameters}.
+	 * @param ctx the parse tree
+	 */
+	void enterLambdaParameters(FastJavaParser.LambdaParametersContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#lambdaParameters}.
+	 * @param ctx the parse tree
+	 */
+	void exitLambdaParameters(FastJavaParser.LambdaParametersContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#lambdaBody}.
+	 * @param ctx the parse tree
+	 */
+	void enterLambdaBody(FastJavaParser.LambdaBodyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#lambdaBody}.
+	 * @param ctx the parse tree
+	 */
+	void exitLambdaBody(FastJavaParser.LambdaBodyContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#primary}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrimary(FastJavaParser.PrimaryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#primary}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrimary(FastJavaParser.PrimaryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#creator}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreator(FastJavaParser.CreatorContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#creator}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreator(FastJavaParser.CreatorContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#createdName}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreatedName(FastJavaParser.CreatedNameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#createdName}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreatedName(FastJavaParser.CreatedNameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#innerCreator}.
+	 * @param ctx the parse tree
+	 */
+	void enterInnerCreator(FastJavaParser.InnerCreatorContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#innerCreator}.
+	 * @param ctx the parse tree
+	 */
+	void exitInnerCreator(FastJavaParser.InnerCreatorContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#arrayCreatorRest}.
+	 * @param ctx the parse tree
+	 */
+	void enterArrayCreatorRest(FastJavaParser.ArrayCreatorRestContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#arrayCreatorRest}.
+	 * @param ctx the parse tree
+	 */
+	void exitArrayCreatorRest(FastJavaParser.ArrayCreatorRestContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#classCreatorRest}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassCreatorRest(FastJavaParser.ClassCreatorRestContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#classCreatorRest}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassCreatorRest(FastJavaParser.ClassCreatorRestContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeArgumentsOrDiamond}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeArgumentsOrDiamond(FastJavaParser.TypeArgumentsOrDiamondContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeArgumentsOrDiamond}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeArgumentsOrDiamond(FastJavaParser.TypeArgumentsOrDiamondContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#nonWildcardTypeArgumentsOrDiamond}.
+	 * @param ctx the parse tree
+	 */
+	void enterNonWildcardTypeArgumentsOrDiamond(FastJavaParser.NonWildcardTypeArgumentsOrDiamondContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#nonWildcardTypeArgumentsOrDiamond}.
+	 * @param ctx the parse tree
+	 */
+	void exitNonWildcardTypeArgumentsOrDiamond(FastJavaParser.NonWildcardTypeArgumentsOrDiamondContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#nonWildcardTypeArguments}.
+	 * @param ctx the parse tree
+	 */
+	void enterNonWildcardTypeArguments(FastJavaParser.NonWildcardTypeArgumentsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#nonWildcardTypeArguments}.
+	 * @param ctx the parse tree
+	 */
+	void exitNonWildcardTypeArguments(FastJavaParser.NonWildcardTypeArgumentsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeList}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeList(FastJavaParser.TypeListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeList}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeList(FastJavaParser.TypeListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeType}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeType(FastJavaParser.TypeTypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeType}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeType(FastJavaParser.TypeTypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#primitiveType}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrimitiveType(FastJavaParser.PrimitiveTypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#primitiveType}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrimitiveType(FastJavaParser.PrimitiveTypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#typeArguments}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeArguments(FastJavaParser.TypeArgumentsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#typeArguments}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeArguments(FastJavaParser.TypeArgumentsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#superSuffix}.
+	 * @param ctx the parse tree
+	 */
+	void enterSuperSuffix(FastJavaParser.SuperSuffixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#superSuffix}.
+	 * @param ctx the parse tree
+	 */
+	void exitSuperSuffix(FastJavaParser.SuperSuffixContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#explicitGenericInvocationSuffix}.
+	 * @param ctx the parse tree
+	 */
+	void enterExplicitGenericInvocationSuffix(FastJavaParser.ExplicitGenericInvocationSuffixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#explicitGenericInvocationSuffix}.
+	 * @param ctx the parse tree
+	 */
+	void exitExplicitGenericInvocationSuffix(FastJavaParser.ExplicitGenericInvocationSuffixContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link FastJavaParser#arguments}.
+	 * @param ctx the parse tree
+	 */
+	void enterArguments(FastJavaParser.ArgumentsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link FastJavaParser#arguments}.
+	 * @param ctx the parse tree
+	 */
+	void exitArguments(FastJavaParser.ArgumentsContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+/*
+ * File: FastStructureParser.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the FastStructureParser class, which parses Java code
+ * into an outline of its classes, fields and methods with the parser of the
+ * FastJavaParser grammar.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parses Java code with the FastJavaParser, generated from a grammar tuned
+ * for speed, and walks the parse tree to build the same outline of its
+ * classes, fields and methods as the StructureParser builds with the
+ * Java8Parser: the same declarations, with the same names, lines and
+ * columns, in the same order.
+ * Like the StructureParser, the code is first parsed with SLL prediction,
+ * bailing out at the first syntax error, and only then with full LL
+ * prediction and the default error recovery. The stage that succeeded and
+ * the time spent in each is kept for the last parse.
+ * The parsers share the prediction caches of the generated parser, which
+ * are never cleared.
+ * Safe to use from any thread, but parses one file at a time.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class FastStructureParser
+{
+    /**
+     * walks the parse trees
+     */
+    private final ParseTreeWalker walker;
+    /**
+     * statistics of the last parse, null before the first
+     */
+    private volatile StructureParser.Statistics lastStatistics;
+
+    /**
+     * Creates a new FastStructureParser
+     */
+    public FastStructureParser()
+    {
+        this.walker = new ParseTreeWalker();
+    }
+
+    /**
+     * Parses Java code into an outline of its classes, fields and methods.
+     *
+     * @param contents  the code to be parsed
+     * @param cancelled tells whether the parse has been superseded
+     * @return the root of the outline
+     * @throws CancellationException if the parse was superseded before it finished
+     */
+    public OutlineNode parse(String contents, BooleanSupplier cancelled)
+    {
+        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(contents));
+        CommonTokenStream tokens = new BudgetedTokenStream(lexer, cancelled, Long.MAX_VALUE, Integer.MAX_VALUE);
+        FastJavaParser parser = new FastJavaParser(tokens);
+        ParseTree tree = this.parseInStages(parser);
+
+        //walk through parse tree with listening for code structure elements
+        OutlineNode root = OutlineNode.createRoot();
+        this.walker.walk(new CodeStructureListener(root), tree);
+        return root;
+    }
+
+    /**
+     * Parses a compilation unit with SLL first, then with full LL if needed.
+     *
+     * @param parser a parser over the tokens of the code
+     * @return the parse tree
+     */
+    private ParseTree parseInStages(FastJavaParser parser)
+    {
+        //first stage: SLL prediction, giving up at the first error
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        long start = System.nanoTime();
+        try
+        {
+            ParseTree tree = parser.compilationUnit();
+            this.lastStatistics = new StructureParser.Statistics(StructureParser.Stage.SLL,
+                                                                 System.nanoTime() - start, 0);
+            return tree;
+        }
+        catch (ParseCancellationException e)
+        {
+            //rewind to parse again below
+            parser.reset();
+            parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        }
+        long sllTime = System.nanoTime() - start;
+
+        //second stage: full LL prediction with error recovery
+        start = System.nanoTime();
+        ParseTree tree = parser.compilationUnit();
+        this.lastStatistics = new StructureParser.Statistics(StructureParser.Stage.LL, sllTime,
+                                                             System.nanoTime() - start);
+        return tree;
+    }
+
+    /**
+     * Returns the statistics of the last parse.
+     *
+     * @return the statistics of the last parse, or null if nothing was parsed yet
+     */
+    public StructureParser.Statistics getLastStatistics()
+    {
+        return this.lastStatistics;
+    }
+
+    /**
+     * Private helper class that listens for code structure declarations
+     * (classes, fields, methods) during a walk of a FastJavaParser parse tree
+     * and builds an outline of the code structure. It places each
+     * declaration where the CodeStructureListener of the StructureParser
+     * does: classes and fields at their first modifier, methods after their
+     * modifiers. Interfaces and enums get no node of their own, and neither
+     * do constructors, interface constants and annotation type elements.
+     */
+    private static class CodeStructureListener extends FastJavaParserBaseListener
+    {
+        private OutlineNode currentNode;
+        /**
+         * the classes enclosing the current node, innermost last
+         */
+        private final ArrayDeque<OutlineNode> enclosingNodes;
+
+        /**
+         * creates a new CodeStructureListener that builds an outline
+         * from the given root node
+         *
+         * @param root root node to build the outline from
+         */
+        public CodeStructureListener(OutlineNode root)
+        {
+            this.currentNode = root;
+            this.enclosingNodes = new ArrayDeque<>();
+        }
+
+        /**
+         * Starts a new subtree for the class declaration entered
+         */
+        @Override
+        public void enterClassDeclaration(FastJavaParser.ClassDeclarationContext ctx)
+        {
+            //add class to the outline under the current class
+            //store the line and column of its declaration, modifiers included
+            Token start = declarationStart(ctx);
+            OutlineNode newNode = new OutlineNode(OutlineNode.Kind.CLASS, ctx.Identifier().getText(),
+                                                  start.getLine(), start.getCharPositionInLine());
+            this.currentNode.addChild(newNode);
+            this.enclosingNodes.push(this.currentNode);
+            this.currentNode = newNode; //move current node into new subtree
+        }
+
+        /**
+         * ends the new subtree for the class declaration exited,
+         * returns traversal to parent node
+         */
+        @Override
+        public void exitClassDeclaration(FastJavaParser.ClassDeclarationContext ctx)
+        {
+            this.currentNode = this.enclosingNodes.pop(); //move current node back to parent
+        }
+
+        /**
+         * adds a child node for the field entered under the node for the current class
+         */
+        @Override
+        public void enterFieldDeclaration(FastJavaParser.FieldDeclarationContext ctx)
+        {
+            //add field to the outline under the current class
+            //store the line and column of its declaration, modifiers included
+            String fieldName = ctx.variableDeclarators().variableDeclarator(0).variableDeclaratorId()
+                                  .Identifier().getText();
+            Token start = declarationStart(ctx);
+            this.currentNode.addChild(new OutlineNode(OutlineNode.Kind.FIELD, fieldName, start.getLine(),
+                                                      start.getCharPositionInLine()));
+        }
+
+        /**
+         * adds a child node for the method entered under the node for the current class
+         */
+        @Override
+        public void enterMethodDeclaration(FastJavaParser.MethodDeclarationContext ctx)
+        {
+            //add method to the outline under the current class
+            //store the line and column of its declaration, after its modifiers
+            this.currentNode.addChild(new OutlineNode(OutlineNode.Kind.METHOD, ctx.Identifier().getText(),
+                                                      ctx.getStart().getLine(),
+                                                      ctx.getStart().getCharPositionInLine()));
+        }
+
+        /**
+         * Returns the first token of a declaration, its modifiers included,
+         * which are matched by the rules holding the declaration.
+         *
+         * @param declaration the declaration
+         * @return the first token of its modifiers, or of the declaration if it has none
+         */
+        private static Token declarationStart(ParserRuleContext declaration)
+        {
+            ParserRuleContext holder = declaration;
+            while (holder.getParent() instanceof FastJavaParser.MemberDeclarationContext
+                   || holder.getParent() instanceof FastJavaParser.ClassBodyDeclarationContext
+                   || holder.getParent() instanceof FastJavaParser.InterfaceMemberDeclarationContext
+                   || holder.getParent() instanceof FastJavaParser.InterfaceBodyDeclarationContext
+                   || holder.getParent() instanceof FastJavaParser.AnnotationTypeElementRestContext
+                   || holder.getParent() instanceof FastJavaParser.AnnotationTypeElementDeclarationContext
+                   || holder.getParent() instanceof FastJavaParser.TypeDeclarationContext
+                   || holder.getParent() instanceof FastJavaParser.LocalTypeDeclarationContext)
+            {
+                holder = holder.getParent();
+            }
+            return holder.getStart();
+        }
+    }
+}
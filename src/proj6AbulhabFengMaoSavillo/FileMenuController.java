@@ -152,14 +152,17 @@ public class FileMenuController
 
     /**
      * Helper method to handle closing tag action.
-     * Removed the tab from the tab file mapping and from the TabPane.
+     * Removed the tab from the tab file mapping and from the TabPane,
+     * and disposes of its code area.
      *
      * @param tab Tab to be closed
      */
     private void removeTab(Tab tab)
     {
+        JavaCodeArea javaCodeArea = (JavaCodeArea) ((VirtualizedScrollPane) tab.getContent()).getContent();
         this.tabFileMap.remove(tab);
         this.tabPane.getTabs().remove(tab);
+        javaCodeArea.dispose();
     }
 
     /**
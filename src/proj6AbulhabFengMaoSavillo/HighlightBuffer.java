@@ -0,0 +1,243 @@
+/*
+ * File: HighlightBuffer.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the HighlightBuffer class, which holds highlighting
+ * results in primitive arrays.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+import org.fxmisc.richtext.model.StyleSpansBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Holds the result of highlighting a text as consecutive runs of characters,
+ * each stored as a start, a length and a style id in parallel int arrays.
+ * Adjacent runs with the same style are merged as they are added.
+ * StyleSpans are only built on request, for the range about to be applied,
+ * and a buffer can be cleared and reused, so highlighting allocates little
+ * beyond what the engines themselves need.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class HighlightBuffer {
+    /**
+     * number of runs a new buffer has room for
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * start of each run
+     */
+    private int[] starts;
+    /**
+     * length of each run
+     */
+    private int[] lengths;
+    /**
+     * style id of each run
+     */
+    private int[] styles;
+    /**
+     * number of runs
+     */
+    private int runCount;
+    /**
+     * number of characters covered by the runs
+     */
+    private int length;
+
+    /**
+     * Creates a new empty HighlightBuffer
+     */
+    public HighlightBuffer() {
+        this.starts = new int[INITIAL_CAPACITY];
+        this.lengths = new int[INITIAL_CAPACITY];
+        this.styles = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Removes all runs, keeping the arrays for reuse.
+     */
+    public void clear() {
+        this.runCount = 0;
+        this.length = 0;
+    }
+
+    /**
+     * Appends the given number of characters with the given style,
+     * extending the last run if it has the same style.
+     *
+     * @param style     style id of the characters
+     * @param runLength number of characters, nothing is added if not positive
+     */
+    public void add(int style, int runLength) {
+        if (runLength <= 0) {
+            return;
+        }
+        if (this.runCount > 0 && this.styles[this.runCount - 1] == style) {
+            this.lengths[this.runCount - 1] += runLength;
+        } else {
+            if (this.runCount == this.starts.length) {
+                int capacity = this.runCount * 2;
+                this.starts = Arrays.copyOf(this.starts, capacity);
+                this.lengths = Arrays.copyOf(this.lengths, capacity);
+                this.styles = Arrays.copyOf(this.styles, capacity);
+            }
+            this.starts[this.runCount] = this.length;
+            this.lengths[this.runCount] = runLength;
+            this.styles[this.runCount] = style;
+            this.runCount++;
+        }
+        this.length += runLength;
+    }
+
+    /**
+     * Appends the runs covering a range of another buffer.
+     *
+     * @param source the buffer to copy from
+     * @param from   start of the range in the source (inclusive)
+     * @param to     end of the range in the source (exclusive)
+     */
+    public void append(HighlightBuffer source, int from, int to) {
+        int position = from;
+        for (int run = position < to ? source.findRun(from) : 0; position < to; run++) {
+            int end = Math.min(source.starts[run] + source.lengths[run], to);
+            this.add(source.styles[run], end - position);
+            position = end;
+        }
+    }
+
+    /**
+     * Returns the number of characters covered by the runs.
+     *
+     * @return the length of the highlighted text
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the number of runs.
+     *
+     * @return the number of runs
+     */
+    public int getRunCount() {
+        return this.runCount;
+    }
+
+    /**
+     * Builds the StyleSpans of a range of the highlighted text.
+     *
+     * @param from start of the range (inclusive)
+     * @param to   end of the range (exclusive)
+     * @return the style spans of the range
+     */
+    public StyleSpans<Collection<String>> toStyleSpans(int from, int to) {
+        StyleSpansBuilder<Collection<String>> spansBuilder = new StyleSpansBuilder<>();
+        spansBuilder.add(HighlightStyles.get(HighlightStyles.NONE), 0);
+        int position = from;
+        for (int run = this.findRun(from); position < to; run++) {
+            int end = Math.min(this.starts[run] + this.lengths[run], to);
+            spansBuilder.add(HighlightStyles.get(this.styles[run]), end - position);
+            position = end;
+        }
+        return spansBuilder.create();
+    }
+
+    /**
+     * Counts the leading characters of a range that have the same style in
+     * this buffer and in the given spans covering the range.
+     *
+     * @param from  start of the range (inclusive)
+     * @param to    end of the range (exclusive)
+     * @param spans spans as long as the range
+     * @return the length of the common styled prefix
+     */
+    public int commonPrefixLength(int from, int to, StyleSpans<Collection<String>> spans) {
+        int rangeLength = to - from;
+        if (rangeLength == 0) {
+            return 0;
+        }
+        int run = this.findRun(from);
+        int runEnd = this.starts[run] + this.lengths[run] - from;
+        int spanIndex = 0;
+        int spanEnd = spans.getStyleSpan(0).getLength();
+        int position = 0;
+        while (position < rangeLength && spanIndex < spans.getSpanCount()) {
+            if (!HighlightStyles.matches(spans.getStyleSpan(spanIndex).getStyle(), this.styles[run])) {
+                return position;
+            }
+            position = Math.min(Math.min(runEnd, spanEnd), rangeLength);
+            if (runEnd == position && ++run < this.runCount) {
+                runEnd += this.lengths[run];
+            }
+            if (spanEnd == position && ++spanIndex < spans.getSpanCount()) {
+                spanEnd += spans.getStyleSpan(spanIndex).getLength();
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Counts the trailing characters of a range that have the same style in
+     * this buffer and in the given spans covering the range.
+     *
+     * @param from  start of the range (inclusive)
+     * @param to    end of the range (exclusive)
+     * @param spans spans as long as the range
+     * @return the length of the common styled suffix
+     */
+    public int commonSuffixLength(int from, int to, StyleSpans<Collection<String>> spans) {
+        int rangeLength = to - from;
+        if (rangeLength == 0) {
+            return 0;
+        }
+        int run = this.findRun(to - 1);
+        int runStart = this.starts[run] - from;
+        int spanIndex = spans.getSpanCount() - 1;
+        int spanStart = rangeLength - spans.getStyleSpan(spanIndex).getLength();
+        int suffixStart = rangeLength;
+        while (suffixStart > 0 && spanIndex >= 0) {
+            if (!HighlightStyles.matches(spans.getStyleSpan(spanIndex).getStyle(), this.styles[run])) {
+                break;
+            }
+            suffixStart = Math.max(Math.max(runStart, spanStart), 0);
+            if (runStart == suffixStart && --run >= 0) {
+                runStart = this.starts[run] - from;
+            }
+            if (spanStart == suffixStart && --spanIndex >= 0) {
+                spanStart -= spans.getStyleSpan(spanIndex).getLength();
+            }
+        }
+        return rangeLength - suffixStart;
+    }
+
+    /**
+     * Finds the run containing a position by binary search.
+     *
+     * @param position position in the highlighted text, less than its length
+     * @return index of the run containing the position
+     */
+    private int findRun(int position) {
+        int low = 0;
+        int high = this.runCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (this.starts[middle] <= position) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * File: HighlightScheduler.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the HighlightScheduler class, which decides when
+ * the syntax highlighting of a JavaCodeArea is brought up to date.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.reactfx.Subscription;
+import org.reactfx.util.FxTimer;
+import org.reactfx.util.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns the one subscription a JavaCodeArea has to its text changes.
+ * Every change moves the code area on to its next version and is passed on
+ * to the IncrementalHighlighter right away, and the highlighting is brought
+ * up to date once no change has happened for a debounce window. The window
+ * adapts to the cost of the last highlight pass, so it stays short for
+ * small files and grows for big ones.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class HighlightScheduler {
+    /**
+     * shortest debounce window, used when highlighting is cheap
+     */
+    private static final Duration MIN_DEBOUNCE = Duration.ofMillis(25);
+    /**
+     * longest debounce window
+     */
+    private static final Duration MAX_DEBOUNCE = Duration.ofMillis(500);
+    /**
+     * how many times the cost of the last pass is added to the shortest window
+     */
+    private static final int COST_FACTOR = 4;
+    /**
+     * number of schedulers, across all code areas, that are still subscribed
+     */
+    private static final AtomicInteger ACTIVE_SUBSCRIPTIONS = new AtomicInteger();
+
+    /**
+     * the highlighter brought up to date by this scheduler
+     */
+    private final IncrementalHighlighter highlighter;
+    /**
+     * the subscription to the text changes of the code area, null once disposed
+     */
+    private Subscription subscription;
+    /**
+     * fires once the debounce window has passed without a change
+     */
+    private Timer timer;
+    /**
+     * the debounce window of the current timer
+     */
+    private Duration debounce;
+
+    /**
+     * Creates a new HighlightScheduler and subscribes it to the text changes of the code area.
+     *
+     * @param codeArea    the code area whose changes are listened to
+     * @param highlighter the highlighter to bring up to date
+     */
+    public HighlightScheduler(JavaCodeArea codeArea, IncrementalHighlighter highlighter) {
+        this.highlighter = highlighter;
+        this.debounce = MIN_DEBOUNCE;
+        this.timer = FxTimer.create(this.debounce, this.highlighter::highlightDamagedParagraphs);
+
+        this.subscription = codeArea.plainTextChanges().subscribe(change -> {
+            codeArea.incrementVersion();
+            this.highlighter.recordDamage(change);
+            this.restartTimer();
+        });
+        ACTIVE_SUBSCRIPTIONS.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of schedulers, across all code areas, still subscribed
+     * to text changes. It should equal the number of open tabs.
+     *
+     * @return the number of active subscriptions
+     */
+    public static int getActiveSubscriptionCount() {
+        return ACTIVE_SUBSCRIPTIONS.get();
+    }
+
+    /**
+     * Returns the debounce window currently used.
+     *
+     * @return the current debounce window
+     */
+    public Duration getDebounce() {
+        return this.debounce;
+    }
+
+    /**
+     * Unsubscribes from the text changes and stops any pending highlighting.
+     * Called when the tab holding the code area is closed.
+     */
+    public void dispose() {
+        if (this.subscription == null) {
+            return;
+        }
+        this.subscription.unsubscribe();
+        this.subscription = null;
+        this.timer.stop();
+        this.highlighter.dispose();
+        ACTIVE_SUBSCRIPTIONS.decrementAndGet();
+    }
+
+    /**
+     * Restarts the debounce window, first adapting its length to the cost of
+     * the last highlight pass.
+     */
+    private void restartTimer() {
+        long lastPassMillis = this.highlighter.getLastPassNanos() / 1_000_000;
+        Duration wanted = MIN_DEBOUNCE.plusMillis(COST_FACTOR * lastPassMillis);
+        if (wanted.compareTo(MAX_DEBOUNCE) > 0) {
+            wanted = MAX_DEBOUNCE;
+        }
+
+        if (!wanted.equals(this.debounce)) {
+            this.timer.stop();
+            this.debounce = wanted;
+            this.timer = FxTimer.create(this.debounce, this.highlighter::highlightDamagedParagraphs);
+        }
+        this.timer.restart();
+    }
+}
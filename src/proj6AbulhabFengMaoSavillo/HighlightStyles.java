@@ -0,0 +1,90 @@
+/*
+ * File: HighlightStyles.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the HighlightStyles class, which numbers the style
+ * classes used by syntax highlighting.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Numbers the style classes used by syntax highlighting and holds the one
+ * shared, immutable style collection of each, so that highlighting results
+ * can be stored as ints and every span with the same style shares its collection.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public final class HighlightStyles {
+    /**
+     * style ids, used as indices into COLLECTIONS
+     */
+    public static final int NONE = 0;
+    public static final int KEYWORD = 1;
+    public static final int PAREN = 2;
+    public static final int BRACE = 3;
+    public static final int BRACKET = 4;
+    public static final int SEMICOLON = 5;
+    public static final int STRING = 6;
+    public static final int CHARACTER = 7;
+    public static final int COMMENT = 8;
+    public static final int INTEGER = 9;
+    public static final int FLOAT = 10;
+    public static final int ANNOTATION = 11;
+
+    /**
+     * the style class collection of each style id
+     */
+    private static final List<Collection<String>> COLLECTIONS = Arrays.asList(
+            Collections.emptyList(),
+            Collections.singleton("keyword"),
+            Collections.singleton("paren"),
+            Collections.singleton("brace"),
+            Collections.singleton("bracket"),
+            Collections.singleton("semicolon"),
+            Collections.singleton("string"),
+            Collections.singleton("character"),
+            Collections.singleton("comment"),
+            Collections.singleton("integer"),
+            Collections.singleton("float"),
+            Collections.singleton("annotation")
+    );
+
+    /**
+     * Not instantiated, only holds constants
+     */
+    private HighlightStyles() {
+    }
+
+    /**
+     * Returns the shared style class collection of a style id.
+     *
+     * @param style style id
+     * @return the style classes of the style
+     */
+    public static Collection<String> get(int style) {
+        return COLLECTIONS.get(style);
+    }
+
+    /**
+     * Tells whether a style class collection is the one of a style id,
+     * comparing by identity first so shared collections compare without allocating.
+     *
+     * @param styleClasses style classes to compare
+     * @param style        style id
+     * @return true if the style classes are those of the style
+     */
+    public static boolean matches(Collection<String> styleClasses, int style) {
+        Collection<String> collection = COLLECTIONS.get(style);
+        return styleClasses == collection || styleClasses.equals(collection);
+    }
+}
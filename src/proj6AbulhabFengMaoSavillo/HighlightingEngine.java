@@ -0,0 +1,45 @@
+/*
+ * File: HighlightingEngine.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the HighlightingEngine interface, implemented by the
+ * classes that compute syntax highlighting for Java code.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+
+import java.util.Collection;
+
+/**
+ * Computes the style classes of Java source text, either for a whole
+ * document at once or one paragraph at a time.
+ * Engines are called from background threads and must be thread-safe.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public interface HighlightingEngine {
+    /**
+     * Computes the highlighting of substrings of text to return the style of each substring.
+     *
+     * @param text string to compute highlighting of
+     * @return StyleSpans Collection Object
+     */
+    StyleSpans<Collection<String>> computeHighlighting(String text);
+
+    /**
+     * Computes the highlighting of a single paragraph, given the lexical state
+     * it starts in, and appends runs covering the whole paragraph to the buffer.
+     *
+     * @param paragraph  text of the paragraph, without its line break
+     * @param entryState lexical state at the start of the paragraph
+     * @param buffer     buffer the styles of the paragraph are added to
+     * @return the lexical state at the end of the paragraph
+     */
+    LexicalState computeParagraphHighlighting(String paragraph, LexicalState entryState, HighlightBuffer buffer);
+}
@@ -0,0 +1,726 @@
+/*
+ * File: IncrementalHighlighter.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the IncrementalHighlighter class, which re-highlights
+ * only the paragraphs of a JavaCodeArea that were damaged by an edit.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+import org.fxmisc.richtext.model.PlainTextChange;
+import org.fxmisc.richtext.model.StyleSpans;
+import org.fxmisc.richtext.model.TwoDimensional.Bias;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Keeps the lexical state at the start of every paragraph of a JavaCodeArea
+ * and records which paragraphs each text change damages. When asked to
+ * highlight, it re-scans the damaged paragraphs and keeps going past them
+ * only until the state carried into the next paragraph matches the state
+ * recorded there, so the cost of an edit does not depend on the file size.
+ * The scanning runs on a background thread against a snapshot of the
+ * paragraphs, and its result is dropped if the text changed in the meantime.
+ * Damage spanning many paragraphs, such as a freshly opened file, is
+ * highlighted in parallel by a ParallelHighlighter and applied to the view
+ * one chunk per pulse; for large texts the paragraphs in view are styled
+ * synchronously first, and again whenever the view scrolls to unstyled ones.
+ * Only the characters whose style actually changed are pushed to the view.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class IncrementalHighlighter {
+    /**
+     * number of paragraphs past the damage snapshotted for the state to converge in
+     */
+    private static final int CONVERGENCE_LOOKAHEAD = 64;
+    /**
+     * most paragraphs highlighted one after another in one background computation,
+     * and restyled in one pulse
+     */
+    private static final int MAX_CHUNK_PARAGRAPHS = 2000;
+    /**
+     * most paragraphs snapshotted when the damage is large enough to be highlighted in parallel
+     */
+    private static final int MAX_PARALLEL_PARAGRAPHS = 64_000;
+    /**
+     * paragraphs above and below the viewport styled with it
+     */
+    private static final int VIEWPORT_MARGIN = 50;
+    /**
+     * default text length, in characters, above which the viewport is styled first
+     */
+    public static final int DEFAULT_VIEWPORT_FIRST_THRESHOLD = 256 * 1024;
+    /**
+     * the single background thread all code areas compute their highlighting on
+     */
+    private static final ExecutorService HIGHLIGHT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Highlighter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * the code area being highlighted
+     */
+    private final JavaCodeArea codeArea;
+    /**
+     * the engine computing the highlighting of each paragraph
+     */
+    private final HighlightingEngine highlightingEngine;
+    /**
+     * highlights large snapshots in parallel with the same engine
+     */
+    private final ParallelHighlighter parallelHighlighter;
+    /**
+     * the lexical state at the start of each paragraph
+     */
+    private final ArrayList<LexicalState> entryStates;
+    /**
+     * first damaged paragraph, greater than damagedTo if nothing is damaged
+     */
+    private int damagedFrom;
+    /**
+     * last damaged paragraph (inclusive)
+     */
+    private int damagedTo;
+    /**
+     * incremented on every text change
+     */
+    private long documentVersion;
+    /**
+     * the document version the running computation was started for
+     */
+    private long requestedVersion;
+    /**
+     * computes the highlighting of the damaged paragraphs in the background
+     */
+    private final HighlightWorker highlightWorker;
+    /**
+     * finished computation whose paragraphs are still being applied, null if none
+     */
+    private HighlightResult pendingResult;
+    /**
+     * index in the pending computation of the next paragraph to apply
+     */
+    private int pendingIndex;
+    /**
+     * characters restyled and time spent so far applying the pending computation
+     */
+    private int pendingRestyledCharacters;
+    private long pendingApplyNanos;
+    /**
+     * text length above which the visible paragraphs are styled first
+     */
+    private int viewportFirstThreshold;
+    /**
+     * true while a viewport pass is waiting to run
+     */
+    private boolean viewportPassScheduled;
+    /**
+     * document version and paragraph range of the last viewport pass
+     */
+    private long viewportVersion;
+    private int viewportFrom;
+    private int viewportTo;
+    /**
+     * schedules a viewport pass when the visible paragraphs change
+     */
+    private final InvalidationListener viewportListener;
+    /**
+     * holds the styles of each paragraph of a viewport pass, reused between passes
+     */
+    private final HighlightBuffer viewportBuffer;
+    /**
+     * time spent on the FX thread starting the running computation
+     */
+    private long requestNanos;
+    /**
+     * duration of the last highlight pass
+     */
+    private long lastPassNanos;
+    /**
+     * characters restyled by the last pass and since creation
+     */
+    private int lastRestyledCharacters;
+    private long totalRestyledCharacters;
+
+    /**
+     * Creates a new IncrementalHighlighter for the given code area.
+     * All paragraphs already in the code area start out damaged, and each
+     * later text change must be passed to recordDamage.
+     *
+     * @param codeArea           the code area to highlight
+     * @param highlightingEngine the engine computing the highlighting of each paragraph
+     */
+    public IncrementalHighlighter(JavaCodeArea codeArea, HighlightingEngine highlightingEngine) {
+        this.codeArea = codeArea;
+        this.highlightingEngine = highlightingEngine;
+        this.parallelHighlighter = new ParallelHighlighter(highlightingEngine);
+        this.entryStates = new ArrayList<>();
+        this.resetAllParagraphs();
+
+        this.highlightWorker = new HighlightWorker();
+        this.highlightWorker.setExecutor(HIGHLIGHT_EXECUTOR);
+        this.highlightWorker.setOnSucceeded(event -> this.applyResult(this.highlightWorker.getValue()));
+
+        this.viewportFirstThreshold = DEFAULT_VIEWPORT_FIRST_THRESHOLD;
+        this.viewportVersion = -1;
+        this.viewportListener = observable -> this.scheduleViewportPass();
+        this.viewportBuffer = new HighlightBuffer();
+        this.codeArea.getVisibleParagraphs().addListener(this.viewportListener);
+    }
+
+    /**
+     * Returns the number of characters whose style was pushed to the code
+     * area by the last background highlight pass.
+     *
+     * @return the characters restyled by the last pass
+     */
+    public int getLastRestyledCharacters() {
+        return this.lastRestyledCharacters;
+    }
+
+    /**
+     * Returns the number of characters whose style was pushed to the code
+     * area since it was created.
+     *
+     * @return the characters restyled so far
+     */
+    public long getTotalRestyledCharacters() {
+        return this.totalRestyledCharacters;
+    }
+
+    /**
+     * Returns how long the last highlight pass took, counting both the work
+     * on the JavaFX Application Thread and the background computation.
+     *
+     * @return the duration of the last pass in nanoseconds
+     */
+    public long getLastPassNanos() {
+        return this.lastPassNanos;
+    }
+
+    /**
+     * Cancels any computation in flight and stops following the viewport.
+     * Called when the code area is no longer displayed.
+     */
+    public void dispose() {
+        this.highlightWorker.cancel();
+        this.pendingResult = null;
+        this.codeArea.getVisibleParagraphs().removeListener(this.viewportListener);
+        this.damagedFrom = Integer.MAX_VALUE;
+        this.damagedTo = -1;
+    }
+
+    /**
+     * Sets the text length above which the visible paragraphs are styled
+     * synchronously before the rest of the text is styled in the background.
+     *
+     * @param viewportFirstThreshold text length in characters
+     */
+    public void setViewportFirstThreshold(int viewportFirstThreshold) {
+        this.viewportFirstThreshold = viewportFirstThreshold;
+    }
+
+    /**
+     * Starts re-highlighting the damaged paragraphs in the background, continuing
+     * into the following paragraphs until the carried lexical state converges
+     * with the recorded one. Must be called on the JavaFX Application Thread.
+     * A computation still running for an older version of the text is cancelled.
+     * For large texts the damaged paragraphs in view are styled right away.
+     */
+    public void highlightDamagedParagraphs() {
+        if (this.damagedFrom > this.damagedTo) {
+            return;
+        }
+        long start = System.nanoTime();
+        this.highlightVisibleParagraphs();
+        // the running or pending computation already covers the current text
+        if ((this.highlightWorker.isRunning() || this.pendingResult != null)
+                && this.requestedVersion == this.documentVersion) {
+            return;
+        }
+
+        // snapshot the damaged paragraphs, plus some more to let the state converge,
+        // large damage is highlighted in parallel, small damage a chunk at a time
+        int paragraphCount = this.codeArea.getParagraphs().size();
+        int last = Math.min(this.damagedTo + CONVERGENCE_LOOKAHEAD, paragraphCount - 1);
+        boolean parallel = this.damagedTo - this.damagedFrom + 1 > MAX_CHUNK_PARAGRAPHS;
+        last = Math.min(last, this.damagedFrom + (parallel ? MAX_PARALLEL_PARAGRAPHS : MAX_CHUNK_PARAGRAPHS) - 1);
+        String[] paragraphs = new String[last - this.damagedFrom + 1];
+        LexicalState[] recordedStates = new LexicalState[paragraphs.length + 1];
+        for (int i = 0; i < paragraphs.length; i++) {
+            paragraphs[i] = this.codeArea.getParagraph(this.damagedFrom + i).getText();
+            recordedStates[i] = this.entryStates.get(this.damagedFrom + i);
+        }
+        recordedStates[paragraphs.length] = last + 1 < paragraphCount ? this.entryStates.get(last + 1) : null;
+
+        this.requestedVersion = this.documentVersion;
+        this.highlightWorker.setRequest(new HighlightRequest(this.documentVersion, this.damagedFrom, this.damagedTo,
+                                                             paragraphs, recordedStates));
+        this.highlightWorker.restart();
+        this.requestNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Starts applying a finished computation to the code area, unless the
+     * text has changed since its snapshot was taken.
+     *
+     * @param result the finished computation
+     */
+    private void applyResult(HighlightResult result) {
+        // a newer edit is pending, its own computation will cover these paragraphs
+        if (result == null || result.version != this.documentVersion) {
+            return;
+        }
+        this.pendingResult = result;
+        this.pendingIndex = 0;
+        this.pendingRestyledCharacters = 0;
+        this.pendingApplyNanos = 0;
+        this.applyPendingParagraphs();
+    }
+
+    /**
+     * Applies the next chunk of paragraphs of the pending computation, and
+     * schedules the following chunk for the next pulse so that large results
+     * do not freeze the view. Once all are applied, continues with the
+     * following paragraphs if the state did not converge within the snapshot.
+     */
+    private void applyPendingParagraphs() {
+        HighlightResult result = this.pendingResult;
+        if (result == null || result.version != this.documentVersion) {
+            this.pendingResult = null;
+            return;
+        }
+
+        long start = System.nanoTime();
+        int paragraphCount = this.codeArea.getParagraphs().size();
+        int end = Math.min(this.pendingIndex + MAX_CHUNK_PARAGRAPHS, result.exitStates.length);
+        for (int i = this.pendingIndex; i < end; i++) {
+            int paragraph = result.firstParagraph + i;
+            this.pendingRestyledCharacters += this.restyleParagraph(paragraph, result.buffer,
+                                                                    result.paragraphOffsets[i],
+                                                                    result.paragraphOffsets[i + 1]);
+            if (paragraph + 1 < paragraphCount) {
+                this.entryStates.set(paragraph + 1, result.exitStates[i]);
+            }
+        }
+        this.pendingIndex = end;
+        this.pendingApplyNanos += System.nanoTime() - start;
+        if (end < result.exitStates.length) {
+            Platform.runLater(this::applyPendingParagraphs);
+            return;
+        }
+        this.pendingResult = null;
+
+        this.lastPassNanos = this.requestNanos + result.computeNanos + this.pendingApplyNanos;
+        this.lastRestyledCharacters = this.pendingRestyledCharacters;
+        this.totalRestyledCharacters += this.pendingRestyledCharacters;
+
+        int lastDamaged = this.damagedTo;
+        this.damagedFrom = Integer.MAX_VALUE;
+        this.damagedTo = -1;
+        int next = result.firstParagraph + result.exitStates.length;
+        if (!result.converged && next < paragraphCount) {
+            this.damagedFrom = next;
+            this.damagedTo = Math.max(next, lastDamaged);
+            this.highlightDamagedParagraphs();
+        }
+    }
+
+    /**
+     * Schedules a viewport pass for after the current layout or scroll,
+     * unless one is already waiting.
+     */
+    private void scheduleViewportPass() {
+        if (!this.viewportPassScheduled) {
+            this.viewportPassScheduled = true;
+            Platform.runLater(this::highlightVisibleParagraphs);
+        }
+    }
+
+    /**
+     * For texts above the viewport-first threshold, synchronously styles the
+     * damaged paragraphs that are visible, plus a margin around them.
+     * They start from the recorded states, which may be out of date while the
+     * background pass has not reached them yet; it restyles them when it does.
+     */
+    private void highlightVisibleParagraphs() {
+        this.viewportPassScheduled = false;
+        int visibleCount = this.codeArea.getVisibleParagraphs().size();
+        if (this.codeArea.getLength() <= this.viewportFirstThreshold || visibleCount == 0
+                || this.damagedFrom > this.damagedTo) {
+            return;
+        }
+
+        int paragraphCount = this.codeArea.getParagraphs().size();
+        int first = Math.max(this.codeArea.visibleParToAllParIndex(0) - VIEWPORT_MARGIN, this.damagedFrom);
+        int last = Math.min(this.codeArea.visibleParToAllParIndex(visibleCount - 1) + VIEWPORT_MARGIN,
+                            Math.min(this.damagedTo, paragraphCount - 1));
+        // restyling the visible paragraphs changes them, which must not trigger another pass
+        if (first > last || (this.viewportVersion == this.documentVersion
+                && first >= this.viewportFrom && last <= this.viewportTo)) {
+            return;
+        }
+
+        LexicalState state = this.entryStates.get(first);
+        for (int paragraph = first; paragraph <= last; paragraph++) {
+            String text = this.codeArea.getParagraph(paragraph).getText();
+            this.viewportBuffer.clear();
+            state = this.highlightingEngine.computeParagraphHighlighting(text, state, this.viewportBuffer);
+            this.totalRestyledCharacters += this.restyleParagraph(paragraph, this.viewportBuffer, 0, text.length());
+        }
+        this.viewportVersion = this.documentVersion;
+        this.viewportFrom = first;
+        this.viewportTo = last;
+    }
+
+    /**
+     * Replaces the styles of a paragraph with a range of the buffer, building
+     * and pushing to the code area only the range between the first and last
+     * characters whose style differs from the one currently applied.
+     *
+     * @param paragraph index of the paragraph
+     * @param buffer    buffer holding the new styles of the paragraph
+     * @param from      start of the paragraph in the buffer
+     * @param to        end of the paragraph in the buffer
+     * @return the number of characters restyled
+     */
+    private int restyleParagraph(int paragraph, HighlightBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return 0;
+        }
+        StyleSpans<Collection<String>> applied = this.codeArea.getStyleSpans(paragraph);
+        if (applied.length() != length) {
+            this.codeArea.setStyleSpans(paragraph, 0, buffer.toStyleSpans(from, to));
+            return length;
+        }
+
+        int prefix = buffer.commonPrefixLength(from, to, applied);
+        if (prefix == length) {
+            return 0;
+        }
+        int suffix = buffer.commonSuffixLength(from, to, applied);
+        this.codeArea.setStyleSpans(paragraph, prefix, buffer.toStyleSpans(from + prefix, to - suffix));
+        return length - prefix - suffix;
+    }
+
+    /**
+     * Computes the highlighting of a snapshot, paragraph by paragraph.
+     * Runs on a background thread and stops early once it is cancelled.
+     *
+     * @param request   the snapshot to highlight
+     * @param cancelled tells whether the computation has been cancelled
+     * @return the highlighting of the snapshot, or null if cancelled
+     */
+    private HighlightResult computeResult(HighlightRequest request, BooleanSupplier cancelled) {
+        if (request.paragraphs.length > MAX_CHUNK_PARAGRAPHS) {
+            return this.computeParallelResult(request, cancelled);
+        }
+        long start = System.nanoTime();
+        HighlightBuffer buffer = new HighlightBuffer();
+        int[] paragraphOffsets = new int[request.paragraphs.length + 1];
+        ArrayList<LexicalState> exitStates = new ArrayList<>();
+        LexicalState state = request.recordedStates[0];
+        boolean converged = false;
+        for (int i = 0; i < request.paragraphs.length; i++) {
+            if (cancelled.getAsBoolean()) {
+                return null;
+            }
+            state = this.highlightingEngine.computeParagraphHighlighting(request.paragraphs[i], state, buffer);
+            paragraphOffsets[i + 1] = buffer.length();
+            exitStates.add(state);
+
+            // past the damage, stop as soon as the next paragraph already starts in the right state
+            int next = request.firstParagraph + i + 1;
+            if (next > request.lastDamagedParagraph && request.recordedStates[i + 1] == state) {
+                converged = true;
+                break;
+            }
+        }
+        // the snapshot ends at the last paragraph of the text
+        if (request.recordedStates[request.paragraphs.length] == null) {
+            converged = true;
+        }
+
+        return new HighlightResult(request.version, request.firstParagraph, buffer, paragraphOffsets,
+                                   exitStates.toArray(new LexicalState[0]), converged,
+                                   System.nanoTime() - start);
+    }
+
+    /**
+     * Computes the highlighting of a large snapshot with the ParallelHighlighter.
+     * Runs on a background thread and stops early once it is cancelled.
+     * All paragraphs are highlighted, and the result is then cut short where
+     * the state converges past the damage.
+     *
+     * @param request   the snapshot to highlight
+     * @param cancelled tells whether the computation has been cancelled
+     * @return the highlighting of the snapshot, or null if cancelled
+     */
+    private HighlightResult computeParallelResult(HighlightRequest request, BooleanSupplier cancelled) {
+        long start = System.nanoTime();
+        HighlightBuffer buffer = new HighlightBuffer();
+        int[] paragraphOffsets = new int[request.paragraphs.length + 1];
+        LexicalState[] exitStates = new LexicalState[request.paragraphs.length];
+        if (!this.parallelHighlighter.highlight(request.paragraphs, request.recordedStates[0], buffer,
+                                                paragraphOffsets, exitStates, cancelled)) {
+            return null;
+        }
+
+        // the snapshot ends at the last paragraph of the text
+        boolean converged = request.recordedStates[request.paragraphs.length] == null;
+        int count = exitStates.length;
+        for (int i = Math.max(request.lastDamagedParagraph - request.firstParagraph, 0); i < count; i++) {
+            if (request.recordedStates[i + 1] == exitStates[i]) {
+                converged = true;
+                count = i + 1;
+                break;
+            }
+        }
+        return new HighlightResult(request.version, request.firstParagraph, buffer, paragraphOffsets,
+                                   Arrays.copyOf(exitStates, count), converged, System.nanoTime() - start);
+    }
+
+    /**
+     * Updates the paragraph states and the damaged range for a single text change.
+     * Called right after the change is applied, so the paragraph containing its
+     * position is the same before and after the change.
+     *
+     * @param change the text change that was just applied
+     */
+    public void recordDamage(PlainTextChange change) {
+        this.documentVersion++;
+        int paragraph = this.codeArea.offsetToPosition(change.getPosition(), Bias.Forward).getMajor();
+        int removedLines = countLineBreaks(change.getRemoved());
+        int insertedLines = countLineBreaks(change.getInserted());
+
+        // paragraphs joined by the change lose their states, split paragraphs get placeholders
+        if (paragraph + 1 + removedLines > this.entryStates.size()) {
+            this.resetAllParagraphs();
+            return;
+        }
+        this.entryStates.subList(paragraph + 1, paragraph + 1 + removedLines).clear();
+        this.entryStates.addAll(paragraph + 1, Collections.nCopies(insertedLines, LexicalState.NORMAL));
+        if (this.entryStates.size() != this.codeArea.getParagraphs().size()) {
+            this.resetAllParagraphs();
+            return;
+        }
+
+        if (this.damagedFrom > this.damagedTo) {
+            this.damagedFrom = paragraph;
+            this.damagedTo = paragraph + insertedLines;
+        } else {
+            int delta = insertedLines - removedLines;
+            this.damagedFrom = Math.min(shiftIndex(this.damagedFrom, paragraph, removedLines, delta), paragraph);
+            this.damagedTo = Math.max(shiftIndex(this.damagedTo, paragraph, removedLines, delta),
+                                      paragraph + insertedLines);
+        }
+    }
+
+    /**
+     * Forgets all recorded states and marks every paragraph as damaged.
+     */
+    private void resetAllParagraphs() {
+        int paragraphCount = this.codeArea.getParagraphs().size();
+        this.entryStates.clear();
+        this.entryStates.addAll(Collections.nCopies(paragraphCount, LexicalState.NORMAL));
+        this.damagedFrom = 0;
+        this.damagedTo = paragraphCount - 1;
+    }
+
+    /**
+     * Maps a paragraph index from before a change to after it.
+     *
+     * @param index        paragraph index before the change
+     * @param paragraph    paragraph in which the change starts
+     * @param removedLines number of line breaks removed by the change
+     * @param delta        net number of paragraphs added by the change
+     * @return the paragraph index after the change
+     */
+    private static int shiftIndex(int index, int paragraph, int removedLines, int delta) {
+        if (index <= paragraph) {
+            return index;
+        }
+        if (index <= paragraph + removedLines) {
+            return paragraph;
+        }
+        return index + delta;
+    }
+
+    /**
+     * Counts the line breaks in the given text.
+     *
+     * @param text text to count line breaks in
+     * @return the number of '\n' characters in the text
+     */
+    private static int countLineBreaks(String text) {
+        int count = 0;
+        for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * An immutable snapshot of the paragraphs to highlight.
+     */
+    private static class HighlightRequest {
+        /**
+         * document version the snapshot was taken at
+         */
+        private final long version;
+        /**
+         * index of the first snapshotted paragraph
+         */
+        private final int firstParagraph;
+        /**
+         * index of the last damaged paragraph
+         */
+        private final int lastDamagedParagraph;
+        /**
+         * text of the snapshotted paragraphs
+         */
+        private final String[] paragraphs;
+        /**
+         * recorded state at the start of each snapshotted paragraph and of the one
+         * after them, null if the snapshot reaches the end of the text
+         */
+        private final LexicalState[] recordedStates;
+
+        /**
+         * Creates a new HighlightRequest
+         *
+         * @param version              document version the snapshot was taken at
+         * @param firstParagraph       index of the first snapshotted paragraph
+         * @param lastDamagedParagraph index of the last damaged paragraph
+         * @param paragraphs           text of the snapshotted paragraphs
+         * @param recordedStates       recorded state at the start of each paragraph and of the one after them
+         */
+        HighlightRequest(long version, int firstParagraph, int lastDamagedParagraph,
+                         String[] paragraphs, LexicalState[] recordedStates) {
+            this.version = version;
+            this.firstParagraph = firstParagraph;
+            this.lastDamagedParagraph = lastDamagedParagraph;
+            this.paragraphs = paragraphs;
+            this.recordedStates = recordedStates;
+        }
+    }
+
+    /**
+     * The highlighting computed for the first paragraphs of a request.
+     */
+    private static class HighlightResult {
+        /**
+         * document version the snapshot was taken at
+         */
+        private final long version;
+        /**
+         * index of the first highlighted paragraph
+         */
+        private final int firstParagraph;
+        /**
+         * styles of the highlighted paragraphs, one after another
+         */
+        private final HighlightBuffer buffer;
+        /**
+         * start of each highlighted paragraph in the buffer, followed by the end of the last
+         */
+        private final int[] paragraphOffsets;
+        /**
+         * lexical state at the end of each highlighted paragraph
+         */
+        private final LexicalState[] exitStates;
+        /**
+         * false if the following paragraphs still need to be highlighted
+         */
+        private final boolean converged;
+        /**
+         * time the computation took on the background thread
+         */
+        private final long computeNanos;
+
+        /**
+         * Creates a new HighlightResult
+         *
+         * @param version          document version the snapshot was taken at
+         * @param firstParagraph   index of the first highlighted paragraph
+         * @param buffer           styles of the highlighted paragraphs, one after another
+         * @param paragraphOffsets start of each highlighted paragraph in the buffer
+         * @param exitStates       lexical state at the end of each highlighted paragraph
+         * @param converged        false if the following paragraphs still need to be highlighted
+         * @param computeNanos     time the computation took on the background thread
+         */
+        HighlightResult(long version, int firstParagraph, HighlightBuffer buffer, int[] paragraphOffsets,
+                        LexicalState[] exitStates, boolean converged, long computeNanos) {
+            this.version = version;
+            this.firstParagraph = firstParagraph;
+            this.buffer = buffer;
+            this.paragraphOffsets = paragraphOffsets;
+            this.exitStates = exitStates;
+            this.converged = converged;
+            this.computeNanos = computeNanos;
+        }
+    }
+
+    /**
+     * A HighlightWorker computes the highlighting of a snapshot in the background.
+     * Restarting it cancels the computation in flight.
+     * HighlightWorker extends the javafx Service class.
+     */
+    private class HighlightWorker extends Service<HighlightResult> {
+        /**
+         * the snapshot to highlight
+         */
+        private HighlightRequest request;
+
+        /**
+         * Sets the snapshot to highlight on the next start.
+         *
+         * @param request the snapshot to highlight
+         */
+        private void setRequest(HighlightRequest request) {
+            this.request = request;
+        }
+
+        /**
+         * Overrides the createTask method in Service class.
+         * Highlights the current snapshot.
+         *
+         * @return the highlighting of the snapshot, or null if cancelled
+         */
+        @Override
+        protected Task<HighlightResult> createTask() {
+            HighlightRequest request = this.request;
+            return new Task<HighlightResult>() {
+                /**
+                 * Called when the worker is started.
+                 * Highlights the snapshot.
+                 *
+                 * @return the highlighting of the snapshot, or null if cancelled
+                 */
+                @Override
+                protected HighlightResult call() {
+                    return computeResult(request, this::isCancelled);
+                }
+            };
+        }
+    }
+}
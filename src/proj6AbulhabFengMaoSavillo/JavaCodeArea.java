@@ -11,15 +11,6 @@ package proj6AbulhabFengMaoSavillo;
 
 import org.fxmisc.richtext.CodeArea;
 import org.fxmisc.richtext.LineNumberFactory;
-import org.fxmisc.richtext.model.StyleSpans;
-import org.fxmisc.richtext.model.StyleSpansBuilder;
-import org.reactfx.Subscription;
-
-import java.time.Duration;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * This class extends the CodeArea class from RichTextFx to handle
@@ -32,115 +23,102 @@ import java.util.regex.Pattern;
  */
 public class JavaCodeArea extends CodeArea {
     /**
-     * a list of key words to be highlighted
+     * re-highlights the paragraphs damaged by edits
      */
-    private static final String[] KEYWORDS = new String[]{
-            "abstract", "assert", "boolean", "break", "byte",
-            "case", "catch", "char", "class", "const",
-            "continue", "default", "do", "double", "else",
-            "enum", "extends", "final", "finally", "float",
-            "for", "goto", "if", "implements", "import",
-            "instanceof", "int", "interface", "long", "native",
-            "new", "package", "private", "protected", "public",
-            "return", "short", "static", "strictfp", "super",
-            "switch", "synchronized", "this", "throw", "throws",
-            "transient", "try", "void", "volatile", "while", "var"
-    };
-
+    private final IncrementalHighlighter highlighter;
+    /**
+     * decides when the damaged paragraphs are re-highlighted
+     */
+    private final HighlightScheduler highlightScheduler;
+    /**
+     * the outline of the code shown in the structure view
+     */
+    private final DocumentOutline outline;
     /**
-     * regular expressions of characters to be highlighted
+     * number of changes made to the text so far
      */
-    private static final String KEYWORD_PATTERN = "\\b(" + String.join("|", KEYWORDS) + ")\\b";
-    private static final String PAREN_PATTERN = "\\(|\\)";
-    private static final String BRACE_PATTERN = "\\{|\\}";
-    private static final String BRACKET_PATTERN = "\\[|\\]";
-    private static final String SEMICOLON_PATTERN = "\\;";
-    private static final String STRING_PATTERN = "\"([^\"\\\\]|\\\\.)*\"";
-    private static final String COMMENT_PATTERN = "//[^\n]*" + "|" + "/\\*(.|\\R)*?\\*/";
-    private static final String INTEGER_PATTERN = "(?<![\\w])(?<![\\d.])[0-9]+(?![\\d.])(?![\\w])";
+    private long version;
 
     /**
-     * patterns to be highlighted
+     * Creates a new empty JavaCodeArea highlighted by the Java8Lexer
      */
-    private static final Pattern PATTERN = Pattern.compile(
-            "(?<KEYWORD>" + KEYWORD_PATTERN + ")"
-                    + "|(?<PAREN>" + PAREN_PATTERN + ")"
-                    + "|(?<BRACE>" + BRACE_PATTERN + ")"
-                    + "|(?<BRACKET>" + BRACKET_PATTERN + ")"
-                    + "|(?<SEMICOLON>" + SEMICOLON_PATTERN + ")"
-                    + "|(?<STRING>" + STRING_PATTERN + ")"
-                    + "|(?<COMMENT>" + COMMENT_PATTERN + ")"
-                    + "|(?<INTEGER>" + INTEGER_PATTERN + ")"
-    );
+    public JavaCodeArea() {
+        this(new LexerHighlightingEngine());
+    }
 
     /**
      * Creates a new empty JavaCodeArea
+     *
+     * @param highlightingEngine engine computing the syntax highlighting
      */
-    public JavaCodeArea() {
-        //color syntax immediately
-        this.handleTextChange();
-        //update syntax coloring whenever contents update
-        this.setOnKeyPressed(event -> this.handleTextChange());
-        //highlight for syntax
-        this.highlightText();
+    public JavaCodeArea(HighlightingEngine highlightingEngine) {
+        //keep track of the paragraphs each edit damages
+        this.highlighter = new IncrementalHighlighter(this, highlightingEngine);
+        //update syntax coloring shortly after the contents stop changing,
+        //and count the changes, so analyses of the text can tell they are current
+        this.highlightScheduler = new HighlightScheduler(this, this.highlighter);
+        this.outline = new DocumentOutline();
         //Enables line numbering
         this.setParagraphGraphicFactory(LineNumberFactory.get(this));
     }
 
     /**
-     * Computes the highlighting of substrings of text to return the style of each substring.
+     * Sets the text length above which the paragraphs in view are styled
+     * before the rest of the text, so large files show colors right away.
      *
-     * @param text string to compute highlighting of
-     * @return StyleSpans Collection Object
+     * @param viewportFirstThreshold text length in characters
      */
-    private static StyleSpans<Collection<String>> computeHighlighting(String text) {
-        Matcher matcher = PATTERN.matcher(text);
-        int lastKwEnd = 0;
-        StyleSpansBuilder<Collection<String>> spansBuilder
-                = new StyleSpansBuilder<>();
-        while (matcher.find()) {
-            String styleClass =
-                    matcher.group("KEYWORD") != null ? "keyword" :
-                            matcher.group("PAREN") != null ? "paren" :
-                                    matcher.group("BRACE") != null ? "brace" :
-                                            matcher.group("BRACKET") != null ? "bracket" :
-                                                    matcher.group("SEMICOLON") != null ? "semicolon" :
-                                                            matcher.group("STRING") != null ? "string" :
-                                                                    matcher.group("COMMENT") != null ? "comment" :
-                                                                            matcher.group("INTEGER") != null ? "integer" :
-                                                                                    null; /* never happens */
-            assert styleClass != null;
-            spansBuilder.add(Collections.emptyList(), matcher.start() - lastKwEnd);
-            spansBuilder.add(Collections.singleton(styleClass), matcher.end() - matcher.start());
-            lastKwEnd = matcher.end();
-        }
-        spansBuilder.add(Collections.emptyList(), text.length() - lastKwEnd);
-        return spansBuilder.create();
+    public void setViewportFirstThreshold(int viewportFirstThreshold) {
+        this.highlighter.setViewportFirstThreshold(viewportFirstThreshold);
     }
 
     /**
-     * Helper function to highlight the text within the StyledCodeArea.
+     * Returns the number of characters whose style was pushed to the view by
+     * the last highlight pass, which for a single edit is usually just the
+     * tokens around it.
+     *
+     * @return the characters restyled by the last pass
      */
-    private void highlightText() {
-        this.setStyleSpans(0, computeHighlighting(this.getText()));
+    public int getLastRestyledCharacters() {
+        return this.highlighter.getLastRestyledCharacters();
     }
 
     /**
-     * Handles the text change action.
-     * Listens to the text changes and highlights the keywords real-time.
+     * Returns the outline of the code, kept for as long as this code area.
+     *
+     * @return the outline shown in the structure view
      */
-    private void handleTextChange() {
-        Subscription cleanupWhenNoLongerNeedIt = this
+    public DocumentOutline getOutline() {
+        return this.outline;
+    }
 
-                // plain changes = ignore style changes that are emitted when syntax highlighting is reapplied
-                // multi plain changes = save computation by not rerunning the code multiple times
-                // when making multiple changes (e.g. renaming a method at multiple parts in file)
-                .multiPlainChanges()
+    /**
+     * Returns the version of the text, which changes at every edit.
+     * Analyses made of the same version can be reused.
+     *
+     * @return the number of changes made to the text so far
+     */
+    public long getVersion() {
+        return this.version;
+    }
 
-                // do not emit an event until 500 ms have passed since the last emission of previous stream
-                .successionEnds(Duration.ofMillis(500))
+    /**
+     * Moves the text on to its next version. Called by the HighlightScheduler
+     * for every change to the text.
+     */
+    void incrementVersion() {
+        this.version++;
+    }
 
-                // run the following code block when previous stream emits an event
-                .subscribe(ignore -> this.highlightText());
+    /**
+     * Stops highlighting this code area and releases its resources.
+     * Called when the tab holding it is closed.
+     */
+    @Override
+    public void dispose() {
+        this.highlightScheduler.dispose();
+        this.outline.dispose();
+        AnalysisCache.getShared().remove(this);
+        super.dispose();
     }
 }
@@ -0,0 +1,406 @@
+/*
+ * File: LexerHighlightingEngine.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the LexerHighlightingEngine class, which highlights
+ * Java code using the tokens of the generated Java8Lexer.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.fxmisc.richtext.model.StyleSpans;
+
+import java.util.Collection;
+
+/**
+ * This class highlights Java code by running the Java8Lexer over it and
+ * looking up the style of every token type in a precomputed table.
+ * Whitespace and comments, which the grammar skips, are kept as tokens
+ * so that comments can be styled too.
+ * Each thread reuses its own lexer, along with its input and token,
+ * so an engine can be shared between threads.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class LexerHighlightingEngine implements HighlightingEngine {
+    /**
+     * the style id of each Java8Lexer token type
+     */
+    private static final int[] TOKEN_STYLES = createTokenStyles();
+
+    /**
+     * the lexer reused for every text highlighted on a thread
+     */
+    private static final ThreadLocal<HighlightLexer> LEXER = ThreadLocal.withInitial(HighlightLexer::new);
+
+    /**
+     * Computes the highlighting of substrings of text to return the style of each substring.
+     *
+     * @param text string to compute highlighting of
+     * @return StyleSpans Collection Object
+     */
+    @Override
+    public StyleSpans<Collection<String>> computeHighlighting(String text) {
+        HighlightBuffer buffer = new HighlightBuffer();
+        this.highlightFrom(text, 0, buffer);
+        return buffer.toStyleSpans(0, text.length());
+    }
+
+    /**
+     * Computes the highlighting of a single paragraph, given the lexical state
+     * it starts in, and appends runs covering the whole paragraph to the buffer.
+     *
+     * @param paragraph  text of the paragraph, without its line break
+     * @param entryState lexical state at the start of the paragraph
+     * @param buffer     buffer the styles of the paragraph are added to
+     * @return the lexical state at the end of the paragraph
+     */
+    @Override
+    public LexicalState computeParagraphHighlighting(String paragraph, LexicalState entryState,
+                                                     HighlightBuffer buffer) {
+        int start = 0;
+
+        // finish the block comment left open by an earlier paragraph
+        if (entryState == LexicalState.BLOCK_COMMENT) {
+            int commentEnd = paragraph.indexOf("*/");
+            if (commentEnd < 0) {
+                buffer.add(HighlightStyles.COMMENT, paragraph.length());
+                return LexicalState.BLOCK_COMMENT;
+            }
+            start = commentEnd + 2;
+            buffer.add(HighlightStyles.COMMENT, start);
+        }
+        return this.highlightFrom(paragraph, start, buffer);
+    }
+
+    /**
+     * Lexes the text from the given index to its end and adds the style of
+     * every token, and of the characters between tokens, to the buffer.
+     *
+     * @param text   text to highlight
+     * @param start  index to start lexing at
+     * @param buffer buffer the styles are added to
+     * @return the lexical state at the end of the text
+     */
+    private LexicalState highlightFrom(String text, int start, HighlightBuffer buffer) {
+        HighlightLexer lexer = LEXER.get();
+        lexer.load(text, start);
+
+        int lastTokenEnd = start;
+        boolean inAnnotation = false;
+        // stop at the end of the text instead of lexing the end of file, see TextCharStream
+        while (lastTokenEnd < text.length()) {
+            Token token = lexer.nextToken();
+            int type = token.getType();
+            int tokenStart = token.getStartIndex();
+            int tokenEnd = Math.min(token.getStopIndex() + 1, text.length());
+            if (type == Token.EOF) {
+                break;
+            }
+
+            // the lexer only splits "/*" into '/' and '*' when the comment is never closed
+            if (type == Java8Lexer.DIV && tokenEnd < text.length() && text.charAt(tokenEnd) == '*') {
+                buffer.add(HighlightStyles.NONE, tokenStart - lastTokenEnd);
+                buffer.add(HighlightStyles.COMMENT, text.length() - tokenStart);
+                lexer.release();
+                return LexicalState.BLOCK_COMMENT;
+            }
+
+            // an annotation is '@' followed by a possibly qualified name
+            int style;
+            if (type == Java8Lexer.AT) {
+                style = HighlightStyles.ANNOTATION;
+                inAnnotation = true;
+            } else if (inAnnotation && (type == Java8Lexer.Identifier || type == Java8Lexer.DOT)) {
+                style = HighlightStyles.ANNOTATION;
+            } else {
+                style = TOKEN_STYLES[type];
+                inAnnotation = false;
+            }
+
+            // characters the lexer could not recognize stay unstyled
+            buffer.add(HighlightStyles.NONE, tokenStart - lastTokenEnd);
+            buffer.add(style, tokenEnd - tokenStart);
+            lastTokenEnd = tokenEnd;
+        }
+        buffer.add(HighlightStyles.NONE, text.length() - lastTokenEnd);
+        lexer.release();
+        return LexicalState.NORMAL;
+    }
+
+    /**
+     * Builds the table mapping each Java8Lexer token type to its style id.
+     *
+     * @return the style id of each token type
+     */
+    private static int[] createTokenStyles() {
+        int[] tokenStyles = new int[Java8Lexer.VOCABULARY.getMaxTokenType() + 1];
+        for (int type = Java8Lexer.ABSTRACT; type <= Java8Lexer.WHILE; type++) {
+            tokenStyles[type] = HighlightStyles.KEYWORD;
+        }
+        tokenStyles[Java8Lexer.BooleanLiteral] = HighlightStyles.KEYWORD;
+        tokenStyles[Java8Lexer.NullLiteral] = HighlightStyles.KEYWORD;
+        tokenStyles[Java8Lexer.IntegerLiteral] = HighlightStyles.INTEGER;
+        tokenStyles[Java8Lexer.FloatingPointLiteral] = HighlightStyles.FLOAT;
+        tokenStyles[Java8Lexer.CharacterLiteral] = HighlightStyles.CHARACTER;
+        tokenStyles[Java8Lexer.StringLiteral] = HighlightStyles.STRING;
+        tokenStyles[Java8Lexer.LPAREN] = HighlightStyles.PAREN;
+        tokenStyles[Java8Lexer.RPAREN] = HighlightStyles.PAREN;
+        tokenStyles[Java8Lexer.LBRACE] = HighlightStyles.BRACE;
+        tokenStyles[Java8Lexer.RBRACE] = HighlightStyles.BRACE;
+        tokenStyles[Java8Lexer.LBRACK] = HighlightStyles.BRACKET;
+        tokenStyles[Java8Lexer.RBRACK] = HighlightStyles.BRACKET;
+        tokenStyles[Java8Lexer.SEMI] = HighlightStyles.SEMICOLON;
+        tokenStyles[Java8Lexer.COMMENT] = HighlightStyles.COMMENT;
+        tokenStyles[Java8Lexer.LINE_COMMENT] = HighlightStyles.COMMENT;
+        return tokenStyles;
+    }
+
+    /**
+     * Java8Lexer that emits whitespace and comments instead of skipping them
+     * and does not report unrecognized characters.
+     * It reads the text through a stream it keeps between texts and hands out
+     * the same token object every time, so lexing a text allocates next to nothing.
+     */
+    private static class HighlightLexer extends Java8Lexer {
+        /**
+         * the input stream reloaded with every text
+         */
+        private final TextCharStream input;
+        /**
+         * the token returned by every call to nextToken
+         */
+        private final CommonToken token;
+
+        /**
+         * Creates a new HighlightLexer without any text
+         */
+        HighlightLexer() {
+            super(null);
+            this.removeErrorListeners();
+            this.input = new TextCharStream();
+            this.token = new CommonToken(Token.INVALID_TYPE);
+        }
+
+        /**
+         * Starts lexing a new text at the given index.
+         *
+         * @param text  text to lex
+         * @param start index to start lexing at
+         */
+        void load(String text, int start) {
+            this.input.load(text);
+            if (this._input == this.input) {
+                this.reset();
+            } else {
+                this.setInputStream(this.input);
+            }
+            this.input.seek(start);
+        }
+
+        /**
+         * Lets go of the last text, so that the lexer does not keep it from being collected.
+         */
+        void release() {
+            this.input.clear();
+        }
+
+        /**
+         * Keeps skipped tokens, so whitespace and comments are emitted with their own types.
+         */
+        @Override
+        public void skip() {
+        }
+
+        /**
+         * Emits the shared token, set to the type and range just matched,
+         * instead of creating a new one.
+         *
+         * @return the shared token
+         */
+        @Override
+        public Token emit() {
+            this.token.setType(this._type);
+            this.token.setStartIndex(this._tokenStartCharIndex);
+            this.token.setStopIndex(this.getCharIndex() - 1);
+            this.emit(this.token);
+            return this.token;
+        }
+    }
+
+    /**
+     * CharStream reading straight from the characters of a String, without
+     * copying them, so lexing a text costs the same whatever its length.
+     * It indexes by char, like StyleSpans, where the streams of CharStreams
+     * would index by code point.
+     * The lexer does not cache what it does at the end of file, and working
+     * it out allocates hundreds of bytes every time, so every text is followed
+     * by a line break and a NUL, which end the last token through cached
+     * transitions and are never lexed as tokens of their own.
+     */
+    private static class TextCharStream implements CharStream {
+        /**
+         * characters read after the text
+         */
+        private static final String SENTINEL = "\n\u0000";
+
+        /**
+         * the text being read
+         */
+        private String text;
+        /**
+         * number of characters in the text and the sentinel
+         */
+        private int size;
+        /**
+         * index of the next character to read
+         */
+        private int position;
+
+        /**
+         * Creates a new TextCharStream without any text
+         */
+        TextCharStream() {
+            this.clear();
+        }
+
+        /**
+         * Starts reading a new text from its start.
+         *
+         * @param text text to read from
+         */
+        void load(String text) {
+            this.text = text;
+            this.size = text.length() + SENTINEL.length();
+            this.position = 0;
+        }
+
+        /**
+         * Lets go of the text, leaving the stream empty.
+         */
+        void clear() {
+            this.load("");
+            this.size = 0;
+        }
+
+        /**
+         * Returns the character at an index of the text followed by the sentinel.
+         *
+         * @param index index of the character
+         * @return the character
+         */
+        private char charAt(int index) {
+            return index < this.text.length() ? this.text.charAt(index)
+                    : SENTINEL.charAt(index - this.text.length());
+        }
+
+        /**
+         * Looks at a character ahead of, or behind, the current position.
+         *
+         * @param i offset of the character, 1 being the next one and -1 the previous one
+         * @return the character, or EOF outside of the text and sentinel
+         */
+        @Override
+        public int LA(int i) {
+            int index = i > 0 ? this.position + i - 1 : this.position + i;
+            if (i == 0 || index < 0 || index >= this.size) {
+                return IntStream.EOF;
+            }
+            return this.charAt(index);
+        }
+
+        /**
+         * Moves past the next character.
+         */
+        @Override
+        public void consume() {
+            if (this.position >= this.size) {
+                throw new IllegalStateException("cannot consume EOF");
+            }
+            this.position++;
+        }
+
+        /**
+         * Marks need not keep anything, since the whole text stays readable.
+         *
+         * @return an unused marker
+         */
+        @Override
+        public int mark() {
+            return -1;
+        }
+
+        /**
+         * Nothing is kept for marks, so nothing is released.
+         *
+         * @param marker an unused marker
+         */
+        @Override
+        public void release(int marker) {
+        }
+
+        /**
+         * Returns the index of the next character.
+         *
+         * @return the current position
+         */
+        @Override
+        public int index() {
+            return this.position;
+        }
+
+        /**
+         * Moves to the given index.
+         *
+         * @param index the new position
+         */
+        @Override
+        public void seek(int index) {
+            this.position = Math.min(index, this.size);
+        }
+
+        /**
+         * Returns the number of characters of the text and sentinel.
+         *
+         * @return the size of the stream
+         */
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * The text does not come from a named source.
+         *
+         * @return the unknown source name
+         */
+        @Override
+        public String getSourceName() {
+            return IntStream.UNKNOWN_SOURCE_NAME;
+        }
+
+        /**
+         * Returns the characters in the given range.
+         *
+         * @param interval range of character indices (inclusive)
+         * @return the characters in the range
+         */
+        @Override
+        public String getText(Interval interval) {
+            StringBuilder text = new StringBuilder();
+            for (int index = Math.max(interval.a, 0); index <= interval.b && index < this.size; index++) {
+                text.append(this.charAt(index));
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * File: LexicalState.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the LexicalState enum, naming the lexical states
+ * that syntax highlighting carries from one paragraph to the next.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+/**
+ * The lexical state of the highlighter at a paragraph boundary.
+ * Java string and character literals cannot span lines, so the only
+ * construct that can be open at the start of a paragraph is a block comment.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public enum LexicalState {
+    /**
+     * plain code, no construct is open
+     */
+    NORMAL,
+    /**
+     * inside a block comment that has not been terminated yet
+     */
+    BLOCK_COMMENT
+}
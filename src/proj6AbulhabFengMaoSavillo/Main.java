@@ -8,11 +8,16 @@
 package proj6AbulhabFengMaoSavillo;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 
+import java.io.IOException;
+
 
 /**
  * This class creates a stage, as specified in Main.fxml, that contains a
@@ -28,6 +33,21 @@ import javafx.scene.Parent;
  */
 public class Main extends Application
 {
+    /**
+     * longest time, in milliseconds, exiting waits for a structure view parse to save the parser caches
+     */
+    private static final long CACHE_SAVE_TIMEOUT = 2000;
+
+    /**
+     * warms up the structure view parser in the background at startup
+     */
+    private ParserWarmup parserWarmup;
+
+    /**
+     * true once the warm-up of the structure view parser is done
+     */
+    private final ReadOnlyBooleanWrapper parserReady = new ReadOnlyBooleanWrapper(false);
+
     /**
      * main function of Main class
      *
@@ -38,6 +58,28 @@ public class Main extends Application
         launch(args);
     }
 
+    /**
+     * Returns the warm-up of the structure view parser.
+     *
+     * @return the parser warm-up, null before the stage is shown
+     */
+    public ParserWarmup getParserWarmup()
+    {
+        return this.parserWarmup;
+    }
+
+    /**
+     * Returns the property telling whether the warm-up of the structure view
+     * parser is done, from when on the first parse no longer pays for loading
+     * the parser. Set on the JavaFX Application Thread.
+     *
+     * @return the parser ready property
+     */
+    public ReadOnlyBooleanProperty parserReadyProperty()
+    {
+        return this.parserReady.getReadOnlyProperty();
+    }
+
     /**
      * Creates a stage as specified in Main.fxml, that contains a set of tabs,
      * embedded in a tab pane, with each tab window containing a code area; a menu
@@ -66,5 +108,26 @@ public class Main extends Application
         stage.setScene(scene);
         stage.setOnCloseRequest(controller::handleExitAction);
         stage.show();
+
+        // warm up the structure view parser while the user picks a file
+        this.parserWarmup = new ParserWarmup();
+        this.parserWarmup.start(() -> Platform.runLater(() -> this.parserReady.set(true)));
+    }
+
+    /**
+     * Saves the prediction caches of the structure view parser on exit,
+     * for the warm-up of the next session to load.
+     */
+    @Override
+    public void stop()
+    {
+        try
+        {
+            ParserCacheManager.getShared().save(ParserCacheFile.DEFAULT_PATH, CACHE_SAVE_TIMEOUT);
+        }
+        catch (IOException e)
+        {
+            System.out.println("Error Saving Parser Cache");
+        }
     }
-}
\ No newline at end of file
+}
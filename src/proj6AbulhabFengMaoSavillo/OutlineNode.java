@@ -0,0 +1,144 @@
+/*
+ * File: OutlineNode.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the OutlineNode class, which describes one declaration
+ * in the structure of a Java file.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One declaration in the outline of a Java file: a class, a field or a method,
+ * with the line and column it is declared at and, for a class, its members.
+ * Outlines hold no JavaFX objects, so they can be built off the JavaFX
+ * Application Thread and turned into TreeItems once they are published.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class OutlineNode
+{
+    /**
+     * The kinds of declaration shown in the outline
+     */
+    public enum Kind
+    {
+        ROOT, CLASS, FIELD, METHOD
+    }
+
+    /**
+     * what is declared
+     */
+    private final Kind kind;
+    /**
+     * name of the declaration
+     */
+    private final String name;
+    /**
+     * line the declaration starts on, counting from 1
+     */
+    private final int line;
+    /**
+     * column the declaration starts at, counting from 0
+     */
+    private final int column;
+    /**
+     * the declarations nested in this one, in order
+     */
+    private final List<OutlineNode> children;
+
+    /**
+     * Creates a new OutlineNode without children
+     *
+     * @param kind   what is declared
+     * @param name   name of the declaration
+     * @param line   line the declaration starts on, counting from 1
+     * @param column column the declaration starts at, counting from 0
+     */
+    public OutlineNode(Kind kind, String name, int line, int column)
+    {
+        this.kind = kind;
+        this.name = name;
+        this.line = line;
+        this.column = column;
+        this.children = new ArrayList<>();
+    }
+
+    /**
+     * Creates the root of an empty outline
+     *
+     * @return a node holding the top level declarations
+     */
+    public static OutlineNode createRoot()
+    {
+        return new OutlineNode(Kind.ROOT, "", 0, 0);
+    }
+
+    /**
+     * Adds a declaration nested in this one.
+     *
+     * @param child the nested declaration
+     */
+    public void addChild(OutlineNode child)
+    {
+        this.children.add(child);
+    }
+
+    /**
+     * Returns what is declared.
+     *
+     * @return the kind of the declaration
+     */
+    public Kind getKind()
+    {
+        return this.kind;
+    }
+
+    /**
+     * Returns the name of the declaration.
+     *
+     * @return the name
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Returns the line the declaration starts on.
+     *
+     * @return the line number, counting from 1
+     */
+    public int getLine()
+    {
+        return this.line;
+    }
+
+    /**
+     * Returns the column the declaration starts at.
+     *
+     * @return the column, counting from 0
+     */
+    public int getColumn()
+    {
+        return this.column;
+    }
+
+    /**
+     * Returns the declarations nested in this one.
+     *
+     * @return an unmodifiable list of the children, in order
+     */
+    public List<OutlineNode> getChildren()
+    {
+        return Collections.unmodifiableList(this.children);
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * File: OutlineReconciler.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the OutlineReconciler class, which updates the
+ * TreeItems of the structure view to show a new outline.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import javafx.scene.Node;
+import javafx.scene.control.TreeItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keeps a tree of TreeItems showing an outline, and updates it in place when
+ * a new outline is published instead of building a new tree.
+ * At each level, the declarations of the new outline are matched with the
+ * TreeItems already there: first with those of the same kind and name, in
+ * order, then with the TreeItems of the same kind left over, which are
+ * renamed. Matched TreeItems are kept, with their expansion and their own
+ * children reconciled in turn, so typing only touches the TreeItems of the
+ * declarations that changed. The others are created or removed.
+ * The number of TreeItems touched, that is created, removed, renamed or
+ * moved, is kept for the last update and added up over all of them.
+ * Must be used on the JavaFX Application Thread once its root is shown.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class OutlineReconciler
+{
+    /**
+     * the TreeItem holding the top level declarations
+     */
+    private final TreeItem<String> root;
+    /**
+     * creates the icon of a new TreeItem from the kind of its declaration
+     */
+    private final Function<OutlineNode.Kind, Node> graphicFactory;
+    /**
+     * the declaration each TreeItem shows, as of the last update
+     */
+    private final Map<TreeItem<String>, OutlineNode> declarations;
+    /**
+     * number of TreeItems touched by the last update
+     */
+    private int lastTouched;
+    /**
+     * number of TreeItems touched by all updates
+     */
+    private long totalTouched;
+    /**
+     * number of updates
+     */
+    private long updates;
+
+    /**
+     * Creates a new OutlineReconciler showing an empty outline
+     *
+     * @param graphicFactory creates the icon of a new TreeItem from the kind of its declaration
+     */
+    public OutlineReconciler(Function<OutlineNode.Kind, Node> graphicFactory)
+    {
+        this.root = new TreeItem<>();
+        this.graphicFactory = graphicFactory;
+        this.declarations = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the TreeItem holding the top level declarations, which stays
+     * the same across updates.
+     *
+     * @return the root TreeItem
+     */
+    public TreeItem<String> getRoot()
+    {
+        return this.root;
+    }
+
+    /**
+     * Updates the TreeItems to show an outline.
+     *
+     * @param outline the root of the outline
+     * @return the number of TreeItems touched
+     */
+    public int reconcile(OutlineNode outline)
+    {
+        int touched = this.reconcileChildren(this.root, outline.getChildren());
+        this.lastTouched = touched;
+        this.totalTouched += touched;
+        this.updates++;
+        return touched;
+    }
+
+    /**
+     * Removes all the TreeItems but the root.
+     */
+    public void clear()
+    {
+        this.reconcile(OutlineNode.createRoot());
+    }
+
+    /**
+     * Returns the declaration a TreeItem shows.
+     *
+     * @param treeItem a TreeItem of the outline
+     * @return its declaration, or null if the TreeItem is not in the outline
+     */
+    public OutlineNode getDeclaration(TreeItem<String> treeItem)
+    {
+        return this.declarations.get(treeItem);
+    }
+
+    /**
+     * Returns the number of TreeItems whose declaration is kept.
+     *
+     * @return the number of TreeItems below the root
+     */
+    public int size()
+    {
+        return this.declarations.size();
+    }
+
+    /**
+     * Returns the number of TreeItems touched by the last update.
+     *
+     * @return the number of TreeItems created, removed, renamed or moved
+     */
+    public int getLastTouched()
+    {
+        return this.lastTouched;
+    }
+
+    /**
+     * Returns the number of TreeItems touched by all updates.
+     *
+     * @return the number of TreeItems created, removed, renamed or moved
+     */
+    public long getTotalTouched()
+    {
+        return this.totalTouched;
+    }
+
+    /**
+     * Returns the number of updates.
+     *
+     * @return the number of calls to reconcile
+     */
+    public long getUpdateCount()
+    {
+        return this.updates;
+    }
+
+    /**
+     * Updates the children of a TreeItem to show the given declarations.
+     *
+     * @param parent       the TreeItem
+     * @param declarations the declarations to show under it, in order
+     * @return the number of TreeItems touched
+     */
+    private int reconcileChildren(TreeItem<String> parent, List<OutlineNode> declarations)
+    {
+        List<TreeItem<String>> oldItems = parent.getChildren();
+        if (oldItems.isEmpty() && declarations.isEmpty())
+        {
+            return 0;
+        }
+
+        //match the declarations with the TreeItems of the same kind and name
+        Map<String, ArrayDeque<TreeItem<String>>> itemsByKey = new HashMap<>();
+        for (TreeItem<String> item : oldItems)
+        {
+            itemsByKey.computeIfAbsent(key(this.declarations.get(item)), key -> new ArrayDeque<>()).add(item);
+        }
+        List<TreeItem<String>> newItems = new ArrayList<>(declarations.size());
+        Set<TreeItem<String>> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (OutlineNode declaration : declarations)
+        {
+            ArrayDeque<TreeItem<String>> items = itemsByKey.get(key(declaration));
+            TreeItem<String> item = items == null ? null : items.poll();
+            newItems.add(item);
+            if (item != null)
+            {
+                matched.add(item);
+            }
+        }
+
+        //rename the TreeItems left over to the declarations of the same kind left over
+        Map<OutlineNode.Kind, ArrayDeque<TreeItem<String>>> leftOver = new EnumMap<>(OutlineNode.Kind.class);
+        for (TreeItem<String> item : oldItems)
+        {
+            if (!matched.contains(item))
+            {
+                leftOver.computeIfAbsent(this.declarations.get(item).getKind(), kind -> new ArrayDeque<>())
+                        .add(item);
+            }
+        }
+        int touched = 0;
+        for (int i = 0; i < declarations.size(); i++)
+        {
+            if (newItems.get(i) == null)
+            {
+                OutlineNode declaration = declarations.get(i);
+                ArrayDeque<TreeItem<String>> items = leftOver.get(declaration.getKind());
+                TreeItem<String> item = items == null ? null : items.poll();
+                if (item != null)
+                {
+                    item.setValue(declaration.getName());
+                    matched.add(item);
+                    touched++;
+                }
+                else
+                {
+                    item = this.createItem(declaration);
+                    touched += 1 + this.countDescendants(declaration);
+                }
+                newItems.set(i, item);
+            }
+        }
+
+        //update the declarations and the children of the TreeItems kept
+        for (int i = 0; i < declarations.size(); i++)
+        {
+            TreeItem<String> item = newItems.get(i);
+            if (matched.contains(item))
+            {
+                this.declarations.put(item, declarations.get(i));
+                touched += this.reconcileChildren(item, declarations.get(i).getChildren());
+            }
+        }
+
+        //remove the TreeItems not kept, then insert and move the others into place
+        for (int i = oldItems.size() - 1; i >= 0; i--)
+        {
+            TreeItem<String> item = oldItems.get(i);
+            if (!matched.contains(item))
+            {
+                oldItems.remove(i);
+                touched += this.forget(item);
+            }
+        }
+        for (int i = 0; i < newItems.size(); i++)
+        {
+            TreeItem<String> item = newItems.get(i);
+            if (i < oldItems.size() && oldItems.get(i) == item)
+            {
+                continue;
+            }
+            if (matched.contains(item))
+            {
+                //a kept TreeItem further down, moved up here
+                oldItems.remove(item);
+                touched++;
+            }
+            oldItems.add(i, item);
+        }
+        return touched;
+    }
+
+    /**
+     * Creates a TreeItem for a declaration and for its children in turn.
+     *
+     * @param declaration the declaration
+     * @return the new TreeItem
+     */
+    private TreeItem<String> createItem(OutlineNode declaration)
+    {
+        TreeItem<String> item = new TreeItem<>(declaration.getName(),
+                                               this.graphicFactory.apply(declaration.getKind()));
+        item.setExpanded(declaration.getKind() == OutlineNode.Kind.CLASS);
+        this.declarations.put(item, declaration);
+        for (OutlineNode child : declaration.getChildren())
+        {
+            item.getChildren().add(this.createItem(child));
+        }
+        return item;
+    }
+
+    /**
+     * Forgets the declarations of a removed TreeItem and of its descendants.
+     *
+     * @param item the removed TreeItem
+     * @return the number of TreeItems removed
+     */
+    private int forget(TreeItem<String> item)
+    {
+        int removed = 1;
+        this.declarations.remove(item);
+        for (TreeItem<String> child : item.getChildren())
+        {
+            removed += this.forget(child);
+        }
+        return removed;
+    }
+
+    /**
+     * Counts the descendants of a declaration.
+     *
+     * @param declaration the declaration
+     * @return the number of declarations nested in it, at any depth
+     */
+    private int countDescendants(OutlineNode declaration)
+    {
+        int count = 0;
+        for (OutlineNode child : declaration.getChildren())
+        {
+            count += 1 + this.countDescendants(child);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the key matching a declaration with a TreeItem of the same kind and name.
+     *
+     * @param declaration the declaration
+     * @return its kind and name
+     */
+    private static String key(OutlineNode declaration)
+    {
+        return declaration.getKind() + " " + declaration.getName();
+    }
+}
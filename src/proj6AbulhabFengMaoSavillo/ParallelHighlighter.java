@@ -0,0 +1,292 @@
+/*
+ * File: ParallelHighlighter.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParallelHighlighter class, which highlights
+ * many paragraphs at once on a ForkJoinPool.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Highlights a long list of paragraphs by splitting it into chunks that are
+ * highlighted in parallel on a ForkJoinPool, each starting in the NORMAL state.
+ * Chunks are split where a paragraph looks like it starts outside of a block
+ * comment, the only construct that spans paragraphs, so the assumed state is
+ * nearly always right. The chunks are then stitched together in order, and
+ * where the state a chunk was assumed to start in turns out to be wrong, its
+ * paragraphs are re-highlighted from the real state until the states agree again.
+ * The result is the same as highlighting the paragraphs one after another.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ParallelHighlighter {
+    /**
+     * fewest paragraphs in a chunk, below which splitting costs more than it saves
+     */
+    private static final int MIN_CHUNK_PARAGRAPHS = 500;
+    /**
+     * chunks made per thread of the pool, so that uneven chunks balance out
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * most paragraphs a chunk boundary is moved forward to find a safe paragraph
+     */
+    private static final int MAX_BOUNDARY_SEARCH = 64;
+
+    /**
+     * the engine computing the highlighting of each paragraph
+     */
+    private final HighlightingEngine highlightingEngine;
+    /**
+     * the pool the chunks are highlighted on
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new ParallelHighlighter using the common ForkJoinPool
+     *
+     * @param highlightingEngine the engine computing the highlighting of each paragraph
+     */
+    public ParallelHighlighter(HighlightingEngine highlightingEngine) {
+        this(highlightingEngine, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new ParallelHighlighter using the given pool
+     *
+     * @param highlightingEngine the engine computing the highlighting of each paragraph
+     * @param pool               the pool the chunks are highlighted on
+     */
+    public ParallelHighlighter(HighlightingEngine highlightingEngine, ForkJoinPool pool) {
+        this.highlightingEngine = highlightingEngine;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the highlighting of a whole text, one paragraph per line.
+     *
+     * @param text string to compute highlighting of
+     * @return StyleSpans Collection Object
+     */
+    public StyleSpans<Collection<String>> computeHighlighting(String text) {
+        String[] paragraphs = text.split("\n", -1);
+        HighlightBuffer buffer = new HighlightBuffer();
+        int[] paragraphOffsets = new int[paragraphs.length + 1];
+        LexicalState[] exitStates = new LexicalState[paragraphs.length];
+        this.highlight(paragraphs, LexicalState.NORMAL, buffer, paragraphOffsets, exitStates, () -> false);
+
+        // put back the line breaks, which are part of a block comment they are in
+        HighlightBuffer withLineBreaks = new HighlightBuffer();
+        for (int i = 0; i < paragraphs.length; i++) {
+            if (i > 0) {
+                withLineBreaks.add(exitStates[i - 1] == LexicalState.BLOCK_COMMENT
+                                           ? HighlightStyles.COMMENT : HighlightStyles.NONE, 1);
+            }
+            withLineBreaks.append(buffer, paragraphOffsets[i], paragraphOffsets[i + 1]);
+        }
+        return withLineBreaks.toStyleSpans(0, withLineBreaks.length());
+    }
+
+    /**
+     * Highlights the paragraphs into the buffer, one after another, and records
+     * where each one starts in the buffer and the state each one ends in.
+     *
+     * @param paragraphs       the paragraphs to highlight
+     * @param entryState       lexical state at the start of the first paragraph
+     * @param buffer           the buffer the styles of the paragraphs are added to
+     * @param paragraphOffsets receives the start of each paragraph in the buffer,
+     *                         followed by the end of the last
+     * @param exitStates       receives the lexical state at the end of each paragraph
+     * @param cancelled        tells whether the computation has been cancelled
+     * @return false if it was cancelled before all paragraphs were highlighted
+     */
+    public boolean highlight(String[] paragraphs, LexicalState entryState, HighlightBuffer buffer,
+                             int[] paragraphOffsets, LexicalState[] exitStates, BooleanSupplier cancelled) {
+        int[] boundaries = this.findChunkBoundaries(paragraphs);
+        ArrayList<ChunkTask> chunks = new ArrayList<>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+            chunks.add(new ChunkTask(paragraphs, boundaries[i], boundaries[i + 1],
+                                     i == 0 ? entryState : LexicalState.NORMAL, cancelled));
+        }
+        if (chunks.size() == 1) {
+            chunks.get(0).compute();
+        } else {
+            this.pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(chunks);
+                }
+            });
+        }
+        if (cancelled.getAsBoolean()) {
+            return false;
+        }
+
+        // stitch the chunks, re-highlighting the start of those that assumed the wrong state
+        LexicalState state = entryState;
+        for (ChunkTask chunk : chunks) {
+            int paragraph = chunk.first;
+            if (state != chunk.entryState) {
+                for (; paragraph < chunk.last; paragraph++) {
+                    paragraphOffsets[paragraph] = buffer.length();
+                    state = this.highlightingEngine.computeParagraphHighlighting(paragraphs[paragraph], state, buffer);
+                    exitStates[paragraph] = state;
+                    if (state == chunk.exitStates[paragraph - chunk.first]) {
+                        paragraph++;
+                        break;
+                    }
+                }
+            }
+            int chunkStart = chunk.paragraphOffsets[paragraph - chunk.first];
+            int bufferStart = buffer.length();
+            buffer.append(chunk.buffer, chunkStart, chunk.buffer.length());
+            for (; paragraph < chunk.last; paragraph++) {
+                paragraphOffsets[paragraph] = bufferStart + chunk.paragraphOffsets[paragraph - chunk.first]
+                        - chunkStart;
+                exitStates[paragraph] = chunk.exitStates[paragraph - chunk.first];
+                state = exitStates[paragraph];
+            }
+        }
+        paragraphOffsets[paragraphs.length] = buffer.length();
+        return true;
+    }
+
+    /**
+     * Splits the paragraphs into about CHUNKS_PER_THREAD chunks per thread of
+     * the pool, moving each boundary forward to a paragraph that looks like it
+     * starts outside of a block comment.
+     *
+     * @param paragraphs the paragraphs to split
+     * @return the index of the first paragraph of each chunk, followed by the number of paragraphs
+     */
+    private int[] findChunkBoundaries(String[] paragraphs) {
+        int chunkCount = Math.min(this.pool.getParallelism() * CHUNKS_PER_THREAD,
+                                  paragraphs.length / MIN_CHUNK_PARAGRAPHS);
+        chunkCount = Math.max(chunkCount, 1);
+
+        int[] boundaries = new int[chunkCount + 1];
+        int count = 1;
+        for (int i = 1; i < chunkCount; i++) {
+            int boundary = Math.max((int) ((long) paragraphs.length * i / chunkCount), boundaries[count - 1] + 1);
+            int limit = Math.min(boundary + MAX_BOUNDARY_SEARCH, paragraphs.length);
+            while (boundary < limit && !startsOutsideComment(paragraphs, boundary)) {
+                boundary++;
+            }
+            if (boundary < paragraphs.length) {
+                boundaries[count++] = boundary;
+            }
+        }
+        boundaries[count++] = paragraphs.length;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Guesses whether a paragraph starts outside of a block comment: the one
+     * before it opens no comment and it does not look like the inside of one.
+     *
+     * @param paragraphs the paragraphs
+     * @param paragraph  index of the paragraph, greater than 0
+     * @return true if the paragraph most likely starts in the NORMAL state
+     */
+    private static boolean startsOutsideComment(String[] paragraphs, int paragraph) {
+        String previous = paragraphs[paragraph - 1];
+        String text = paragraphs[paragraph].trim();
+        return !previous.contains("/*") && !previous.trim().startsWith("*")
+                && !text.startsWith("*") && !text.isEmpty();
+    }
+
+    /**
+     * A ChunkTask highlights a range of paragraphs into its own buffer,
+     * starting from an assumed state.
+     */
+    private class ChunkTask extends RecursiveAction {
+        /**
+         * version of the serialized form
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * all the paragraphs
+         */
+        private final String[] paragraphs;
+        /**
+         * index of the first paragraph of the chunk
+         */
+        private final int first;
+        /**
+         * index just past the last paragraph of the chunk
+         */
+        private final int last;
+        /**
+         * the state the chunk is assumed to start in
+         */
+        private final LexicalState entryState;
+        /**
+         * tells whether the computation has been cancelled
+         */
+        private final BooleanSupplier cancelled;
+        /**
+         * the styles of the paragraphs of the chunk
+         */
+        private final HighlightBuffer buffer;
+        /**
+         * start of each paragraph of the chunk in the buffer, followed by the end of the last
+         */
+        private final int[] paragraphOffsets;
+        /**
+         * lexical state at the end of each paragraph of the chunk
+         */
+        private final LexicalState[] exitStates;
+
+        /**
+         * Creates a new ChunkTask
+         *
+         * @param paragraphs all the paragraphs
+         * @param first      index of the first paragraph of the chunk
+         * @param last       index just past the last paragraph of the chunk
+         * @param entryState the state the chunk is assumed to start in
+         * @param cancelled  tells whether the computation has been cancelled
+         */
+        ChunkTask(String[] paragraphs, int first, int last, LexicalState entryState, BooleanSupplier cancelled) {
+            this.paragraphs = paragraphs;
+            this.first = first;
+            this.last = last;
+            this.entryState = entryState;
+            this.cancelled = cancelled;
+            this.buffer = new HighlightBuffer();
+            this.paragraphOffsets = new int[last - first + 1];
+            this.exitStates = new LexicalState[last - first];
+        }
+
+        /**
+         * Highlights the paragraphs of the chunk one after another.
+         */
+        @Override
+        protected void compute() {
+            LexicalState state = this.entryState;
+            for (int i = 0; i < this.exitStates.length; i++) {
+                if (this.cancelled.getAsBoolean()) {
+                    return;
+                }
+                state = ParallelHighlighter.this.highlightingEngine.computeParagraphHighlighting(
+                        this.paragraphs[this.first + i], state, this.buffer);
+                this.paragraphOffsets[i + 1] = this.buffer.length();
+                this.exitStates[i] = state;
+            }
+        }
+    }
+}
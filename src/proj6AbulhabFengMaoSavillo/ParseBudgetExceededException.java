@@ -0,0 +1,65 @@
+/*
+ * File: ParseBudgetExceededException.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParseBudgetExceededException class, thrown when a
+ * parse is abandoned for going over its budget.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Thrown by a BudgetedTokenStream to abandon a parse that has run for longer
+ * than its time budget, or that looks further ahead than its lookahead limit
+ * to predict a single alternative.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ParseBudgetExceededException extends CancellationException
+{
+    /**
+     * version of the serialized form
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The limit of the budget a parse went over
+     */
+    public enum Limit
+    {
+        TIME, LOOKAHEAD
+    }
+
+    /**
+     * the limit gone over
+     */
+    private final Limit limit;
+
+    /**
+     * Creates a new ParseBudgetExceededException
+     *
+     * @param limit   the limit gone over
+     * @param message describes how far over the limit the parse went
+     */
+    public ParseBudgetExceededException(Limit limit, String message)
+    {
+        super(message);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the limit the parse went over.
+     *
+     * @return the limit gone over
+     */
+    public Limit getLimit()
+    {
+        return this.limit;
+    }
+}
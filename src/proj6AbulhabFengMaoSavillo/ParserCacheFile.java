@@ -0,0 +1,728 @@
+/*
+ * File: ParserCacheFile.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParserCacheFile class, which saves the prediction
+ * caches of the Java8Parser to a file and loads them back.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.RuntimeMetaData;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNConfig;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.atn.ArrayPredictionContext;
+import org.antlr.v4.runtime.atn.PredictionContext;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.SemanticContext;
+import org.antlr.v4.runtime.atn.SingletonPredictionContext;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saves the DFA states the Java8Parser has learned, along with the
+ * prediction contexts and semantic contexts of their configurations, to a
+ * compressed file, and loads them back into fresh caches, so that a new
+ * session predicts as fast as the one that saved them.
+ * The file starts with a format version, the version of the ANTLR runtime
+ * and a hash of the serialized ATN of the grammar, and a file whose header
+ * does not match the running code is rejected as incompatible.
+ * The file is written to a temporary file first and moved into place, so a
+ * crash while saving never leaves a truncated cache behind.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public final class ParserCacheFile
+{
+    /**
+     * where the caches are kept between sessions
+     */
+    public static final Path DEFAULT_PATH = Paths.get(System.getProperty("user.home"),
+                                                      ".proj6AbulhabFengMaoSavillo", "parser-cache.bin");
+    /**
+     * marks a parser cache file, and its format version, to be raised whenever the format changes
+     */
+    private static final int MAGIC = 0x4A38_4346;
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * kinds of prediction context
+     */
+    private static final byte EMPTY_CONTEXT = 0;
+    private static final byte SINGLETON_CONTEXT = 1;
+    private static final byte ARRAY_CONTEXT = 2;
+    /**
+     * kinds of semantic context
+     */
+    private static final byte NONE = 0;
+    private static final byte PREDICATE = 1;
+    private static final byte PRECEDENCE_PREDICATE = 2;
+    private static final byte AND = 3;
+    private static final byte OR = 4;
+    /**
+     * stands for a missing reference, and for the error state of the DFA
+     */
+    private static final int NO_REFERENCE = -1;
+    private static final int ERROR_STATE = -2;
+    /**
+     * the alternatives of a configuration set found to conflict, which ANTLR keeps protected
+     */
+    private static final Field CONFLICTING_ALTS = conflictingAltsField();
+
+    /**
+     * Not instantiated, only holds constants and static methods
+     */
+    private ParserCacheFile()
+    {
+    }
+
+    /**
+     * Saves the caches to a file, replacing it if it exists.
+     * No parse may use the caches while they are saved.
+     *
+     * @param path          the file to write
+     * @param decisionToDFA the DFA of each decision of the grammar
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(Path path, DFA[] decisionToDFA) throws IOException
+    {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temporary)))))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(RuntimeMetaData.VERSION);
+            out.writeUTF(grammarHash());
+            out.writeInt(decisionToDFA.length);
+
+            Map<PredictionContext, Integer> contextIds = writeContexts(out, decisionToDFA);
+            for (DFA dfa : decisionToDFA)
+            {
+                writeDFA(out, dfa, contextIds);
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads caches saved by an earlier session into the given empty caches.
+     *
+     * @param path               the file to read
+     * @param decisionToDFA      empty DFA for each decision of the grammar, filled with the saved states
+     * @param sharedContextCache empty cache, filled with the saved prediction contexts
+     * @throws IOException if the file cannot be read, or was saved for another grammar or version
+     */
+    public static void load(Path path, DFA[] decisionToDFA, PredictionContextCache sharedContextCache)
+            throws IOException
+    {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path)))))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                    || !in.readUTF().equals(RuntimeMetaData.VERSION) || !in.readUTF().equals(grammarHash())
+                    || in.readInt() != decisionToDFA.length)
+            {
+                throw new IOException("parser cache saved for another grammar or version: " + path);
+            }
+
+            PredictionContext[] contexts = readContexts(in, sharedContextCache);
+            for (DFA dfa : decisionToDFA)
+            {
+                readDFA(in, dfa, contexts);
+            }
+        }
+    }
+
+    /**
+     * Writes every prediction context the configurations of the DFA states
+     * refer to, parents before children, and numbers them in that order.
+     *
+     * @param out           the stream to write to
+     * @param decisionToDFA the DFA of each decision of the grammar
+     * @return the number of each written context
+     * @throws IOException if the stream cannot be written
+     */
+    private static Map<PredictionContext, Integer> writeContexts(DataOutputStream out, DFA[] decisionToDFA)
+            throws IOException
+    {
+        List<PredictionContext> ordered = new ArrayList<>();
+        Map<PredictionContext, Integer> contextIds = new IdentityHashMap<>();
+        for (DFA dfa : decisionToDFA)
+        {
+            for (DFAState state : dfa.states.keySet())
+            {
+                for (ATNConfig config : state.configs.elements())
+                {
+                    numberContext(config.context, contextIds, ordered);
+                }
+            }
+        }
+
+        out.writeInt(ordered.size());
+        for (PredictionContext context : ordered)
+        {
+            if (context == PredictionContext.EMPTY)
+            {
+                out.writeByte(EMPTY_CONTEXT);
+            }
+            else if (context instanceof SingletonPredictionContext)
+            {
+                out.writeByte(SINGLETON_CONTEXT);
+                writeReference(out, context.getParent(0), contextIds);
+                out.writeInt(context.getReturnState(0));
+            }
+            else
+            {
+                out.writeByte(ARRAY_CONTEXT);
+                out.writeInt(context.size());
+                for (int i = 0; i < context.size(); i++)
+                {
+                    writeReference(out, context.getParent(i), contextIds);
+                    out.writeInt(context.getReturnState(i));
+                }
+            }
+        }
+        return contextIds;
+    }
+
+    /**
+     * Numbers a prediction context after its parents, unless already numbered.
+     *
+     * @param context    the context, may be null
+     * @param contextIds the number of each context numbered so far
+     * @param ordered    the numbered contexts, in order
+     */
+    private static void numberContext(PredictionContext context, Map<PredictionContext, Integer> contextIds,
+                                      List<PredictionContext> ordered)
+    {
+        if (context == null || contextIds.containsKey(context))
+        {
+            return;
+        }
+        if (context != PredictionContext.EMPTY)
+        {
+            for (int i = 0; i < context.size(); i++)
+            {
+                numberContext(context.getParent(i), contextIds, ordered);
+            }
+        }
+        contextIds.put(context, ordered.size());
+        ordered.add(context);
+    }
+
+    /**
+     * Writes the number of a prediction context.
+     *
+     * @param out        the stream to write to
+     * @param context    the context, may be null
+     * @param contextIds the number of each context
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeReference(DataOutputStream out, PredictionContext context,
+                                       Map<PredictionContext, Integer> contextIds) throws IOException
+    {
+        out.writeInt(context == null ? NO_REFERENCE : contextIds.get(context));
+    }
+
+    /**
+     * Reads the prediction contexts, adding each to the cache.
+     *
+     * @param in                 the stream to read from
+     * @param sharedContextCache the cache the contexts are added to
+     * @return the contexts, by number
+     * @throws IOException if the stream cannot be read
+     */
+    private static PredictionContext[] readContexts(DataInputStream in, PredictionContextCache sharedContextCache)
+            throws IOException
+    {
+        PredictionContext[] contexts = new PredictionContext[in.readInt()];
+        for (int id = 0; id < contexts.length; id++)
+        {
+            PredictionContext context;
+            byte kind = in.readByte();
+            if (kind == EMPTY_CONTEXT)
+            {
+                context = PredictionContext.EMPTY;
+            }
+            else if (kind == SINGLETON_CONTEXT)
+            {
+                PredictionContext parent = readReference(in, contexts);
+                context = SingletonPredictionContext.create(parent, in.readInt());
+            }
+            else
+            {
+                PredictionContext[] parents = new PredictionContext[in.readInt()];
+                int[] returnStates = new int[parents.length];
+                for (int i = 0; i < parents.length; i++)
+                {
+                    parents[i] = readReference(in, contexts);
+                    returnStates[i] = in.readInt();
+                }
+                context = new ArrayPredictionContext(parents, returnStates);
+            }
+            contexts[id] = sharedContextCache.add(context);
+        }
+        return contexts;
+    }
+
+    /**
+     * Reads the number of a prediction context read earlier.
+     *
+     * @param in       the stream to read from
+     * @param contexts the contexts read so far, by number
+     * @return the context, or null
+     * @throws IOException if the stream cannot be read or the number is not of an earlier context
+     */
+    private static PredictionContext readReference(DataInputStream in, PredictionContext[] contexts)
+            throws IOException
+    {
+        int id = in.readInt();
+        if (id == NO_REFERENCE)
+        {
+            return null;
+        }
+        if (id < 0 || id >= contexts.length || contexts[id] == null)
+        {
+            throw new IOException("corrupt parser cache: bad context reference " + id);
+        }
+        return contexts[id];
+    }
+
+    /**
+     * Writes the states of the DFA of one decision, then its start state.
+     *
+     * @param out        the stream to write to
+     * @param dfa        the DFA
+     * @param contextIds the number of each prediction context
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeDFA(DataOutputStream out, DFA dfa, Map<PredictionContext, Integer> contextIds)
+            throws IOException
+    {
+        out.writeInt(dfa.states.size());
+        for (DFAState state : dfa.states.keySet())
+        {
+            out.writeInt(state.stateNumber);
+            out.writeBoolean(state.isAcceptState);
+            out.writeInt(state.prediction);
+            out.writeBoolean(state.requiresFullContext);
+
+            ATNConfigSet configs = state.configs;
+            out.writeBoolean(configs.fullCtx);
+            out.writeInt(configs.uniqueAlt);
+            writeBits(out, getConflictingAlts(configs));
+            out.writeBoolean(configs.hasSemanticContext);
+            out.writeBoolean(configs.dipsIntoOuterContext);
+            out.writeInt(configs.size());
+            for (ATNConfig config : configs.elements())
+            {
+                out.writeInt(config.state.stateNumber);
+                out.writeInt(config.alt);
+                writeReference(out, config.context, contextIds);
+                out.writeInt(config.reachesIntoOuterContext);
+                writeSemanticContext(out, config.semanticContext);
+            }
+
+            out.writeInt(state.predicates == null ? NO_REFERENCE : state.predicates.length);
+            if (state.predicates != null)
+            {
+                for (DFAState.PredPrediction predicate : state.predicates)
+                {
+                    writeSemanticContext(out, predicate.pred);
+                    out.writeInt(predicate.alt);
+                }
+            }
+            writeEdges(out, state.edges);
+        }
+
+        // the start state of a precedence DFA only holds the start state for each precedence
+        if (dfa.isPrecedenceDfa())
+        {
+            writeEdges(out, dfa.s0 == null ? null : dfa.s0.edges);
+        }
+        else
+        {
+            out.writeInt(dfa.s0 == null ? NO_REFERENCE : dfa.s0.stateNumber);
+        }
+    }
+
+    /**
+     * Writes the numbers of the states the edges of a state lead to.
+     *
+     * @param out   the stream to write to
+     * @param edges the target state for each symbol, may be null
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeEdges(DataOutputStream out, DFAState[] edges) throws IOException
+    {
+        out.writeInt(edges == null ? NO_REFERENCE : edges.length);
+        if (edges != null)
+        {
+            for (DFAState target : edges)
+            {
+                out.writeInt(target == null ? NO_REFERENCE
+                                     : target == ATNSimulator.ERROR ? ERROR_STATE : target.stateNumber);
+            }
+        }
+    }
+
+    /**
+     * Reads the states of the DFA of one decision, then its start state.
+     *
+     * @param in       the stream to read from
+     * @param dfa      the empty DFA to fill
+     * @param contexts the prediction contexts, by number
+     * @throws IOException if the stream cannot be read
+     */
+    private static void readDFA(DataInputStream in, DFA dfa, PredictionContext[] contexts) throws IOException
+    {
+        ATN atn = Java8Parser._ATN;
+        int stateCount = in.readInt();
+        Map<Integer, DFAState> states = new HashMap<>();
+        Map<DFAState, int[]> edgeTargets = new IdentityHashMap<>();
+        for (int i = 0; i < stateCount; i++)
+        {
+            int stateNumber = in.readInt();
+            boolean isAcceptState = in.readBoolean();
+            int prediction = in.readInt();
+            boolean requiresFullContext = in.readBoolean();
+
+            ATNConfigSet configs = new ATNConfigSet(in.readBoolean());
+            int uniqueAlt = in.readInt();
+            BitSet conflictingAlts = readBits(in);
+            boolean hasSemanticContext = in.readBoolean();
+            boolean dipsIntoOuterContext = in.readBoolean();
+            int configCount = in.readInt();
+            for (int j = 0; j < configCount; j++)
+            {
+                int atnState = in.readInt();
+                if (atnState < 0 || atnState >= atn.states.size())
+                {
+                    throw new IOException("corrupt parser cache: bad ATN state " + atnState);
+                }
+                int alt = in.readInt();
+                PredictionContext context = readReference(in, contexts);
+                int reachesIntoOuterContext = in.readInt();
+                ATNConfig config = new ATNConfig(atn.states.get(atnState), alt, context,
+                                                 readSemanticContext(in));
+                config.reachesIntoOuterContext = reachesIntoOuterContext;
+                configs.add(config);
+            }
+            configs.uniqueAlt = uniqueAlt;
+            setConflictingAlts(configs, conflictingAlts);
+            configs.hasSemanticContext = hasSemanticContext;
+            configs.dipsIntoOuterContext = dipsIntoOuterContext;
+            configs.setReadonly(true);
+
+            DFAState state = new DFAState(configs);
+            state.stateNumber = stateNumber;
+            state.isAcceptState = isAcceptState;
+            state.prediction = prediction;
+            state.requiresFullContext = requiresFullContext;
+            int predicateCount = in.readInt();
+            if (predicateCount != NO_REFERENCE)
+            {
+                state.predicates = new DFAState.PredPrediction[predicateCount];
+                for (int j = 0; j < predicateCount; j++)
+                {
+                    SemanticContext predicate = readSemanticContext(in);
+                    state.predicates[j] = new DFAState.PredPrediction(predicate, in.readInt());
+                }
+            }
+            edgeTargets.put(state, readEdgeTargets(in));
+            states.put(stateNumber, state);
+        }
+
+        // link the states once all are read, as edges may lead to later states
+        for (Map.Entry<DFAState, int[]> entry : edgeTargets.entrySet())
+        {
+            entry.getKey().edges = linkEdges(entry.getValue(), states);
+            dfa.states.put(entry.getKey(), entry.getKey());
+        }
+        if (dfa.isPrecedenceDfa())
+        {
+            DFAState[] startStates = linkEdges(readEdgeTargets(in), states);
+            if (startStates != null)
+            {
+                dfa.s0.edges = startStates;
+            }
+        }
+        else
+        {
+            dfa.s0 = states.get(in.readInt());
+        }
+    }
+
+    /**
+     * Reads the numbers of the states the edges of a state lead to.
+     *
+     * @param in the stream to read from
+     * @return the number of the target state for each symbol, or null if the state has no edges
+     * @throws IOException if the stream cannot be read
+     */
+    private static int[] readEdgeTargets(DataInputStream in) throws IOException
+    {
+        int edgeCount = in.readInt();
+        if (edgeCount == NO_REFERENCE)
+        {
+            return null;
+        }
+        int[] targets = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++)
+        {
+            targets[i] = in.readInt();
+        }
+        return targets;
+    }
+
+    /**
+     * Turns the numbers of the target states of edges into the states.
+     *
+     * @param targets the number of the target state for each symbol, may be null
+     * @param states  the states of the DFA, by number
+     * @return the target state for each symbol, or null if there are no edges
+     */
+    private static DFAState[] linkEdges(int[] targets, Map<Integer, DFAState> states)
+    {
+        if (targets == null)
+        {
+            return null;
+        }
+        DFAState[] edges = new DFAState[targets.length];
+        for (int i = 0; i < targets.length; i++)
+        {
+            edges[i] = targets[i] == ERROR_STATE ? ATNSimulator.ERROR : states.get(targets[i]);
+        }
+        return edges;
+    }
+
+    /**
+     * Writes a semantic context and its operands.
+     *
+     * @param out     the stream to write to
+     * @param context the semantic context
+     * @throws IOException if the stream cannot be written, or the context is of an unknown kind
+     */
+    private static void writeSemanticContext(DataOutputStream out, SemanticContext context) throws IOException
+    {
+        if (context == SemanticContext.NONE)
+        {
+            out.writeByte(NONE);
+        }
+        else if (context instanceof SemanticContext.Predicate)
+        {
+            SemanticContext.Predicate predicate = (SemanticContext.Predicate) context;
+            out.writeByte(PREDICATE);
+            out.writeInt(predicate.ruleIndex);
+            out.writeInt(predicate.predIndex);
+            out.writeBoolean(predicate.isCtxDependent);
+        }
+        else if (context instanceof SemanticContext.PrecedencePredicate)
+        {
+            out.writeByte(PRECEDENCE_PREDICATE);
+            out.writeInt(((SemanticContext.PrecedencePredicate) context).precedence);
+        }
+        else if (context instanceof SemanticContext.AND || context instanceof SemanticContext.OR)
+        {
+            SemanticContext[] operands = context instanceof SemanticContext.AND
+                    ? ((SemanticContext.AND) context).opnds : ((SemanticContext.OR) context).opnds;
+            out.writeByte(context instanceof SemanticContext.AND ? AND : OR);
+            out.writeInt(operands.length);
+            for (SemanticContext operand : operands)
+            {
+                writeSemanticContext(out, operand);
+            }
+        }
+        else
+        {
+            throw new IOException("unknown semantic context " + context.getClass());
+        }
+    }
+
+    /**
+     * Reads a semantic context and its operands.
+     *
+     * @param in the stream to read from
+     * @return the semantic context
+     * @throws IOException if the stream cannot be read
+     */
+    private static SemanticContext readSemanticContext(DataInputStream in) throws IOException
+    {
+        byte kind = in.readByte();
+        switch (kind)
+        {
+            case NONE:
+                return SemanticContext.NONE;
+            case PREDICATE:
+                return new SemanticContext.Predicate(in.readInt(), in.readInt(), in.readBoolean());
+            case PRECEDENCE_PREDICATE:
+                return new SemanticContext.PrecedencePredicate(in.readInt());
+            case AND:
+            case OR:
+                int operandCount = in.readInt();
+                SemanticContext combined = null;
+                for (int i = 0; i < operandCount; i++)
+                {
+                    SemanticContext operand = readSemanticContext(in);
+                    combined = combined == null ? operand
+                            : kind == AND ? SemanticContext.and(combined, operand)
+                            : SemanticContext.or(combined, operand);
+                }
+                return combined;
+            default:
+                throw new IOException("corrupt parser cache: bad semantic context " + kind);
+        }
+    }
+
+    /**
+     * Writes a set of bits.
+     *
+     * @param out  the stream to write to
+     * @param bits the bits, may be null
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeBits(DataOutputStream out, BitSet bits) throws IOException
+    {
+        long[] words = bits == null ? null : bits.toLongArray();
+        out.writeInt(words == null ? NO_REFERENCE : words.length);
+        if (words != null)
+        {
+            for (long word : words)
+            {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    /**
+     * Reads a set of bits.
+     *
+     * @param in the stream to read from
+     * @return the bits, or null
+     * @throws IOException if the stream cannot be read
+     */
+    private static BitSet readBits(DataInputStream in) throws IOException
+    {
+        int wordCount = in.readInt();
+        if (wordCount == NO_REFERENCE)
+        {
+            return null;
+        }
+        long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++)
+        {
+            words[i] = in.readLong();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns a hash of the serialized ATN of the grammar, which changes
+     * whenever the parser is generated from a changed grammar.
+     *
+     * @return the hash as hexadecimal digits
+     */
+    private static String grammarHash()
+    {
+        try
+        {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                    Java8Parser._serializedATN.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest)
+            {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finds the field holding the conflicting alternatives of a configuration set.
+     *
+     * @return the field, made accessible
+     */
+    private static Field conflictingAltsField()
+    {
+        try
+        {
+            Field field = ATNConfigSet.class.getDeclaredField("conflictingAlts");
+            field.setAccessible(true);
+            return field;
+        }
+        catch (NoSuchFieldException e)
+        {
+            throw new IllegalStateException("unsupported ANTLR runtime", e);
+        }
+    }
+
+    /**
+     * Returns the conflicting alternatives of a configuration set.
+     *
+     * @param configs the configuration set
+     * @return the conflicting alternatives, or null
+     */
+    private static BitSet getConflictingAlts(ATNConfigSet configs)
+    {
+        try
+        {
+            return (BitSet) CONFLICTING_ALTS.get(configs);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets the conflicting alternatives of a configuration set.
+     *
+     * @param configs         the configuration set
+     * @param conflictingAlts the conflicting alternatives, may be null
+     */
+    private static void setConflictingAlts(ATNConfigSet configs, BitSet conflictingAlts)
+    {
+        try
+        {
+            CONFLICTING_ALTS.set(configs, conflictingAlts);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * File: ParserCacheManager.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParserCacheManager class, which keeps the
+ * prediction caches of the Java8Parser within a memory budget.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Owns the DFA and the prediction context cache the Java8Parser uses to
+ * predict alternatives, which otherwise live in static fields of the parser
+ * and grow for the life of the process as more files are parsed.
+ * Parsers are created through a manager and run while holding its read
+ * lock. After each parse the manager tries to take the write lock, which it
+ * only gets once no parse is in flight, measures the caches, and replaces
+ * them with empty ones if their estimated size is over the budget.
+ * The number of DFA states, their estimated size in bytes, the number of
+ * predictions that found their target state in the DFA (hits) or had to
+ * compute it (misses), and the number of times the caches were rebuilt are
+ * kept as metrics.
+ * The budget defaults to the proj6.parserCacheBudgetMB system property,
+ * or DEFAULT_BUDGET_MB if it is not set.
+ * The caches can be saved to a ParserCacheFile and loaded back in a later session.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ParserCacheManager
+{
+    /**
+     * budget, in megabytes, used when the system property is not set
+     */
+    public static final int DEFAULT_BUDGET_MB = 64;
+    /**
+     * estimated size, in bytes, of the parts of the caches, on a 64-bit VM with compressed references
+     */
+    private static final int STATE_BYTES = 48;
+    private static final int ARRAY_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int CONFIG_BYTES = 40;
+    private static final int CONTEXT_BYTES = 72;
+
+    /**
+     * the manager shared by the parsers of the structure view
+     */
+    private static final ParserCacheManager SHARED = new ParserCacheManager(
+            Long.getLong("proj6.parserCacheBudgetMB", DEFAULT_BUDGET_MB) << 20);
+
+    /**
+     * held for reading by every parse, and for writing while the caches are measured or rebuilt
+     */
+    private final ReentrantReadWriteLock lock;
+    /**
+     * the DFA of each decision of the grammar, replaced when rebuilt
+     */
+    private volatile DFA[] decisionToDFA;
+    /**
+     * the prediction contexts shared by the DFA states, replaced when rebuilt
+     */
+    private volatile PredictionContextCache sharedContextCache;
+    /**
+     * estimated size, in bytes, the caches may grow to before being rebuilt
+     */
+    private volatile long budgetBytes;
+    /**
+     * DFA states and their estimated size in bytes, as last measured
+     */
+    private volatile int stateCount;
+    private volatile long estimatedBytes;
+    /**
+     * predictions that found, or did not find, their target state in the DFA
+     */
+    private final LongAdder hits;
+    private final LongAdder misses;
+    /**
+     * number of times the caches were rebuilt
+     */
+    private final AtomicLong rebuildCount;
+
+    /**
+     * Creates a new ParserCacheManager with empty caches
+     *
+     * @param budgetBytes estimated size, in bytes, the caches may grow to before being rebuilt
+     */
+    public ParserCacheManager(long budgetBytes)
+    {
+        this.lock = new ReentrantReadWriteLock();
+        this.budgetBytes = budgetBytes;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.rebuildCount = new AtomicLong();
+        this.createCaches();
+    }
+
+    /**
+     * Returns the manager shared by the parsers of the structure view.
+     *
+     * @return the shared manager
+     */
+    public static ParserCacheManager getShared()
+    {
+        return SHARED;
+    }
+
+    /**
+     * Creates a parser using the caches of this manager and runs the given
+     * parse with it, holding the read lock so the caches are not rebuilt
+     * while it runs. Once done, the caches are measured and rebuilt if over
+     * the budget, unless another parse is still in flight.
+     *
+     * @param tokens the tokens to be parsed
+     * @param parse  runs the parse with the created parser
+     * @param <T>    type of the result of the parse
+     * @return the result of the parse
+     */
+    public <T> T parse(TokenStream tokens, Function<Java8Parser, T> parse)
+    {
+        T result;
+        this.lock.readLock().lock();
+        try
+        {
+            Java8Parser parser = new Java8Parser(tokens);
+            parser.setInterpreter(new CountingATNSimulator(parser, parser.getATN(), this.decisionToDFA,
+                                                           this.sharedContextCache));
+            result = parse.apply(parser);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+        this.trimIfIdle();
+        return result;
+    }
+
+    /**
+     * Measures the caches, and rebuilds them if over the budget, if no parse
+     * is in flight. Otherwise leaves it to the parse that finishes last.
+     */
+    private void trimIfIdle()
+    {
+        if (!this.lock.writeLock().tryLock())
+        {
+            return;
+        }
+        try
+        {
+            this.measure();
+            if (this.estimatedBytes > this.budgetBytes)
+            {
+                this.createCaches();
+                this.rebuildCount.incrementAndGet();
+                this.measure();
+            }
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Empties the caches now, waiting for the parses in flight to finish.
+     */
+    public void clear()
+    {
+        this.lock.writeLock().lock();
+        try
+        {
+            this.createCaches();
+            this.rebuildCount.incrementAndGet();
+            this.measure();
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Saves the caches to a file, so that a later session can load them.
+     * Waits for the parses in flight to finish, but not longer than the
+     * given time, so that exiting is never held up by a long parse.
+     *
+     * @param path          the file to write
+     * @param timeoutMillis longest time to wait for the parses in flight, in milliseconds
+     * @return true if saved, false if a parse was still in flight
+     * @throws IOException if the file cannot be written
+     */
+    public boolean save(Path path, long timeoutMillis) throws IOException
+    {
+        try
+        {
+            if (!this.lock.writeLock().tryLock(timeoutMillis, TimeUnit.MILLISECONDS))
+            {
+                return false;
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try
+        {
+            ParserCacheFile.save(path, this.decisionToDFA);
+            return true;
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the caches with those saved to a file by an earlier session.
+     * The file is read before the parses in flight are waited for, and
+     * the caches are left as they are if it cannot be read.
+     *
+     * @param path the file to read
+     * @throws IOException if the file cannot be read, or was saved for another grammar or version
+     */
+    public void load(Path path) throws IOException
+    {
+        DFA[] dfas = createDFAs();
+        PredictionContextCache contextCache = new PredictionContextCache();
+        ParserCacheFile.load(path, dfas, contextCache);
+
+        this.lock.writeLock().lock();
+        try
+        {
+            this.decisionToDFA = dfas;
+            this.sharedContextCache = contextCache;
+            this.measure();
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the caches with empty ones, leaving the old ones to the garbage collector.
+     */
+    private void createCaches()
+    {
+        this.decisionToDFA = createDFAs();
+        this.sharedContextCache = new PredictionContextCache();
+    }
+
+    /**
+     * Creates an empty DFA for each decision of the grammar.
+     *
+     * @return the DFA of each decision
+     */
+    private static DFA[] createDFAs()
+    {
+        ATN atn = Java8Parser._ATN;
+        DFA[] dfas = new DFA[atn.getNumberOfDecisions()];
+        for (int i = 0; i < dfas.length; i++)
+        {
+            dfas[i] = new DFA(atn.getDecisionState(i), i);
+        }
+        return dfas;
+    }
+
+    /**
+     * Counts the DFA states and estimates the size of the caches.
+     * Must be called with the write lock held, as the parsers add states without it.
+     */
+    private void measure()
+    {
+        int states = 0;
+        long bytes = (long) this.sharedContextCache.size() * CONTEXT_BYTES;
+        for (DFA dfa : this.decisionToDFA)
+        {
+            states += dfa.states.size();
+            for (DFAState state : dfa.states.keySet())
+            {
+                bytes += STATE_BYTES;
+                if (state.edges != null)
+                {
+                    bytes += ARRAY_BYTES + (long) state.edges.length * REFERENCE_BYTES;
+                }
+                if (state.configs != null)
+                {
+                    bytes += (long) state.configs.size() * (CONFIG_BYTES + REFERENCE_BYTES);
+                }
+            }
+        }
+        this.stateCount = states;
+        this.estimatedBytes = bytes;
+    }
+
+    /**
+     * Sets the estimated size the caches may grow to before being rebuilt.
+     *
+     * @param budgetBytes the budget in bytes
+     */
+    public void setBudgetBytes(long budgetBytes)
+    {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Returns the estimated size the caches may grow to before being rebuilt.
+     *
+     * @return the budget in bytes
+     */
+    public long getBudgetBytes()
+    {
+        return this.budgetBytes;
+    }
+
+    /**
+     * Returns the number of DFA states, as measured after the last parse that
+     * finished with no other parse in flight.
+     *
+     * @return the number of DFA states
+     */
+    public int getStateCount()
+    {
+        return this.stateCount;
+    }
+
+    /**
+     * Returns the estimated size of the caches, as measured after the last
+     * parse that finished with no other parse in flight.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes()
+    {
+        return this.estimatedBytes;
+    }
+
+    /**
+     * Returns the number of predictions that found their target state in the DFA.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount()
+    {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of predictions that had to compute their target state.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount()
+    {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of times the caches were rebuilt, over the budget or cleared.
+     *
+     * @return the number of rebuilds
+     */
+    public long getRebuildCount()
+    {
+        return this.rebuildCount.get();
+    }
+
+    /**
+     * Describes the metrics, for instance
+     * "12345 DFA states, 8.1 MB of 64.0 MB, 98.2% hits, 0 rebuilds".
+     *
+     * @return a description of the metrics
+     */
+    @Override
+    public String toString()
+    {
+        long hitCount = this.getHitCount();
+        long lookups = hitCount + this.getMissCount();
+        return String.format("%d DFA states, %.1f MB of %.1f MB, %.1f%% hits, %d rebuilds", this.stateCount,
+                             this.estimatedBytes / 1048576.0, this.budgetBytes / 1048576.0,
+                             lookups == 0 ? 0.0 : 100.0 * hitCount / lookups, this.getRebuildCount());
+    }
+
+    /**
+     * A ParserATNSimulator using the caches of the manager and counting how
+     * often the DFA already holds the target state of a prediction step.
+     */
+    private class CountingATNSimulator extends ParserATNSimulator
+    {
+        /**
+         * Creates a new CountingATNSimulator
+         *
+         * @param parser             the parser it predicts for
+         * @param atn                the ATN of the grammar
+         * @param decisionToDFA      the DFA of each decision of the grammar
+         * @param sharedContextCache the prediction contexts shared by the DFA states
+         */
+        CountingATNSimulator(Java8Parser parser, ATN atn, DFA[] decisionToDFA,
+                             PredictionContextCache sharedContextCache)
+        {
+            super(parser, atn, decisionToDFA, sharedContextCache);
+        }
+
+        /**
+         * Looks the target state up in the DFA, counting a hit if it is there.
+         *
+         * @param previousD the current DFA state
+         * @param t         the next input symbol
+         * @return the existing target state, or null if it must be computed
+         */
+        @Override
+        protected DFAState getExistingTargetState(DFAState previousD, int t)
+        {
+            DFAState existing = super.getExistingTargetState(previousD, t);
+            if (existing != null)
+            {
+                hits.increment();
+            }
+            else
+            {
+                misses.increment();
+            }
+            return existing;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * File: ParserProfile.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParserProfile class, which holds how the
+ * Java8Parser spent its time predicting alternatives in one parse.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The profile of one parse of Java code by the Java8Parser, as made by a
+ * ParserProfiler: the time the parse took, and for each decision of the
+ * grammar used by it, the time spent predicting its alternatives, how far
+ * ahead the predictions looked, how often SLL prediction fell back to full
+ * LL, and the ambiguities, context sensitivities and errors found.
+ * Decisions are named after the rule of the grammar they belong to, so the
+ * rules worth tuning can be found, and the profile can be exported as CSV.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ParserProfile
+{
+    /**
+     * header of the CSV export, naming the columns of each decision
+     */
+    public static final String CSV_HEADER = "decision,rule,invocations,time_ms,sll_total_lookahead,"
+                                            + "sll_max_lookahead,ll_fallbacks,ll_total_lookahead,"
+                                            + "ll_max_lookahead,ambiguities,context_sensitivities,errors,"
+                                            + "max_lookahead_line";
+
+    /**
+     * the decisions used by the parse, most time spent first
+     */
+    private final List<Decision> decisions;
+    /**
+     * time the whole parse took, in nanoseconds
+     */
+    private final long parseNanos;
+    /**
+     * number of tokens parsed
+     */
+    private final int tokenCount;
+    /**
+     * number of syntax errors found
+     */
+    private final int syntaxErrors;
+
+    /**
+     * Creates a new ParserProfile
+     *
+     * @param decisions    the decisions used by the parse, in any order
+     * @param parseNanos   time the whole parse took, in nanoseconds
+     * @param tokenCount   number of tokens parsed
+     * @param syntaxErrors number of syntax errors found
+     */
+    public ParserProfile(List<Decision> decisions, long parseNanos, int tokenCount, int syntaxErrors)
+    {
+        List<Decision> sorted = new ArrayList<>(decisions);
+        sorted.sort(Comparator.comparingLong(Decision::getTimeNanos).reversed());
+        this.decisions = Collections.unmodifiableList(sorted);
+        this.parseNanos = parseNanos;
+        this.tokenCount = tokenCount;
+        this.syntaxErrors = syntaxErrors;
+    }
+
+    /**
+     * Returns the decisions used by the parse.
+     *
+     * @return an unmodifiable list of the decisions, most time spent first
+     */
+    public List<Decision> getDecisions()
+    {
+        return this.decisions;
+    }
+
+    /**
+     * Returns the time the whole parse took.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getParseNanos()
+    {
+        return this.parseNanos;
+    }
+
+    /**
+     * Returns the number of tokens parsed.
+     *
+     * @return the number of tokens
+     */
+    public int getTokenCount()
+    {
+        return this.tokenCount;
+    }
+
+    /**
+     * Returns the number of syntax errors found.
+     *
+     * @return the number of syntax errors
+     */
+    public int getSyntaxErrors()
+    {
+        return this.syntaxErrors;
+    }
+
+    /**
+     * Returns the time spent predicting, over all decisions.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getPredictionNanos()
+    {
+        return this.decisions.stream().mapToLong(Decision::getTimeNanos).sum();
+    }
+
+    /**
+     * Returns the number of predictions that fell back from SLL to full LL,
+     * over all decisions.
+     *
+     * @return the number of fallbacks
+     */
+    public long getLlFallbacks()
+    {
+        return this.decisions.stream().mapToLong(Decision::getLlFallbacks).sum();
+    }
+
+    /**
+     * Returns the number of ambiguities found, over all decisions.
+     *
+     * @return the number of ambiguities
+     */
+    public long getAmbiguities()
+    {
+        return this.decisions.stream().mapToLong(Decision::getAmbiguities).sum();
+    }
+
+    /**
+     * Returns the decision whose prediction looked furthest ahead.
+     *
+     * @return the decision, or null if no decision was used
+     */
+    public Decision getDeepestDecision()
+    {
+        return this.decisions.stream().max(Comparator.comparingLong(Decision::getMaxLookahead)).orElse(null);
+    }
+
+    /**
+     * Describes the parse and the decisions that took the most time, as a
+     * table for reading.
+     *
+     * @param limit the number of decisions to describe
+     * @return the description
+     */
+    public String summarize(int limit)
+    {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Parsed %d tokens in %.1f ms with %d syntax errors%n", this.tokenCount,
+                                     this.parseNanos / 1e6, this.syntaxErrors));
+        summary.append(String.format("Predicting took %.1f ms in %d decisions, with %d LL fallbacks and "
+                                     + "%d ambiguities%n", this.getPredictionNanos() / 1e6,
+                                     this.decisions.size(), this.getLlFallbacks(), this.getAmbiguities()));
+        Decision deepest = this.getDeepestDecision();
+        if (deepest != null)
+        {
+            summary.append(String.format("Furthest lookahead: %d tokens in %s, from line %d%n",
+                                         deepest.getMaxLookahead(), deepest.getRuleName(),
+                                         deepest.getMaxLookaheadLine()));
+        }
+        summary.append(String.format("%n%10s %11s %10s %9s %6s  %s%n", "time (ms)", "invocations", "fallbacks",
+                                     "max look", "ambig", "rule (decision)"));
+        for (Decision decision : this.decisions.subList(0, Math.min(limit, this.decisions.size())))
+        {
+            summary.append(String.format("%10.2f %11d %10d %9d %6d  %s (%d)%n", decision.getTimeNanos() / 1e6,
+                                         decision.getInvocations(), decision.getLlFallbacks(),
+                                         decision.getMaxLookahead(), decision.getAmbiguities(),
+                                         decision.getRuleName(), decision.getDecision()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Exports the decisions as CSV, a header line followed by a line for
+     * each decision, most time spent first. Numbers are written the same in
+     * every locale, with a dot for decimals, and fields are quoted where
+     * they hold a comma, a quote or a line break.
+     *
+     * @return the CSV text
+     */
+    public String toCsv()
+    {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (Decision decision : this.decisions)
+        {
+            Object[] fields = {decision.getDecision(), decision.getRuleName(), decision.getInvocations(),
+                               String.format(Locale.ROOT, "%.3f", decision.getTimeNanos() / 1e6),
+                               decision.getSllTotalLookahead(), decision.getSllMaxLookahead(),
+                               decision.getLlFallbacks(), decision.getLlTotalLookahead(),
+                               decision.getLlMaxLookahead(), decision.getAmbiguities(),
+                               decision.getContextSensitivities(), decision.getErrors(),
+                               decision.getMaxLookaheadLine()};
+            for (int i = 0; i < fields.length; i++)
+            {
+                csv.append(i == 0 ? "" : ",").append(toCsvField(String.valueOf(fields[i])));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Quotes a CSV field if it holds a comma, a quote or a line break,
+     * doubling the quotes it holds.
+     *
+     * @param value the value of the field
+     * @return the field as written in CSV
+     */
+    private static String toCsvField(String value)
+    {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0)
+        {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * The profile of one decision of the grammar over a parse
+     */
+    public static class Decision
+    {
+        /**
+         * number of the decision in the ATN, and the rule it belongs to
+         */
+        private final int decision;
+        private final String ruleName;
+        /**
+         * number of predictions made, and the time they took in nanoseconds
+         */
+        private final long invocations;
+        private final long timeNanos;
+        /**
+         * tokens looked ahead by SLL prediction, in total and at most
+         */
+        private final long sllTotalLookahead;
+        private final long sllMaxLookahead;
+        /**
+         * number of predictions that fell back to full LL, and the tokens they looked ahead
+         */
+        private final long llFallbacks;
+        private final long llTotalLookahead;
+        private final long llMaxLookahead;
+        /**
+         * number of ambiguities, context sensitivities and errors found
+         */
+        private final int ambiguities;
+        private final int contextSensitivities;
+        private final int errors;
+        /**
+         * line the prediction that looked furthest ahead started on, 0 if unknown
+         */
+        private final int maxLookaheadLine;
+
+        /**
+         * Creates a new Decision
+         *
+         * @param decision             number of the decision in the ATN
+         * @param ruleName             name of the rule it belongs to
+         * @param invocations          number of predictions made
+         * @param timeNanos            time they took in nanoseconds
+         * @param sllTotalLookahead    tokens looked ahead by SLL prediction in total
+         * @param sllMaxLookahead      tokens looked ahead by SLL prediction at most
+         * @param llFallbacks          number of predictions that fell back to full LL
+         * @param llTotalLookahead     tokens looked ahead by full LL prediction in total
+         * @param llMaxLookahead       tokens looked ahead by full LL prediction at most
+         * @param ambiguities          number of ambiguities found
+         * @param contextSensitivities number of context sensitivities found
+         * @param errors               number of prediction errors found
+         * @param maxLookaheadLine     line the prediction that looked furthest ahead started on
+         */
+        public Decision(int decision, String ruleName, long invocations, long timeNanos, long sllTotalLookahead,
+                        long sllMaxLookahead, long llFallbacks, long llTotalLookahead, long llMaxLookahead,
+                        int ambiguities, int contextSensitivities, int errors, int maxLookaheadLine)
+        {
+            this.decision = decision;
+            this.ruleName = ruleName;
+            this.invocations = invocations;
+            this.timeNanos = timeNanos;
+            this.sllTotalLookahead = sllTotalLookahead;
+            this.sllMaxLookahead = sllMaxLookahead;
+            this.llFallbacks = llFallbacks;
+            this.llTotalLookahead = llTotalLookahead;
+            this.llMaxLookahead = llMaxLookahead;
+            this.ambiguities = ambiguities;
+            this.contextSensitivities = contextSensitivities;
+            this.errors = errors;
+            this.maxLookaheadLine = maxLookaheadLine;
+        }
+
+        /**
+         * Returns the number of the decision in the ATN.
+         *
+         * @return the number of the decision in the ATN
+         */
+        public int getDecision()
+        {
+            return this.decision;
+        }
+
+        /**
+         * Returns the name of the rule the decision belongs to.
+         *
+         * @return the name of the rule the decision belongs to
+         */
+        public String getRuleName()
+        {
+            return this.ruleName;
+        }
+
+        /**
+         * Returns the number of predictions made.
+         *
+         * @return the number of predictions made
+         */
+        public long getInvocations()
+        {
+            return this.invocations;
+        }
+
+        /**
+         * Returns the time the predictions took, in nanoseconds.
+         *
+         * @return the time the predictions took, in nanoseconds
+         */
+        public long getTimeNanos()
+        {
+            return this.timeNanos;
+        }
+
+        /**
+         * Returns the tokens looked ahead by SLL prediction in total.
+         *
+         * @return the tokens looked ahead by SLL prediction in total
+         */
+        public long getSllTotalLookahead()
+        {
+            return this.sllTotalLookahead;
+        }
+
+        /**
+         * Returns the tokens looked ahead by SLL prediction at most.
+         *
+         * @return the tokens looked ahead by SLL prediction at most
+         */
+        public long getSllMaxLookahead()
+        {
+            return this.sllMaxLookahead;
+        }
+
+        /**
+         * Returns the number of predictions that fell back to full LL.
+         *
+         * @return the number of predictions that fell back to full LL
+         */
+        public long getLlFallbacks()
+        {
+            return this.llFallbacks;
+        }
+
+        /**
+         * Returns the tokens looked ahead by full LL prediction in total.
+         *
+         * @return the tokens looked ahead by full LL prediction in total
+         */
+        public long getLlTotalLookahead()
+        {
+            return this.llTotalLookahead;
+        }
+
+        /**
+         * Returns the tokens looked ahead by full LL prediction at most.
+         *
+         * @return the tokens looked ahead by full LL prediction at most
+         */
+        public long getLlMaxLookahead()
+        {
+            return this.llMaxLookahead;
+        }
+
+        /**
+         * Returns the tokens looked ahead by any prediction at most.
+         *
+         * @return the tokens looked ahead by any prediction at most
+         */
+        public long getMaxLookahead()
+        {
+            return Math.max(this.sllMaxLookahead, this.llMaxLookahead);
+        }
+
+        /**
+         * Returns the number of ambiguities found.
+         *
+         * @return the number of ambiguities found
+         */
+        public int getAmbiguities()
+        {
+            return this.ambiguities;
+        }
+
+        /**
+         * Returns the number of context sensitivities found.
+         *
+         * @return the number of context sensitivities found
+         */
+        public int getContextSensitivities()
+        {
+            return this.contextSensitivities;
+        }
+
+        /**
+         * Returns the number of prediction errors found.
+         *
+         * @return the number of prediction errors found
+         */
+        public int getErrors()
+        {
+            return this.errors;
+        }
+
+        /**
+         * Returns the line the prediction that looked furthest ahead started on.
+         *
+         * @return the line the prediction that looked furthest ahead started on, 0 if unknown
+         */
+        public int getMaxLookaheadLine()
+        {
+            return this.maxLookaheadLine;
+        }
+    }
+}
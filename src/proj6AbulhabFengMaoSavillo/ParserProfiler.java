@@ -0,0 +1,124 @@
+/*
+ * File: ParserProfiler.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParserProfiler class, which profiles how the
+ * Java8Parser predicts alternatives while parsing Java code.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.LookaheadEventInfo;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parses Java code with the Java8Parser running ANTLR's
+ * ProfilingATNSimulator, to find out which decisions of the grammar the
+ * parse spends its time predicting.
+ * The code is parsed once with LL prediction, which tries SLL first at each
+ * decision and falls back to full LL on a conflict, and with the default
+ * error recovery, so broken code is profiled as the structure view parses it.
+ * The parser uses the prediction caches of a ParserCacheManager, so a
+ * profile shows the cost of a parse as warm as those of the structure view;
+ * profiling a second time shows the cost once the caches hold the code.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ParserProfiler
+{
+    /**
+     * owns the prediction caches the parser uses
+     */
+    private final ParserCacheManager cacheManager;
+
+    /**
+     * Creates a new ParserProfiler using the shared prediction caches
+     */
+    public ParserProfiler()
+    {
+        this(ParserCacheManager.getShared());
+    }
+
+    /**
+     * Creates a new ParserProfiler
+     *
+     * @param cacheManager owns the prediction caches the parser uses
+     */
+    public ParserProfiler(ParserCacheManager cacheManager)
+    {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Parses Java code and profiles the decisions of the parse.
+     *
+     * @param contents  the code to be parsed
+     * @param cancelled tells whether profiling has been cancelled
+     * @return the profile of the parse
+     * @throws CancellationException if cancelled before the parse finished
+     */
+    public ParserProfile profile(String contents, BooleanSupplier cancelled)
+    {
+        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(contents));
+        lexer.removeErrorListeners();
+        BudgetedTokenStream tokens = new BudgetedTokenStream(lexer, cancelled, Long.MAX_VALUE, Integer.MAX_VALUE);
+        return this.cacheManager.parse(tokens, parser ->
+        {
+            parser.setProfile(true);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.removeErrorListeners();
+            long start = System.nanoTime();
+            parser.compilationUnit();
+            long parseNanos = System.nanoTime() - start;
+
+            List<ParserProfile.Decision> decisions = new ArrayList<>();
+            for (DecisionInfo info : parser.getParseInfo().getDecisionInfo())
+            {
+                if (info.invocations > 0)
+                {
+                    decisions.add(this.createDecision(parser, tokens, info));
+                }
+            }
+            return new ParserProfile(decisions, parseNanos, tokens.size(), parser.getNumberOfSyntaxErrors());
+        });
+    }
+
+    /**
+     * Creates the profile of a decision from what the simulator recorded.
+     *
+     * @param parser the parser that made the predictions
+     * @param tokens the tokens parsed
+     * @param info   what the simulator recorded about the decision
+     * @return the profile of the decision
+     */
+    private ParserProfile.Decision createDecision(Java8Parser parser, TokenStream tokens, DecisionInfo info)
+    {
+        int ruleIndex = parser.getATN().getDecisionState(info.decision).ruleIndex;
+        LookaheadEventInfo deepest = info.LL_MaxLook > info.SLL_MaxLook ? info.LL_MaxLookEvent
+                                                                         : info.SLL_MaxLookEvent;
+        int line = 0;
+        if (deepest != null && deepest.startIndex >= 0 && deepest.startIndex < tokens.size())
+        {
+            Token start = tokens.get(deepest.startIndex);
+            line = start.getLine();
+        }
+        return new ParserProfile.Decision(info.decision, parser.getRuleNames()[ruleIndex], info.invocations,
+                                          info.timeInPrediction, info.SLL_TotalLook, info.SLL_MaxLook,
+                                          info.LL_Fallback, info.LL_TotalLook, info.LL_MaxLook,
+                                          info.ambiguities.size(), info.contextSensitivities.size(),
+                                          info.errors.size(), line);
+    }
+}
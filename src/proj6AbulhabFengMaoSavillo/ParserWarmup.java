@@ -0,0 +1,210 @@
+/*
+ * File: ParserWarmup.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ParserWarmup class, which warms up the parser of
+ * the structure view while the application starts.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the lexer and parser classes and parses an embedded corpus of
+ * typical Java code, so that the class loading, the deserialization of the
+ * ATN and the filling of the prediction caches are not paid for by the
+ * first structure view parse. The corpus is parsed with the shared
+ * ParserCacheManager, whose caches the structure view then uses.
+ * Before that, the caches saved by the last session are loaded, if any,
+ * so that the first parse is nearly as fast as in a warm session. A cache
+ * file that cannot be loaded, such as one saved for another version of the
+ * grammar, is deleted.
+ * Started from Main on a low priority daemon thread once the stage is shown,
+ * it signals readiness through a latch and a callback, leaving it to Main to
+ * publish it to the JavaFX Application Thread, so the warm-up itself runs
+ * headless, as in the StructureParserBenchmark.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ParserWarmup
+{
+    /**
+     * the embedded corpus parsed to warm up
+     */
+    private static final String CORPUS = "/proj6AbulhabFengMaoSavillo/WarmupCorpus.txt";
+
+    /**
+     * parses the corpus
+     */
+    private final StructureParser structureParser;
+    /**
+     * file the caches of the last session were saved to, null if none
+     */
+    private final Path cachePath;
+    /**
+     * released once the warm-up is done
+     */
+    private final CountDownLatch done;
+    /**
+     * time, in nanoseconds, the warm-up took
+     */
+    private volatile long warmupNanos;
+
+    /**
+     * Creates a new ParserWarmup filling the shared prediction caches,
+     * starting from those saved to the default cache file
+     */
+    public ParserWarmup()
+    {
+        this(ParserCacheFile.DEFAULT_PATH);
+    }
+
+    /**
+     * Creates a new ParserWarmup filling the shared prediction caches
+     *
+     * @param cachePath file the caches of the last session were saved to,
+     *                  or null to fill the shared caches as they are
+     */
+    public ParserWarmup(Path cachePath)
+    {
+        this.cachePath = cachePath;
+        this.structureParser = new StructureParser(true, ParserCacheManager.getShared());
+        this.done = new CountDownLatch(1);
+    }
+
+    /**
+     * Starts the warm-up on a low priority daemon thread.
+     *
+     * @param whenDone run on the warm-up thread once the warm-up is done
+     */
+    public void start(Runnable whenDone)
+    {
+        Thread thread = new Thread(() ->
+        {
+            this.run();
+            whenDone.run();
+        }, "parser-warmup");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Warms up on the calling thread. The latch is released even if the
+     * corpus cannot be read or parsed, which only makes the warm-up useless.
+     */
+    public void run()
+    {
+        long start = System.nanoTime();
+        this.loadSavedCaches();
+        try
+        {
+            this.structureParser.parse(readCorpus(), () -> false);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            System.out.println("Error Warming Up Parser");
+        }
+        finally
+        {
+            this.warmupNanos = System.nanoTime() - start;
+            this.done.countDown();
+        }
+    }
+
+    /**
+     * Loads the caches saved by the last session, deleting the file if it
+     * cannot be loaded.
+     */
+    private void loadSavedCaches()
+    {
+        if (this.cachePath == null || !Files.exists(this.cachePath))
+        {
+            return;
+        }
+        try
+        {
+            ParserCacheManager.getShared().load(this.cachePath);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            System.out.println("Discarding Parser Cache: " + e.getMessage());
+            try
+            {
+                Files.deleteIfExists(this.cachePath);
+            }
+            catch (IOException deleteException)
+            {
+                System.out.println("Error Deleting Parser Cache");
+            }
+        }
+    }
+
+    /**
+     * Tells whether the warm-up is done. Safe to call on any thread.
+     *
+     * @return true if the warm-up is done
+     */
+    public boolean isReady()
+    {
+        return this.done.getCount() == 0;
+    }
+
+    /**
+     * Waits for the warm-up to be done.
+     *
+     * @param timeoutMillis longest time to wait, in milliseconds
+     * @return true if the warm-up is done, false if the time ran out
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public boolean awaitReady(long timeoutMillis) throws InterruptedException
+    {
+        return this.done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the time the warm-up took.
+     *
+     * @return the time in nanoseconds, 0 if not done yet
+     */
+    public long getWarmupNanos()
+    {
+        return this.warmupNanos;
+    }
+
+    /**
+     * Reads the embedded corpus.
+     *
+     * @return the text of the corpus
+     * @throws IOException if the corpus cannot be found or read
+     */
+    private static String readCorpus() throws IOException
+    {
+        try (InputStream input = ParserWarmup.class.getResourceAsStream(CORPUS))
+        {
+            if (input == null)
+            {
+                throw new IOException("missing " + CORPUS);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            for (int read = input.read(chunk); read >= 0; read = input.read(chunk))
+            {
+                bytes.write(chunk, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
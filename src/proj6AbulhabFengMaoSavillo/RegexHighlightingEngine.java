@@ -0,0 +1,175 @@
+/*
+ * File: RegexHighlightingEngine.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the RegexHighlightingEngine class, which highlights
+ * Java code by matching it against regular expressions.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class highlights Java code with one regular expression made of
+ * a named group per style class.
+ * Its comment and integer patterns backtrack, and overflow the stack on long
+ * unterminated comments and strings, so it is only kept as the reference the
+ * ScannerHighlightingEngine, which highlights the same categories in linear
+ * time, is benchmarked against.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class RegexHighlightingEngine implements HighlightingEngine {
+    /**
+     * a list of key words to be highlighted
+     */
+    private static final String[] KEYWORDS = new String[]{
+            "abstract", "assert", "boolean", "break", "byte",
+            "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else",
+            "enum", "extends", "final", "finally", "float",
+            "for", "goto", "if", "implements", "import",
+            "instanceof", "int", "interface", "long", "native",
+            "new", "package", "private", "protected", "public",
+            "return", "short", "static", "strictfp", "super",
+            "switch", "synchronized", "this", "throw", "throws",
+            "transient", "try", "void", "volatile", "while", "var"
+    };
+
+    /**
+     * regular expressions of characters to be highlighted
+     */
+    private static final String KEYWORD_PATTERN = "\\b(" + String.join("|", KEYWORDS) + ")\\b";
+    private static final String PAREN_PATTERN = "\\(|\\)";
+    private static final String BRACE_PATTERN = "\\{|\\}";
+    private static final String BRACKET_PATTERN = "\\[|\\]";
+    private static final String SEMICOLON_PATTERN = "\\;";
+    private static final String STRING_PATTERN = "\"([^\"\\\\]|\\\\.)*\"";
+    private static final String COMMENT_PATTERN = "//[^\n]*" + "|" + "/\\*(.|\\R)*?\\*/";
+    private static final String INTEGER_PATTERN = "(?<![\\w])(?<![\\d.])[0-9]+(?![\\d.])(?![\\w])";
+
+    /**
+     * patterns to be highlighted
+     */
+    private static final Pattern PATTERN = Pattern.compile(
+            "(?<KEYWORD>" + KEYWORD_PATTERN + ")"
+                    + "|(?<PAREN>" + PAREN_PATTERN + ")"
+                    + "|(?<BRACE>" + BRACE_PATTERN + ")"
+                    + "|(?<BRACKET>" + BRACKET_PATTERN + ")"
+                    + "|(?<SEMICOLON>" + SEMICOLON_PATTERN + ")"
+                    + "|(?<STRING>" + STRING_PATTERN + ")"
+                    + "|(?<COMMENT>" + COMMENT_PATTERN + ")"
+                    + "|(?<INTEGER>" + INTEGER_PATTERN + ")"
+    );
+
+    /**
+     * regular expression of comments within a single paragraph,
+     * a block comment that is not closed on the same paragraph runs to its end
+     */
+    private static final String PARAGRAPH_COMMENT_PATTERN = "//.*" + "|" + "/\\*.*?(?:\\*/|$)";
+
+    /**
+     * patterns to be highlighted within a single paragraph
+     */
+    private static final Pattern PARAGRAPH_PATTERN = Pattern.compile(
+            "(?<KEYWORD>" + KEYWORD_PATTERN + ")"
+                    + "|(?<PAREN>" + PAREN_PATTERN + ")"
+                    + "|(?<BRACE>" + BRACE_PATTERN + ")"
+                    + "|(?<BRACKET>" + BRACKET_PATTERN + ")"
+                    + "|(?<SEMICOLON>" + SEMICOLON_PATTERN + ")"
+                    + "|(?<STRING>" + STRING_PATTERN + ")"
+                    + "|(?<COMMENT>" + PARAGRAPH_COMMENT_PATTERN + ")"
+                    + "|(?<INTEGER>" + INTEGER_PATTERN + ")"
+    );
+
+    /**
+     * Computes the highlighting of substrings of text to return the style of each substring.
+     *
+     * @param text string to compute highlighting of
+     * @return StyleSpans Collection Object
+     */
+    @Override
+    public StyleSpans<Collection<String>> computeHighlighting(String text) {
+        Matcher matcher = PATTERN.matcher(text);
+        int lastKwEnd = 0;
+        HighlightBuffer buffer = new HighlightBuffer();
+        while (matcher.find()) {
+            int style =
+                    matcher.start("KEYWORD") >= 0 ? HighlightStyles.KEYWORD :
+                            matcher.start("PAREN") >= 0 ? HighlightStyles.PAREN :
+                                    matcher.start("BRACE") >= 0 ? HighlightStyles.BRACE :
+                                            matcher.start("BRACKET") >= 0 ? HighlightStyles.BRACKET :
+                                                    matcher.start("SEMICOLON") >= 0 ? HighlightStyles.SEMICOLON :
+                                                            matcher.start("STRING") >= 0 ? HighlightStyles.STRING :
+                                                                    matcher.start("COMMENT") >= 0 ? HighlightStyles.COMMENT :
+                                                                            HighlightStyles.INTEGER;
+            buffer.add(HighlightStyles.NONE, matcher.start() - lastKwEnd);
+            buffer.add(style, matcher.end() - matcher.start());
+            lastKwEnd = matcher.end();
+        }
+        buffer.add(HighlightStyles.NONE, text.length() - lastKwEnd);
+        return buffer.toStyleSpans(0, text.length());
+    }
+
+    /**
+     * Computes the highlighting of a single paragraph, given the lexical state
+     * it starts in, and appends runs covering the whole paragraph to the buffer.
+     *
+     * @param paragraph  text of the paragraph, without its line break
+     * @param entryState lexical state at the start of the paragraph
+     * @param buffer     buffer the styles of the paragraph are added to
+     * @return the lexical state at the end of the paragraph
+     */
+    @Override
+    public LexicalState computeParagraphHighlighting(String paragraph, LexicalState entryState,
+                                                     HighlightBuffer buffer) {
+        int lastKwEnd = 0;
+        LexicalState exitState = LexicalState.NORMAL;
+
+        // finish the block comment left open by an earlier paragraph
+        if (entryState == LexicalState.BLOCK_COMMENT) {
+            int commentEnd = paragraph.indexOf("*/");
+            if (commentEnd < 0) {
+                buffer.add(HighlightStyles.COMMENT, paragraph.length());
+                return LexicalState.BLOCK_COMMENT;
+            }
+            lastKwEnd = commentEnd + 2;
+            buffer.add(HighlightStyles.COMMENT, lastKwEnd);
+        }
+
+        Matcher matcher = PARAGRAPH_PATTERN.matcher(paragraph);
+        matcher.region(lastKwEnd, paragraph.length());
+        matcher.useTransparentBounds(true);
+        while (matcher.find()) {
+            int style =
+                    matcher.start("KEYWORD") >= 0 ? HighlightStyles.KEYWORD :
+                            matcher.start("PAREN") >= 0 ? HighlightStyles.PAREN :
+                                    matcher.start("BRACE") >= 0 ? HighlightStyles.BRACE :
+                                            matcher.start("BRACKET") >= 0 ? HighlightStyles.BRACKET :
+                                                    matcher.start("SEMICOLON") >= 0 ? HighlightStyles.SEMICOLON :
+                                                            matcher.start("STRING") >= 0 ? HighlightStyles.STRING :
+                                                                    matcher.start("COMMENT") >= 0 ? HighlightStyles.COMMENT :
+                                                                            HighlightStyles.INTEGER;
+            buffer.add(HighlightStyles.NONE, matcher.start() - lastKwEnd);
+            buffer.add(style, matcher.end() - matcher.start());
+            lastKwEnd = matcher.end();
+
+            // a block comment that is not closed on this paragraph continues on the next one
+            if (style == HighlightStyles.COMMENT && paragraph.startsWith("/*", matcher.start())
+                    && (matcher.end() - matcher.start() < 4 || !paragraph.startsWith("*/", matcher.end() - 2))) {
+                exitState = LexicalState.BLOCK_COMMENT;
+            }
+        }
+        buffer.add(HighlightStyles.NONE, paragraph.length() - lastKwEnd);
+        return exitState;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * File: ScannerHighlightingEngine.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the ScannerHighlightingEngine class, which highlights
+ * Java code with a hand-written single-pass scanner.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.fxmisc.richtext.model.StyleSpans;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * This class highlights the same categories as the RegexHighlightingEngine
+ * (keyword, paren, brace, bracket, semicolon, string, comment and integer)
+ * with a scanner that looks up the class of each character in a table and
+ * decides what to do from it and at most one character of lookahead.
+ * Every character is looked at a bounded number of times and nothing
+ * recurses, so highlighting takes linear time whatever the input, including
+ * the long unterminated comments and strings the regular expressions
+ * backtrack or overflow the stack on.
+ * Unlike the regular expressions, strings do not span lines: an unterminated
+ * string is styled up to the end of its line, and character literals are
+ * skipped, so that a quote inside one does not start a string.
+ * The engine keeps no state, so it can be shared between threads.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class ScannerHighlightingEngine implements HighlightingEngine {
+    /**
+     * character classes, used as values of CHARACTER_CLASSES
+     */
+    private static final byte OTHER = 0;
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 2;
+    private static final byte PAREN = 3;
+    private static final byte BRACE = 4;
+    private static final byte BRACKET = 5;
+    private static final byte SEMICOLON = 6;
+    private static final byte QUOTE = 7;
+    private static final byte APOSTROPHE = 8;
+    private static final byte SLASH = 9;
+
+    /**
+     * the class of each ASCII character
+     */
+    private static final byte[] CHARACTER_CLASSES = createCharacterClasses();
+
+    /**
+     * a list of key words to be highlighted
+     */
+    private static final String[] KEYWORDS = new String[]{
+            "abstract", "assert", "boolean", "break", "byte",
+            "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else",
+            "enum", "extends", "final", "finally", "float",
+            "for", "goto", "if", "implements", "import",
+            "instanceof", "int", "interface", "long", "native",
+            "new", "package", "private", "protected", "public",
+            "return", "short", "static", "strictfp", "super",
+            "switch", "synchronized", "this", "throw", "throws",
+            "transient", "try", "void", "volatile", "while", "var"
+    };
+
+    /**
+     * the key words starting with each lower case letter, indexed from 'a'
+     */
+    private static final String[][] KEYWORDS_BY_FIRST_LETTER = createKeywordTable();
+
+    /**
+     * Computes the highlighting of substrings of text to return the style of each substring.
+     *
+     * @param text string to compute highlighting of
+     * @return StyleSpans Collection Object
+     */
+    @Override
+    public StyleSpans<Collection<String>> computeHighlighting(String text) {
+        HighlightBuffer buffer = new HighlightBuffer();
+        this.scan(text, LexicalState.NORMAL, buffer);
+        return buffer.toStyleSpans(0, text.length());
+    }
+
+    /**
+     * Computes the highlighting of a single paragraph, given the lexical state
+     * it starts in, and appends runs covering the whole paragraph to the buffer.
+     *
+     * @param paragraph  text of the paragraph, without its line break
+     * @param entryState lexical state at the start of the paragraph
+     * @param buffer     buffer the styles of the paragraph are added to
+     * @return the lexical state at the end of the paragraph
+     */
+    @Override
+    public LexicalState computeParagraphHighlighting(String paragraph, LexicalState entryState,
+                                                     HighlightBuffer buffer) {
+        return this.scan(paragraph, entryState, buffer);
+    }
+
+    /**
+     * Scans the text once from start to end, adding a run for every styled
+     * token and for the unstyled characters between them to the buffer.
+     *
+     * @param text       text to highlight, a paragraph or a whole document
+     * @param entryState lexical state at the start of the text
+     * @param buffer     buffer the styles are added to
+     * @return the lexical state at the end of the text
+     */
+    private LexicalState scan(String text, LexicalState entryState, HighlightBuffer buffer) {
+        int length = text.length();
+        int position = 0;
+
+        // finish the block comment left open by an earlier paragraph
+        if (entryState == LexicalState.BLOCK_COMMENT) {
+            int commentEnd = text.indexOf("*/");
+            if (commentEnd < 0) {
+                buffer.add(HighlightStyles.COMMENT, length);
+                return LexicalState.BLOCK_COMMENT;
+            }
+            position = commentEnd + 2;
+            buffer.add(HighlightStyles.COMMENT, position);
+        }
+
+        int unstyledStart = position;
+        while (position < length) {
+            int style = HighlightStyles.NONE;
+            int end = position + 1;
+            switch (classOf(text.charAt(position))) {
+                case LETTER:
+                    end = wordEnd(text, position);
+                    if (isKeyword(text, position, end)) {
+                        style = HighlightStyles.KEYWORD;
+                    }
+                    break;
+                case DIGIT:
+                    end = wordEnd(text, position);
+                    if (isInteger(text, position, end)) {
+                        style = HighlightStyles.INTEGER;
+                    }
+                    break;
+                case PAREN:
+                    style = HighlightStyles.PAREN;
+                    break;
+                case BRACE:
+                    style = HighlightStyles.BRACE;
+                    break;
+                case BRACKET:
+                    style = HighlightStyles.BRACKET;
+                    break;
+                case SEMICOLON:
+                    style = HighlightStyles.SEMICOLON;
+                    break;
+                case QUOTE:
+                    end = literalEnd(text, position, '"');
+                    style = HighlightStyles.STRING;
+                    break;
+                case APOSTROPHE:
+                    // character literals are not styled, only skipped
+                    end = literalEnd(text, position, '\'');
+                    break;
+                case SLASH:
+                    if (position + 1 < length && text.charAt(position + 1) == '/') {
+                        end = lineEnd(text, position);
+                        style = HighlightStyles.COMMENT;
+                    } else if (position + 1 < length && text.charAt(position + 1) == '*') {
+                        int commentEnd = text.indexOf("*/", position + 2);
+                        if (commentEnd < 0) {
+                            buffer.add(HighlightStyles.NONE, position - unstyledStart);
+                            buffer.add(HighlightStyles.COMMENT, length - position);
+                            return LexicalState.BLOCK_COMMENT;
+                        }
+                        end = commentEnd + 2;
+                        style = HighlightStyles.COMMENT;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (style != HighlightStyles.NONE) {
+                buffer.add(HighlightStyles.NONE, position - unstyledStart);
+                buffer.add(style, end - position);
+                unstyledStart = end;
+            }
+            position = end;
+        }
+        buffer.add(HighlightStyles.NONE, length - unstyledStart);
+        return LexicalState.NORMAL;
+    }
+
+    /**
+     * Returns the class of a character, non-ASCII characters being letters
+     * if they can be part of a Java identifier.
+     *
+     * @param c the character
+     * @return the class of the character
+     */
+    private static byte classOf(char c) {
+        if (c < CHARACTER_CLASSES.length) {
+            return CHARACTER_CLASSES[c];
+        }
+        return Character.isJavaIdentifierPart(c) ? LETTER : OTHER;
+    }
+
+    /**
+     * Finds the end of the word of letters and digits starting at the given index.
+     *
+     * @param text  the text
+     * @param start index of the first character of the word
+     * @return index just past the word
+     */
+    private static int wordEnd(String text, int start) {
+        int end = start + 1;
+        while (end < text.length()) {
+            byte characterClass = classOf(text.charAt(end));
+            if (characterClass != LETTER && characterClass != DIGIT) {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Finds the end of the string or character literal starting at the given
+     * index: just past its closing delimiter, or the end of its line if it is
+     * not closed on it.
+     *
+     * @param text      the text
+     * @param start     index of the opening delimiter
+     * @param delimiter the delimiting character
+     * @return index just past the literal
+     */
+    private static int literalEnd(String text, int start, char delimiter) {
+        int position = start + 1;
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c == delimiter) {
+                return position + 1;
+            }
+            if (c == '\n') {
+                return position;
+            }
+            // an escape sequence never ends the literal, unless it escapes the line break
+            position += c == '\\' && position + 1 < text.length() && text.charAt(position + 1) != '\n' ? 2 : 1;
+        }
+        return position;
+    }
+
+    /**
+     * Finds the end of the line containing the given index.
+     *
+     * @param text  the text
+     * @param start index within the line
+     * @return index of the line break ending the line, or the length of the text
+     */
+    private static int lineEnd(String text, int start) {
+        int end = text.indexOf('\n', start);
+        return end < 0 ? text.length() : end;
+    }
+
+    /**
+     * Tells whether a word is one of the key words.
+     *
+     * @param text  the text
+     * @param start index of the first character of the word
+     * @param end   index just past the word
+     * @return true if the word is a key word
+     */
+    private static boolean isKeyword(String text, int start, int end) {
+        char first = text.charAt(start);
+        if (first < 'a' || first > 'z') {
+            return false;
+        }
+        for (String keyword : KEYWORDS_BY_FIRST_LETTER[first - 'a']) {
+            if (keyword.length() == end - start && text.startsWith(keyword, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether a word starting with a digit is a plain integer: only
+     * digits, and neither preceded nor followed by a '.' that would make it
+     * part of a floating point number.
+     *
+     * @param text  the text
+     * @param start index of the first character of the word
+     * @param end   index just past the word
+     * @return true if the word is an integer
+     */
+    private static boolean isInteger(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return (start == 0 || text.charAt(start - 1) != '.')
+                && (end == text.length() || text.charAt(end) != '.');
+    }
+
+    /**
+     * Builds the table of the class of each ASCII character.
+     *
+     * @return the class of each ASCII character
+     */
+    private static byte[] createCharacterClasses() {
+        byte[] characterClasses = new byte[128];
+        for (char c = 'a'; c <= 'z'; c++) {
+            characterClasses[c] = LETTER;
+            characterClasses[Character.toUpperCase(c)] = LETTER;
+        }
+        characterClasses['_'] = LETTER;
+        characterClasses['$'] = LETTER;
+        for (char c = '0'; c <= '9'; c++) {
+            characterClasses[c] = DIGIT;
+        }
+        characterClasses['('] = PAREN;
+        characterClasses[')'] = PAREN;
+        characterClasses['{'] = BRACE;
+        characterClasses['}'] = BRACE;
+        characterClasses['['] = BRACKET;
+        characterClasses[']'] = BRACKET;
+        characterClasses[';'] = SEMICOLON;
+        characterClasses['"'] = QUOTE;
+        characterClasses['\''] = APOSTROPHE;
+        characterClasses['/'] = SLASH;
+        return characterClasses;
+    }
+
+    /**
+     * Builds the table of the key words starting with each lower case letter.
+     *
+     * @return the key words starting with each letter, indexed from 'a'
+     */
+    private static String[][] createKeywordTable() {
+        String[][] keywordTable = new String[26][0];
+        for (String keyword : KEYWORDS) {
+            int index = keyword.charAt(0) - 'a';
+            keywordTable[index] = Arrays.copyOf(keywordTable[index], keywordTable[index].length + 1);
+            keywordTable[index][keywordTable[index].length - 1] = keyword;
+        }
+        return keywordTable;
+    }
+}
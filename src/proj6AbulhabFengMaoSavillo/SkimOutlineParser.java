@@ -0,0 +1,597 @@
+/*
+ * File: SkimOutlineParser.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the SkimOutlineParser class, which outlines Java code
+ * from its tokens alone, skipping the bodies of its methods.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Builds the same outline of classes, fields and methods as the
+ * StructureParser, but without the Java8Parser: the code is only tokenized
+ * with the Java8Lexer, the member declarations are recognized from their
+ * tokens, and the bodies of methods and initializers and the initial values
+ * of fields are skipped by matching their brackets. Every token is looked at
+ * once or twice, so the outline takes time linear in the size of the file,
+ * where the full parser predicts its way through every statement and
+ * expression.
+ * As with the StructureParser, only classes get a node of their own: the
+ * methods of interfaces and the fields and methods of enums are added to
+ * the enclosing class, and interface constants, constructors and the
+ * elements of annotation types are left out. Unlike it, declarations inside
+ * a body, such as the methods of anonymous and local classes, are skipped
+ * with the body, so the full parser is still needed to outline those.
+ * Malformed code never fails the skim: an unmatched bracket only ends the
+ * outline early or attaches the following members to the wrong class.
+ * Safe to use from any thread.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class SkimOutlineParser
+{
+    /**
+     * The kinds of body whose member declarations are recognized
+     */
+    private enum BodyKind
+    {
+        COMPILATION_UNIT, CLASS, INTERFACE, ENUM_CONSTANTS, ENUM, ANNOTATION
+    }
+
+    /**
+     * Outlines Java code.
+     *
+     * @param contents  the code to be outlined
+     * @param cancelled tells whether the outline has been superseded
+     * @return the root of the outline
+     * @throws CancellationException if the outline was superseded before it was done
+     */
+    public OutlineNode parse(String contents, BooleanSupplier cancelled)
+    {
+        return this.analyze(contents, 0, cancelled).getOutline();
+    }
+
+    /**
+     * Tokenizes a version of Java code and outlines it from its tokens.
+     *
+     * @param contents  the code to be outlined
+     * @param version   version of the code
+     * @param cancelled tells whether the outline has been superseded
+     * @return the analysis of the code, without parse tree
+     * @throws CancellationException if the outline was superseded before it was done
+     */
+    public DocumentAnalysis analyze(String contents, long version, BooleanSupplier cancelled)
+    {
+        // unfinished literals are common while typing, and skipped like any other stray character
+        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(contents));
+        lexer.removeErrorListeners();
+        List<? extends Token> tokens = lexer.getAllTokens();
+        OutlineNode root = OutlineNode.createRoot();
+        new Skim(tokens, root, cancelled).run();
+        return new DocumentAnalysis(version, false, contents, tokens, null, root);
+    }
+
+    /**
+     * Private helper class that walks the tokens of one file, keeping the
+     * bodies it is in, and adds the declarations it recognizes to the outline.
+     */
+    private static class Skim
+    {
+        /**
+         * the tokens of the file, without whitespace and comments
+         */
+        private final List<? extends Token> tokens;
+        /**
+         * tells whether the outline has been superseded
+         */
+        private final BooleanSupplier cancelled;
+        /**
+         * the bodies enclosing the current one, innermost first
+         */
+        private final ArrayDeque<BodyKind> enclosingKinds;
+        private final ArrayDeque<OutlineNode> enclosingNodes;
+        /**
+         * the kind of the body the tokens are in
+         */
+        private BodyKind kind;
+        /**
+         * node the declarations of the current body are added to
+         */
+        private OutlineNode node;
+        /**
+         * index of the next token to look at
+         */
+        private int index;
+
+        /**
+         * Creates a new Skim
+         *
+         * @param tokens    the tokens of the file
+         * @param root      root of the outline to build
+         * @param cancelled tells whether the outline has been superseded
+         */
+        Skim(List<? extends Token> tokens, OutlineNode root, BooleanSupplier cancelled)
+        {
+            this.tokens = tokens;
+            this.cancelled = cancelled;
+            this.enclosingKinds = new ArrayDeque<>();
+            this.enclosingNodes = new ArrayDeque<>();
+            this.kind = BodyKind.COMPILATION_UNIT;
+            this.node = root;
+        }
+
+        /**
+         * Walks all the tokens, one declaration at a time.
+         */
+        void run()
+        {
+            while (this.index < this.tokens.size())
+            {
+                if (this.cancelled.getAsBoolean())
+                {
+                    throw new CancellationException("structure skim superseded");
+                }
+                int type = this.type(this.index);
+                if (type == Java8Lexer.RBRACE)
+                {
+                    this.index++;
+                    this.exitBody();
+                }
+                else if (type == Java8Lexer.SEMI)
+                {
+                    this.index++;
+                }
+                else if (this.kind == BodyKind.ENUM_CONSTANTS)
+                {
+                    this.skipEnumConstants();
+                }
+                else
+                {
+                    this.skimDeclaration();
+                }
+            }
+        }
+
+        /**
+         * Recognizes the declaration starting at the current token and moves
+         * past it, entering its body if it declares a type.
+         */
+        private void skimDeclaration()
+        {
+            int start = this.index;
+            int header = this.skipModifiers(start);
+            int type = this.type(header);
+            if (type == Java8Lexer.CLASS || type == Java8Lexer.INTERFACE || type == Java8Lexer.ENUM
+                || type == Java8Lexer.AT)
+            {
+                this.enterTypeDeclaration(start, header);
+            }
+            else if (type == Java8Lexer.LBRACE)
+            {
+                //initializer
+                this.index = this.skipBracketed(header);
+            }
+            else
+            {
+                this.skimMember(start, header);
+            }
+        }
+
+        /**
+         * Enters the body of a class, interface, enum or annotation type,
+         * adding a node for a class.
+         *
+         * @param start  index of the first token of the declaration
+         * @param header index of the keyword of the declaration
+         */
+        private void enterTypeDeclaration(int start, int header)
+        {
+            BodyKind bodyKind;
+            int nameIndex = header + 1;
+            switch (this.type(header))
+            {
+                case Java8Lexer.CLASS:
+                    bodyKind = BodyKind.CLASS;
+                    break;
+                case Java8Lexer.INTERFACE:
+                    bodyKind = BodyKind.INTERFACE;
+                    break;
+                case Java8Lexer.ENUM:
+                    bodyKind = BodyKind.ENUM_CONSTANTS;
+                    break;
+                default:
+                    bodyKind = BodyKind.ANNOTATION;
+                    nameIndex++;
+                    break;
+            }
+
+            //the header holds no braces, only the name, type parameters and supertypes
+            int brace = nameIndex;
+            while (brace < this.tokens.size() && this.type(brace) != Java8Lexer.LBRACE
+                   && this.type(brace) != Java8Lexer.SEMI && this.type(brace) != Java8Lexer.RBRACE)
+            {
+                brace++;
+            }
+            if (this.type(brace) != Java8Lexer.LBRACE)
+            {
+                this.index = brace;
+                return;
+            }
+
+            OutlineNode bodyNode = this.node;
+            if (bodyKind == BodyKind.CLASS && this.type(nameIndex) == Java8Lexer.Identifier)
+            {
+                bodyNode = this.createNode(OutlineNode.Kind.CLASS, nameIndex, start);
+                this.node.addChild(bodyNode);
+            }
+            this.enclosingKinds.push(this.kind);
+            this.enclosingNodes.push(this.node);
+            this.kind = bodyKind;
+            this.node = bodyNode;
+            this.index = brace + 1;
+        }
+
+        /**
+         * Returns to the body enclosing the current one, if any.
+         */
+        private void exitBody()
+        {
+            if (!this.enclosingKinds.isEmpty())
+            {
+                this.kind = this.enclosingKinds.pop();
+                this.node = this.enclosingNodes.pop();
+            }
+        }
+
+        /**
+         * Recognizes a field, method or constructor declaration, or a package
+         * or import declaration, and moves past it, skipping the initial
+         * value of a field and the body of a method.
+         *
+         * @param start  index of the first token of the declaration
+         * @param header index of the first token after the modifiers
+         */
+        private void skimMember(int start, int header)
+        {
+            //find the parameters of a method, or the end of the first variable of a field
+            int angleDepth = 0;
+            int lastIdentifier = -1;
+            int i = header;
+            scan:
+            while (i < this.tokens.size())
+            {
+                switch (this.type(i))
+                {
+                    case Java8Lexer.AT:
+                        i = this.skipAnnotation(i);
+                        continue;
+                    case Java8Lexer.LT:
+                        angleDepth++;
+                        break;
+                    case Java8Lexer.GT:
+                        angleDepth--;
+                        break;
+                    case Java8Lexer.Identifier:
+                        lastIdentifier = i;
+                        break;
+                    case Java8Lexer.COMMA:
+                        if (angleDepth <= 0)
+                        {
+                            break scan;
+                        }
+                        break;
+                    case Java8Lexer.LPAREN:
+                    case Java8Lexer.ASSIGN:
+                    case Java8Lexer.SEMI:
+                    case Java8Lexer.LBRACE:
+                    case Java8Lexer.RBRACE:
+                        break scan;
+                    default:
+                        break;
+                }
+                i++;
+            }
+
+            if (i >= this.tokens.size() || this.type(i) == Java8Lexer.RBRACE)
+            {
+                //malformed, leave the brace to end the body
+                this.index = Math.max(i, start + 1);
+                return;
+            }
+            if (this.type(i) == Java8Lexer.LBRACE)
+            {
+                //malformed, skip the block as if it were an initializer
+                this.index = this.skipBracketed(i);
+                return;
+            }
+            if (this.type(i) == Java8Lexer.LPAREN)
+            {
+                if (lastIdentifier == i - 1 && !this.isConstructor(header, lastIdentifier)
+                    && (this.kind == BodyKind.CLASS || this.kind == BodyKind.ENUM
+                        || this.kind == BodyKind.INTERFACE))
+                {
+                    this.node.addChild(this.createNode(OutlineNode.Kind.METHOD, lastIdentifier, header));
+                }
+                this.index = this.skipMethodRest(this.skipBracketed(i));
+                return;
+            }
+            if (lastIdentifier >= 0 && (this.kind == BodyKind.CLASS || this.kind == BodyKind.ENUM))
+            {
+                this.node.addChild(this.createNode(OutlineNode.Kind.FIELD, lastIdentifier, start));
+            }
+            this.index = this.skipToSemicolon(i);
+        }
+
+        /**
+         * Tells whether a declaration with parameters is a constructor, which
+         * has nothing but type parameters between its modifiers and its name.
+         *
+         * @param header    index of the first token after the modifiers
+         * @param nameIndex index of the name of the declaration
+         * @return true if it is a constructor
+         */
+        private boolean isConstructor(int header, int nameIndex)
+        {
+            int i = header;
+            if (this.type(i) == Java8Lexer.LT)
+            {
+                int angleDepth = 0;
+                do
+                {
+                    if (this.type(i) == Java8Lexer.LT)
+                    {
+                        angleDepth++;
+                    }
+                    else if (this.type(i) == Java8Lexer.GT)
+                    {
+                        angleDepth--;
+                    }
+                    i++;
+                } while (angleDepth > 0 && i < nameIndex);
+            }
+            return i == nameIndex;
+        }
+
+        /**
+         * Skips the annotations and modifiers starting at a token, stopping at
+         * the "@" of "@interface".
+         *
+         * @param start index of the first token
+         * @return index of the first token after them
+         */
+        private int skipModifiers(int start)
+        {
+            int i = start;
+            while (i < this.tokens.size())
+            {
+                switch (this.type(i))
+                {
+                    case Java8Lexer.AT:
+                        if (this.type(i + 1) == Java8Lexer.INTERFACE)
+                        {
+                            return i;
+                        }
+                        i = this.skipAnnotation(i);
+                        break;
+                    case Java8Lexer.PUBLIC:
+                    case Java8Lexer.PROTECTED:
+                    case Java8Lexer.PRIVATE:
+                    case Java8Lexer.STATIC:
+                    case Java8Lexer.ABSTRACT:
+                    case Java8Lexer.FINAL:
+                    case Java8Lexer.NATIVE:
+                    case Java8Lexer.SYNCHRONIZED:
+                    case Java8Lexer.TRANSIENT:
+                    case Java8Lexer.VOLATILE:
+                    case Java8Lexer.STRICTFP:
+                    case Java8Lexer.DEFAULT:
+                        i++;
+                        break;
+                    default:
+                        return i;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Skips an annotation: its "@", its qualified name and its arguments.
+         *
+         * @param at index of the "@"
+         * @return index of the first token after it
+         */
+        private int skipAnnotation(int at)
+        {
+            int i = at + 1;
+            while (this.type(i) == Java8Lexer.Identifier)
+            {
+                i++;
+                if (this.type(i) != Java8Lexer.DOT)
+                {
+                    break;
+                }
+                i++;
+            }
+            if (this.type(i) == Java8Lexer.LPAREN)
+            {
+                i = this.skipBracketed(i);
+            }
+            return i;
+        }
+
+        /**
+         * Skips the rest of a method after its parameters: its throws clause,
+         * or default value, and its body or semicolon.
+         *
+         * @param start index of the first token after the parameters
+         * @return index of the first token after the method
+         */
+        private int skipMethodRest(int start)
+        {
+            if (this.kind == BodyKind.ANNOTATION)
+            {
+                //a default value may be an array in braces
+                return this.skipToSemicolon(start);
+            }
+            int i = start;
+            while (i < this.tokens.size())
+            {
+                switch (this.type(i))
+                {
+                    case Java8Lexer.LBRACE:
+                        return this.skipBracketed(i);
+                    case Java8Lexer.SEMI:
+                        return i + 1;
+                    case Java8Lexer.RBRACE:
+                        return i;
+                    default:
+                        i++;
+                        break;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Skips to just past the semicolon ending a declaration, skipping
+         * whatever is in brackets on the way, such as anonymous classes and
+         * lambda bodies.
+         *
+         * @param start index of the first token to skip
+         * @return index of the first token after the semicolon, or of the
+         * brace ending the body if there is no semicolon
+         */
+        private int skipToSemicolon(int start)
+        {
+            int i = start;
+            while (i < this.tokens.size())
+            {
+                switch (this.type(i))
+                {
+                    case Java8Lexer.SEMI:
+                        return i + 1;
+                    case Java8Lexer.RBRACE:
+                        return i;
+                    case Java8Lexer.LPAREN:
+                    case Java8Lexer.LBRACK:
+                    case Java8Lexer.LBRACE:
+                        i = this.skipBracketed(i);
+                        break;
+                    default:
+                        i++;
+                        break;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Skips the enum constants at the start of an enum body, up to the
+         * semicolon after them or the brace ending the body.
+         */
+        private void skipEnumConstants()
+        {
+            int i = this.index;
+            while (i < this.tokens.size())
+            {
+                int type = this.type(i);
+                if (type == Java8Lexer.SEMI)
+                {
+                    this.kind = BodyKind.ENUM;
+                    i++;
+                    break;
+                }
+                if (type == Java8Lexer.RBRACE)
+                {
+                    break;
+                }
+                if (type == Java8Lexer.LPAREN || type == Java8Lexer.LBRACK || type == Java8Lexer.LBRACE)
+                {
+                    i = this.skipBracketed(i);
+                }
+                else
+                {
+                    i++;
+                }
+            }
+            this.index = i;
+        }
+
+        /**
+         * Skips a bracketed region: parentheses, square brackets or braces,
+         * with everything nested in it.
+         *
+         * @param open index of the opening bracket
+         * @return index of the first token after the matching closing bracket,
+         * or the number of tokens if it is not closed
+         */
+        private int skipBracketed(int open)
+        {
+            int depth = 0;
+            int i = open;
+            while (i < this.tokens.size())
+            {
+                switch (this.type(i))
+                {
+                    case Java8Lexer.LPAREN:
+                    case Java8Lexer.LBRACK:
+                    case Java8Lexer.LBRACE:
+                        depth++;
+                        break;
+                    case Java8Lexer.RPAREN:
+                    case Java8Lexer.RBRACK:
+                    case Java8Lexer.RBRACE:
+                        depth--;
+                        break;
+                    default:
+                        break;
+                }
+                i++;
+                if (depth == 0)
+                {
+                    return i;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Creates the node of a declaration.
+         *
+         * @param kind      what is declared
+         * @param nameIndex index of the name of the declaration
+         * @param start     index of the token the declaration starts at
+         * @return the node
+         */
+        private OutlineNode createNode(OutlineNode.Kind kind, int nameIndex, int start)
+        {
+            Token startToken = this.tokens.get(start);
+            return new OutlineNode(kind, this.tokens.get(nameIndex).getText(), startToken.getLine(),
+                                   startToken.getCharPositionInLine());
+        }
+
+        /**
+         * Returns the type of a token.
+         *
+         * @param i index of the token
+         * @return its type, or EOF past the last token
+         */
+        private int type(int i)
+        {
+            return i < this.tokens.size() ? this.tokens.get(i).getType() : Token.EOF;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * File: StructuralChangeDetector.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the StructuralChangeDetector class, which tells whether
+ * an edit can change the outline of the code.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells whether a new version of the code provably has the same outline as
+ * an analyzed earlier version, so that it need not be parsed at all.
+ * The edited region is found by comparing the two texts, and the new text is
+ * lexed from the last token before the region until its tokens are again
+ * those of the earlier version. The outline is unchanged when:
+ * <ul>
+ * <li>the token types are the same, so the parse takes the same path, both
+ * parsers deciding on token types alone;</li>
+ * <li>the tokens whose text changed are literals, or identifiers that are not
+ * in a declaration position, that is, neither after class, interface or enum
+ * nor before a parenthesis, bracket, assignment, comma or semicolon, and
+ * that no declaration is named after; and</li>
+ * <li>no declaration starts within or after the edit unless the edit leaves
+ * its line and column as they were.</li>
+ * </ul>
+ * Typing inside a comment, a string or an expression is thus found harmless,
+ * while typing a brace, a semicolon, a modifier or the name of a declaration
+ * is not. Anything else, such as an edit the lexer reports an error for, is
+ * taken to change the outline.
+ * The number of versions checked and found unchanged are kept as metrics.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class StructuralChangeDetector
+{
+    /**
+     * number of characters lexed after the edit at first, doubled until enough
+     */
+    private static final int LEXING_MARGIN = 256;
+    /**
+     * results of lexing that found no old token again
+     */
+    private static final int NOT_RESYNCHRONIZED = -1;
+    private static final int LEXER_ERROR = -2;
+
+    /**
+     * number of versions checked, and found to have an unchanged outline
+     */
+    private final AtomicLong checks;
+    private final AtomicLong skips;
+
+    /**
+     * Creates a new StructuralChangeDetector
+     */
+    public StructuralChangeDetector()
+    {
+        this.checks = new AtomicLong();
+        this.skips = new AtomicLong();
+    }
+
+    /**
+     * Tells whether a new version of the code provably has the same outline
+     * as an earlier version. The earlier analysis is only read, and is found
+     * changed if it has been compacted or its tokens have been taken over,
+     * even while being checked.
+     *
+     * @param previous analysis of the earlier version
+     * @param contents the new version of the code
+     * @return true if the outline of the earlier version is that of the new one
+     */
+    public boolean isUnchanged(DocumentAnalysis previous, String contents)
+    {
+        this.checks.incrementAndGet();
+        if (previous.getText() == null || previous.getTokens() == null || previous.isTakenOver())
+        {
+            return false;
+        }
+        //the tokens are only moved after being taken over, so if still not
+        //taken over once read, they were read unchanged
+        boolean unchanged = this.compare(previous, contents) && !previous.isTakenOver();
+        if (unchanged)
+        {
+            this.skips.incrementAndGet();
+        }
+        return unchanged;
+    }
+
+    /**
+     * Compares the tokens and declarations around the edit.
+     *
+     * @param previous analysis of the earlier version
+     * @param contents the new version of the code
+     * @return true if the outline of the earlier version is that of the new one
+     */
+    private boolean compare(DocumentAnalysis previous, String contents)
+    {
+        //find the region of the old text replaced by the edit
+        String oldText = previous.getText();
+        int shorter = Math.min(oldText.length(), contents.length());
+        int prefix = 0;
+        while (prefix < shorter && oldText.charAt(prefix) == contents.charAt(prefix))
+        {
+            prefix++;
+        }
+        if (prefix == oldText.length() && prefix == contents.length())
+        {
+            return true;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+               && oldText.charAt(oldText.length() - 1 - suffix) == contents.charAt(contents.length() - 1 - suffix))
+        {
+            suffix++;
+        }
+        int oldEnd = oldText.length() - suffix;
+        int newEnd = contents.length() - suffix;
+        int lengthDelta = contents.length() - oldText.length();
+
+        //start lexing after the last token ending before the edit and followed
+        //by whitespace, which no token reaches over, so the lexer starts afresh there
+        List<? extends Token> oldTokens = previous.getTokens();
+        int oldCount = oldTokens.size();
+        if (oldCount > 0 && oldTokens.get(oldCount - 1).getType() == Token.EOF)
+        {
+            oldCount--;
+        }
+        int first = this.firstTokenEndingAtOrAfter(oldTokens, oldCount, prefix - 1);
+        int lexStart = 0;
+        while (first > 0)
+        {
+            int boundary = oldTokens.get(first - 1).getStopIndex() + 1;
+            if (boundary < prefix && Character.isWhitespace(oldText.charAt(boundary)))
+            {
+                lexStart = boundary;
+                break;
+            }
+            first--;
+        }
+
+        //lex the new text until a token after the edit is one of the old tokens
+        //again, lexing further into the text each time none is found
+        List<Token> newTokens = new ArrayList<>();
+        int lexEnd = Math.min(contents.length(), newEnd + LEXING_MARGIN);
+        int next = this.lexUntilResynchronized(contents, lexStart, lexEnd, newEnd, lengthDelta, oldTokens, oldCount,
+                                               first, newTokens);
+        while (next == NOT_RESYNCHRONIZED && lexEnd < contents.length())
+        {
+            lexEnd = (int) Math.min(contents.length(), lexStart + 2L * (lexEnd - lexStart));
+            newTokens.clear();
+            next = this.lexUntilResynchronized(contents, lexStart, lexEnd, newEnd, lengthDelta, oldTokens, oldCount,
+                                               first, newTokens);
+        }
+        if (next < 0)
+        {
+            return false;
+        }
+
+        //the same types, with only literals and names of no declaration changed
+        if (newTokens.size() != next - first)
+        {
+            return false;
+        }
+        Set<String> declarationNames = null;
+        for (int i = 0; i < newTokens.size(); i++)
+        {
+            Token oldToken = oldTokens.get(first + i);
+            Token newToken = newTokens.get(i);
+            if (oldToken.getType() != newToken.getType())
+            {
+                return false;
+            }
+            if (oldToken.getText().equals(newToken.getText()) || this.isLiteral(oldToken.getType()))
+            {
+                continue;
+            }
+            if (oldToken.getType() != Java8Lexer.Identifier
+                || this.isDeclarationName(oldTokens, oldCount, first + i))
+            {
+                return false;
+            }
+            //the parsers pick the names by the types of the tokens alone, so
+            //an identifier no declaration is named after is the name of none
+            if (declarationNames == null)
+            {
+                declarationNames = this.collectNames(previous.getOutline());
+            }
+            if (declarationNames.contains(oldToken.getText()))
+            {
+                return false;
+            }
+        }
+
+        return !this.movesDeclarations(previous.getOutline(), oldText, prefix, oldEnd,
+                                       contents.substring(prefix, newEnd));
+    }
+
+    /**
+     * Lexes part of the new text until a token after the edit is found at the
+     * place of an old token, with the same type and text, from where on the
+     * lexer sees the old text again and so makes the old tokens.
+     *
+     * @param contents    the new text
+     * @param lexStart    index in the new text of a token boundary before the edit
+     * @param lexEnd      index in the new text where lexing stops
+     * @param newEnd      index in the new text where the edit ends
+     * @param lengthDelta change in length of the text
+     * @param oldTokens   the old tokens
+     * @param oldCount    the number of old tokens, without end of file
+     * @param first       index of the first old token after lexStart
+     * @param newTokens   receives the new tokens before the one found
+     * @return the index of the old token found, oldCount if the text ends first,
+     * NOT_RESYNCHRONIZED if the part lexed ends first, or LEXER_ERROR
+     */
+    private int lexUntilResynchronized(String contents, int lexStart, int lexEnd, int newEnd, int lengthDelta,
+                                       List<? extends Token> oldTokens, int oldCount, int first,
+                                       List<Token> newTokens)
+    {
+        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(contents.substring(lexStart, lexEnd)));
+        lexer.removeErrorListeners();
+        LexerErrorFlag lexerErrors = new LexerErrorFlag();
+        lexer.addErrorListener(lexerErrors);
+        int next = first;
+        while (true)
+        {
+            Token token = lexer.nextToken();
+            if (lexerErrors.isRaised())
+            {
+                return LEXER_ERROR;
+            }
+            if (token.getType() == Token.EOF)
+            {
+                return lexEnd == contents.length() ? oldCount : NOT_RESYNCHRONIZED;
+            }
+            int start = token.getStartIndex() + lexStart;
+            if (start >= newEnd)
+            {
+                while (next < oldCount && oldTokens.get(next).getStartIndex() < start - lengthDelta)
+                {
+                    next++;
+                }
+                if (next < oldCount && oldTokens.get(next).getStartIndex() == start - lengthDelta
+                    && oldTokens.get(next).getType() == token.getType()
+                    && oldTokens.get(next).getText().equals(token.getText()))
+                {
+                    return next;
+                }
+            }
+            newTokens.add(token);
+        }
+    }
+
+    /**
+     * Finds the first token ending at or after a position, by binary search.
+     *
+     * @param tokens   the tokens, in order
+     * @param count    the number of tokens to search
+     * @param position index in the text
+     * @return the index of the token, or count if there is none
+     */
+    private int firstTokenEndingAtOrAfter(List<? extends Token> tokens, int count, int position)
+    {
+        int low = 0;
+        int high = count;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (tokens.get(middle).getStopIndex() < position)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Tells whether a type of token is a literal, whose text no outline shows.
+     *
+     * @param type the type of the token
+     * @return true for the literals
+     */
+    private boolean isLiteral(int type)
+    {
+        switch (type)
+        {
+            case Java8Lexer.IntegerLiteral:
+            case Java8Lexer.FloatingPointLiteral:
+            case Java8Lexer.BooleanLiteral:
+            case Java8Lexer.CharacterLiteral:
+            case Java8Lexer.StringLiteral:
+            case Java8Lexer.NullLiteral:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Tells whether an identifier may be the name of a class, field or
+     * method, judging by the tokens around it: a class name follows class,
+     * interface or enum, a method name comes before its parameters, and a
+     * field name before brackets, an initializer or the end of the declaration.
+     *
+     * @param tokens the tokens
+     * @param count  the number of tokens
+     * @param index  the index of the identifier
+     * @return true if it may be the name of a declaration
+     */
+    private boolean isDeclarationName(List<? extends Token> tokens, int count, int index)
+    {
+        int before = index > 0 ? tokens.get(index - 1).getType() : Token.INVALID_TYPE;
+        int after = index + 1 < count ? tokens.get(index + 1).getType() : Token.EOF;
+        return before == Java8Lexer.CLASS || before == Java8Lexer.INTERFACE || before == Java8Lexer.ENUM
+               || after == Java8Lexer.LPAREN || after == Java8Lexer.LBRACK || after == Java8Lexer.ASSIGN
+               || after == Java8Lexer.COMMA || after == Java8Lexer.SEMI || after == Token.EOF;
+    }
+
+    /**
+     * Collects the names of the declarations in an outline.
+     *
+     * @param outline the root of the outline
+     * @return the names of all its declarations
+     */
+    private Set<String> collectNames(OutlineNode outline)
+    {
+        Set<String> names = new HashSet<>();
+        ArrayDeque<OutlineNode> nodes = new ArrayDeque<>(outline.getChildren());
+        while (!nodes.isEmpty())
+        {
+            OutlineNode node = nodes.pop();
+            names.add(node.getName());
+            node.getChildren().forEach(nodes::push);
+        }
+        return names;
+    }
+
+    /**
+     * Tells whether an edit moves the line or column of a declaration. Only
+     * a declaration starting after the edited region keeps its place, and
+     * only if the edit leaves the number of lines the same and, for a
+     * declaration on the line the region ends on, the column it ends at.
+     * A declaration starting within the region is taken to move, as is any
+     * declaration after the edit when the edit adds or removes lines.
+     *
+     * @param outline the root of the outline of the old text
+     * @param oldText the old text
+     * @param start   index in the old text where the edit starts
+     * @param oldEnd  index in the old text where the edit ends
+     * @param newPart the text replacing that between start and oldEnd
+     * @return true if a declaration starts at another line or column
+     */
+    private boolean movesDeclarations(OutlineNode outline, String oldText, int start, int oldEnd, String newPart)
+    {
+        int oldLines = this.countLines(oldText, start, oldEnd);
+        int newLines = this.countLines(newPart, 0, newPart.length());
+        int startLine = this.countLines(oldText, 0, start) + 1;
+        int startColumn = start - (oldText.lastIndexOf('\n', start - 1) + 1);
+        int endLine = startLine + oldLines;
+        int endColumn = oldEnd - (oldText.lastIndexOf('\n', oldEnd - 1) + 1);
+        //the column the region ends at in the new text, on its own last line
+        int newPartLineStart = newPart.lastIndexOf('\n') + 1;
+        int newEndColumn = newPartLineStart == 0 ? startColumn + newPart.length()
+                                                 : newPart.length() - newPartLineStart;
+
+        ArrayDeque<OutlineNode> nodes = new ArrayDeque<>(outline.getChildren());
+        while (!nodes.isEmpty())
+        {
+            OutlineNode node = nodes.pop();
+            boolean atOrAfterStart = node.getLine() > startLine
+                                     || (node.getLine() == startLine && node.getColumn() >= startColumn);
+            if (atOrAfterStart)
+            {
+                boolean afterEnd = node.getLine() > endLine
+                                   || (node.getLine() == endLine && node.getColumn() >= endColumn);
+                if (!afterEnd || oldLines != newLines
+                    || (node.getLine() == endLine && endColumn != newEndColumn))
+                {
+                    return true;
+                }
+            }
+            node.getChildren().forEach(nodes::push);
+        }
+        return false;
+    }
+
+    /**
+     * Counts the line breaks in part of a text.
+     *
+     * @param text  the text
+     * @param start index of the start of the part
+     * @param end   index of the end of the part, exclusive
+     * @return the number of line breaks
+     */
+    private int countLines(String text, int start, int end)
+    {
+        int lines = 0;
+        for (int i = start; i < end; i++)
+        {
+            if (text.charAt(i) == '\n')
+            {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the number of versions checked.
+     *
+     * @return the number of checks
+     */
+    public long getCheckCount()
+    {
+        return this.checks.get();
+    }
+
+    /**
+     * Returns the number of versions found to have an unchanged outline,
+     * whose parse was skipped.
+     *
+     * @return the number of skips
+     */
+    public long getSkipCount()
+    {
+        return this.skips.get();
+    }
+
+    /**
+     * Returns the share of the versions checked whose parse was skipped.
+     *
+     * @return the skip ratio, between 0 and 1, or 0 if nothing was checked yet
+     */
+    public double getSkipRatio()
+    {
+        long checks = this.checks.get();
+        return checks == 0 ? 0 : (double) this.skips.get() / checks;
+    }
+
+    /**
+     * Private helper class that notes whether the lexer reported an error.
+     */
+    private static class LexerErrorFlag extends BaseErrorListener
+    {
+        /**
+         * whether an error was reported
+         */
+        private boolean raised;
+
+        /**
+         * Notes the error.
+         */
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e)
+        {
+            this.raised = true;
+        }
+
+        /**
+         * Tells whether an error was reported.
+         *
+         * @return true if an error was reported
+         */
+        boolean isRaised()
+        {
+            return this.raised;
+        }
+    }
+}
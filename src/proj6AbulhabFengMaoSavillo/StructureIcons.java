@@ -0,0 +1,99 @@
+/*
+ * File: StructureIcons.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the StructureIcons class, which holds the icons of the
+ * declarations shown in the structure view.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The icons of the classes, fields and methods shown in the structure view.
+ * The images are loaded from the classpath once per process, the first time
+ * an icon is asked for, and shared by every TreeItem showing one, so
+ * updating the structure view never reads or decodes an image.
+ * Must be used on the JavaFX Application Thread.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public final class StructureIcons
+{
+    /**
+     * the image of each kind of declaration, null if it could not be loaded
+     */
+    private static Map<OutlineNode.Kind, Image> images;
+
+    /**
+     * Not to be instantiated
+     */
+    private StructureIcons()
+    {
+    }
+
+    /**
+     * Returns the shared image of a kind of declaration.
+     *
+     * @param kind what is declared
+     * @return the image, or null if it could not be loaded
+     */
+    public static Image getImage(OutlineNode.Kind kind)
+    {
+        if (images == null)
+        {
+            images = new EnumMap<>(OutlineNode.Kind.class);
+            images.put(OutlineNode.Kind.CLASS, loadImage("c.png"));
+            images.put(OutlineNode.Kind.FIELD, loadImage("f.png"));
+            images.put(OutlineNode.Kind.METHOD, loadImage("m.png"));
+        }
+        return images.get(kind);
+    }
+
+    /**
+     * Creates the icon of a TreeItem showing a declaration. The icon is a
+     * new ImageView, as a node can only be shown once, over the shared image.
+     *
+     * @param kind what is declared
+     * @return the icon
+     */
+    public static Node createGraphic(OutlineNode.Kind kind)
+    {
+        return new ImageView(getImage(kind));
+    }
+
+    /**
+     * Loads an image from the package of this class.
+     *
+     * @param name file name of the image
+     * @return the image, or null if it cannot be read
+     */
+    private static Image loadImage(String name)
+    {
+        try (InputStream input = StructureIcons.class.getResourceAsStream(name))
+        {
+            if (input == null)
+            {
+                throw new IOException("missing " + name);
+            }
+            return new Image(input);
+        }
+        catch (IOException e)
+        {
+            System.out.println("Error Loading Images");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,810 @@
+/*
+ * File: StructureParser.java
+ * F18 CS361 Project 6
+ * Names: Melody Mao, Zena Abulhab, Yi Feng, Evan Savillo
+ * Date: 10/27/2018
+ * This file contains the StructureParser class, which parses Java code into
+ * an outline of its classes, fields and methods.
+ */
+
+package proj6AbulhabFengMaoSavillo;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Parses Java code with the Java8Parser and walks the parse tree to build an
+ * outline of its classes, fields and methods.
+ * Full LL prediction with error recovery is slow on the Java8 grammar, so the
+ * code is first parsed with SLL prediction, bailing out at the first syntax
+ * error. SLL only fails on code with errors, or on the rare input where it
+ * cannot see the right alternative, and only then is the code parsed again
+ * with full LL prediction and the default error recovery.
+ * The stage that succeeded and the time spent in each is kept for the last
+ * parse and added up over all of them.
+ * Parsers are created through a ParserCacheManager, which keeps the
+ * prediction caches they share within a budget.
+ * A new version of the code edited within a single class member can be
+ * parsed by parsing again that member alone, building on the analysis of
+ * the previous version.
+ * A parse may be given a budget, of time and of tokens looked ahead by a
+ * single prediction, over which it is abandoned; the number of parses
+ * abandoned for each limit is kept. By default there is no budget. The time
+ * budget is only charged once a first parse has finished, since the first
+ * parse pays for loading the parser and filling its caches. The predictions
+ * made in the import declarations are exempted from the budget: the
+ * Java8Parser cannot tell a type name from a package name there without
+ * looking ahead through the whole file, which is also most of the cost of
+ * the first parse of each file.
+ * Safe to use from any thread, but parses one file at a time.
+ *
+ * @author Evan Savillo
+ * @author Yi Feng
+ * @author Zena Abulhab
+ * @author Melody Mao
+ */
+public class StructureParser
+{
+    /**
+     * The stage of a parse that produced the parse tree
+     */
+    public enum Stage
+    {
+        SLL, LL
+    }
+
+    /**
+     * creates tokens holding their own text rather than reading it from the code
+     */
+    private static final CommonTokenFactory COPYING_TOKEN_FACTORY = new CommonTokenFactory(true);
+
+    /**
+     * whether the code is parsed with SLL first
+     */
+    private final boolean twoStage;
+    /**
+     * owns the prediction caches the parsers use
+     */
+    private final ParserCacheManager cacheManager;
+    /**
+     * walks the parse trees
+     */
+    private final ParseTreeWalker walker;
+    /**
+     * statistics of the last parse, null before the first
+     */
+    private volatile Statistics lastStatistics;
+    /**
+     * number of parses that succeeded with SLL, and that needed LL
+     */
+    private final AtomicLong sllParses;
+    private final AtomicLong llParses;
+    /**
+     * time, in nanoseconds, spent in each stage over all parses
+     */
+    private final AtomicLong sllNanos;
+    private final AtomicLong llNanos;
+    /**
+     * number of reparses of a single member, and of reparses given up for a full parse
+     */
+    private final AtomicLong incrementalParses;
+    private final AtomicLong incrementalFallbacks;
+    /**
+     * time a parse may take, in milliseconds, and tokens a single prediction may look ahead
+     */
+    private volatile long budgetMillis;
+    private volatile int lookaheadLimit;
+    /**
+     * whether a parse has finished, from when on the time budget is charged
+     */
+    private volatile boolean warm;
+    /**
+     * number of parses abandoned for going over the time budget, and over the lookahead limit
+     */
+    private final AtomicLong timeAborts;
+    private final AtomicLong lookaheadAborts;
+
+    /**
+     * Creates a new StructureParser parsing in two stages
+     */
+    public StructureParser()
+    {
+        this(true);
+    }
+
+    /**
+     * Creates a new StructureParser using the shared prediction caches
+     *
+     * @param twoStage true to parse with SLL first, false to always parse with full LL
+     */
+    public StructureParser(boolean twoStage)
+    {
+        this(twoStage, ParserCacheManager.getShared());
+    }
+
+    /**
+     * Creates a new StructureParser
+     *
+     * @param twoStage     true to parse with SLL first, false to always parse with full LL
+     * @param cacheManager owns the prediction caches the parsers use
+     */
+    public StructureParser(boolean twoStage, ParserCacheManager cacheManager)
+    {
+        this.twoStage = twoStage;
+        this.cacheManager = cacheManager;
+        this.walker = new ParseTreeWalker();
+        this.sllParses = new AtomicLong();
+        this.llParses = new AtomicLong();
+        this.sllNanos = new AtomicLong();
+        this.llNanos = new AtomicLong();
+        this.incrementalParses = new AtomicLong();
+        this.incrementalFallbacks = new AtomicLong();
+        this.budgetMillis = Long.MAX_VALUE;
+        this.lookaheadLimit = Integer.MAX_VALUE;
+        this.timeAborts = new AtomicLong();
+        this.lookaheadAborts = new AtomicLong();
+    }
+
+    /**
+     * Sets the budget of the parses started from now on.
+     *
+     * @param budgetMillis   time a parse may take, in milliseconds, or Long.MAX_VALUE for no limit
+     * @param lookaheadLimit tokens a single prediction may look ahead, or Integer.MAX_VALUE for no limit
+     */
+    public void setBudget(long budgetMillis, int lookaheadLimit)
+    {
+        this.budgetMillis = budgetMillis;
+        this.lookaheadLimit = lookaheadLimit;
+    }
+
+    /**
+     * Returns the time the next parse may take, no limit until a first parse
+     * has finished.
+     *
+     * @return the time in milliseconds, or Long.MAX_VALUE for no limit
+     */
+    private long getTimeBudget()
+    {
+        return this.warm ? this.budgetMillis : Long.MAX_VALUE;
+    }
+
+    /**
+     * Parses Java code into an outline of its classes, fields and methods.
+     *
+     * @param contents  the code to be parsed
+     * @param cancelled tells whether the parse has been superseded
+     * @return the root of the outline
+     * @throws CancellationException        if the parse was superseded before it finished
+     * @throws ParseBudgetExceededException if the parse went over its budget
+     */
+    public OutlineNode parse(String contents, BooleanSupplier cancelled)
+    {
+        return this.analyze(contents, 0, cancelled).getOutline();
+    }
+
+    /**
+     * Parses a version of Java code into its tokens, its parse tree and an
+     * outline of its classes, fields and methods.
+     *
+     * @param contents  the code to be parsed
+     * @param version   version of the code
+     * @param cancelled tells whether the parse has been superseded
+     * @return the analysis of the code
+     * @throws CancellationException        if the parse was superseded before it finished
+     * @throws ParseBudgetExceededException if the parse went over its budget
+     */
+    public DocumentAnalysis analyze(String contents, long version, BooleanSupplier cancelled)
+    {
+        //build lexer and parser for the given code
+        //tokens keep their own text, so that they stay valid when moved by a reparse
+        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(contents));
+        lexer.setTokenFactory(COPYING_TOKEN_FACTORY);
+        BudgetedTokenStream tokens = new BudgetedTokenStream(lexer, cancelled, this.getTimeBudget(),
+                                                             this.lookaheadLimit);
+        ParseTree tree = this.cacheManager.parse(tokens, parser ->
+        {
+            tokens.setExemption(() -> isInImportDeclaration(parser.getContext()));
+            return this.parseInStages(parser, Java8Parser::compilationUnit, true);
+        });
+        tokens.fill();
+
+        //walk through parse tree with listening for code structure elements
+        OutlineNode root = OutlineNode.createRoot();
+        this.walker.walk(new CodeStructureListener(root), tree);
+        return new DocumentAnalysis(version, true, contents, tokens.getTokens(), tree, root);
+    }
+
+    /**
+     * Parses a new version of Java code by parsing again only the class
+     * member it was edited in, when the edit is within a single member
+     * declared in a class body. The edited region is found by comparing the
+     * text with that of the previous analysis, and the classBodyDeclaration
+     * of the previous parse tree holding it is lexed and parsed again from
+     * the new text. The new member takes its place in the parse tree, the
+     * tokens after it are moved by the length of the edit, and the outline
+     * is built again from the tree. Moving the tokens and walking the tree
+     * take time linear in the size of the file, but are cheap next to the
+     * parse, which takes time in the size of the member alone.
+     * The previous analysis is taken over, its tokens and parse tree being
+     * updated in place, but only once the member has been parsed again
+     * without error and as a single member; otherwise, or if the edit does
+     * not fall within a member, null is returned and the previous analysis
+     * is left as it was, so the code can be parsed in full. The same goes if
+     * the parse of the member goes over the budget, which is then thrown.
+     * The syntax errors of the member are not printed to the console, as the
+     * full parse then prints them.
+     *
+     * @param previous  analysis of the previous version, made with the full parser
+     * @param contents  the new version of the code
+     * @param version   version of the new code
+     * @param cancelled tells whether the parse has been superseded
+     * @return the analysis of the new code, or null if it must be parsed in full
+     * @throws CancellationException        if the parse was superseded before it finished
+     * @throws ParseBudgetExceededException if the parse went over its budget
+     */
+    public DocumentAnalysis reparse(DocumentAnalysis previous, String contents, long version,
+                                    BooleanSupplier cancelled)
+    {
+        if (!previous.isFullParse() || previous.getText() == null || previous.getTree() == null
+            || previous.isTakenOver())
+        {
+            return null;
+        }
+
+        //find the region of the old text replaced by the edit
+        String oldText = previous.getText();
+        int shorter = Math.min(oldText.length(), contents.length());
+        int prefix = 0;
+        while (prefix < shorter && oldText.charAt(prefix) == contents.charAt(prefix))
+        {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+               && oldText.charAt(oldText.length() - 1 - suffix) == contents.charAt(contents.length() - 1 - suffix))
+        {
+            suffix++;
+        }
+        Java8Parser.ClassBodyDeclarationContext oldMember = findEnclosingMember(
+                previous.getTree(), prefix, oldText.length() - suffix);
+        if (oldMember == null)
+        {
+            this.incrementalFallbacks.incrementAndGet();
+            return null;
+        }
+
+        //lex the new text of the member, placing its tokens where they are in the file
+        Token oldStart = oldMember.start;
+        Token oldStop = oldMember.stop;
+        int lengthDelta = contents.length() - oldText.length();
+        String memberText = contents.substring(oldStart.getStartIndex(), oldStop.getStopIndex() + 1 + lengthDelta);
+        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(memberText));
+        lexer.setTokenFactory(COPYING_TOKEN_FACTORY);
+        lexer.removeErrorListeners();
+        SyntaxErrorCounter lexerErrors = new SyntaxErrorCounter();
+        lexer.addErrorListener(lexerErrors);
+        CommonTokenStream tokens = new BudgetedTokenStream(lexer, cancelled, this.getTimeBudget(),
+                                                           this.lookaheadLimit);
+        tokens.fill();
+        if (lexerErrors.getCount() > 0)
+        {
+            this.incrementalFallbacks.incrementAndGet();
+            return null;
+        }
+        for (Token token : tokens.getTokens())
+        {
+            CommonToken memberToken = (CommonToken) token;
+            if (memberToken.getLine() == 1)
+            {
+                memberToken.setCharPositionInLine(memberToken.getCharPositionInLine()
+                                                  + oldStart.getCharPositionInLine());
+            }
+            memberToken.setLine(memberToken.getLine() + oldStart.getLine() - 1);
+            memberToken.setStartIndex(memberToken.getStartIndex() + oldStart.getStartIndex());
+            memberToken.setStopIndex(memberToken.getStopIndex() + oldStart.getStartIndex());
+            memberToken.setTokenIndex(memberToken.getTokenIndex() + oldStart.getTokenIndex());
+        }
+
+        //parse it as a single member
+        Java8Parser.ClassBodyDeclarationContext newMember = this.cacheManager.parse(tokens, parser ->
+        {
+            Java8Parser.ClassBodyDeclarationContext member = this.parseInStages(
+                    parser, Java8Parser::classBodyDeclaration, false);
+            boolean whole = parser.getNumberOfSyntaxErrors() == 0 && parser.getInputStream().LA(1) == Token.EOF;
+            return whole ? member : null;
+        });
+        if (newMember == null || !previous.takeOver())
+        {
+            this.incrementalFallbacks.incrementAndGet();
+            return null;
+        }
+
+        //splice the new tokens and member into the previous ones
+        List<Token> oldTokens = new ArrayList<>(previous.getTokens());
+        List<Token> memberTokens = tokens.getTokens().subList(0, tokens.size() - 1);
+        Token newStop = memberTokens.get(memberTokens.size() - 1);
+        int lineDelta = newStop.getLine() - oldStop.getLine();
+        int columnDelta = endColumn(newStop) - endColumn(oldStop);
+        int tokenDelta = memberTokens.size() - (oldStop.getTokenIndex() - oldStart.getTokenIndex() + 1);
+        List<Token> newTokens = new ArrayList<>(oldTokens.size() + tokenDelta);
+        newTokens.addAll(oldTokens.subList(0, oldStart.getTokenIndex()));
+        newTokens.addAll(memberTokens);
+        for (Token token : oldTokens.subList(oldStop.getTokenIndex() + 1, oldTokens.size()))
+        {
+            CommonToken movedToken = (CommonToken) token;
+            if (movedToken.getLine() == oldStop.getLine())
+            {
+                movedToken.setCharPositionInLine(movedToken.getCharPositionInLine() + columnDelta);
+            }
+            movedToken.setLine(movedToken.getLine() + lineDelta);
+            movedToken.setStartIndex(movedToken.getStartIndex() + lengthDelta);
+            movedToken.setStopIndex(movedToken.getStopIndex() + lengthDelta);
+            movedToken.setTokenIndex(movedToken.getTokenIndex() + tokenDelta);
+            newTokens.add(movedToken);
+        }
+        ParserRuleContext parent = oldMember.getParent();
+        parent.children.set(parent.children.indexOf(oldMember), newMember);
+        newMember.setParent(parent);
+        newMember.invokingState = oldMember.invokingState;
+        for (ParserRuleContext ancestor = parent; ancestor != null; ancestor = ancestor.getParent())
+        {
+            if (ancestor.start == oldStart)
+            {
+                ancestor.start = newMember.start;
+            }
+            if (ancestor.stop == oldStop)
+            {
+                ancestor.stop = newMember.stop;
+            }
+        }
+
+        OutlineNode root = OutlineNode.createRoot();
+        this.walker.walk(new CodeStructureListener(root), previous.getTree());
+        this.incrementalParses.incrementAndGet();
+        return new DocumentAnalysis(version, true, contents, newTokens, previous.getTree(), root);
+    }
+
+    /**
+     * Tells whether a rule being parsed is within an import declaration,
+     * as are the names it imports.
+     *
+     * @param context the context of the rule being parsed
+     * @return true if within an import declaration
+     */
+    private static boolean isInImportDeclaration(ParserRuleContext context)
+    {
+        while (context instanceof Java8Parser.PackageOrTypeNameContext
+               || context instanceof Java8Parser.TypeNameContext
+               || context instanceof Java8Parser.PackageNameContext)
+        {
+            context = context.getParent();
+        }
+        return context instanceof Java8Parser.ImportDeclarationContext
+               || context != null && context.getParent() instanceof Java8Parser.ImportDeclarationContext;
+    }
+
+    /**
+     * Finds the innermost member declared in a class body that holds a
+     * region of the code.
+     *
+     * @param tree  the parse tree of the code
+     * @param start index of the first character of the region
+     * @param end   index just past the last character of the region
+     * @return the member, or null if the region is not within a single member
+     */
+    private static Java8Parser.ClassBodyDeclarationContext findEnclosingMember(ParseTree tree, int start, int end)
+    {
+        Java8Parser.ClassBodyDeclarationContext member = null;
+        ParseTree node = tree;
+        while (node != null)
+        {
+            if (node instanceof Java8Parser.ClassBodyDeclarationContext)
+            {
+                member = (Java8Parser.ClassBodyDeclarationContext) node;
+            }
+            ParseTree enclosing = null;
+            for (int i = 0; i < node.getChildCount() && enclosing == null; i++)
+            {
+                ParseTree child = node.getChild(i);
+                if (child instanceof ParserRuleContext)
+                {
+                    ParserRuleContext context = (ParserRuleContext) child;
+                    if (context.start != null && context.stop != null && context.start.getType() != Token.EOF
+                        && context.start.getStartIndex() <= start && end <= context.stop.getStopIndex() + 1)
+                    {
+                        enclosing = child;
+                    }
+                }
+            }
+            node = enclosing;
+        }
+        return member;
+    }
+
+    /**
+     * Returns the column just past the last character of a token, which is
+     * on a single line for every token that can end a member.
+     *
+     * @param token the token
+     * @return the column, counting from 0
+     */
+    private static int endColumn(Token token)
+    {
+        return token.getCharPositionInLine() + token.getStopIndex() - token.getStartIndex() + 1;
+    }
+
+    /**
+     * Parses a rule, with SLL first if parsing in two stages, counting the
+     * parses abandoned for going over the budget.
+     *
+     * @param parser a parser over the budgeted tokens of the code
+     * @param rule   parses the rule with the parser
+     * @param report true to print the syntax errors of the LL stage to the console
+     * @param <T>    type of the parse tree of the rule
+     * @return the parse tree
+     * @throws ParseBudgetExceededException if the parse went over its budget
+     */
+    private <T extends ParserRuleContext> T parseInStages(Java8Parser parser, Function<Java8Parser, T> rule,
+                                                          boolean report)
+    {
+        try
+        {
+            return this.parseInStagesWithinBudget(parser, rule, report);
+        }
+        catch (ParseBudgetExceededException e)
+        {
+            (e.getLimit() == ParseBudgetExceededException.Limit.TIME ? this.timeAborts
+                                                                      : this.lookaheadAborts).incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Parses a rule, with SLL first if parsing in two stages.
+     *
+     * @param parser a parser over the tokens of the code
+     * @param rule   parses the rule with the parser
+     * @param report true to print the syntax errors of the LL stage to the console
+     * @param <T>    type of the parse tree of the rule
+     * @return the parse tree
+     */
+    private <T extends ParserRuleContext> T parseInStagesWithinBudget(Java8Parser parser,
+                                                                      Function<Java8Parser, T> rule,
+                                                                      boolean report)
+    {
+        T tree = null;
+        Stage stage = Stage.LL;
+        long sllTime = 0;
+        parser.removeErrorListeners();
+        if (this.twoStage)
+        {
+            //first stage: SLL prediction, giving up at the first error
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            long start = System.nanoTime();
+            try
+            {
+                tree = rule.apply(parser);
+                stage = Stage.SLL;
+            }
+            catch (ParseCancellationException e)
+            {
+                //rewind to parse again below
+                parser.reset();
+                parser.setErrorHandler(new DefaultErrorStrategy());
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            }
+            sllTime = System.nanoTime() - start;
+        }
+
+        long llTime = 0;
+        if (tree == null)
+        {
+            //second stage: full LL prediction with error recovery
+            if (report)
+            {
+                parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+            }
+            long start = System.nanoTime();
+            tree = rule.apply(parser);
+            llTime = System.nanoTime() - start;
+        }
+        this.recordStatistics(new Statistics(stage, sllTime, llTime));
+        this.warm = true;
+        return tree;
+    }
+
+    /**
+     * Returns the statistics of the last parse.
+     *
+     * @return the statistics of the last parse, or null if nothing was parsed yet
+     */
+    public Statistics getLastStatistics()
+    {
+        return this.lastStatistics;
+    }
+
+    /**
+     * Returns the number of parses that succeeded in the given stage.
+     *
+     * @param stage the stage
+     * @return the number of parses
+     */
+    public long getParseCount(Stage stage)
+    {
+        return stage == Stage.SLL ? this.sllParses.get() : this.llParses.get();
+    }
+
+    /**
+     * Returns the time spent in the given stage over all parses, including
+     * the time spent in SLL by the parses that then needed LL.
+     *
+     * @param stage the stage
+     * @return the time in nanoseconds
+     */
+    public long getTotalNanos(Stage stage)
+    {
+        return stage == Stage.SLL ? this.sllNanos.get() : this.llNanos.get();
+    }
+
+    /**
+     * Returns the number of new versions parsed by parsing again only the
+     * member they were edited in.
+     *
+     * @return the number of reparses of a single member
+     */
+    public long getIncrementalParseCount()
+    {
+        return this.incrementalParses.get();
+    }
+
+    /**
+     * Returns the number of new versions that could not be parsed by parsing
+     * again a single member, and so had to be parsed in full.
+     *
+     * @return the number of reparses given up
+     */
+    public long getIncrementalFallbackCount()
+    {
+        return this.incrementalFallbacks.get();
+    }
+
+    /**
+     * Returns the number of parses abandoned for going over a limit of their budget.
+     *
+     * @param limit the limit gone over
+     * @return the number of parses abandoned
+     */
+    public long getAbortCount(ParseBudgetExceededException.Limit limit)
+    {
+        return limit == ParseBudgetExceededException.Limit.TIME ? this.timeAborts.get()
+                                                                : this.lookaheadAborts.get();
+    }
+
+    /**
+     * Keeps the statistics of the parse just done and adds them to the totals.
+     *
+     * @param statistics the statistics of the parse
+     */
+    private void recordStatistics(Statistics statistics)
+    {
+        this.lastStatistics = statistics;
+        (statistics.getStage() == Stage.SLL ? this.sllParses : this.llParses).incrementAndGet();
+        this.sllNanos.addAndGet(statistics.getSllNanos());
+        this.llNanos.addAndGet(statistics.getLlNanos());
+    }
+
+    /**
+     * The stage that succeeded in a parse and the time spent in each stage
+     */
+    public static class Statistics
+    {
+        /**
+         * the stage that produced the parse tree
+         */
+        private final Stage stage;
+        /**
+         * time spent in each stage, in nanoseconds, 0 for a stage not run
+         */
+        private final long sllNanos;
+        private final long llNanos;
+
+        /**
+         * Creates a new Statistics
+         *
+         * @param stage    the stage that produced the parse tree
+         * @param sllNanos time spent in the SLL stage
+         * @param llNanos  time spent in the LL stage
+         */
+        Statistics(Stage stage, long sllNanos, long llNanos)
+        {
+            this.stage = stage;
+            this.sllNanos = sllNanos;
+            this.llNanos = llNanos;
+        }
+
+        /**
+         * Returns the stage that produced the parse tree.
+         *
+         * @return the stage that succeeded
+         */
+        public Stage getStage()
+        {
+            return this.stage;
+        }
+
+        /**
+         * Returns the time spent in the SLL stage.
+         *
+         * @return the time in nanoseconds, 0 if not run
+         */
+        public long getSllNanos()
+        {
+            return this.sllNanos;
+        }
+
+        /**
+         * Returns the time spent in the LL stage.
+         *
+         * @return the time in nanoseconds, 0 if not run
+         */
+        public long getLlNanos()
+        {
+            return this.llNanos;
+        }
+
+        /**
+         * Describes the statistics, for instance "SLL (SLL 12.3 ms, LL 0.0 ms)".
+         *
+         * @return a description of the statistics
+         */
+        @Override
+        public String toString()
+        {
+            return String.format("%s (SLL %.1f ms, LL %.1f ms)", this.stage, this.sllNanos / 1e6,
+                                 this.llNanos / 1e6);
+        }
+    }
+
+    /**
+     * Private helper class that counts the syntax errors reported to it.
+     */
+    private static class SyntaxErrorCounter extends BaseErrorListener
+    {
+        /**
+         * number of errors reported
+         */
+        private int count;
+
+        /**
+         * Counts the error.
+         */
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e)
+        {
+            this.count++;
+        }
+
+        /**
+         * Returns the number of errors reported.
+         *
+         * @return the number of errors
+         */
+        int getCount()
+        {
+            return this.count;
+        }
+    }
+
+    /**
+     * Private helper class that listens for code structure declarations
+     * (classes, fields, methods) during a parse tree walk and builds an
+     * outline of the code structure.
+     */
+    private static class CodeStructureListener extends Java8BaseListener
+    {
+        private OutlineNode currentNode;
+        /**
+         * the classes enclosing the current node, innermost last
+         */
+        private final ArrayDeque<OutlineNode> enclosingNodes;
+
+        /**
+         * creates a new CodeStructureListener that builds an outline
+         * from the given root node
+         *
+         * @param root root node to build the outline from
+         */
+        public CodeStructureListener(OutlineNode root)
+        {
+            this.currentNode = root;
+            this.enclosingNodes = new ArrayDeque<>();
+        }
+
+        /**
+         * Starts a new subtree for the class declaration entered
+         */
+        @Override
+        public void enterNormalClassDeclaration(Java8Parser.NormalClassDeclarationContext ctx)
+        {
+            //get class name
+            TerminalNode node = ctx.Identifier();
+            String className = node.getText();
+
+            //add class to the outline under the current class
+            //store the line and column of its declaration
+            OutlineNode newNode = new OutlineNode(OutlineNode.Kind.CLASS, className, ctx.getStart().getLine(),
+                                                  ctx.getStart().getCharPositionInLine());
+            this.currentNode.addChild(newNode);
+            this.enclosingNodes.push(this.currentNode);
+            this.currentNode = newNode; //move current node into new subtree
+        }
+
+        /**
+         * ends the new subtree for the class declaration exited,
+         * returns traversal to parent node
+         */
+        @Override
+        public void exitNormalClassDeclaration(Java8Parser.NormalClassDeclarationContext ctx)
+        {
+
+            this.currentNode = this.enclosingNodes.pop(); //move current node back to parent
+        }
+
+        /**
+         * adds a child node for the field entered under the node for the current class
+         */
+        @Override
+        public void enterFieldDeclaration(Java8Parser.FieldDeclarationContext ctx)
+        {
+            //get field name
+            TerminalNode node = ctx.variableDeclaratorList().variableDeclarator(0).variableDeclaratorId().Identifier();
+            String fieldName = node.getText();
+
+            //add field to the outline under the current class
+            //store the line and column of its declaration
+            this.currentNode.addChild(new OutlineNode(OutlineNode.Kind.FIELD, fieldName, ctx.getStart().getLine(),
+                                                      ctx.getStart().getCharPositionInLine()));
+        }
+
+        /**
+         * adds a child node for the method entered under the node for the current class
+         */
+        @Override
+        public void enterMethodHeader(Java8Parser.MethodHeaderContext ctx)
+        {
+            //get method name
+            TerminalNode nameNode = ctx.methodDeclarator().Identifier();
+            String methodName = nameNode.getText();
+
+            //add method to the outline under the current class
+            //store the line and column of its declaration
+            this.currentNode.addChild(new OutlineNode(OutlineNode.Kind.METHOD, methodName, ctx.getStart().getLine(),
+                                                      ctx.getStart().getCharPositionInLine()));
+        }
+    }
+}
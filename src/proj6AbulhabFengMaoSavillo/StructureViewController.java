@@ -7,40 +7,115 @@ Date: 10/27/2018
 
 package proj6AbulhabFengMaoSavillo;
 
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+import javafx.css.PseudoClass;
+import javafx.scene.control.Tooltip;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeView;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.antlr.v4.runtime.tree.TerminalNode;
+import org.reactfx.util.FxTimer;
+import org.reactfx.util.Timer;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
  * Controller that manages the generation and display of the structure of the
- * java code in the file currently being viewed.
+ * java code in the file currently being viewed, which is parsed on a
+ * background thread so typing never waits on the parser.
  */
 public class StructureViewController
 {
-    private Map<TreeItem, Integer> treeItemLineNumMap;
+    /**
+     * how long the typing must pause before the structure is regenerated,
+     * the requests made until then being coalesced into one
+     */
+    private static final Duration DEBOUNCE = Duration.ofMillis(300);
+    /**
+     * time a full parse may take, in milliseconds, unless the
+     * proj6.parseBudgetMillis system property says otherwise: above the time
+     * the Java8Parser takes on an ordinary file once the predictions in its
+     * imports, which are not charged, are left out, even while its caches are
+     * still cold; the first parse, which loads the parser, is not charged at all
+     */
+    public static final long DEFAULT_PARSE_BUDGET_MILLIS = 5000;
+    /**
+     * tokens a single prediction of a full parse may look ahead, unless the
+     * proj6.parseLookaheadLimit system property says otherwise: several times
+     * the few hundred tokens that predictions outside the imports, which are
+     * not limited, look ahead in valid code, such as in a long string
+     * concatenation, while error recovery on badly broken code may look
+     * ahead to the end of the file
+     */
+    public static final int DEFAULT_LOOKAHEAD_LIMIT = 4000;
+    /**
+     * set on the TreeView while it shows an outline older than the code, the
+     * last good one being kept when a parse fails or goes over its budget
+     * until an outline is again published
+     */
+    private static final PseudoClass STALE = PseudoClass.getPseudoClass("stale");
+
     private TreeView<String> treeView;
-    private final ParseTreeWalker walker;
+    /**
+     * code area whose structure is shown, null if none
+     */
+    private JavaCodeArea shownCodeArea;
+    /**
+     * keeps the analyses of the code areas, so a version already analyzed,
+     * such as that of a tab switched back to, is not parsed again
+     */
+    private final AnalysisCache analysisCache;
+    /**
+     * parses the file contents into outlines
+     */
+    private final StructureParser structureParser;
+    /**
+     * skims the file contents into outlines
+     */
+    private final SkimOutlineParser skimParser;
+    /**
+     * tells whether an edit can change the outline, so that typing inside a
+     * string, an expression or a comment is not parsed again
+     */
+    private final StructuralChangeDetector changeDetector;
+    /**
+     * whether the file contents are parsed with the full parser, or skimmed
+     * from their tokens, skipping the bodies of methods
+     */
+    private volatile boolean fullParse;
+    /**
+     * parses the file contents in the background
+     */
+    private final StructureWorker structureWorker;
+    /**
+     * fires once the typing has paused
+     */
+    private final Timer debounceTimer;
+    /**
+     * code area to parse once the debounce timer fires
+     */
+    private JavaCodeArea pendingCodeArea;
+    /**
+     * number of the newest request, only whose outline is published
+     */
+    private long generation;
 
 
     /**
      * Constructor for this class
      */
     public StructureViewController() {
-        this.walker = new ParseTreeWalker();
-        this.treeItemLineNumMap = new HashMap<>();
+        this.structureParser = new StructureParser();
+        this.structureParser.setBudget(Long.getLong("proj6.parseBudgetMillis", DEFAULT_PARSE_BUDGET_MILLIS),
+                                       Integer.getInteger("proj6.parseLookaheadLimit", DEFAULT_LOOKAHEAD_LIMIT));
+        this.skimParser = new SkimOutlineParser();
+        this.changeDetector = new StructuralChangeDetector();
+        this.analysisCache = AnalysisCache.getShared();
+        this.structureWorker = new StructureWorker();
+        this.debounceTimer = FxTimer.create(DEBOUNCE, this::generatePendingStructureTree);
     }
 
     /**
@@ -48,30 +123,156 @@ public class StructureViewController
      *
      * @param treeView TreeView item representing structure display
      */
-    public void setTreeView(TreeView treeView)
+    public void setTreeView(TreeView<String> treeView)
     {
         this.treeView = treeView;
     }
 
     /**
-     * Parses a file thereby storing contents as TreeItems in our special tree.
-     * @param fileContents the file to be parsed
+     * Sets whether the file contents are parsed with the full parser, which
+     * also outlines the methods of anonymous and local classes, or skimmed.
+     * Applies from the next request on.
+     *
+     * @param fullParse true to parse with the full parser, false to skim
      */
-    public void generateStructureTree(String fileContents)
+    public void setFullParse(boolean fullParse)
     {
-        TreeItem<String> newRoot = new TreeItem<>(fileContents);
+        this.fullParse = fullParse;
+    }
 
-        //build lexer, parser, and parse tree for the given file
-        Java8Lexer lexer = new Java8Lexer(CharStreams.fromString(fileContents));
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        Java8Parser parser = new Java8Parser(tokens);
-        ParseTree tree = parser.compilationUnit();
+    /**
+     * Regenerates the structure tree once the typing pauses. Only the code
+     * area given by the last call before the pause is parsed, and its text is
+     * only read once the pause is reached.
+     *
+     * @param codeArea the code area holding the file to be parsed
+     */
+    public void scheduleStructureTree(JavaCodeArea codeArea)
+    {
+        this.pendingCodeArea = codeArea;
+        this.debounceTimer.restart();
+    }
 
-        //walk through parse tree with listening for code structure elements
-        CodeStructureListener codeStructureListener = new CodeStructureListener(newRoot, this.treeItemLineNumMap);
-        this.walker.walk(codeStructureListener, tree);
+    /**
+     * Shows the outline kept for a code area, then, unless the version of its
+     * file has already been analyzed or provably has the outline of the last
+     * analysis, parses it in the background, abandoning any parse still
+     * running, and updates the outline once parsed.
+     *
+     * @param codeArea the code area holding the file to be parsed
+     */
+    public void generateStructureTree(JavaCodeArea codeArea)
+    {
+        this.debounceTimer.stop();
+        this.pendingCodeArea = null;
+        this.generation++;
+        if (codeArea != this.shownCodeArea)
+        {
+            this.setStale(null);
+        }
+        this.shownCodeArea = codeArea;
+        DocumentOutline outline = codeArea.getOutline();
+        if (this.treeView.getRoot() != outline.getRoot())
+        {
+            this.setRootNode(outline.getRoot());
+        }
 
-        this.setRootNode(newRoot);
+        boolean fullParse = this.fullParse;
+        DocumentAnalysis analysis = this.analysisCache.get(codeArea, codeArea.getVersion(), fullParse);
+        if (analysis != null)
+        {
+            this.structureWorker.cancel();
+            this.setStale(null);
+            outline.update(analysis.getOutline());
+            return;
+        }
+        String contents = codeArea.getText();
+        DocumentAnalysis previous = this.analysisCache.getLatest(codeArea);
+        if (previous != null && previous.isFullParse() == fullParse
+            && this.changeDetector.isUnchanged(previous, contents))
+        {
+            this.structureWorker.cancel();
+            this.setStale(null);
+            outline.update(previous.getOutline());
+            return;
+        }
+        this.structureWorker.setContents(contents, codeArea.getVersion(), fullParse,
+                                         fullParse ? previous : null, this.generation);
+        this.structureWorker.restart();
+    }
+
+    /**
+     * Parses the code area given by the last scheduled request.
+     */
+    private void generatePendingStructureTree()
+    {
+        if (this.pendingCodeArea != null)
+        {
+            this.generateStructureTree(this.pendingCodeArea);
+        }
+    }
+
+    /**
+     * Keeps an analysis and shows its outline, unless a newer request has
+     * been made since.
+     *
+     * @param analysis   the analysis of the file
+     * @param generation number of the request the file was analyzed for
+     */
+    private void publishAnalysis(DocumentAnalysis analysis, long generation)
+    {
+        if (generation != this.generation)
+        {
+            return;
+        }
+        this.analysisCache.put(this.shownCodeArea, analysis);
+        this.setStale(null);
+        this.shownCodeArea.getOutline().update(analysis.getOutline());
+    }
+
+    /**
+     * Keeps showing the last good outline, marked as stale, when a parse
+     * failed, unless a newer request has been made since. A parse that went
+     * over its budget is expected; any other failure is reported to the
+     * uncaught exception handler of the JavaFX Application Thread, which
+     * prints it as it did when parsing on that thread.
+     *
+     * @param exception  what the parse failed with
+     * @param generation number of the request the file was parsed for
+     */
+    private void abandonAnalysis(Throwable exception, long generation)
+    {
+        String reason;
+        if (exception instanceof ParseBudgetExceededException)
+        {
+            reason = exception.getMessage();
+        }
+        else
+        {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+            reason = "the structure could not be parsed (" + exception + ")";
+        }
+        if (generation != this.generation)
+        {
+            return;
+        }
+        this.setStale("Outline out of date: " + reason);
+    }
+
+    /**
+     * Marks the TreeView as showing an outline older than the code, or not.
+     *
+     * @param reason why the outline is out of date, shown as the tooltip, or null if it is not
+     */
+    private void setStale(String reason)
+    {
+        if (this.treeView == null)
+        {
+            return;
+        }
+        this.treeView.pseudoClassStateChanged(STALE, reason != null);
+        this.treeView.setTooltip(reason == null ? null : new Tooltip(reason));
     }
 
     /**
@@ -86,129 +287,180 @@ public class StructureViewController
     }
 
     /**
-     * Sets the currently displaying file to nothing.
+     * Sets the currently displaying file to nothing, abandoning any parse
+     * still running or scheduled.
      */
     public void resetRootNode()
     {
+        this.debounceTimer.stop();
+        this.pendingCodeArea = null;
+        this.generation++;
+        this.structureWorker.cancel();
+        this.shownCodeArea = null;
+        this.setStale(null);
         this.setRootNode(null);
     }
 
+    /**
+     * Returns the stage that succeeded and the time spent in each stage of
+     * the last parse, and through it the speedup of parsing with SLL first.
+     *
+     * @return the statistics of the last parse, or null if nothing was parsed yet
+     */
+    public StructureParser.Statistics getLastParseStatistics()
+    {
+        return this.structureParser.getLastStatistics();
+    }
+
+    /**
+     * Returns the share of the versions checked for a change of the outline
+     * whose parse was skipped, as none could have happened.
+     *
+     * @return the skip ratio, between 0 and 1
+     */
+    public double getStructuralSkipRatio()
+    {
+        return this.changeDetector.getSkipRatio();
+    }
+
+    /**
+     * Returns the number of full parses abandoned for going over a limit of
+     * their budget.
+     *
+     * @param limit the limit gone over
+     * @return the number of parses abandoned
+     */
+    public long getParseAbortCount(ParseBudgetExceededException.Limit limit)
+    {
+        return this.structureParser.getAbortCount(limit);
+    }
+
+    /**
+     * Returns the number of TreeItems created, removed, renamed or moved by
+     * the last update of the structure tree.
+     *
+     * @return the number of TreeItems touched, 0 if no structure is shown
+     */
+    public int getLastOutlineUpdateSize()
+    {
+        return this.shownCodeArea == null ? 0 : this.shownCodeArea.getOutline().getLastUpdateSize();
+    }
+
     /**
      * Returns the line number currently associated with the specified tree item
      *
      * @param treeItem Which TreeItem to get the line number of
-     * @return the line number corresponding with that tree item
+     * @return the line number corresponding with that tree item, or -1 if it is not in the tree
      */
-    public Integer getTreeItemLineNum(TreeItem treeItem) {
-        return this.treeItemLineNumMap.get(treeItem);
+    public int getTreeItemLineNum(TreeItem<String> treeItem) {
+        return this.shownCodeArea == null ? -1 : this.shownCodeArea.getOutline().getLine(treeItem);
     }
 
     /**
-     * Private helper class that listens for code structure declarations
-     * (classes, fields, methods) during a parse tree walk and builds a
-     * TreeView subtree representing the code structure.
+     * A StructureWorker analyzes the file contents on a background thread.
+     * Restarting it cancels the parse still running, which is abandoned
+     * within a few tokens, and parses run one at a time on a single daemon
+     * thread.
      */
-    private class CodeStructureListener extends Java8BaseListener
+    private class StructureWorker extends Service<DocumentAnalysis>
     {
-        Image classPic;
-        Image methodPic;
-        Image fieldPic;
-        private TreeItem<String> currentNode;
-        private Map<TreeItem, Integer> treeItemIntegerMap;
-
         /**
-         * creates a new CodeStructureListener that builds a subtree
-         * from the given root TreeItem
-         *
-         * @param root root TreeItem to build subtree from
+         * the contents to be parsed
          */
-        public CodeStructureListener(TreeItem<String> root, Map<TreeItem, Integer> treeItemIntegerMap)
-        {
-            this.currentNode = root;
-            this.treeItemIntegerMap = treeItemIntegerMap;
-
-            try
-            {
-                this.classPic = new Image(new FileInputStream(System.getProperty("user.dir") + "/include/c.png"));
-                this.methodPic = new Image(new FileInputStream(System.getProperty("user.dir") + "/include/m.png"));
-                this.fieldPic = new Image(new FileInputStream(System.getProperty("user.dir") + "/include/f.png"));
-            }
-            catch (IOException e)
-            {
-                System.out.println("Error Loading Images");
-            }
-        }
-
+        private String contents;
         /**
-         * Starts a new subtree for the class declaration entered
+         * version of the contents
          */
-        @Override
-        public void enterNormalClassDeclaration(Java8Parser.NormalClassDeclarationContext ctx)
-        {
-            //get class name
-            TerminalNode node = ctx.Identifier();
-            String className = node.getText();
-
-            //add class to TreeView under the current class tree
-            //set up the icon
-            //store the line number of its declaration
-            TreeItem<String> newNode = new TreeItem<>(className);
-            newNode.setGraphic(new ImageView(this.classPic));
-            newNode.setExpanded(true);
-            this.currentNode.getChildren().add(newNode);
-            this.currentNode = newNode; //move current node into new subtree
-            this.treeItemIntegerMap.put(newNode, ctx.getStart().getLine());
-
-        }
+        private long version;
+        /**
+         * whether the contents are parsed with the full parser
+         */
+        private boolean fullParse;
+        /**
+         * analysis of an earlier version of the contents, or null
+         */
+        private DocumentAnalysis previous;
+        /**
+         * number of the request the contents were given by
+         */
+        private long contentsGeneration;
 
         /**
-         * ends the new subtree for the class declaration exited,
-         * returns traversal to parent node
+         * Creates a new StructureWorker running on its own daemon thread
          */
-        @Override
-        public void exitNormalClassDeclaration(Java8Parser.NormalClassDeclarationContext ctx)
+        StructureWorker()
         {
-
-            this.currentNode = this.currentNode.getParent(); //move current node back to parent
+            ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+            {
+                Thread thread = new Thread(runnable, "structure-view-parser");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.setExecutor(executor);
         }
 
         /**
-         * adds a child node for the field entered under the TreeItem for the current class
+         * Sets the contents parsed by the next task.
+         *
+         * @param contents   the contents to be parsed
+         * @param version    version of the contents
+         * @param fullParse  true to parse with the full parser, false to skim
+         * @param previous   analysis of an earlier version of the contents, or null
+         * @param generation number of the request the contents were given by
          */
-        @Override
-        public void enterFieldDeclaration(Java8Parser.FieldDeclarationContext ctx)
+        void setContents(String contents, long version, boolean fullParse, DocumentAnalysis previous,
+                         long generation)
         {
-            //get field name
-            TerminalNode node = ctx.variableDeclaratorList().variableDeclarator(0).variableDeclaratorId().Identifier();
-            String fieldName = node.getText();
-
-            //add field to TreeView under the current class tree
-            //set up the icon
-            //store the line number of its declaration
-            TreeItem<String> newNode = new TreeItem<>(fieldName);
-            newNode.setGraphic(new ImageView(this.fieldPic));
-            this.currentNode.getChildren().add(newNode);
-            this.treeItemIntegerMap.put(newNode, ctx.getStart().getLine());
+            this.contents = contents;
+            this.version = version;
+            this.fullParse = fullParse;
+            this.previous = previous;
+            this.contentsGeneration = generation;
         }
 
         /**
-         * adds a child node for the method entered under the TreeItem for the current class
+         * Overrides the createTask method in Service class.
+         * Analyzes the contents and publishes the analysis once done.
+         *
+         * @return a task analyzing the contents
          */
         @Override
-        public void enterMethodHeader(Java8Parser.MethodHeaderContext ctx)
+        protected Task<DocumentAnalysis> createTask()
         {
-            //get method name
-            TerminalNode nameNode = ctx.methodDeclarator().Identifier();
-            String methodName = nameNode.getText();
-
-            //add method to TreeView under the current class tree
-            //set up the icon
-            //store the line number of its declaration
-            TreeItem<String> newNode = new TreeItem<>(methodName);
-            newNode.setGraphic(new ImageView(this.methodPic));
-            this.currentNode.getChildren().add(newNode);
-            this.treeItemIntegerMap.put(newNode, ctx.getStart().getLine());
-
+            String contents = this.contents;
+            long version = this.version;
+            boolean fullParse = this.fullParse;
+            DocumentAnalysis previous = this.previous;
+            long generation = this.contentsGeneration;
+            Task<DocumentAnalysis> task = new Task<DocumentAnalysis>()
+            {
+                /**
+                 * Analyzes the contents, parsing again only the edited
+                 * member if possible, and measures the analysis here rather
+                 * than on the JavaFX Application Thread.
+                 *
+                 * @return the analysis of the contents
+                 */
+                @Override
+                protected DocumentAnalysis call()
+                {
+                    DocumentAnalysis analysis = null;
+                    if (fullParse && previous != null)
+                    {
+                        analysis = structureParser.reparse(previous, contents, version, this::isCancelled);
+                    }
+                    if (analysis == null)
+                    {
+                        analysis = fullParse ? structureParser.analyze(contents, version, this::isCancelled)
+                                             : skimParser.analyze(contents, version, this::isCancelled);
+                    }
+                    analysis.getEstimatedBytes();
+                    return analysis;
+                }
+            };
+            task.setOnSucceeded(event -> publishAnalysis(task.getValue(), generation));
+            task.setOnFailed(event -> abandonAnalysis(task.getException(), generation));
+            return task;
         }
     }
-}
\ No newline at end of file
+}